@@ -0,0 +1,23 @@
+package com.argus.api;
+
+import com.argus.infra.persistence.cache.CachingWalletPersistenceAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "argus.cache.wallets.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheStatsController {
+
+    private final CachingWalletPersistenceAdapter cachingWalletPersistenceAdapter;
+
+    @GetMapping("/wallets")
+    public ResponseEntity<CachingWalletPersistenceAdapter.CacheStats> getWalletCacheStats() {
+        return ResponseEntity.ok(cachingWalletPersistenceAdapter.getStats());
+    }
+}
@@ -0,0 +1,173 @@
+package com.argus.api;
+
+import com.argus.domain.model.ExportFilter;
+import com.argus.domain.model.Signal;
+import com.argus.domain.model.Transaction;
+import com.argus.domain.service.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams stored transactions and signals as NDJSON, one JSON object per line, straight from a database
+ * cursor to the response. Each line carries a {@code cursor}; passing the last one received as
+ * {@code ?cursor=} resumes an interrupted export after that row. Responses are gzipped when the client
+ * accepts it.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/export")
+public class ExportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
+    private final long requestTimeoutMillis;
+
+    /**
+     * @param requestTimeoutMillis how long an export may stream; zero or less for no limit. Applies to the
+     *                             export endpoints only, other async requests keep the MVC default.
+     */
+    public ExportController(ExportService exportService, ObjectMapper objectMapper,
+                            @Value("${argus.export.request-timeout-millis:-1}") long requestTimeoutMillis) {
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    @GetMapping("/transactions")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(required = false) UUID walletId,
+            @RequestParam(required = false) String chain,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            NativeWebRequest request) {
+
+        log.info("GET /api/v1/export/transactions - Exporting transactions");
+
+        ExportFilter filter = filter(walletId, chain, from, to, cursor);
+        exportService.validate(filter);
+        return stream(request, acceptEncoding, Transaction::getId,
+                sink -> exportService.exportTransactions(filter, sink));
+    }
+
+    @GetMapping("/signals")
+    public ResponseEntity<StreamingResponseBody> exportSignals(
+            @RequestParam(required = false) UUID walletId,
+            @RequestParam(required = false) String chain,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            NativeWebRequest request) {
+
+        log.info("GET /api/v1/export/signals - Exporting signals");
+
+        ExportFilter filter = filter(walletId, chain, from, to, cursor);
+        exportService.validate(filter);
+        return stream(request, acceptEncoding, Signal::getId, sink -> exportService.exportSignals(filter, sink));
+    }
+
+    private static ExportFilter filter(UUID walletId, String chain, LocalDateTime from, LocalDateTime to,
+                                       String cursor) {
+        return ExportFilter.builder()
+                .walletId(walletId)
+                .chain(chain)
+                .from(from)
+                .to(to)
+                .afterId(decodeCursor(cursor))
+                .build();
+    }
+
+    /**
+     * The query runs when the body is written, on the async request thread, so nothing is read
+     * before the client starts consuming.
+     */
+    private <T> ResponseEntity<StreamingResponseBody> stream(
+            NativeWebRequest request, String acceptEncoding, ToLongFunction<T> id, Consumer<Consumer<T>> export) {
+
+        // Read by the async request about to start for the body
+        AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncRequest != null) {
+            asyncRequest.setTimeout(requestTimeoutMillis);
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        // Flushing after every row would defeat both gzip and the socket buffer
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = responseStream -> {
+            OutputStream out = gzip ? new GZIPOutputStream(responseStream, 64 * 1024) : responseStream;
+            // Closing the generator closes (and for gzip, finishes) the stream
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                export.accept(row -> {
+                    try {
+                        generator.writeStartObject();
+                        generator.writeStringField("cursor", encodeCursor(id.applyAsLong(row)));
+                        generator.writeFieldName("data");
+                        rowWriter.writeValue(generator, row);
+                        generator.writeEndObject();
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        // Usually the client went away; this aborts the query
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
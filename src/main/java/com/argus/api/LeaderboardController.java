@@ -0,0 +1,72 @@
+package com.argus.api;
+
+import com.argus.api.dto.LeaderboardEntryResponse;
+import com.argus.domain.model.LeaderboardEntry;
+import com.argus.domain.model.Wallet;
+import com.argus.domain.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/leaderboard")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "argus.leaderboard.enabled", havingValue = "true", matchIfMissing = true)
+public class LeaderboardController {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping
+    public ResponseEntity<List<LeaderboardEntryResponse>> getLeaderboard(
+            @RequestParam(defaultValue = "pnl") String metric,
+            @RequestParam(required = false) String chain,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+
+        log.info("GET /api/v1/leaderboard - Fetching top {} wallets by {} (chain: {}, type: {})",
+                limit, metric, chain, type);
+
+        List<LeaderboardEntry> entries = leaderboardService.getTop(
+                parseMetric(metric), chain, parseType(type), limit);
+
+        return ResponseEntity.ok(entries.stream().map(LeaderboardEntryResponse::fromDomain).toList());
+    }
+
+    @GetMapping("/wallets/{id}")
+    public ResponseEntity<LeaderboardEntryResponse> getWalletRank(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "pnl") String metric,
+            @RequestParam(required = false) String chain,
+            @RequestParam(required = false) String type) {
+
+        log.info("GET /api/v1/leaderboard/wallets/{} - Fetching rank by {} (chain: {}, type: {})",
+                id, metric, chain, type);
+
+        return leaderboardService.getRank(id, parseMetric(metric), chain, parseType(type))
+                .map(entry -> ResponseEntity.ok(LeaderboardEntryResponse.fromDomain(entry)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Accepts "pnl", "win-rate" and "win_rate", in any case.
+     */
+    private static LeaderboardEntry.Metric parseMetric(String metric) {
+        return LeaderboardEntry.Metric.valueOf(metric.trim().toUpperCase().replace('-', '_'));
+    }
+
+    private static Wallet.WalletType parseType(String type) {
+        return type != null && !type.isEmpty() ? Wallet.WalletType.valueOf(type.toUpperCase()) : null;
+    }
+}
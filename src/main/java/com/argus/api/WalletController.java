@@ -1,8 +1,10 @@
 package com.argus.api;
 
+import com.argus.api.dto.WalletPageResponse;
 import com.argus.api.dto.WalletRequest;
 import com.argus.api.dto.WalletResponse;
 import com.argus.domain.model.Wallet;
+import com.argus.domain.model.WalletPage;
 import com.argus.domain.service.WalletService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,9 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
@@ -21,6 +21,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class WalletController {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
     private final WalletService walletService;
 
     @PostMapping
@@ -54,25 +56,35 @@ public class WalletController {
     }
 
     @GetMapping
-    public ResponseEntity<List<WalletResponse>> getAllWallets(
-            @RequestParam(required = false) String type) {
+    public ResponseEntity<WalletPageResponse> getAllWallets(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+
+        log.info("GET /api/v1/wallets - Fetching wallets (type filter: {}, limit: {})", type, limit);
+
+        Wallet.WalletType walletType = type != null && !type.isEmpty()
+                ? Wallet.WalletType.valueOf(type.toUpperCase())
+                : null;
 
-        log.info("GET /api/v1/wallets - Fetching all wallets (type filter: {})", type);
+        WalletPage page = walletService.getWallets(walletType, WalletPageResponse.decodeCreatedAtCursor(cursor), limit);
+
+        return ResponseEntity.ok(WalletPageResponse.fromDomain(page));
+    }
 
-        List<Wallet> wallets;
+    @GetMapping("/top-performers")
+    public ResponseEntity<WalletPageResponse> getTopPerformers(
+            @RequestParam(defaultValue = "0.6") double minWinRate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
 
-        if (type != null && !type.isEmpty()) {
-            Wallet.WalletType walletType = Wallet.WalletType.valueOf(type.toUpperCase());
-            wallets = walletService.getWalletsByType(walletType);
-        } else {
-            wallets = walletService.getAllWallets();
-        }
+        log.info("GET /api/v1/wallets/top-performers - Fetching top performers (min win rate: {}, limit: {})",
+                minWinRate, limit);
 
-        List<WalletResponse> response = wallets.stream()
-                .map(WalletResponse::fromDomain)
-                .collect(Collectors.toList());
+        WalletPage page = walletService.getTopPerformers(minWinRate, WalletPageResponse.decodeTotalPnlCursor(cursor),
+                limit);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(WalletPageResponse.fromDomain(page));
     }
 
     @PutMapping("/{id}")
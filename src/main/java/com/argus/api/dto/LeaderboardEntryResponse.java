@@ -0,0 +1,28 @@
+package com.argus.api.dto;
+
+import com.argus.domain.model.LeaderboardEntry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryResponse {
+
+    private long rank;
+    private BigDecimal score;
+    private WalletResponse wallet;
+
+    public static LeaderboardEntryResponse fromDomain(LeaderboardEntry entry) {
+        return LeaderboardEntryResponse.builder()
+                .rank(entry.getRank())
+                .score(entry.getScore())
+                .wallet(entry.getWallet() != null ? WalletResponse.fromDomain(entry.getWallet()) : null)
+                .build();
+    }
+}
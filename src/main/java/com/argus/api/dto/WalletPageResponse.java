@@ -0,0 +1,90 @@
+package com.argus.api.dto;
+
+import com.argus.domain.model.WalletCursor;
+import com.argus.domain.model.WalletPage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletPageResponse {
+
+    private List<WalletResponse> wallets;
+
+    // Pass back as ?cursor= for the next page; null on the last page
+    private String nextCursor;
+
+    public static WalletPageResponse fromDomain(WalletPage page) {
+        return WalletPageResponse.builder()
+                .wallets(page.getWallets().stream().map(WalletResponse::fromDomain).toList())
+                .nextCursor(encodeCursor(page.getNextCursor()))
+                .build();
+    }
+
+    /**
+     * Cursors are opaque to clients: the sort key and id of the last wallet, base64url-encoded.
+     */
+    public static String encodeCursor(WalletCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String position = cursor.getCreatedAt() != null
+                ? "c|" + cursor.getCreatedAt()
+                : "p|" + cursor.getTotalPnl().toPlainString();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((position + "|" + cursor.getId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A cursor of {@code GET /api/v1/wallets}; one handed out by another listing is rejected.
+     */
+    public static WalletCursor decodeCreatedAtCursor(String token) {
+        WalletCursor cursor = decodeCursor(token);
+        if (cursor != null && cursor.getCreatedAt() == null) {
+            throw new IllegalArgumentException("Cursor belongs to another listing: " + token);
+        }
+        return cursor;
+    }
+
+    /**
+     * A cursor of {@code GET /api/v1/wallets/top-performers}; one handed out by another listing is rejected.
+     */
+    public static WalletCursor decodeTotalPnlCursor(String token) {
+        WalletCursor cursor = decodeCursor(token);
+        if (cursor != null && cursor.getTotalPnl() == null) {
+            throw new IllegalArgumentException("Cursor belongs to another listing: " + token);
+        }
+        return cursor;
+    }
+
+    private static WalletCursor decodeCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("wrong number of fields");
+            }
+            UUID id = UUID.fromString(parts[2]);
+            return switch (parts[0]) {
+                case "c" -> new WalletCursor(LocalDateTime.parse(parts[1]), null, id);
+                case "p" -> new WalletCursor(null, new BigDecimal(parts[1]), id);
+                default -> throw new IllegalArgumentException("unknown ordering");
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.argus.config;
+
+import com.argus.domain.port.persistence.AlertRulePersistencePort;
+import com.argus.domain.service.AlertRuleCompiler;
+import com.argus.domain.service.AlertRuleEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Objects;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+public class AlertRuleConfig {
+
+    @Bean
+    public AlertRuleEngine alertRuleEngine() {
+        return new AlertRuleEngine(new AlertRuleCompiler());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "argus.alerts.rules.reload-enabled", havingValue = "true")
+    public AlertRuleReloadJob alertRuleReloadJob(
+            AlertRuleEngine alertRuleEngine,
+            AlertRulePersistencePort alertRulePersistencePort) {
+        return new AlertRuleReloadJob(alertRuleEngine, alertRulePersistencePort);
+    }
+
+    /**
+     * Polls a cheap version token of {@code alert_rules} and reloads every rule when it moves, so rule
+     * changes made through any node or directly in the database take effect within one interval.
+     */
+    static class AlertRuleReloadJob {
+
+        private final AlertRuleEngine alertRuleEngine;
+        private final AlertRulePersistencePort alertRulePersistencePort;
+        private String loadedVersion;
+
+        AlertRuleReloadJob(AlertRuleEngine alertRuleEngine, AlertRulePersistencePort alertRulePersistencePort) {
+            this.alertRuleEngine = alertRuleEngine;
+            this.alertRulePersistencePort = alertRulePersistencePort;
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        void onStartup() {
+            reloadIfChanged();
+        }
+
+        @Scheduled(
+                initialDelayString = "${argus.alerts.rules.reload-interval-ms:5000}",
+                fixedDelayString = "${argus.alerts.rules.reload-interval-ms:5000}")
+        synchronized void reloadIfChanged() {
+            try {
+                String version = alertRulePersistencePort.findVersion();
+                if (Objects.equals(version, loadedVersion)) {
+                    return;
+                }
+                alertRuleEngine.reload(alertRulePersistencePort.findEnabled());
+                loadedVersion = version;
+            } catch (Exception e) {
+                log.warn("Failed to reload alert rules, keeping the current set: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.argus.config;
+
+import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.persistence.WalletBalancePersistencePort;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import com.argus.domain.service.BalanceSnapshotService;
+import com.argus.domain.service.TokenMetadataResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "argus.balances.snapshots.enabled", havingValue = "true")
+public class BalanceSnapshotConfig {
+
+    @Bean
+    public BalanceSnapshotService balanceSnapshotService(
+            BlockChainPort blockChainPort,
+            WalletPersistencePort walletPersistencePort,
+            WalletBalancePersistencePort walletBalancePersistencePort,
+            TokenMetadataResolver tokenMetadataResolver,
+            @Value("${argus.balances.snapshots.tokens:}") List<String> tokens,
+            @Value("${argus.balances.snapshots.wallets-per-page:2000}") int walletsPerPage,
+            @Value("${argus.balances.snapshots.block-lag:2}") int blockLag) {
+        return new BalanceSnapshotService(blockChainPort, walletPersistencePort, walletBalancePersistencePort,
+                tokenMetadataResolver, tokens, walletsPerPage, blockLag);
+    }
+
+    @Bean
+    public BalanceSnapshotJob balanceSnapshotJob(BalanceSnapshotService balanceSnapshotService) {
+        return new BalanceSnapshotJob(balanceSnapshotService);
+    }
+
+    static class BalanceSnapshotJob {
+
+        private final BalanceSnapshotService balanceSnapshotService;
+
+        BalanceSnapshotJob(BalanceSnapshotService balanceSnapshotService) {
+            this.balanceSnapshotService = balanceSnapshotService;
+        }
+
+        @Scheduled(
+                initialDelayString = "${argus.balances.snapshots.initial-delay-ms:60000}",
+                fixedDelayString = "${argus.balances.snapshots.interval-ms:3600000}")
+        void snapshot() {
+            try {
+                balanceSnapshotService.snapshot();
+            } catch (Exception e) {
+                log.warn("Balance snapshot failed, will retry at the next interval: {}", e.getMessage());
+            }
+        }
+    }
+}
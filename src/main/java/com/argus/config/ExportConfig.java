@@ -0,0 +1,18 @@
+package com.argus.config;
+
+import com.argus.domain.port.persistence.SignalPersistencePort;
+import com.argus.domain.port.persistence.TransactionPersistencePort;
+import com.argus.domain.service.ExportService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExportConfig {
+
+    @Bean
+    public ExportService exportService(
+            TransactionPersistencePort transactionPersistencePort,
+            SignalPersistencePort signalPersistencePort) {
+        return new ExportService(transactionPersistencePort, signalPersistencePort);
+    }
+}
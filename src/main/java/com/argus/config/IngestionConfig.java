@@ -0,0 +1,105 @@
+package com.argus.config;
+
+import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.persistence.TransactionPersistencePort;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import com.argus.domain.service.BlockIngestionService;
+import com.argus.domain.service.PnlEngine;
+import com.argus.domain.service.PriceService;
+import com.argus.domain.service.SwapCalldataDecoder;
+import com.argus.domain.service.TrackedAddressIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "argus.ingestion.enabled", havingValue = "true")
+public class IngestionConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService blockFetchExecutor(
+            @Value("${argus.ingestion.prefetch-window:8}") int prefetchWindow) {
+        return Executors.newFixedThreadPool(prefetchWindow);
+    }
+
+    @Bean
+    public BlockIngestionService blockIngestionService(
+            BlockChainPort blockChainPort,
+            TrackedAddressIndex trackedAddressIndex,
+            TransactionPersistencePort transactionPersistencePort,
+            PnlEngine pnlEngine,
+            ObjectProvider<PriceService> priceService,
+            ExecutorService blockFetchExecutor,
+            @Value("${argus.ingestion.prefetch-window:8}") int prefetchWindow,
+            @Value("${argus.ingestion.start-block:-1}") long startBlock) {
+        return new BlockIngestionService(
+                blockChainPort,
+                trackedAddressIndex,
+                transactionPersistencePort,
+                new SwapCalldataDecoder(),
+                pnlEngine,
+                priceService.getIfAvailable(),
+                blockFetchExecutor,
+                prefetchWindow,
+                startBlock);
+    }
+
+    @Bean
+    public BlockIngestionJob blockIngestionJob(
+            BlockIngestionService blockIngestionService,
+            TrackedAddressIndex trackedAddressIndex,
+            WalletPersistencePort walletPersistencePort) {
+        return new BlockIngestionJob(blockIngestionService, trackedAddressIndex, walletPersistencePort);
+    }
+
+    static class BlockIngestionJob {
+
+        private final BlockIngestionService blockIngestionService;
+        private final TrackedAddressIndex trackedAddressIndex;
+        private final WalletPersistencePort walletPersistencePort;
+
+        BlockIngestionJob(
+                BlockIngestionService blockIngestionService,
+                TrackedAddressIndex trackedAddressIndex,
+                WalletPersistencePort walletPersistencePort) {
+            this.blockIngestionService = blockIngestionService;
+            this.trackedAddressIndex = trackedAddressIndex;
+            this.walletPersistencePort = walletPersistencePort;
+        }
+
+        @Scheduled(fixedDelayString = "${argus.ingestion.poll-interval-ms:2000}")
+        void ingest() {
+            try {
+                blockIngestionService.ingestToHead();
+            } catch (Exception e) {
+                log.warn("Block ingestion run failed, will resume from block {}: {}",
+                        blockIngestionService.getCursor(), e.getMessage());
+            }
+        }
+
+        /**
+         * Wallets created through this node are indexed immediately; this picks up the ones created on
+         * other nodes.
+         */
+        @Scheduled(
+                initialDelayString = "${argus.ingestion.tracked-address-refresh-ms:60000}",
+                fixedDelayString = "${argus.ingestion.tracked-address-refresh-ms:60000}")
+        void refreshTrackedAddresses() {
+            try {
+                trackedAddressIndex.refresh(walletPersistencePort::findAll);
+            } catch (Exception e) {
+                log.warn("Failed to refresh tracked address index: {}", e.getMessage());
+            }
+        }
+    }
+}
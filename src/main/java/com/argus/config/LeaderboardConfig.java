@@ -0,0 +1,57 @@
+package com.argus.config;
+
+import com.argus.domain.port.persistence.WalletLeaderboardPort;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import com.argus.domain.service.LeaderboardService;
+import com.argus.infra.persistence.leaderboard.RedisWalletLeaderboard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "argus.leaderboard.enabled", havingValue = "true", matchIfMissing = true)
+public class LeaderboardConfig {
+
+    @Bean
+    public RedisWalletLeaderboard redisWalletLeaderboard(StringRedisTemplate redisTemplate) {
+        return new RedisWalletLeaderboard(redisTemplate);
+    }
+
+    @Bean
+    public LeaderboardService leaderboardService(
+            WalletLeaderboardPort walletLeaderboardPort,
+            WalletPersistencePort walletPersistencePort) {
+        return new LeaderboardService(walletLeaderboardPort, walletPersistencePort);
+    }
+
+    @Bean
+    public LeaderboardRebuildJob leaderboardRebuildJob(LeaderboardService leaderboardService) {
+        return new LeaderboardRebuildJob(leaderboardService);
+    }
+
+    /**
+     * Saves keep the board current; this catches up with wallets written while it was unavailable.
+     */
+    static class LeaderboardRebuildJob {
+
+        private final LeaderboardService leaderboardService;
+
+        LeaderboardRebuildJob(LeaderboardService leaderboardService) {
+            this.leaderboardService = leaderboardService;
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        void onStartup() {
+            try {
+                leaderboardService.rebuild();
+            } catch (Exception e) {
+                log.warn("Failed to rebuild leaderboard: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.argus.config;
+
+import com.argus.domain.port.ai.NarrativePort;
+import com.argus.domain.port.persistence.SignalPersistencePort;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import com.argus.domain.service.NarrativeService;
+import com.argus.infra.ai.OpenAiNarrativeAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "argus.ai.narratives.enabled", havingValue = "true")
+public class NarrativeConfig {
+
+    @Bean
+    public OpenAiNarrativeAdapter openAiNarrativeAdapter(
+            @Value("${argus.ai.api-url:https://api.openai.com}") String apiUrl,
+            @Value("${argus.ai.openai-api-key:}") String apiKey,
+            @Value("${argus.ai.model:gpt-4o-mini}") String model,
+            @Value("${argus.ai.timeout-seconds:60}") int timeoutSeconds,
+            ObjectMapper objectMapper) {
+        return new OpenAiNarrativeAdapter(apiUrl, apiKey, model, objectMapper, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public NarrativeService narrativeService(
+            NarrativePort narrativePort,
+            SignalPersistencePort signalPersistencePort,
+            WalletPersistencePort walletPersistencePort,
+            @Value("${argus.ai.narratives.batch-size:20}") int batchSize,
+            @Value("${argus.ai.narratives.max-batch-delay-ms:2000}") long maxBatchDelayMillis,
+            @Value("${argus.ai.narratives.max-concurrent-calls:4}") int maxConcurrentCalls,
+            @Value("${argus.ai.narratives.queue-capacity:10000}") int queueCapacity,
+            @Value("${argus.ai.narratives.cache-max-entries:10000}") int cacheMaxEntries) {
+        return new NarrativeService(narrativePort, signalPersistencePort, walletPersistencePort, batchSize,
+                maxBatchDelayMillis, maxConcurrentCalls, queueCapacity, cacheMaxEntries);
+    }
+}
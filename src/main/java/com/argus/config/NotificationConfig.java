@@ -0,0 +1,38 @@
+package com.argus.config;
+
+import com.argus.domain.port.notification.NotificationPort;
+import com.argus.domain.service.NotificationDispatcher;
+import com.argus.infra.notification.TelegramNotificationAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "argus.telegram.enabled", havingValue = "true")
+public class NotificationConfig {
+
+    @Bean
+    public TelegramNotificationAdapter telegramNotificationAdapter(
+            @Value("${argus.telegram.api-url:https://api.telegram.org}") String apiUrl,
+            @Value("${argus.telegram.bot-token:}") String botToken,
+            @Value("${argus.telegram.timeout-seconds:10}") int timeoutSeconds,
+            ObjectMapper objectMapper) {
+        return new TelegramNotificationAdapter(apiUrl, botToken, objectMapper, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public NotificationDispatcher notificationDispatcher(
+            NotificationPort notificationPort,
+            @Value("${argus.telegram.queue-capacity:10000}") int queueCapacity,
+            @Value("${argus.telegram.digest-window-ms:1000}") long digestWindowMillis,
+            @Value("${argus.telegram.messages-per-second:30}") int messagesPerSecond,
+            @Value("${argus.telegram.max-attempts:5}") int maxAttempts,
+            @Value("${argus.telegram.retry-backoff-ms:1000}") long retryBackoffMillis) {
+        return new NotificationDispatcher(notificationPort, queueCapacity, digestWindowMillis, messagesPerSecond,
+                maxAttempts, retryBackoffMillis);
+    }
+}
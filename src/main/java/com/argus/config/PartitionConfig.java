@@ -0,0 +1,74 @@
+package com.argus.config;
+
+import com.argus.infra.persistence.partition.TransactionPartitionManager;
+import com.argus.infra.persistence.partition.TransactionPartitionManager.RetentionMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.YearMonth;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "argus.partitions.enabled", havingValue = "true")
+public class PartitionConfig {
+
+    @Bean
+    public TransactionPartitionJob transactionPartitionJob(
+            TransactionPartitionManager partitionManager,
+            @Value("${argus.partitions.transactions.months-ahead:3}") int monthsAhead,
+            @Value("${argus.partitions.transactions.retention-months:0}") int retentionMonths,
+            @Value("${argus.partitions.transactions.retention-mode:DETACH}") RetentionMode retentionMode) {
+        return new TransactionPartitionJob(
+                partitionManager, Clock.systemUTC(), monthsAhead, retentionMonths, retentionMode);
+    }
+
+    static class TransactionPartitionJob {
+
+        private final TransactionPartitionManager partitionManager;
+        private final Clock clock;
+        private final int monthsAhead;
+        private final int retentionMonths;
+        private final RetentionMode retentionMode;
+
+        TransactionPartitionJob(
+                TransactionPartitionManager partitionManager,
+                Clock clock,
+                int monthsAhead,
+                int retentionMonths,
+                RetentionMode retentionMode) {
+            this.partitionManager = partitionManager;
+            this.clock = clock;
+            this.monthsAhead = monthsAhead;
+            this.retentionMonths = retentionMonths;
+            this.retentionMode = retentionMode;
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        void onStartup() {
+            maintain();
+        }
+
+        @Scheduled(cron = "${argus.partitions.cron:0 0 3 * * *}", zone = "UTC")
+        void maintain() {
+            YearMonth current = YearMonth.now(clock);
+            try {
+                partitionManager.ensurePartitions(current, monthsAhead);
+                // 0 keeps every month; otherwise the current month counts as one of the retained ones
+                if (retentionMonths > 0) {
+                    partitionManager.applyRetention(current.minusMonths(retentionMonths - 1L), retentionMode);
+                }
+            } catch (Exception e) {
+                log.warn("Transaction partition maintenance failed: {}", e.getMessage());
+            }
+        }
+    }
+}
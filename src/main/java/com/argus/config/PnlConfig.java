@@ -0,0 +1,131 @@
+package com.argus.config;
+
+import com.argus.domain.model.WalletPnlSnapshot;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import com.argus.domain.port.persistence.WalletPnlPersistencePort;
+import com.argus.domain.service.PnlEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+public class PnlConfig {
+
+    /**
+     * @param quoteTokens {@code address:decimals} of the USD-pegged tokens swaps are priced in
+     */
+    @Bean
+    public PnlEngine pnlEngine(@Value("${argus.pnl.quote-tokens:}") List<String> quoteTokens) {
+        Map<String, Integer> decimals = new LinkedHashMap<>();
+        for (String quoteToken : quoteTokens) {
+            String[] parts = quoteToken.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Quote token must be address:decimals, got " + quoteToken);
+            }
+            decimals.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return new PnlEngine(decimals);
+    }
+
+    /**
+     * Restores the stored books while the context starts, before the scheduler runs the ingestion job
+     * that applies new swaps.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "argus.pnl.snapshots.enabled", havingValue = "true")
+    public PnlSnapshotJob pnlSnapshotJob(
+            PnlEngine pnlEngine,
+            WalletPnlPersistencePort walletPnlPersistencePort,
+            WalletPersistencePort walletPersistencePort) {
+        PnlSnapshotJob job = new PnlSnapshotJob(pnlEngine, walletPnlPersistencePort, walletPersistencePort);
+        job.restore();
+        return job;
+    }
+
+    static class PnlSnapshotJob {
+
+        private final PnlEngine pnlEngine;
+        private final WalletPnlPersistencePort walletPnlPersistencePort;
+        private final WalletPersistencePort walletPersistencePort;
+        private volatile boolean restored;
+
+        PnlSnapshotJob(
+                PnlEngine pnlEngine,
+                WalletPnlPersistencePort walletPnlPersistencePort,
+                WalletPersistencePort walletPersistencePort) {
+            this.pnlEngine = pnlEngine;
+            this.walletPnlPersistencePort = walletPnlPersistencePort;
+            this.walletPersistencePort = walletPersistencePort;
+        }
+
+        /**
+         * @return whether the stored books are loaded; until they are, nothing is stored over them
+         */
+        synchronized boolean restore() {
+            if (restored) {
+                return true;
+            }
+            try {
+                pnlEngine.restore(walletPnlPersistencePort.findAll());
+                restored = true;
+            } catch (Exception e) {
+                log.warn("Failed to restore PnL snapshots, not storing any until they are: {}", e.getMessage());
+            }
+            return restored;
+        }
+
+        @EventListener(ContextClosedEvent.class)
+        void onShutdown() {
+            snapshot();
+        }
+
+        /**
+         * Stores the books changed since the last run and copies their totals onto the wallets, which is
+         * what the wallet API and the top-performer queries read.
+         */
+        @Scheduled(
+                initialDelayString = "${argus.pnl.snapshots.interval-ms:60000}",
+                fixedDelayString = "${argus.pnl.snapshots.interval-ms:60000}")
+        synchronized void snapshot() {
+            // Storing books built without the restored state would overwrite the stored history
+            if (!restore()) {
+                return;
+            }
+            List<WalletPnlSnapshot> snapshots = pnlEngine.drainDirty();
+            if (snapshots.isEmpty()) {
+                return;
+            }
+            try {
+                walletPnlPersistencePort.saveAll(snapshots);
+                snapshots.forEach(this::updateWallet);
+                log.debug("Stored PnL snapshots of {} wallets", snapshots.size());
+            } catch (Exception e) {
+                pnlEngine.markDirty(snapshots.stream().map(WalletPnlSnapshot::getWalletId).toList());
+                log.warn("Failed to store PnL snapshots of {} wallets, will retry: {}", snapshots.size(), e.getMessage());
+            }
+        }
+
+        private void updateWallet(WalletPnlSnapshot snapshot) {
+            walletPersistencePort.findById(snapshot.getWalletId()).ifPresent(wallet -> {
+                wallet.updatePnL(snapshot.getRealizedPnl().setScale(8, RoundingMode.HALF_UP));
+                if (snapshot.getWinRate() != null) {
+                    wallet.updateWinRate(snapshot.getWinRate());
+                }
+                walletPersistencePort.save(wallet);
+            });
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.argus.config;
+
+import com.argus.domain.port.persistence.PricePersistencePort;
+import com.argus.domain.port.price.PriceFeedPort;
+import com.argus.domain.service.PriceService;
+import com.argus.domain.service.TokenMetadataResolver;
+import com.argus.infra.price.CoinGeckoPriceFeedAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "argus.prices.enabled", havingValue = "true")
+public class PriceConfig {
+
+    @Bean
+    public CoinGeckoPriceFeedAdapter coinGeckoPriceFeedAdapter(
+            @Value("${argus.prices.coingecko.api-url:https://api.coingecko.com}") String apiUrl,
+            @Value("${argus.prices.coingecko.api-key-header:x-cg-demo-api-key}") String apiKeyHeader,
+            @Value("${argus.prices.coingecko.api-key:}") String apiKey,
+            @Value("${argus.prices.coingecko.max-tokens-per-request:100}") int maxTokensPerRequest,
+            @Value("${argus.prices.coingecko.timeout-seconds:10}") int timeoutSeconds,
+            ObjectMapper objectMapper) {
+        return new CoinGeckoPriceFeedAdapter(apiUrl, apiKeyHeader, apiKey, maxTokensPerRequest, objectMapper,
+                Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Bean
+    public PriceService priceService(
+            PriceFeedPort priceFeedPort,
+            PricePersistencePort pricePersistencePort,
+            TokenMetadataResolver tokenMetadataResolver,
+            @Value("${argus.prices.native-token:0xc02aaa39b223fe8d0a0e5c4f27ead9083c756cc2}") String nativeToken,
+            @Value("${argus.prices.tokens:}") List<String> tokens,
+            @Value("${argus.prices.history-minutes:1440}") int historyMinutes,
+            @Value("${argus.prices.max-staleness-ms:900000}") long maxStalenessMillis,
+            @Value("${argus.prices.max-tokens:2000}") int maxTokens) {
+        return new PriceService(priceFeedPort, pricePersistencePort, tokenMetadataResolver, nativeToken, tokens,
+                historyMinutes, maxStalenessMillis, maxTokens);
+    }
+
+    @Bean
+    public PriceJob priceJob(PriceService priceService) {
+        return new PriceJob(priceService);
+    }
+
+    static class PriceJob {
+
+        private final PriceService priceService;
+
+        PriceJob(PriceService priceService) {
+            this.priceService = priceService;
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        void restore() {
+            try {
+                priceService.restore();
+            } catch (Exception e) {
+                log.warn("Failed to restore prices, starting without history: {}", e.getMessage());
+            }
+        }
+
+        @EventListener(ContextClosedEvent.class)
+        void onShutdown() {
+            flush();
+        }
+
+        /**
+         * Starts after the restore, which cannot insert minutes older than the ones already polled.
+         */
+        @Scheduled(
+                initialDelayString = "${argus.prices.initial-delay-ms:15000}",
+                fixedDelayString = "${argus.prices.poll-interval-ms:60000}")
+        void refresh() {
+            try {
+                priceService.refresh();
+            } catch (Exception e) {
+                log.warn("Failed to refresh prices, will retry at the next interval: {}", e.getMessage());
+            }
+        }
+
+        @Scheduled(
+                initialDelayString = "${argus.prices.flush-interval-ms:300000}",
+                fixedDelayString = "${argus.prices.flush-interval-ms:300000}")
+        synchronized void flush() {
+            try {
+                int written = priceService.flush();
+                log.debug("Stored {} prices", written);
+            } catch (Exception e) {
+                log.warn("Failed to store prices, will retry: {}", e.getMessage());
+            }
+        }
+    }
+}
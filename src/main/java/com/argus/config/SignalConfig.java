@@ -0,0 +1,66 @@
+package com.argus.config;
+
+import com.argus.domain.model.Signal;
+import com.argus.domain.port.persistence.SignalPersistencePort;
+import com.argus.domain.service.NarrativeService;
+import com.argus.domain.service.SignalCoalescer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.util.List;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "argus.signals.coalesce.enabled", havingValue = "true", matchIfMissing = true)
+public class SignalConfig {
+
+    /**
+     * Merged signals are stored in one batch and then queued for narratives when those are enabled.
+     */
+    @Bean(destroyMethod = "close")
+    public SignalCoalescer signalCoalescer(
+            SignalPersistencePort signalPersistencePort,
+            ObjectProvider<NarrativeService> narrativeService,
+            @Value("${argus.signals.coalesce.mode:TUMBLING}") SignalCoalescer.Mode mode,
+            @Value("${argus.signals.coalesce.window-ms:12000}") long windowMillis,
+            @Value("${argus.signals.coalesce.max-span-ms:60000}") long maxSpanMillis,
+            @Value("${argus.signals.coalesce.max-open-windows:100000}") int maxOpenWindows,
+            @Value("${argus.signals.coalesce.stripes:64}") int stripes,
+            @Value("${argus.signals.coalesce.max-unsent:10000}") int maxUnsent,
+            @Value("${argus.signals.coalesce.max-attempts:5}") int maxAttempts) {
+        return new SignalCoalescer(signals -> {
+            List<Signal> saved = signalPersistencePort.saveAll(signals);
+            narrativeService.ifAvailable(service -> service.enqueueAll(saved));
+        }, mode, windowMillis, maxSpanMillis, maxOpenWindows, stripes, maxUnsent, maxAttempts, Clock.systemUTC());
+    }
+
+    @Bean
+    public SignalFlushJob signalFlushJob(SignalCoalescer signalCoalescer) {
+        return new SignalFlushJob(signalCoalescer);
+    }
+
+    static class SignalFlushJob {
+
+        private final SignalCoalescer signalCoalescer;
+
+        SignalFlushJob(SignalCoalescer signalCoalescer) {
+            this.signalCoalescer = signalCoalescer;
+        }
+
+        @Scheduled(fixedDelayString = "${argus.signals.coalesce.flush-interval-ms:1000}")
+        void flush() {
+            int flushed = signalCoalescer.flushExpired();
+            if (flushed > 0) {
+                log.debug("Emitted {} coalesced signals, {} windows open", flushed, signalCoalescer.getOpenWindowCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.argus.config;
+
+import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.persistence.TokenPersistencePort;
+import com.argus.domain.service.TokenMetadataResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TokenConfig {
+
+    @Bean
+    public TokenMetadataResolver tokenMetadataResolver(
+            BlockChainPort blockChainPort,
+            TokenPersistencePort tokenPersistencePort,
+            @Value("${argus.tokens.cache-max-entries:50000}") int cacheMaxEntries) {
+        return new TokenMetadataResolver(blockChainPort, tokenPersistencePort, cacheMaxEntries);
+    }
+}
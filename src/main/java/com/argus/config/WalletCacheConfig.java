@@ -0,0 +1,50 @@
+package com.argus.config;
+
+import com.argus.infra.persistence.adapter.WalletPersistenceAdapter;
+import com.argus.infra.persistence.cache.CachingWalletPersistenceAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "argus.cache.wallets.enabled", havingValue = "true", matchIfMissing = true)
+public class WalletCacheConfig {
+
+    @Bean
+    @Primary
+    public CachingWalletPersistenceAdapter cachingWalletPersistenceAdapter(
+            WalletPersistenceAdapter walletPersistenceAdapter,
+            StringRedisTemplate redisTemplate,
+            @Value("${argus.cache.wallets.ttl-seconds:300}") long ttlSeconds,
+            @Value("${argus.cache.wallets.near-ttl-seconds:30}") long nearTtlSeconds,
+            @Value("${argus.cache.wallets.near-max-entries:10000}") int nearMaxEntries) {
+        return new CachingWalletPersistenceAdapter(
+                walletPersistenceAdapter,
+                redisTemplate,
+                Duration.ofSeconds(ttlSeconds),
+                Duration.ofSeconds(nearTtlSeconds),
+                nearMaxEntries);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer walletCacheInvalidationListener(
+            RedisConnectionFactory connectionFactory,
+            CachingWalletPersistenceAdapter cachingWalletPersistenceAdapter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cachingWalletPersistenceAdapter.onInvalidation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CachingWalletPersistenceAdapter.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,25 @@
+package com.argus.config;
+
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import com.argus.domain.service.TrackedAddressIndex;
+import com.argus.domain.service.WalletService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WalletConfig {
+
+    @Bean
+    public TrackedAddressIndex trackedAddressIndex(WalletPersistencePort walletPersistencePort) {
+        TrackedAddressIndex index = new TrackedAddressIndex();
+        index.replaceAll(walletPersistencePort.findAll());
+        return index;
+    }
+
+    @Bean
+    public WalletService walletService(
+            WalletPersistencePort walletPersistencePort,
+            TrackedAddressIndex trackedAddressIndex) {
+        return new WalletService(walletPersistencePort, trackedAddressIndex);
+    }
+}
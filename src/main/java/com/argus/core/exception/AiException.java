@@ -0,0 +1,14 @@
+package com.argus.core.exception;
+
+public class AiException extends DomainException {
+
+    private static final String ERROR_CODE = "AI_ERROR";
+
+    public AiException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    public AiException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+    }
+}
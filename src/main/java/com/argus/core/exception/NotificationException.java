@@ -0,0 +1,35 @@
+package com.argus.core.exception;
+
+public class NotificationException extends DomainException {
+
+    private static final String ERROR_CODE = "NOTIFICATION_ERROR";
+
+    private final boolean retryable;
+    private final long retryAfterMillis;
+
+    /**
+     * @param retryAfterMillis how long the receiving service asked to wait before trying again, or 0
+     */
+    public NotificationException(String message, boolean retryable, long retryAfterMillis) {
+        super(ERROR_CODE, message);
+        this.retryable = retryable;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * A failure to reach the receiving service at all, which is worth retrying.
+     */
+    public NotificationException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+        this.retryable = true;
+        this.retryAfterMillis = 0;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
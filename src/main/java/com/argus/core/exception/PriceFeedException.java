@@ -0,0 +1,14 @@
+package com.argus.core.exception;
+
+public class PriceFeedException extends DomainException {
+
+    private static final String ERROR_CODE = "PRICE_FEED_ERROR";
+
+    public PriceFeedException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    public PriceFeedException(String message, Throwable cause) {
+        super(ERROR_CODE, message, cause);
+    }
+}
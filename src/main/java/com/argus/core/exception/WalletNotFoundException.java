@@ -19,6 +19,12 @@ public class WalletNotFoundException extends DomainException {
         log.error("Wallet not found in database. WalletId: {}", walletId);
     }
 
+    public WalletNotFoundException(String address) {
+        super(ERROR_CODE, USER_MESSAGE);
+        this.walletId = null;
+        log.error("Wallet not found in database. Address: {}", address);
+    }
+
     public UUID getWalletId() {
         return walletId;
     }
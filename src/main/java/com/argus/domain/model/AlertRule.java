@@ -0,0 +1,29 @@
+package com.argus.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A user's alert rule. {@code conditions} is the parsed JSON object stored in {@code alert_rules};
+ * see {@link com.argus.domain.service.AlertRuleCompiler} for its format.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AlertRule {
+
+    private UUID id;
+    private UUID userId;
+    private String name;
+    private Map<String, Object> conditions;
+    private boolean enabled;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
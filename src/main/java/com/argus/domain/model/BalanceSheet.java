@@ -0,0 +1,42 @@
+package com.argus.domain.model;
+
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Balances of a set of owners in a set of tokens, all read at one block. Balances are in the token's
+ * smallest unit; {@link WalletBalanceSnapshot#ETH} stands for the native balance, in wei.
+ */
+@Getter
+public class BalanceSheet {
+
+    private final long blockNumber;
+    private final List<String> owners;
+    private final List<String> tokens;
+    // Row-major: owners.size() rows of tokens.size() balances
+    private final BigInteger[] balances;
+    // eth_calls the sheet took, not counting retries
+    private final int rpcCalls;
+
+    public BalanceSheet(long blockNumber, List<String> owners, List<String> tokens, BigInteger[] balances,
+            int rpcCalls) {
+        if (balances.length != owners.size() * tokens.size()) {
+            throw new IllegalArgumentException("Expected " + owners.size() * tokens.size() + " balances, got "
+                    + balances.length);
+        }
+        this.blockNumber = blockNumber;
+        this.owners = owners;
+        this.tokens = tokens;
+        this.balances = balances;
+        this.rpcCalls = rpcCalls;
+    }
+
+    /**
+     * Null when the balance could not be read, e.g. because the token reverted.
+     */
+    public BigInteger getBalance(int ownerIndex, int tokenIndex) {
+        return balances[ownerIndex * tokens.size() + tokenIndex];
+    }
+}
@@ -0,0 +1,23 @@
+package com.argus.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class Block {
+    private Long number;
+    private String hash;
+    private String parentHash;
+    private LocalDateTime timestamp;
+
+    // Full transaction objects, in block order
+    private List<Transaction> transactions;
+}
@@ -0,0 +1,21 @@
+package com.argus.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Selects rows for a bulk export. Every field is optional; rows come out in id order, starting after
+ * {@code afterId} when resuming an interrupted export.
+ */
+@Getter
+@Builder
+public class ExportFilter {
+    private final UUID walletId;
+    private final String chain;
+    private final LocalDateTime from; // inclusive
+    private final LocalDateTime to; // exclusive
+    private final Long afterId;
+}
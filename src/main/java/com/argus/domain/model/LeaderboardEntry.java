@@ -0,0 +1,26 @@
+package com.argus.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class LeaderboardEntry {
+
+    private UUID walletId;
+    private long rank; // 1 is the best
+    private BigDecimal score;
+    private Wallet wallet; // Only set once loaded by the leaderboard service
+
+    public enum Metric {
+        PNL,
+        WIN_RATE
+    }
+}
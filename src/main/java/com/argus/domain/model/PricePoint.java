@@ -0,0 +1,15 @@
+package com.argus.domain.model;
+
+import lombok.Value;
+
+/**
+ * USD price of a token at some moment, as read from a price feed or the {@code token_prices} table.
+ * Stored prices are per minute: the timestamp is the start of the minute.
+ */
+@Value
+public class PricePoint {
+
+    String tokenAddress;
+    long timestampMillis;
+    double usdPrice;
+}
@@ -0,0 +1,44 @@
+package com.argus.domain.model;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * What an AI narrative of a signal is written from. Signals with equal fingerprints share one narrative,
+ * so this holds only what the text may depend on: the exact USD value is reduced to its order of
+ * magnitude and the wallet to its type.
+ */
+@Value
+public class SignalFingerprint {
+
+    private static final int MAX_BUCKET_EXPONENT = 18;
+
+    String type;
+    String tokenAddress;
+    String tokenSymbol;
+    Wallet.WalletType walletType;
+    long valueBucket; // power of ten the USD value reaches, 0 when unknown or below $1
+
+    public static SignalFingerprint of(Signal signal, Wallet.WalletType walletType) {
+        return new SignalFingerprint(
+                signal.getType(),
+                signal.getTokenAddress() != null ? signal.getTokenAddress().toLowerCase() : null,
+                signal.getTokenSymbol(),
+                walletType != null ? walletType : Wallet.WalletType.UNKNOWN,
+                valueBucket(signal.getUsdValue()));
+    }
+
+    static long valueBucket(BigDecimal usdValue) {
+        if (usdValue == null || usdValue.compareTo(BigDecimal.ONE) < 0) {
+            return 0;
+        }
+        int digits = usdValue.setScale(0, RoundingMode.DOWN).toBigInteger().toString().length();
+        long bucket = 1;
+        for (int i = 1; i < Math.min(digits, MAX_BUCKET_EXPONENT + 1); i++) {
+            bucket *= 10;
+        }
+        return bucket;
+    }
+}
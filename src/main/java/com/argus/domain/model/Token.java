@@ -2,7 +2,6 @@ package com.argus.domain.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,7 +13,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class Token {
-    private UUID id;
+    private String address;
     private String chain;
     private String symbol;
     private String name;
@@ -7,10 +7,11 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class Transaction {
@@ -26,7 +27,9 @@ public class Transaction {
     private BigDecimal value; // ETH value transferred (in Wei, converted to ETH)
     private String input; // Transaction input data (contract call data)
 
-    // DEX-specific fields (for swap detection)
+    // DEX-specific fields (for swap detection), decoded from the input. Amounts are in the token's
+    // smallest unit (scale by Token.decimals) and are the executed ones, read from the receipt's
+    // transfers; without those only the side fixed by the calldata is set, never the swap's limit
     private String tokenIn;
     private String tokenOut;
     private BigDecimal amountIn;
@@ -35,8 +38,23 @@ public class Transaction {
 
     // Block metadata
     private Long blockNumber;
-    private Long gasUsed;
+    private Long gasLimit;
     private BigDecimal gasPrice;
+
+    // Receipt fields, only set once the transaction has been enriched with its receipt
+    private Long gasUsed;
+    private BigDecimal effectiveGasPrice; // Price actually paid per gas (in Wei), after EIP-1559
+    private Boolean success; // null for pre-Byzantium receipts without a status
+    private List<TokenTransfer> tokenTransfers; // From the receipt's logs; not persisted
     private LocalDateTime txTimestamp;
     private LocalDateTime createdAt;
+
+    /**
+     * An ERC-20 {@code Transfer} emitted by the transaction. WETH wraps ({@code Deposit}) appear as
+     * transfers from the zero address and unwraps ({@code Withdrawal}) as transfers to it.
+     *
+     * @param amount in the token's smallest unit
+     */
+    public record TokenTransfer(String token, String from, String to, BigDecimal amount) {
+    }
 }
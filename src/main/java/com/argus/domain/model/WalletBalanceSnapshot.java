@@ -0,0 +1,31 @@
+package com.argus.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Balance of one wallet in one token at a block, in the token's smallest unit.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WalletBalanceSnapshot {
+
+    /**
+     * Token address that stands for native ETH.
+     */
+    public static final String ETH = "0x0000000000000000000000000000000000000000";
+
+    private UUID walletId;
+    private String tokenAddress;
+    private long blockNumber;
+    private BigDecimal balance;
+    private LocalDateTime snapshotAt;
+}
@@ -0,0 +1,30 @@
+package com.argus.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position after the last wallet of a page. Listings are ordered by (createdAt, id) and top performers by
+ * (totalPnl, id), so only the field of the ordering in use is set besides the id.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class WalletCursor {
+    private final LocalDateTime createdAt;
+    private final BigDecimal totalPnl;
+    private final UUID id;
+
+    public static WalletCursor byCreatedAt(Wallet wallet) {
+        return new WalletCursor(wallet.getCreatedAt(), null, wallet.getId());
+    }
+
+    public static WalletCursor byTotalPnl(Wallet wallet) {
+        return new WalletCursor(null, wallet.getTotalPnl(), wallet.getId());
+    }
+}
@@ -0,0 +1,15 @@
+package com.argus.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class WalletPage {
+    private final List<Wallet> wallets;
+
+    // Null on the last page
+    private final WalletCursor nextCursor;
+}
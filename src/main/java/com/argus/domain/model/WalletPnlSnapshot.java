@@ -0,0 +1,50 @@
+package com.argus.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * State of a wallet's PnL book at some block: realized totals plus the open FIFO cost-basis lots per
+ * token, oldest first. Enough to resume after a restart without replaying the wallet's history.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WalletPnlSnapshot {
+
+    private UUID walletId;
+    private BigDecimal realizedPnl;
+    private int wins;
+    private int closedTrades;
+    // Last block applied; transactions up to and including it are skipped after a restore
+    private long lastBlockNumber;
+    private Map<String, List<Lot>> lots;
+    private LocalDateTime updatedAt;
+
+    /**
+     * @param quantity token amount still open, in the token's smallest unit
+     * @param costUsd  USD paid for that amount
+     */
+    public record Lot(BigDecimal quantity, BigDecimal costUsd) {
+    }
+
+    /**
+     * Share of closed trades that realized a profit, or null before the first closed trade.
+     */
+    public BigDecimal getWinRate() {
+        if (closedTrades == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(wins).divide(BigDecimal.valueOf(closedTrades), 4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,16 @@
+package com.argus.domain.port.ai;
+
+import com.argus.domain.model.SignalFingerprint;
+
+import java.util.List;
+
+public interface NarrativePort {
+
+    /**
+     * Writes a short narrative for each fingerprint, in input order, with a single model call.
+     *
+     * @throws com.argus.core.exception.AiException if the model cannot be reached or does not answer with
+     *                                              one narrative per fingerprint
+     */
+    List<String> generate(List<SignalFingerprint> fingerprints);
+}
@@ -0,0 +1,35 @@
+package com.argus.domain.port.blockchain;
+
+import com.argus.domain.model.BalanceSheet;
+import com.argus.domain.model.Block;
+import com.argus.domain.model.Token;
+import com.argus.domain.model.Transaction;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link BlockChainPort}. Retries and backoff happen off the caller's thread;
+ * futures complete exceptionally with a {@code BlockchainException} once retries are exhausted.
+ */
+public interface AsyncBlockChainPort {
+
+    CompletableFuture<Long> getLatestBlockNumberAsync();
+
+    CompletableFuture<Optional<Transaction>> getTransactionByHashAsync(String txHash);
+
+    CompletableFuture<List<Optional<Transaction>>> getTransactionsByHashesAsync(Collection<String> txHashes);
+
+    CompletableFuture<Optional<Block>> getBlockByNumberAsync(long blockNumber);
+
+    CompletableFuture<Block> enrichWithReceiptsAsync(Block block);
+
+    CompletableFuture<List<Transaction>> scanLogsAsync(long fromBlock, long toBlock, Collection<String> addresses);
+
+    CompletableFuture<Map<String, Token>> getTokenMetadataAsync(Collection<String> tokenAddresses);
+
+    CompletableFuture<BalanceSheet> getBalancesAsync(List<String> owners, List<String> tokens, long blockNumber);
+}
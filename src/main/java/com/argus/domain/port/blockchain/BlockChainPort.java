@@ -1,6 +1,12 @@
 package com.argus.domain.port.blockchain;
 
+import com.argus.domain.model.BalanceSheet;
+import com.argus.domain.model.Block;
+import com.argus.domain.model.Token;
 import com.argus.domain.model.Transaction;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface BlockChainPort {
@@ -8,4 +14,42 @@ public interface BlockChainPort {
     long getLatestBlockNumber();
 
     Optional<Transaction> getTransactionByHash(String txHash);
+
+    /**
+     * Looks up many transactions at once. The result has one entry per input hash, in input order;
+     * an entry is empty when the node does not know the transaction.
+     */
+    List<Optional<Transaction>> getTransactionsByHashes(Collection<String> txHashes);
+
+    /**
+     * Fetches a block with its full transaction objects. Empty when the node has not seen the block yet.
+     */
+    Optional<Block> getBlockByNumber(long blockNumber);
+
+    /**
+     * Returns a copy of the block whose transactions carry gas used, effective gas price and status from
+     * their receipts. The block may hold only some of its transactions; only those are enriched.
+     */
+    Block enrichWithReceipts(Block block);
+
+    /**
+     * Finds ERC-20 transfers and Uniswap swaps involving any of {@code addresses} in blocks
+     * [fromBlock, toBlock] from event logs, without fetching full blocks. Returns one row per transaction
+     * and address, in block order, typed {@code SWAP} or {@code TRANSFER}; the address is {@code from}
+     * for swaps and transfers it sent, and {@code to} for transfers it received. Wallet ids are not set.
+     */
+    List<Transaction> scanLogs(long fromBlock, long toBlock, Collection<String> addresses);
+
+    /**
+     * Reads {@code symbol()}, {@code name()} and {@code decimals()} of many ERC-20 contracts, batched into
+     * Multicall3 calls. Keyed by lowercase address; contracts that do not answer {@code decimals()} are
+     * not tokens and are left out. Symbol and name are null when the contract does not have them.
+     */
+    Map<String, Token> getTokenMetadata(Collection<String> tokenAddresses);
+
+    /**
+     * Reads the balance of every owner in every token at {@code blockNumber}, batched into Multicall3
+     * calls. {@code WalletBalanceSnapshot.ETH} in {@code tokens} stands for the native balance.
+     */
+    BalanceSheet getBalances(List<String> owners, List<String> tokens, long blockNumber);
 }
@@ -0,0 +1,25 @@
+package com.argus.domain.port.blockchain;
+
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Push-based view of the chain tip, kept in memory and updated as new blocks arrive.
+ */
+public interface ChainHeadPort {
+
+    /**
+     * Latest known head block number. Empty until the first head has been seen or when the last
+     * update is too old to be trusted.
+     */
+    OptionalLong getCurrentHead();
+
+    /**
+     * Registers a callback invoked with each new head number. Heads can be skipped when several
+     * blocks arrive between updates, so listeners should treat the value as "the tip is now N".
+     * Callbacks run on the tracker's thread and must hand off any slow work.
+     */
+    void addNewHeadListener(LongConsumer listener);
+
+    void removeNewHeadListener(LongConsumer listener);
+}
@@ -0,0 +1,13 @@
+package com.argus.domain.port.notification;
+
+public interface NotificationPort {
+
+    /**
+     * Delivers one message to a chat, blocking until the receiving service has accepted it.
+     *
+     * @throws com.argus.core.exception.NotificationException if it was not delivered;
+     *                                                        {@code isRetryable()} tells whether sending
+     *                                                        it again may succeed
+     */
+    void send(String chatId, String text);
+}
@@ -0,0 +1,16 @@
+package com.argus.domain.port.persistence;
+
+import com.argus.domain.model.AlertRule;
+
+import java.util.List;
+
+public interface AlertRulePersistencePort {
+
+    List<AlertRule> findEnabled();
+
+    /**
+     * A cheap token that changes whenever a rule is added, changed or removed, so callers can tell
+     * whether to reload without reading every rule.
+     */
+    String findVersion();
+}
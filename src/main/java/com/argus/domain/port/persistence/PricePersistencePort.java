@@ -0,0 +1,18 @@
+package com.argus.domain.port.persistence;
+
+import com.argus.domain.model.PricePoint;
+
+import java.util.List;
+
+public interface PricePersistencePort {
+
+    /**
+     * Inserts or replaces the price of each (token, minute) in one database transaction.
+     */
+    void saveAll(List<PricePoint> prices);
+
+    /**
+     * Prices of all tokens from the given minute on, oldest first.
+     */
+    List<PricePoint> findSince(long timestampMillis);
+}
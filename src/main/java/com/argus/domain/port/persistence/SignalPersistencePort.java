@@ -1,7 +1,29 @@
 package com.argus.domain.port.persistence;
 
+import com.argus.domain.model.ExportFilter;
 import com.argus.domain.model.Signal;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
 public interface SignalPersistencePort {
     Signal save(Signal signal);
+
+    /**
+     * Inserts new signals in one database transaction, sent in JDBC batches. Returns them with ids, in
+     * input order.
+     */
+    List<Signal> saveAll(List<Signal> signals);
+
+    /**
+     * Sets the AI narrative of stored signals, by id, in one batched update. Unknown ids are ignored.
+     */
+    void updateNarratives(Map<Long, String> narratives);
+
+    /**
+     * Passes every signal matching the filter to {@code sink}, in id order, without holding the result
+     * in memory. Time bounds apply to the creation time.
+     */
+    void export(ExportFilter filter, Consumer<Signal> sink);
 }
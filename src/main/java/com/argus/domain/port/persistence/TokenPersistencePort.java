@@ -2,7 +2,22 @@ package com.argus.domain.port.persistence;
 
 import com.argus.domain.model.Token;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface TokenPersistencePort {
     Token save(Token token);
 
+    /**
+     * Inserts tokens in one batch, leaving any address that is already stored untouched.
+     */
+    void saveAllIfAbsent(List<Token> tokens);
+
+    Optional<Token> findByAddress(String address);
+
+    /**
+     * Stored tokens among {@code addresses}, in no particular order. Addresses are matched lowercase.
+     */
+    List<Token> findByAddresses(Collection<String> addresses);
 }
@@ -1,7 +1,40 @@
 package com.argus.domain.port.persistence;
 
+import com.argus.domain.model.ExportFilter;
 import com.argus.domain.model.Transaction;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
 public interface TransactionPersistencePort {
     Transaction save(Transaction transaction);
+
+    /**
+     * Inserts new transactions in one database transaction, sent in JDBC batches. Returns them with ids,
+     * in input order.
+     */
+    List<Transaction> saveAll(List<Transaction> transactions);
+
+    /**
+     * Streams a large number of transactions into storage for historical backfills. Transactions already
+     * stored for the same wallet are skipped, so a failed load can be rerun as is. Every transaction
+     * needs a wallet id. Ids are not returned.
+     *
+     * @return number of transactions actually inserted
+     */
+    long bulkLoad(Iterable<Transaction> transactions);
+
+    /**
+     * Transactions of a wallet with {@code from <= txTimestamp < to}, oldest first. Both bounds are
+     * required so the lookup only touches the months they span.
+     */
+    List<Transaction> findByWallet(UUID walletId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Passes every transaction matching the filter to {@code sink}, in id order, without holding the
+     * result in memory. Time bounds apply to the transaction timestamp.
+     */
+    void export(ExportFilter filter, Consumer<Transaction> sink);
 }
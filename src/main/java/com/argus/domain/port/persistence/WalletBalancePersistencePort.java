@@ -0,0 +1,14 @@
+package com.argus.domain.port.persistence;
+
+import com.argus.domain.model.WalletBalanceSnapshot;
+
+public interface WalletBalancePersistencePort {
+
+    /**
+     * Stores the snapshots in bulk. A (wallet, token, block) that is already stored is skipped, so a
+     * failed run at the same block can be repeated.
+     *
+     * @return number of rows inserted
+     */
+    long saveAll(Iterable<WalletBalanceSnapshot> snapshots);
+}
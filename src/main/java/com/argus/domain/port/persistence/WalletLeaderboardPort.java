@@ -0,0 +1,35 @@
+package com.argus.domain.port.persistence;
+
+import com.argus.domain.model.LeaderboardEntry;
+import com.argus.domain.model.Wallet;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Wallets ranked by PnL and by win rate, overall and per chain and type. A wallet without a value for a
+ * metric is not ranked by it.
+ */
+public interface WalletLeaderboardPort {
+
+    /**
+     * Adds the wallets or moves them to their current chain, type and scores.
+     */
+    void updateAll(Collection<Wallet> wallets);
+
+    void remove(UUID walletId);
+
+    /**
+     * Best {@code limit} wallets, best first. {@code chain} and {@code type} may be null for all.
+     */
+    List<LeaderboardEntry> findTop(LeaderboardEntry.Metric metric, String chain, Wallet.WalletType type, int limit);
+
+    /**
+     * The wallet's position among the wallets of {@code chain} and {@code type} (null for all), or empty
+     * when it is not ranked there.
+     */
+    Optional<LeaderboardEntry> findRank(LeaderboardEntry.Metric metric, UUID walletId, String chain,
+                                        Wallet.WalletType type);
+}
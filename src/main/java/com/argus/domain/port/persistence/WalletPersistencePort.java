@@ -1,6 +1,7 @@
 package com.argus.domain.port.persistence;
 
 import com.argus.domain.model.Wallet;
+import com.argus.domain.model.WalletCursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +25,18 @@ public interface WalletPersistencePort {
 
     List<Wallet> findTopPerformers(double minWinRate);
 
+    /**
+     * Up to {@code limit} wallets ordered by (createdAt, id), starting after {@code after} (null for the
+     * first page). {@code type} may be null for all types.
+     */
+    List<Wallet> findPage(Wallet.WalletType type, WalletCursor after, int limit);
+
+    /**
+     * Up to {@code limit} profitable wallets with a win rate above {@code minWinRate}, ordered by
+     * (totalPnl, id) descending, starting after {@code after} (null for the first page).
+     */
+    List<Wallet> findTopPerformersPage(double minWinRate, WalletCursor after, int limit);
+
     boolean existsByAddress(String address);
 
     void delete(UUID id);
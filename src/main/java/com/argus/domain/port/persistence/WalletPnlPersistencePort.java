@@ -0,0 +1,15 @@
+package com.argus.domain.port.persistence;
+
+import com.argus.domain.model.WalletPnlSnapshot;
+
+import java.util.List;
+
+public interface WalletPnlPersistencePort {
+
+    /**
+     * Inserts or replaces the snapshot of each wallet in one database transaction.
+     */
+    void saveAll(List<WalletPnlSnapshot> snapshots);
+
+    List<WalletPnlSnapshot> findAll();
+}
@@ -0,0 +1,16 @@
+package com.argus.domain.port.price;
+
+import com.argus.domain.model.PricePoint;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PriceFeedPort {
+
+    /**
+     * Reads the current USD price of each token. Tokens the feed does not price are left out.
+     *
+     * @throws com.argus.core.exception.PriceFeedException if the feed cannot be reached or rejects the request
+     */
+    List<PricePoint> fetchPrices(Collection<String> tokenAddresses);
+}
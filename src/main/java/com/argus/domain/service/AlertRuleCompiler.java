@@ -0,0 +1,293 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.AlertRule;
+import com.argus.domain.model.Signal;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles the JSON conditions of an {@link AlertRule} into a {@link Predicate} over signals, once, so
+ * matching a signal does no parsing or map lookups. All conditions of an object must hold:
+ * <pre>
+ * {
+ *   "type": "WHALE_BUY",                      // equals
+ *   "chain": ["ethereum", "base"],            // any of
+ *   "usdValue": {"gte": 100000, "lt": 1e7},   // eq, ne, gt, gte, lt, lte, in
+ *   "any": [{"tokenSymbol": "PEPE"}, {"confidenceScore": {"gte": 0.9}}]   // at least one object holds
+ * }
+ * </pre>
+ * String fields ({@code type}, {@code walletId}, {@code tokenAddress}, {@code tokenSymbol},
+ * {@code chain}) compare case-insensitively; numeric ones are {@code usdValue} and
+ * {@code confidenceScore}. A condition on a field the signal does not have never holds.
+ * <p>
+ * Equality conditions on {@code walletId}, {@code tokenAddress}, {@code type} or {@code chain} at the
+ * top level also become the rule's index key, the first of them in that order. A top-level lower bound
+ * on {@code usdValue} ({@code gte}, {@code gt} or {@code eq}) lets the index skip the rule for smaller
+ * signals.
+ */
+public class AlertRuleCompiler {
+
+    static final String ANY = "any";
+
+    private static final List<String> INDEX_FIELDS = List.of("walletId", "tokenAddress", "type", "chain");
+
+    private static final Map<String, Function<Signal, String>> STRING_FIELDS = Map.of(
+            "type", Signal::getType,
+            "walletId", signal -> signal.getWalletId() != null ? signal.getWalletId().toString() : null,
+            "tokenAddress", Signal::getTokenAddress,
+            "tokenSymbol", Signal::getTokenSymbol,
+            "chain", Signal::getChain);
+
+    private static final Map<String, Function<Signal, BigDecimal>> NUMBER_FIELDS = Map.of(
+            "usdValue", Signal::getUsdValue,
+            "confidenceScore", Signal::getConfidenceScore);
+
+    /**
+     * @param indexField  field the rule is indexed by, or null when it has to be checked against every
+     *                    signal
+     * @param indexValues lowercase values of that field the rule can match
+     * @param minUsdValue no signal below this USD value matches; null if unbounded
+     */
+    public record CompiledRule(AlertRule rule, Predicate<Signal> predicate, String indexField, Set<String> indexValues,
+                               BigDecimal minUsdValue) {
+
+        public boolean matches(Signal signal) {
+            return predicate.test(signal);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the conditions use an unknown field or operator, or a value of
+     *                                  the wrong type
+     */
+    public CompiledRule compile(AlertRule rule) {
+        Map<String, Object> conditions = rule.getConditions() != null ? rule.getConditions() : Map.of();
+        Predicate<Signal> predicate = compileObject(conditions);
+        BigDecimal minUsdValue = lowerBound(conditions.get("usdValue"));
+
+        for (String field : INDEX_FIELDS) {
+            Set<String> values = equalityValues(conditions.get(field));
+            if (values != null) {
+                return new CompiledRule(rule, predicate, field, values, minUsdValue);
+            }
+        }
+        return new CompiledRule(rule, predicate, null, Set.of(), minUsdValue);
+    }
+
+    /**
+     * The accessor the index uses for a field, lowercased like the index values.
+     */
+    static String indexValue(String field, Signal signal) {
+        String value = STRING_FIELDS.get(field).apply(signal);
+        return value != null ? value.toLowerCase() : null;
+    }
+
+    private Predicate<Signal> compileObject(Map<String, Object> conditions) {
+        List<Predicate<Signal>> parts = new ArrayList<>(conditions.size());
+        conditions.forEach((field, condition) -> parts.add(ANY.equals(field)
+                ? compileAny(condition)
+                : compileField(field, condition)));
+        return allOf(parts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<Signal> compileAny(Object condition) {
+        if (!(condition instanceof Collection<?> alternatives) || alternatives.isEmpty()) {
+            throw new IllegalArgumentException("\"any\" must be a non-empty list of condition objects");
+        }
+        List<Predicate<Signal>> parts = new ArrayList<>(alternatives.size());
+        for (Object alternative : alternatives) {
+            if (!(alternative instanceof Map<?, ?> map)) {
+                throw new IllegalArgumentException("\"any\" must be a non-empty list of condition objects");
+            }
+            parts.add(compileObject((Map<String, Object>) map));
+        }
+        Predicate<Signal>[] array = parts.toArray(Predicate[]::new);
+        return signal -> {
+            for (Predicate<Signal> part : array) {
+                if (part.test(signal)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private Predicate<Signal> compileField(String field, Object condition) {
+        Map<String, Object> operators = operators(condition);
+        List<Predicate<Signal>> parts = new ArrayList<>(operators.size());
+
+        if (STRING_FIELDS.containsKey(field)) {
+            Function<Signal, String> accessor = STRING_FIELDS.get(field);
+            operators.forEach((operator, value) -> parts.add(stringCondition(field, accessor, operator, value)));
+        } else if (NUMBER_FIELDS.containsKey(field)) {
+            Function<Signal, BigDecimal> accessor = NUMBER_FIELDS.get(field);
+            operators.forEach((operator, value) -> parts.add(numberCondition(field, accessor, operator, value)));
+        } else {
+            throw new IllegalArgumentException("Unknown signal field \"" + field + "\"");
+        }
+        return allOf(parts);
+    }
+
+    /**
+     * A bare value means "eq", a list means "in".
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> operators(Object condition) {
+        if (condition == null) {
+            throw new IllegalArgumentException("Condition value cannot be null");
+        }
+        if (condition instanceof Map<?, ?> map) {
+            if (map.isEmpty()) {
+                throw new IllegalArgumentException("Empty operator object");
+            }
+            return (Map<String, Object>) map;
+        }
+        return Map.of(condition instanceof Collection<?> ? "in" : "eq", condition);
+    }
+
+    private static Predicate<Signal> stringCondition(String field, Function<Signal, String> accessor,
+                                                     String operator, Object value) {
+        return switch (operator) {
+            case "eq" -> {
+                String expected = string(field, value);
+                yield signal -> expected.equalsIgnoreCase(accessor.apply(signal));
+            }
+            case "ne" -> {
+                String unexpected = string(field, value);
+                yield signal -> {
+                    String actual = accessor.apply(signal);
+                    return actual != null && !unexpected.equalsIgnoreCase(actual);
+                };
+            }
+            case "in" -> {
+                Set<String> expected = strings(field, value);
+                yield signal -> {
+                    String actual = accessor.apply(signal);
+                    return actual != null && expected.contains(actual.toLowerCase());
+                };
+            }
+            default -> throw new IllegalArgumentException(
+                    "Operator \"" + operator + "\" is not supported on \"" + field + "\"");
+        };
+    }
+
+    private static Predicate<Signal> numberCondition(String field, Function<Signal, BigDecimal> accessor,
+                                                     String operator, Object value) {
+        if ("in".equals(operator)) {
+            if (!(value instanceof Collection<?> values)) {
+                throw new IllegalArgumentException("\"in\" on \"" + field + "\" needs a list");
+            }
+            List<BigDecimal> expected = values.stream().map(element -> number(field, element)).toList();
+            return signal -> {
+                BigDecimal actual = accessor.apply(signal);
+                return actual != null && expected.stream().anyMatch(candidate -> candidate.compareTo(actual) == 0);
+            };
+        }
+
+        BigDecimal bound = number(field, value);
+        Predicate<Integer> comparison = switch (operator) {
+            case "eq" -> result -> result == 0;
+            case "ne" -> result -> result != 0;
+            case "gt" -> result -> result > 0;
+            case "gte" -> result -> result >= 0;
+            case "lt" -> result -> result < 0;
+            case "lte" -> result -> result <= 0;
+            default -> throw new IllegalArgumentException(
+                    "Operator \"" + operator + "\" is not supported on \"" + field + "\"");
+        };
+        return signal -> {
+            BigDecimal actual = accessor.apply(signal);
+            return actual != null && comparison.test(actual.compareTo(bound));
+        };
+    }
+
+    private static Predicate<Signal> allOf(List<Predicate<Signal>> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        @SuppressWarnings("unchecked")
+        Predicate<Signal>[] array = parts.toArray(Predicate[]::new);
+        return signal -> {
+            for (Predicate<Signal> part : array) {
+                if (!part.test(signal)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Values an index can look the rule up by: those of a plain value, a list, or an object with only
+     * "eq" or "in".
+     */
+    private static Set<String> equalityValues(Object condition) {
+        if (condition == null) {
+            return null;
+        }
+        Map<String, Object> operators = operators(condition);
+        if (operators.size() != 1) {
+            return null;
+        }
+        Map.Entry<String, Object> operator = operators.entrySet().iterator().next();
+        return switch (operator.getKey()) {
+            case "eq" -> Set.of(operator.getValue().toString().toLowerCase());
+            case "in" -> strings("index", operator.getValue());
+            default -> null;
+        };
+    }
+
+    /**
+     * The highest of the lower bounds a numeric condition sets, if any. Only called on compiled
+     * conditions, so the values are known to be numbers.
+     */
+    private static BigDecimal lowerBound(Object condition) {
+        if (condition == null || condition instanceof Collection<?>) {
+            return null;
+        }
+        BigDecimal bound = null;
+        for (Map.Entry<String, Object> operator : operators(condition).entrySet()) {
+            if (List.of("eq", "gt", "gte").contains(operator.getKey())) {
+                BigDecimal value = number("usdValue", operator.getValue());
+                bound = bound == null || value.compareTo(bound) > 0 ? value : bound;
+            }
+        }
+        return bound;
+    }
+
+    private static String string(String field, Object value) {
+        if (value == null || value instanceof Map<?, ?> || value instanceof Collection<?>) {
+            throw new IllegalArgumentException("\"" + field + "\" needs a single value");
+        }
+        return value.toString();
+    }
+
+    private static Set<String> strings(String field, Object value) {
+        if (!(value instanceof Collection<?> values)) {
+            throw new IllegalArgumentException("\"in\" on \"" + field + "\" needs a list");
+        }
+        return values.stream()
+                .map(element -> string(field, element).toLowerCase())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static BigDecimal number(String field, Object value) {
+        if (value instanceof Number || value instanceof String) {
+            try {
+                return new BigDecimal(value.toString());
+            } catch (NumberFormatException e) {
+                // Falls through to the error below
+            }
+        }
+        throw new IllegalArgumentException("\"" + field + "\" needs a number, got " + value);
+    }
+}
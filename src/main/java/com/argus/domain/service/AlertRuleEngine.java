@@ -0,0 +1,184 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.AlertRule;
+import com.argus.domain.model.Signal;
+import com.argus.domain.service.AlertRuleCompiler.CompiledRule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the alert rules a signal matches without testing every rule. Rules are compiled once per
+ * reload and bucketed by their index key (see {@link AlertRuleCompiler}): a signal is only tested
+ * against the rules filed under its own wallet, token, type and chain, plus the few rules without any
+ * such key. Each rule is filed under a single field, so no rule is tested twice. Within a bucket, rules
+ * are sorted by their minimum USD value, and a binary search skips those above the signal's value.
+ * <p>
+ * Reloads build a complete new index and swap it in at once; matching never locks and always sees
+ * either the old or the new rule set.
+ */
+@Slf4j
+public class AlertRuleEngine {
+
+    private final AlertRuleCompiler compiler;
+    private volatile RuleIndex index = RuleIndex.EMPTY;
+
+    public AlertRuleEngine(AlertRuleCompiler compiler) {
+        this.compiler = compiler;
+    }
+
+    /**
+     * Replaces the rule set. Disabled rules and rules that do not compile are left out; the latter are
+     * logged.
+     *
+     * @return number of rules now active
+     */
+    public int reload(Collection<AlertRule> rules) {
+        long startNanos = System.nanoTime();
+        List<CompiledRule> compiled = new ArrayList<>(rules.size());
+        int rejected = 0;
+
+        for (AlertRule rule : rules) {
+            if (!rule.isEnabled()) {
+                continue;
+            }
+            try {
+                compiled.add(compiler.compile(rule));
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                log.warn("Skipping alert rule {} ({}): {}", rule.getId(), rule.getName(), e.getMessage());
+            }
+        }
+
+        RuleIndex rebuilt = new RuleIndex(compiled);
+        index = rebuilt;
+        log.info("Loaded {} alert rules ({} unindexed, {} rejected) in {} ms", compiled.size(),
+                rebuilt.unindexed.rules.length, rejected, (System.nanoTime() - startNanos) / 1_000_000);
+        return compiled.size();
+    }
+
+    /**
+     * Rules the signal satisfies, in no particular order.
+     */
+    public List<AlertRule> match(Signal signal) {
+        RuleIndex current = index;
+        List<AlertRule> matched = new ArrayList<>();
+
+        for (Map.Entry<String, Map<String, Bucket>> byField : current.byField.entrySet()) {
+            String value = AlertRuleCompiler.indexValue(byField.getKey(), signal);
+            if (value != null) {
+                collect(byField.getValue().get(value), signal, matched);
+            }
+        }
+        collect(current.unindexed, signal, matched);
+        return matched;
+    }
+
+    public int getRuleCount() {
+        return index.size;
+    }
+
+    private static void collect(Bucket bucket, Signal signal, List<AlertRule> matched) {
+        if (bucket == null) {
+            return;
+        }
+        int end = bucket.candidateCount(signal.getUsdValue());
+        for (int i = 0; i < end; i++) {
+            if (bucket.rules[i].matches(signal)) {
+                matched.add(bucket.rules[i].rule());
+            }
+        }
+    }
+
+    /**
+     * Rules sorted by minimum USD value, those without one first. Arrays keep the per-signal loop free
+     * of iterators.
+     */
+    private static final class Bucket {
+
+        private final CompiledRule[] rules;
+        private final BigDecimal[] minUsdValues;
+        private final int unbounded;
+
+        private Bucket(List<CompiledRule> rules) {
+            this.rules = rules.stream()
+                    .sorted(Comparator.comparing(CompiledRule::minUsdValue,
+                            Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .toArray(CompiledRule[]::new);
+            this.minUsdValues = new BigDecimal[this.rules.length];
+            int withoutBound = 0;
+            for (int i = 0; i < this.rules.length; i++) {
+                minUsdValues[i] = this.rules[i].minUsdValue();
+                if (minUsdValues[i] == null) {
+                    withoutBound++;
+                }
+            }
+            this.unbounded = withoutBound;
+        }
+
+        /**
+         * Length of the prefix of rules whose minimum the value reaches.
+         */
+        private int candidateCount(BigDecimal usdValue) {
+            if (usdValue == null) {
+                return unbounded;
+            }
+            int low = unbounded;
+            int high = rules.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (minUsdValues[middle].compareTo(usdValue) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Immutable once built.
+     */
+    private static final class RuleIndex {
+
+        private static final RuleIndex EMPTY = new RuleIndex(List.of());
+
+        private final Map<String, Map<String, Bucket>> byField;
+        private final Bucket unindexed;
+        private final int size;
+
+        private RuleIndex(List<CompiledRule> rules) {
+            Map<String, Map<String, List<CompiledRule>>> buckets = new HashMap<>();
+            List<CompiledRule> rest = new ArrayList<>();
+
+            for (CompiledRule rule : rules) {
+                if (rule.indexField() == null) {
+                    rest.add(rule);
+                    continue;
+                }
+                Map<String, List<CompiledRule>> byValue = buckets.computeIfAbsent(rule.indexField(), field -> new HashMap<>());
+                for (String value : rule.indexValues()) {
+                    byValue.computeIfAbsent(value, key -> new ArrayList<>()).add(rule);
+                }
+            }
+
+            Map<String, Map<String, Bucket>> frozen = new HashMap<>();
+            buckets.forEach((field, byValue) -> {
+                Map<String, Bucket> values = new HashMap<>(byValue.size() * 2);
+                byValue.forEach((value, bucket) -> values.put(value, new Bucket(bucket)));
+                frozen.put(field, values);
+            });
+
+            this.byField = Map.copyOf(frozen);
+            this.unindexed = new Bucket(rest);
+            this.size = rules.size();
+        }
+    }
+}
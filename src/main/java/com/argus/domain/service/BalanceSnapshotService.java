@@ -0,0 +1,135 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.BalanceSheet;
+import com.argus.domain.model.Wallet;
+import com.argus.domain.model.WalletBalanceSnapshot;
+import com.argus.domain.model.WalletCursor;
+import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.persistence.WalletBalancePersistencePort;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshots the ETH and top-token balances of every tracked wallet. A run reads every wallet at the same
+ * block, {@code blockLag} below the head so that every provider has it. Wallets are paged through
+ * {@code walletsPerPage} at a time; each page is one {@link BalanceSheet}, which the blockchain adapter
+ * packs into Multicall3 calls, and is stored with one bulk insert. Zero balances are not stored.
+ */
+@Slf4j
+public class BalanceSnapshotService {
+
+    private final BlockChainPort blockChainPort;
+    private final WalletPersistencePort walletPersistencePort;
+    private final WalletBalancePersistencePort walletBalancePersistencePort;
+    private final TokenMetadataResolver tokenMetadataResolver;
+    private final List<String> tokens;
+    private final int walletsPerPage;
+    private final int blockLag;
+
+    /**
+     * @param tokens ERC-20 addresses to snapshot besides ETH
+     */
+    public BalanceSnapshotService(
+            BlockChainPort blockChainPort,
+            WalletPersistencePort walletPersistencePort,
+            WalletBalancePersistencePort walletBalancePersistencePort,
+            TokenMetadataResolver tokenMetadataResolver,
+            List<String> tokens,
+            int walletsPerPage,
+            int blockLag) {
+        if (walletsPerPage < 1 || blockLag < 0) {
+            throw new IllegalArgumentException("Page size must be positive and block lag not negative");
+        }
+        this.blockChainPort = blockChainPort;
+        this.walletPersistencePort = walletPersistencePort;
+        this.walletBalancePersistencePort = walletBalancePersistencePort;
+        this.tokenMetadataResolver = tokenMetadataResolver;
+        List<String> all = new ArrayList<>();
+        all.add(WalletBalanceSnapshot.ETH);
+        tokens.stream().map(token -> token.trim().toLowerCase()).filter(token -> !token.isEmpty()).distinct()
+                .forEach(all::add);
+        this.tokens = List.copyOf(all);
+        this.walletsPerPage = walletsPerPage;
+        this.blockLag = blockLag;
+    }
+
+    /**
+     * Result of one run. Each balance would otherwise be its own {@code eth_call}.
+     */
+    public record Report(long blockNumber, int wallets, long balanceReads, long rpcCalls, long rowsStored,
+                         long failedReads, double elapsedSeconds) {
+
+        public long callsSaved() {
+            return balanceReads - rpcCalls;
+        }
+
+        public double walletsPerSecond() {
+            return elapsedSeconds > 0 ? wallets / elapsedSeconds : 0;
+        }
+    }
+
+    public Report snapshot() {
+        long startNanos = System.nanoTime();
+        // Decimals of the snapshotted tokens end up in the tokens table, for whoever scales the balances
+        tokenMetadataResolver.resolveAll(tokens.subList(1, tokens.size()));
+
+        long blockNumber = blockChainPort.getLatestBlockNumber() - blockLag;
+        LocalDateTime snapshotAt = LocalDateTime.now();
+        int wallets = 0;
+        long rpcCalls = 0;
+        long rowsStored = 0;
+        long failedReads = 0;
+
+        WalletCursor after = null;
+        while (true) {
+            List<Wallet> page = walletPersistencePort.findPage(null, after, walletsPerPage);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<String> owners = page.stream().map(Wallet::getAddress).toList();
+            BalanceSheet sheet = blockChainPort.getBalances(owners, tokens, blockNumber);
+
+            List<WalletBalanceSnapshot> snapshots = new ArrayList<>();
+            for (int w = 0; w < page.size(); w++) {
+                for (int t = 0; t < tokens.size(); t++) {
+                    BigInteger balance = sheet.getBalance(w, t);
+                    if (balance == null) {
+                        failedReads++;
+                    } else if (balance.signum() != 0) {
+                        snapshots.add(WalletBalanceSnapshot.builder()
+                                .walletId(page.get(w).getId())
+                                .tokenAddress(tokens.get(t))
+                                .blockNumber(blockNumber)
+                                .balance(new BigDecimal(balance))
+                                .snapshotAt(snapshotAt)
+                                .build());
+                    }
+                }
+            }
+            rowsStored += walletBalancePersistencePort.saveAll(snapshots);
+            wallets += page.size();
+            rpcCalls += sheet.getRpcCalls();
+
+            if (page.size() < walletsPerPage) {
+                break;
+            }
+            after = WalletCursor.byCreatedAt(page.get(page.size() - 1));
+        }
+
+        Report report = new Report(blockNumber, wallets, (long) wallets * tokens.size(), rpcCalls, rowsStored,
+                failedReads, (System.nanoTime() - startNanos) / 1_000_000_000.0);
+        log.info("Snapshotted ETH and {} token balances of {} wallets at block {} in {}s ({} wallets/s): "
+                        + "{} rows stored, {} reads failed, {} eth_calls instead of {} ({} saved)",
+                tokens.size() - 1, report.wallets(), blockNumber, String.format("%.1f", report.elapsedSeconds()),
+                String.format("%.0f", report.walletsPerSecond()), rowsStored, failedReads, rpcCalls,
+                report.balanceReads(), report.callsSaved());
+        return report;
+    }
+}
@@ -0,0 +1,318 @@
+package com.argus.domain.service;
+
+import com.argus.core.exception.BlockchainException;
+import com.argus.domain.model.Block;
+import com.argus.domain.model.Transaction;
+import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.persistence.TransactionPersistencePort;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Follows the chain block by block. Up to {@code prefetchWindow} blocks ahead of the cursor are fetched
+ * in parallel, but blocks are always committed in block order, so the cursor only ever advances past a
+ * block whose tracked transactions have been persisted. Tracked transactions are enriched with their
+ * receipts while prefetching, so blocks without any tracked activity cost no receipt calls. Successful
+ * DEX swaps among them get their tokens and amounts decoded from calldata in the same stage, and are
+ * fed to the {@link PnlEngine} once committed. With a {@link PriceService}, the same stage also fills in
+ * their USD value from the in-memory price at the block's time.
+ */
+@Slf4j
+public class BlockIngestionService {
+
+    static final String SWAP_TYPE = "SWAP";
+    private static final String ZERO_ADDRESS = "0x" + "0".repeat(40);
+
+    private final BlockChainPort blockChainPort;
+    private final TrackedAddressIndex trackedAddressIndex;
+    private final TransactionPersistencePort transactionPersistencePort;
+    private final SwapCalldataDecoder swapDecoder;
+    private final PnlEngine pnlEngine;
+    private final PriceService priceService;
+    private final ExecutorService fetchExecutor;
+    private final int prefetchWindow;
+
+    private long cursor;
+    private volatile IngestionStats stats = IngestionStats.builder().build();
+
+    public BlockIngestionService(
+            BlockChainPort blockChainPort,
+            TrackedAddressIndex trackedAddressIndex,
+            TransactionPersistencePort transactionPersistencePort,
+            SwapCalldataDecoder swapDecoder,
+            PnlEngine pnlEngine,
+            ExecutorService fetchExecutor,
+            int prefetchWindow,
+            long startBlock) {
+        this(blockChainPort, trackedAddressIndex, transactionPersistencePort, swapDecoder, pnlEngine, null,
+                fetchExecutor, prefetchWindow, startBlock);
+    }
+
+    /**
+     * @param priceService stamps USD values on tracked transactions; null leaves them unset
+     */
+    public BlockIngestionService(
+            BlockChainPort blockChainPort,
+            TrackedAddressIndex trackedAddressIndex,
+            TransactionPersistencePort transactionPersistencePort,
+            SwapCalldataDecoder swapDecoder,
+            PnlEngine pnlEngine,
+            PriceService priceService,
+            ExecutorService fetchExecutor,
+            int prefetchWindow,
+            long startBlock) {
+        if (prefetchWindow < 1) {
+            throw new IllegalArgumentException("Prefetch window must be positive");
+        }
+        this.blockChainPort = blockChainPort;
+        this.trackedAddressIndex = trackedAddressIndex;
+        this.transactionPersistencePort = transactionPersistencePort;
+        this.swapDecoder = swapDecoder;
+        this.pnlEngine = pnlEngine;
+        this.priceService = priceService;
+        this.fetchExecutor = fetchExecutor;
+        this.prefetchWindow = prefetchWindow;
+        this.cursor = startBlock;
+    }
+
+    /**
+     * Ingests every block from the cursor up to the current head. A negative cursor means "start at head".
+     *
+     * @return number of blocks committed by this run
+     */
+    public synchronized int ingestToHead() {
+        long head = blockChainPort.getLatestBlockNumber();
+        if (cursor < 0) {
+            cursor = head;
+            log.info("Starting block ingestion at head block {}", head);
+        }
+        return ingestUpTo(head);
+    }
+
+    public synchronized int ingestUpTo(long targetBlock) {
+        if (cursor < 0 || cursor > targetBlock) {
+            return 0;
+        }
+
+        long startNanos = System.nanoTime();
+        int committed = 0;
+        int matched = 0;
+
+        Deque<CompletableFuture<Optional<Block>>> window = new ArrayDeque<>(prefetchWindow);
+        long nextToFetch = cursor;
+
+        try {
+            while (cursor <= targetBlock) {
+                while (window.size() < prefetchWindow && nextToFetch <= targetBlock) {
+                    long blockNumber = nextToFetch++;
+                    window.addLast(CompletableFuture.supplyAsync(
+                            () -> blockChainPort.getBlockByNumber(blockNumber).map(this::enrichTracked),
+                            fetchExecutor));
+                }
+
+                Optional<Block> block = window.removeFirst().join();
+                if (block.isEmpty()) {
+                    log.debug("Block {} not available yet, pausing ingestion", cursor);
+                    break;
+                }
+
+                matched += commit(block.get());
+                committed++;
+                cursor++;
+            }
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("Block ingestion stopped at block {}: {}", cursor, cause.getMessage());
+            if (cause instanceof BlockchainException blockchainException) {
+                throw blockchainException;
+            }
+            throw new BlockchainException("Failed to ingest block " + cursor, cause);
+        } finally {
+            window.forEach(pending -> pending.cancel(true));
+            recordStats(committed, matched, startNanos, targetBlock);
+        }
+
+        return committed;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    public IngestionStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Persists all tracked transactions of the block in one batched write.
+     */
+    private int commit(Block block) {
+        List<Transaction> matched = new ArrayList<>();
+        for (Transaction transaction : block.getTransactions()) {
+            for (UUID walletId : matchWallets(transaction)) {
+                matched.add(transaction.toBuilder().walletId(walletId).build());
+            }
+        }
+        if (!matched.isEmpty()) {
+            transactionPersistencePort.saveAll(matched);
+            pnlEngine.applyAll(matched);
+        }
+        return matched.size();
+    }
+
+    /**
+     * Keeps only the tracked transactions of the block and fills in their receipt, swap and USD fields.
+     */
+    private Block enrichTracked(Block block) {
+        List<Transaction> tracked = block.getTransactions().stream()
+                .filter(transaction -> !matchWallets(transaction).isEmpty())
+                .toList();
+
+        Block trackedBlock = Block.builder()
+                .number(block.getNumber())
+                .hash(block.getHash())
+                .parentHash(block.getParentHash())
+                .timestamp(block.getTimestamp())
+                .transactions(tracked)
+                .build();
+
+        if (tracked.isEmpty()) {
+            return trackedBlock;
+        }
+        Block enriched = blockChainPort.enrichWithReceipts(trackedBlock);
+        List<Transaction> decoded = enriched.getTransactions().stream().map(this::decodeSwap).toList();
+        return enriched.toBuilder()
+                .transactions(priceService != null ? priceService.stampUsdValues(decoded) : decoded)
+                .build();
+    }
+
+    /**
+     * Reverted transactions are left alone: the swap never happened. The calldata fixes only one side of
+     * a swap, the other is a slippage limit, so amounts come from the receipt's transfers; when those
+     * don't show a side, only the exact one is kept.
+     */
+    private Transaction decodeSwap(Transaction transaction) {
+        if (Boolean.FALSE.equals(transaction.getSuccess())) {
+            return transaction;
+        }
+        SwapCalldataDecoder.Swap swap = swapDecoder.decode(transaction.getInput());
+        if (swap == null) {
+            return transaction;
+        }
+
+        boolean paidInEth = transaction.getValue() != null && transaction.getValue().signum() > 0;
+        BigDecimal amountIn = executedAmount(transaction, swap.tokenIn(), true, paidInEth);
+        BigDecimal amountOut = executedAmount(transaction, swap.tokenOut(), false, false);
+        if (amountIn == null && swap.exactInput()) {
+            amountIn = swap.amountIn();
+            if (amountIn == null && paidInEth) {
+                // Native ETH in: the value is what was sent, in wei like the WETH leg of the path
+                amountIn = transaction.getValue().movePointRight(18).setScale(0, RoundingMode.DOWN);
+            }
+        }
+        if (amountOut == null && !swap.exactInput()) {
+            amountOut = swap.amountOut();
+        }
+        return transaction.toBuilder()
+                .type(SWAP_TYPE)
+                .tokenIn(swap.tokenIn())
+                .tokenOut(swap.tokenOut())
+                .amountIn(amountIn)
+                .amountOut(amountOut)
+                .build();
+    }
+
+    /**
+     * Total of the token the sender paid ({@code sent}) or received, from the receipt's transfers. ETH
+     * legs show up as WETH minted from or burned to the zero address by the router.
+     *
+     * @return null when the receipt has no such transfer
+     */
+    private static BigDecimal executedAmount(Transaction transaction, String token, boolean sent, boolean wrapped) {
+        if (token == null || transaction.getFrom() == null || transaction.getTokenTransfers() == null) {
+            return null;
+        }
+        String sender = transaction.getFrom().toLowerCase();
+        BigDecimal direct = BigDecimal.ZERO;
+        BigDecimal viaEth = BigDecimal.ZERO;
+        for (Transaction.TokenTransfer transfer : transaction.getTokenTransfers()) {
+            if (!token.equalsIgnoreCase(transfer.token())) {
+                continue;
+            }
+            String counterparty = sent ? transfer.from() : transfer.to();
+            if (sender.equalsIgnoreCase(counterparty)) {
+                direct = direct.add(transfer.amount());
+            } else if (ZERO_ADDRESS.equals(counterparty) && (wrapped || !sent)) {
+                viaEth = viaEth.add(transfer.amount());
+            }
+        }
+        if (direct.signum() > 0) {
+            return direct;
+        }
+        return viaEth.signum() > 0 ? viaEth : null;
+    }
+
+    private List<UUID> matchWallets(Transaction transaction) {
+        UUID fromWallet = trackedAddressIndex.findWalletId(transaction.getFrom());
+        UUID toWallet = trackedAddressIndex.findWalletId(transaction.getTo());
+        if (fromWallet == null && toWallet == null) {
+            return List.of();
+        }
+
+        List<UUID> walletIds = new ArrayList<>(2);
+        if (fromWallet != null) {
+            walletIds.add(fromWallet);
+        }
+        if (toWallet != null && !toWallet.equals(fromWallet)) {
+            walletIds.add(toWallet);
+        }
+        return walletIds;
+    }
+
+    private void recordStats(int committed, int matched, long startNanos, long head) {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        IngestionStats previous = stats;
+
+        stats = IngestionStats.builder()
+                .cursor(cursor)
+                .head(head)
+                .lagBlocks(Math.max(0, head - cursor + 1))
+                .lastRunBlocks(committed)
+                .lastRunTransactions(matched)
+                .blocksPerSecond(elapsedSeconds > 0 ? committed / elapsedSeconds : 0)
+                .totalBlocks(previous.getTotalBlocks() + committed)
+                .totalTransactions(previous.getTotalTransactions() + matched)
+                .build();
+
+        if (committed > 0) {
+            log.info("Ingested {} blocks ({} tracked transactions) at {} blocks/s, lag behind head: {} blocks",
+                    committed, matched, String.format("%.1f", stats.getBlocksPerSecond()), stats.getLagBlocks());
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class IngestionStats {
+        private final long cursor;
+        private final long head;
+        private final long lagBlocks;
+        private final int lastRunBlocks;
+        private final int lastRunTransactions;
+        private final double blocksPerSecond;
+        private final long totalBlocks;
+        private final long totalTransactions;
+    }
+}
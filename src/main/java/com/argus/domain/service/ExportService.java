@@ -0,0 +1,46 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.ExportFilter;
+import com.argus.domain.model.Signal;
+import com.argus.domain.model.Transaction;
+import com.argus.domain.port.persistence.SignalPersistencePort;
+import com.argus.domain.port.persistence.TransactionPersistencePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Consumer;
+
+/**
+ * Bulk read-out of stored history, one row at a time, for analytics exports.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ExportService {
+
+    private final TransactionPersistencePort transactionPersistencePort;
+    private final SignalPersistencePort signalPersistencePort;
+
+    public void exportTransactions(ExportFilter filter, Consumer<Transaction> sink) {
+        validate(filter);
+        log.info("Exporting transactions (wallet: {}, chain: {}, from: {}, to: {}, after id: {})",
+                filter.getWalletId(), filter.getChain(), filter.getFrom(), filter.getTo(), filter.getAfterId());
+        transactionPersistencePort.export(filter, sink);
+    }
+
+    public void exportSignals(ExportFilter filter, Consumer<Signal> sink) {
+        validate(filter);
+        log.info("Exporting signals (wallet: {}, chain: {}, from: {}, to: {}, after id: {})",
+                filter.getWalletId(), filter.getChain(), filter.getFrom(), filter.getTo(), filter.getAfterId());
+        signalPersistencePort.export(filter, sink);
+    }
+
+    /**
+     * Checks the filter up front. Exports stream their rows into an already committed response, so callers
+     * validate before starting one; a failure then is still a plain 400.
+     */
+    public void validate(ExportFilter filter) {
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new IllegalArgumentException("Export range start must be before its end");
+        }
+    }
+}
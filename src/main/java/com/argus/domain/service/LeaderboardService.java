@@ -0,0 +1,89 @@
+package com.argus.domain.service;
+
+import com.argus.core.exception.WalletNotFoundException;
+import com.argus.domain.model.LeaderboardEntry;
+import com.argus.domain.model.Wallet;
+import com.argus.domain.model.WalletCursor;
+import com.argus.domain.port.persistence.WalletLeaderboardPort;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Smart-money rankings by PnL and win rate. Rankings come from the leaderboard, which wallet saves keep
+ * up to date; the ranked wallets themselves are loaded through the (cached) wallet lookups.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    public static final int MAX_LIMIT = 500;
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final WalletLeaderboardPort leaderboardPort;
+    private final WalletPersistencePort walletPersistencePort;
+
+    /**
+     * Best {@code limit} wallets by the metric, optionally of one chain and type. Limits above
+     * {@link #MAX_LIMIT} are capped.
+     */
+    public List<LeaderboardEntry> getTop(LeaderboardEntry.Metric metric, String chain, Wallet.WalletType type,
+                                         int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        List<LeaderboardEntry> top = leaderboardPort.findTop(metric, chain, type, Math.min(limit, MAX_LIMIT));
+
+        List<LeaderboardEntry> entries = new ArrayList<>(top.size());
+        for (LeaderboardEntry entry : top) {
+            // Skips wallets deleted on another node before the board caught up
+            walletPersistencePort.findById(entry.getWalletId())
+                    .ifPresent(wallet -> entries.add(entry.toBuilder().wallet(wallet).build()));
+        }
+        return entries;
+    }
+
+    /**
+     * The wallet's rank by the metric among wallets of {@code chain} and {@code type} (null for all), or
+     * empty when it has no value for the metric or does not match the filter.
+     */
+    public Optional<LeaderboardEntry> getRank(UUID walletId, LeaderboardEntry.Metric metric, String chain,
+                                              Wallet.WalletType type) {
+        Wallet wallet = walletPersistencePort.findById(walletId)
+                .orElseThrow(() -> new WalletNotFoundException(walletId));
+        return leaderboardPort.findRank(metric, walletId, chain, type)
+                .map(entry -> entry.toBuilder().wallet(wallet).build());
+    }
+
+    /**
+     * Re-ranks every wallet from the database, a page at a time, e.g. after Redis lost its data.
+     *
+     * @return number of wallets ranked
+     */
+    public int rebuild() {
+        long startNanos = System.nanoTime();
+        int ranked = 0;
+        WalletCursor after = null;
+
+        while (true) {
+            List<Wallet> page = walletPersistencePort.findPage(null, after, REBUILD_PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            leaderboardPort.updateAll(page);
+            ranked += page.size();
+            if (page.size() < REBUILD_PAGE_SIZE) {
+                break;
+            }
+            after = WalletCursor.byCreatedAt(page.get(page.size() - 1));
+        }
+
+        log.info("Rebuilt leaderboard of {} wallets in {} ms", ranked, (System.nanoTime() - startNanos) / 1_000_000);
+        return ranked;
+    }
+}
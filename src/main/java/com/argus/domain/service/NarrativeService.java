@@ -0,0 +1,262 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.Signal;
+import com.argus.domain.model.SignalFingerprint;
+import com.argus.domain.model.Wallet;
+import com.argus.domain.port.ai.NarrativePort;
+import com.argus.domain.port.persistence.SignalPersistencePort;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fills in {@link Signal#getAiNarrative()} after signals have been stored, so a slow model never holds up
+ * ingestion. Stored signals are queued; a batcher thread collects up to {@code batchSize} of them (or
+ * whatever arrived within {@code maxBatchDelay} of the first) and writes narratives back with one batched
+ * update.
+ * <p>
+ * Narratives are written per {@link SignalFingerprint} and cached, so a repeated pattern costs no call.
+ * A batch asks for all its uncached fingerprints in one call, and signals whose fingerprint is already
+ * being generated wait for that call instead. At most {@code maxConcurrentCalls} calls run at a time;
+ * once they are all busy the batcher waits, and new signals queue up to {@code queueCapacity}. Signals
+ * beyond that, or whose call fails, keep an empty narrative.
+ */
+@Slf4j
+public class NarrativeService implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final NarrativePort narrativePort;
+    private final SignalPersistencePort signalPersistencePort;
+    private final WalletPersistencePort walletPersistencePort;
+    private final int batchSize;
+    private final long maxBatchDelayNanos;
+    private final Semaphore calls;
+    private final BlockingQueue<Signal> pending;
+    private final Map<SignalFingerprint, String> cache;
+    private final Map<SignalFingerprint, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread batcher;
+    private volatile boolean closed;
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public NarrativeService(
+            NarrativePort narrativePort,
+            SignalPersistencePort signalPersistencePort,
+            WalletPersistencePort walletPersistencePort,
+            int batchSize,
+            long maxBatchDelayMillis,
+            int maxConcurrentCalls,
+            int queueCapacity,
+            int cacheMaxEntries) {
+        if (batchSize < 1 || maxConcurrentCalls < 1 || queueCapacity < 1 || cacheMaxEntries < 1) {
+            throw new IllegalArgumentException("Batch size, concurrency, queue capacity and cache size must be positive");
+        }
+        this.narrativePort = narrativePort;
+        this.signalPersistencePort = signalPersistencePort;
+        this.walletPersistencePort = walletPersistencePort;
+        this.batchSize = batchSize;
+        this.maxBatchDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxBatchDelayMillis);
+        this.calls = new Semaphore(maxConcurrentCalls);
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SignalFingerprint, String> eldest) {
+                return size() > cacheMaxEntries;
+            }
+        });
+        this.batcher = Thread.ofPlatform().name("narrative-batcher").daemon().unstarted(this::run);
+    }
+
+    public void start() {
+        batcher.start();
+    }
+
+    /**
+     * Queues a stored signal for a narrative. Signals that already have one are ignored.
+     *
+     * @return false if the signal was dropped because the queue is full or the service closed
+     */
+    public boolean enqueue(Signal signal) {
+        if (signal == null || signal.getId() == null) {
+            throw new IllegalArgumentException("Only stored signals can be narrated");
+        }
+        if (signal.getAiNarrative() != null) {
+            return true;
+        }
+        if (closed || !pending.offer(signal)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void enqueueAll(List<Signal> signals) {
+        signals.forEach(this::enqueue);
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    /**
+     * Signals left without a narrative because their call failed.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops taking signals and waits a few seconds for running calls. Queued signals keep an empty
+     * narrative.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        batcher.interrupt();
+        callers.shutdown();
+        try {
+            if (!callers.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                callers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            callers.shutdownNow();
+        }
+    }
+
+    private void run() {
+        List<Signal> batch = new ArrayList<>(batchSize);
+        try {
+            while (!closed) {
+                batch.add(pending.take());
+                long deadline = System.nanoTime() + maxBatchDelayNanos;
+                while (batch.size() < batchSize) {
+                    Signal next = pending.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                process(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void process(List<Signal> signals) throws InterruptedException {
+        Map<Long, String> cached = new HashMap<>();
+        Map<SignalFingerprint, List<Long>> missing = new LinkedHashMap<>();
+
+        for (Signal signal : signals) {
+            SignalFingerprint fingerprint = SignalFingerprint.of(signal, walletType(signal));
+            String narrative = cache.get(fingerprint);
+            if (narrative != null) {
+                cacheHits.increment();
+                cached.put(signal.getId(), narrative);
+                continue;
+            }
+            CompletableFuture<String> running = inFlight.get(fingerprint);
+            if (running != null) {
+                Long id = signal.getId();
+                running.thenAccept(text -> store(Map.of(id, text)));
+                continue;
+            }
+            missing.computeIfAbsent(fingerprint, key -> new ArrayList<>()).add(signal.getId());
+        }
+        store(cached);
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        Map<SignalFingerprint, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        missing.keySet().forEach(fingerprint -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            futures.put(fingerprint, future);
+            inFlight.put(fingerprint, future);
+        });
+
+        calls.acquire();
+        callers.execute(() -> generate(missing, futures));
+    }
+
+    private void generate(Map<SignalFingerprint, List<Long>> signalIds,
+            Map<SignalFingerprint, CompletableFuture<String>> futures) {
+        List<SignalFingerprint> fingerprints = new ArrayList<>(signalIds.keySet());
+        Map<Long, String> narratives = new HashMap<>();
+        try {
+            callCount.increment();
+            List<String> texts = narrativePort.generate(fingerprints);
+            for (int i = 0; i < fingerprints.size(); i++) {
+                SignalFingerprint fingerprint = fingerprints.get(i);
+                String text = texts.get(i);
+                cache.put(fingerprint, text);
+                signalIds.get(fingerprint).forEach(id -> narratives.put(id, text));
+                futures.get(fingerprint).complete(text);
+            }
+        } catch (RuntimeException e) {
+            signalIds.values().forEach(ids -> failed.add(ids.size()));
+            futures.values().forEach(future -> future.completeExceptionally(e));
+            log.warn("Failed to generate narratives for {} signal patterns: {}", fingerprints.size(), e.getMessage());
+        } finally {
+            futures.forEach(inFlight::remove);
+            calls.release();
+        }
+        store(narratives);
+    }
+
+    private Wallet.WalletType walletType(Signal signal) {
+        if (signal.getWalletId() == null) {
+            return Wallet.WalletType.UNKNOWN;
+        }
+        try {
+            return walletPersistencePort.findById(signal.getWalletId())
+                    .map(Wallet::getType)
+                    .orElse(Wallet.WalletType.UNKNOWN);
+        } catch (RuntimeException e) {
+            log.debug("Failed to look up wallet {} for a narrative: {}", signal.getWalletId(), e.getMessage());
+            return Wallet.WalletType.UNKNOWN;
+        }
+    }
+
+    private void store(Map<Long, String> narratives) {
+        if (narratives.isEmpty()) {
+            return;
+        }
+        try {
+            signalPersistencePort.updateNarratives(narratives);
+        } catch (RuntimeException e) {
+            failed.add(narratives.size());
+            log.warn("Failed to store narratives of {} signals: {}", narratives.size(), e.getMessage());
+        }
+    }
+}
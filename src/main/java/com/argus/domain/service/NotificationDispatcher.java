@@ -0,0 +1,341 @@
+package com.argus.domain.service;
+
+import com.argus.core.exception.NotificationException;
+import com.argus.domain.port.notification.NotificationPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers chat messages without letting a burst of alerts turn into a burst of API calls. Messages
+ * queue per chat; a chat is sent at most one message per {@code digestWindow}, which carries everything
+ * queued for it in the meantime as a single digest. A token bucket caps sends across all chats, and a
+ * bounded number of queued messages keeps memory in check: beyond it, new messages are dropped.
+ * <p>
+ * One coordinator thread decides what is due; each send runs on its own virtual thread, which retries
+ * with backoff (or the delay the service asks for) without holding up other chats. A chat has at most
+ * one send in flight, so its messages arrive in order.
+ */
+@Slf4j
+public class NotificationDispatcher implements AutoCloseable {
+
+    /**
+     * Telegram rejects longer messages.
+     */
+    static final int MAX_MESSAGE_LENGTH = 4096;
+
+    private static final String SEPARATOR = "\n\n";
+    private static final int HEADER_RESERVE = 24;
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final NotificationPort notificationPort;
+    private final int queueCapacity;
+    private final long digestWindowNanos;
+    private final TokenBucket rateLimiter;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread coordinator;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    // Guarded by lock; chats that were just sent to move to the back
+    private final Map<String, ChatQueue> chats = new LinkedHashMap<>();
+    private int queued;
+    private boolean closed;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong sends = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public NotificationDispatcher(NotificationPort notificationPort, int queueCapacity, long digestWindowMillis,
+            int messagesPerSecond, int maxAttempts, long retryBackoffMillis) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Delivery attempts must be positive");
+        }
+        this.notificationPort = notificationPort;
+        this.queueCapacity = queueCapacity;
+        this.digestWindowNanos = TimeUnit.MILLISECONDS.toNanos(digestWindowMillis);
+        this.rateLimiter = new TokenBucket(messagesPerSecond);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.coordinator = Thread.ofPlatform().name("notification-dispatcher").daemon().unstarted(this::coordinate);
+    }
+
+    public void start() {
+        coordinator.start();
+    }
+
+    /**
+     * Queues a message for a chat.
+     *
+     * @return false if the queue is full or the dispatcher closed, in which case the message is dropped
+     */
+    public boolean submit(String chatId, String text) {
+        if (chatId == null || chatId.isBlank()) {
+            throw new IllegalArgumentException("Chat id cannot be blank");
+        }
+        if (text == null || text.isEmpty()) {
+            throw new IllegalArgumentException("Message text cannot be empty");
+        }
+        lock.lock();
+        try {
+            if (closed || queued >= queueCapacity) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            ChatQueue chat = chats.computeIfAbsent(chatId, id -> new ChatQueue(id, System.nanoTime() - digestWindowNanos));
+            if (chat.messages.isEmpty()) {
+                chat.firstQueuedNanos = System.nanoTime();
+            }
+            chat.messages.add(text);
+            queued++;
+            changed.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueuedCount() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Messages delivered, counting each message in a digest.
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * Successful calls to the notification port.
+     */
+    public long getSendCount() {
+        return sends.get();
+    }
+
+    /**
+     * Messages given up on after their last attempt.
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Stops accepting messages and sends what is queued without waiting for digest windows, for up to a
+     * few seconds.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (coordinator.isAlive()) {
+                coordinator.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+        coordinator.interrupt();
+        int left = getQueuedCount();
+        if (left > 0) {
+            log.warn("Notification dispatcher closed with {} messages unsent", left);
+        }
+    }
+
+    private void coordinate() {
+        lock.lock();
+        try {
+            while (!(closed && queued == 0)) {
+                long waitNanos = dispatchDue(System.nanoTime());
+                if (waitNanos == Long.MAX_VALUE) {
+                    changed.await();
+                } else {
+                    changed.awaitNanos(waitNanos);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts a send for every chat that is due, as far as the rate limit allows. Called with the lock
+     * held.
+     *
+     * @return nanoseconds until something else may become due, or {@code Long.MAX_VALUE} if only a new
+     *         message or a finished send can change that
+     */
+    private long dispatchDue(long now) {
+        long waitNanos = Long.MAX_VALUE;
+        List<ChatQueue> dispatched = new ArrayList<>();
+
+        for (Iterator<ChatQueue> iterator = chats.values().iterator(); iterator.hasNext(); ) {
+            ChatQueue chat = iterator.next();
+            if (chat.inFlight) {
+                continue;
+            }
+            if (chat.messages.isEmpty()) {
+                if (now - chat.lastSentNanos >= digestWindowNanos) {
+                    iterator.remove();
+                }
+                continue;
+            }
+
+            long dueNanos = closed ? now : Math.max(chat.firstQueuedNanos, chat.lastSentNanos) + digestWindowNanos;
+            if (dueNanos - now > 0) {
+                waitNanos = Math.min(waitNanos, dueNanos - now);
+                continue;
+            }
+            long tokenWaitNanos = rateLimiter.tryAcquire(now);
+            if (tokenWaitNanos > 0) {
+                waitNanos = Math.min(waitNanos, tokenWaitNanos);
+                break;
+            }
+
+            List<String> batch = chat.takeDigest();
+            queued -= batch.size();
+            chat.inFlight = true;
+            chat.firstQueuedNanos = now;
+            dispatched.add(chat);
+            workers.execute(() -> deliver(chat, batch));
+        }
+
+        for (ChatQueue chat : dispatched) {
+            chats.remove(chat.chatId);
+            chats.put(chat.chatId, chat);
+        }
+        return waitNanos;
+    }
+
+    private void deliver(ChatQueue chat, List<String> batch) {
+        String text = digest(batch);
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    notificationPort.send(chat.chatId, text);
+                    sends.incrementAndGet();
+                    delivered.addAndGet(batch.size());
+                    return;
+                } catch (NotificationException e) {
+                    if (!e.isRetryable() || attempt >= maxAttempts) {
+                        failed.addAndGet(batch.size());
+                        log.warn("Dropping {} notifications for chat {} after {} attempts: {}",
+                                batch.size(), chat.chatId, attempt, e.getMessage());
+                        return;
+                    }
+                    long delayMillis = e.getRetryAfterMillis() > 0 ? e.getRetryAfterMillis() : backoffMillis(attempt);
+                    log.debug("Attempt {}/{} to notify chat {} failed, retrying in {}ms: {}",
+                            attempt, maxAttempts, chat.chatId, delayMillis, e.getMessage());
+                    Thread.sleep(delayMillis);
+                    // Retries count against the global limit like any other send
+                    rateLimiter.acquire();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            log.warn("Failed to notify chat {}: {}", chat.chatId, e.getMessage());
+        } finally {
+            lock.lock();
+            try {
+                chat.inFlight = false;
+                chat.lastSentNanos = System.nanoTime();
+                changed.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Exponential backoff with equal jitter, as for RPC retries.
+     */
+    private long backoffMillis(int failedAttempt) {
+        long half = (retryBackoffMillis << Math.min(failedAttempt - 1, 10)) / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    /**
+     * A single message as is, several as one text under a count header, cut to the message length limit.
+     */
+    static String digest(List<String> messages) {
+        String text = messages.size() == 1
+                ? messages.get(0)
+                : messages.size() + " alerts" + SEPARATOR + String.join(SEPARATOR, messages);
+        return text.length() <= MAX_MESSAGE_LENGTH ? text : text.substring(0, MAX_MESSAGE_LENGTH - 1) + "…";
+    }
+
+    private static final class ChatQueue {
+
+        private final String chatId;
+        private final Deque<String> messages = new ArrayDeque<>();
+        private long firstQueuedNanos;
+        private long lastSentNanos;
+        private boolean inFlight;
+
+        private ChatQueue(String chatId, long lastSentNanos) {
+            this.chatId = chatId;
+            this.lastSentNanos = lastSentNanos;
+        }
+
+        /**
+         * As many queued messages, oldest first, as fit in one digest; always at least one. The rest wait
+         * for the next window.
+         */
+        private List<String> takeDigest() {
+            List<String> batch = new ArrayList<>();
+            int length = HEADER_RESERVE;
+            while (!messages.isEmpty()) {
+                int added = messages.peekFirst().length() + SEPARATOR.length();
+                if (!batch.isEmpty() && length + added > MAX_MESSAGE_LENGTH) {
+                    break;
+                }
+                batch.add(messages.pollFirst());
+                length += added;
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.Transaction;
+import com.argus.domain.model.WalletPnlSnapshot;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Realized PnL and win rate per wallet, updated trade by trade from swap transactions.
+ * <p>
+ * Each wallet keeps FIFO cost-basis lots per token. Buying a token opens a lot at the swap's USD value;
+ * selling it closes lots oldest first, and the proceeds minus the cost of the closed lots is realized.
+ * Every sell that closes at least part of a lot counts as one trade, won if it realized a profit. Each
+ * lot is opened once and closed at most once, so a trade costs O(1) amortized.
+ * <p>
+ * Swaps against a quote token (stablecoins by default) are priced from the quote amount when the
+ * transaction has no USD value; quote tokens themselves are cash, not positions. A token-to-token swap
+ * without a price carries the sold lots' cost over to the bought token, so nothing is realized until a
+ * priced sell. Buys whose cost is unknown open no lot, and sells of tokens without lots realize nothing.
+ * A side without an amount (the calldata only bounded it and the receipt didn't show it) is skipped: it
+ * neither closes nor opens lots.
+ * <p>
+ * State lives in memory; {@link #drainDirty()} hands out snapshots of the wallets changed since the last
+ * call for periodic persistence, and {@link #restore} loads them back after a restart.
+ */
+@Slf4j
+public class PnlEngine {
+
+    static final String SWAP_TYPE = "SWAP";
+
+    private static final MathContext PRECISION = MathContext.DECIMAL64;
+
+    private final Map<String, BigDecimal> quoteTokenUnits;
+    private final Map<UUID, Book> books = new ConcurrentHashMap<>();
+
+    /**
+     * @param quoteTokenDecimals USD-pegged token addresses and their decimals
+     */
+    public PnlEngine(Map<String, Integer> quoteTokenDecimals) {
+        Map<String, BigDecimal> units = new HashMap<>();
+        quoteTokenDecimals.forEach((address, decimals) ->
+                units.put(address.toLowerCase(), BigDecimal.TEN.pow(decimals)));
+        this.quoteTokenUnits = Map.copyOf(units);
+    }
+
+    /**
+     * Applies the transactions of one block, in order. Each wallet's share is applied at once, so a
+     * concurrent snapshot never sees half a block.
+     */
+    public void applyAll(List<Transaction> transactions) {
+        Map<UUID, List<Transaction>> byWallet = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            if (isSwap(transaction)) {
+                byWallet.computeIfAbsent(transaction.getWalletId(), id -> new ArrayList<>()).add(transaction);
+            }
+        }
+        byWallet.forEach((walletId, swaps) -> {
+            Book book = books.computeIfAbsent(walletId, Book::new);
+            synchronized (book) {
+                swaps.forEach(swap -> book.apply(swap));
+            }
+        });
+    }
+
+    public void apply(Transaction transaction) {
+        applyAll(List.of(transaction));
+    }
+
+    public Optional<WalletPnlSnapshot> getPnl(UUID walletId) {
+        Book book = books.get(walletId);
+        if (book == null) {
+            return Optional.empty();
+        }
+        synchronized (book) {
+            return Optional.of(book.snapshot());
+        }
+    }
+
+    /**
+     * Snapshots of the wallets changed since the previous call. Pass them to {@link #markDirty} if they
+     * could not be stored, so the next call includes them again.
+     */
+    public List<WalletPnlSnapshot> drainDirty() {
+        List<WalletPnlSnapshot> snapshots = new ArrayList<>();
+        for (Book book : books.values()) {
+            synchronized (book) {
+                if (book.dirty) {
+                    book.dirty = false;
+                    snapshots.add(book.snapshot());
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    public void markDirty(Collection<UUID> walletIds) {
+        for (UUID walletId : walletIds) {
+            Book book = books.get(walletId);
+            if (book != null) {
+                synchronized (book) {
+                    book.dirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the snapshots' state. Meant to run before any swap is applied; a wallet that already has swaps
+     * keeps them, on top of the restored state. Transactions of blocks up to each snapshot's
+     * {@code lastBlockNumber} are ignored afterwards, as they are already accounted for.
+     */
+    public void restore(Collection<WalletPnlSnapshot> snapshots) {
+        for (WalletPnlSnapshot snapshot : snapshots) {
+            books.compute(snapshot.getWalletId(), (walletId, existing) -> {
+                if (existing == null) {
+                    return new Book(snapshot);
+                }
+                synchronized (existing) {
+                    existing.mergeRestored(new Book(snapshot));
+                }
+                return existing;
+            });
+        }
+        log.info("Restored PnL state of {} wallets", snapshots.size());
+    }
+
+    public int getWalletCount() {
+        return books.size();
+    }
+
+    private static boolean isSwap(Transaction transaction) {
+        return SWAP_TYPE.equals(transaction.getType())
+                && transaction.getWalletId() != null
+                && !Boolean.FALSE.equals(transaction.getSuccess());
+    }
+
+    private static boolean isPositive(BigDecimal amount) {
+        return amount != null && amount.signum() > 0;
+    }
+
+    private static String normalize(String token) {
+        return token != null ? token.toLowerCase() : null;
+    }
+
+    private boolean isQuote(String token) {
+        return token != null && quoteTokenUnits.containsKey(token);
+    }
+
+    private BigDecimal usdValue(Transaction swap, String tokenIn, String tokenOut) {
+        if (swap.getUsdValue() != null) {
+            return swap.getUsdValue();
+        }
+        if (isQuote(tokenIn) && isPositive(swap.getAmountIn())) {
+            return swap.getAmountIn().divide(quoteTokenUnits.get(tokenIn), PRECISION);
+        }
+        if (isQuote(tokenOut) && isPositive(swap.getAmountOut())) {
+            return swap.getAmountOut().divide(quoteTokenUnits.get(tokenOut), PRECISION);
+        }
+        return null;
+    }
+
+    private static final class Lot {
+        private BigDecimal quantity;
+        private BigDecimal costUsd;
+
+        private Lot(BigDecimal quantity, BigDecimal costUsd) {
+            this.quantity = quantity;
+            this.costUsd = costUsd;
+        }
+    }
+
+    /**
+     * One wallet's lots and totals. Guarded by its own monitor.
+     */
+    private final class Book {
+        private final UUID walletId;
+        private final Map<String, ArrayDeque<Lot>> lots = new HashMap<>();
+        private long restoredThroughBlock;
+        private BigDecimal realizedPnl = BigDecimal.ZERO;
+        private int wins;
+        private int closedTrades;
+        private long lastBlockNumber = -1;
+        private boolean dirty;
+
+        private Book(UUID walletId) {
+            this.walletId = walletId;
+            this.restoredThroughBlock = -1;
+        }
+
+        private Book(WalletPnlSnapshot snapshot) {
+            this.walletId = snapshot.getWalletId();
+            this.restoredThroughBlock = snapshot.getLastBlockNumber();
+            this.lastBlockNumber = snapshot.getLastBlockNumber();
+            this.realizedPnl = snapshot.getRealizedPnl() != null ? snapshot.getRealizedPnl() : BigDecimal.ZERO;
+            this.wins = snapshot.getWins();
+            this.closedTrades = snapshot.getClosedTrades();
+            if (snapshot.getLots() != null) {
+                snapshot.getLots().forEach((token, tokenLots) -> {
+                    ArrayDeque<Lot> queue = new ArrayDeque<>(tokenLots.size());
+                    tokenLots.forEach(lot -> queue.addLast(new Lot(lot.quantity(), lot.costUsd())));
+                    lots.put(token, queue);
+                });
+            }
+        }
+
+        /**
+         * Puts a restored book under this one: its lots are older so they come first, and the totals add
+         * up. Changed from what is stored either way, so the result is dirty.
+         */
+        private void mergeRestored(Book restored) {
+            restored.lots.forEach((token, restoredLots) -> {
+                ArrayDeque<Lot> later = lots.get(token);
+                if (later != null) {
+                    restoredLots.addAll(later);
+                }
+                lots.put(token, restoredLots);
+            });
+            realizedPnl = realizedPnl.add(restored.realizedPnl);
+            wins += restored.wins;
+            closedTrades += restored.closedTrades;
+            lastBlockNumber = Math.max(lastBlockNumber, restored.lastBlockNumber);
+            restoredThroughBlock = Math.max(restoredThroughBlock, restored.restoredThroughBlock);
+            dirty = true;
+        }
+
+        private void apply(Transaction swap) {
+            long blockNumber = swap.getBlockNumber() != null ? swap.getBlockNumber() : -1;
+            if (blockNumber >= 0 && blockNumber <= restoredThroughBlock) {
+                return;
+            }
+
+            String tokenIn = normalize(swap.getTokenIn());
+            String tokenOut = normalize(swap.getTokenOut());
+            BigDecimal usd = usdValue(swap, tokenIn, tokenOut);
+            BigDecimal carriedCost = null;
+
+            if (tokenIn != null && !isQuote(tokenIn) && isPositive(swap.getAmountIn())) {
+                BigDecimal amountIn = swap.getAmountIn();
+                BigDecimal[] closed = close(tokenIn, amountIn);
+                BigDecimal closedQuantity = closed[0];
+                BigDecimal closedCost = closed[1];
+
+                if (closedQuantity.signum() > 0) {
+                    if (usd != null) {
+                        // Sold beyond the open lots: only the covered share of the proceeds has a known basis
+                        BigDecimal proceeds = usd.multiply(closedQuantity).divide(amountIn, PRECISION);
+                        BigDecimal pnl = proceeds.subtract(closedCost);
+                        realizedPnl = realizedPnl.add(pnl);
+                        closedTrades++;
+                        if (pnl.signum() > 0) {
+                            wins++;
+                        }
+                    } else if (closedQuantity.compareTo(amountIn) == 0) {
+                        carriedCost = closedCost;
+                    }
+                }
+            }
+
+            if (tokenOut != null && !isQuote(tokenOut) && isPositive(swap.getAmountOut())) {
+                BigDecimal cost = usd != null ? usd : carriedCost;
+                if (cost != null) {
+                    lots.computeIfAbsent(tokenOut, token -> new ArrayDeque<>())
+                            .addLast(new Lot(swap.getAmountOut(), cost));
+                }
+            }
+
+            lastBlockNumber = Math.max(lastBlockNumber, blockNumber);
+            dirty = true;
+        }
+
+        /**
+         * Closes up to {@code quantity} of the token's lots, oldest first.
+         *
+         * @return quantity actually closed and its cost
+         */
+        private BigDecimal[] close(String token, BigDecimal quantity) {
+            ArrayDeque<Lot> queue = lots.get(token);
+            BigDecimal remaining = quantity;
+            BigDecimal cost = BigDecimal.ZERO;
+
+            while (queue != null && !queue.isEmpty() && remaining.signum() > 0) {
+                Lot lot = queue.peekFirst();
+                if (lot.quantity.compareTo(remaining) <= 0) {
+                    queue.removeFirst();
+                    remaining = remaining.subtract(lot.quantity);
+                    cost = cost.add(lot.costUsd);
+                } else {
+                    BigDecimal partialCost = lot.costUsd.multiply(remaining).divide(lot.quantity, PRECISION);
+                    lot.quantity = lot.quantity.subtract(remaining);
+                    lot.costUsd = lot.costUsd.subtract(partialCost);
+                    cost = cost.add(partialCost);
+                    remaining = BigDecimal.ZERO;
+                }
+            }
+            if (queue != null && queue.isEmpty()) {
+                lots.remove(token);
+            }
+            return new BigDecimal[] {quantity.subtract(remaining), cost};
+        }
+
+        private WalletPnlSnapshot snapshot() {
+            Map<String, List<WalletPnlSnapshot.Lot>> openLots = new HashMap<>();
+            lots.forEach((token, queue) -> openLots.put(token, queue.stream()
+                    .map(lot -> new WalletPnlSnapshot.Lot(lot.quantity, lot.costUsd))
+                    .toList()));
+
+            return WalletPnlSnapshot.builder()
+                    .walletId(walletId)
+                    .realizedPnl(realizedPnl)
+                    .wins(wins)
+                    .closedTrades(closedTrades)
+                    .lastBlockNumber(lastBlockNumber)
+                    .lots(openLots)
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+        }
+    }
+}
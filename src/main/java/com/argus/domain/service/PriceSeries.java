@@ -0,0 +1,131 @@
+package com.argus.domain.service;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Minute prices of one token, oldest first, in a ring buffer of two primitive arrays: the start of each
+ * minute in epoch millis and the USD price in it. Once full, each new minute replaces the oldest.
+ * <p>
+ * Lookups take an optimistic read and binary search the ring in place, so they neither block nor
+ * allocate; they retry under the read lock only when a write raced them.
+ */
+final class PriceSeries {
+
+    private final long[] minutes;
+    private final double[] prices;
+    private final StampedLock lock = new StampedLock();
+
+    private int head; // physical index of the oldest minute
+    private int size;
+
+    PriceSeries(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.minutes = new long[capacity];
+        this.prices = new double[capacity];
+    }
+
+    /**
+     * Stores the price of the minute starting at {@code minute}. A newer minute is appended and a stored
+     * one overwritten; an older minute that was never stored is dropped, as the ring only grows forward.
+     *
+     * @return whether the price was stored
+     */
+    boolean record(long minute, double price) {
+        long stamp = lock.writeLock();
+        try {
+            if (size == 0 || minute > minutes[physical(size - 1)]) {
+                if (size < minutes.length) {
+                    int index = physical(size++);
+                    minutes[index] = minute;
+                    prices[index] = price;
+                } else {
+                    minutes[head] = minute;
+                    prices[head] = price;
+                    head = head + 1 == minutes.length ? 0 : head + 1;
+                }
+                return true;
+            }
+            int found = floor(minute, head, size);
+            if (found < 0 || minutes[physical(found)] != minute) {
+                return false;
+            }
+            prices[physical(found)] = price;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Price of the latest minute starting at or before {@code timestampMillis}, or NaN when there is none
+     * or it started more than {@code maxStalenessMillis} before.
+     */
+    double priceAt(long timestampMillis, long maxStalenessMillis) {
+        long stamp = lock.tryOptimisticRead();
+        double price = priceAt(timestampMillis, maxStalenessMillis, head, size);
+        if (lock.validate(stamp)) {
+            return price;
+        }
+        stamp = lock.readLock();
+        try {
+            return priceAt(timestampMillis, maxStalenessMillis, head, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.tryOptimisticRead();
+        int current = size;
+        if (lock.validate(stamp)) {
+            return current;
+        }
+        stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Reads {@code head} and {@code size} once, as passed in: during an optimistic read they may be torn,
+     * but each stays in range, so a racing search returns garbage for the caller to discard, not an error.
+     */
+    private double priceAt(long timestampMillis, long maxStalenessMillis, int head, int size) {
+        int found = floor(timestampMillis, head, size);
+        if (found < 0) {
+            return Double.NaN;
+        }
+        int index = physical(head, found);
+        return timestampMillis - minutes[index] <= maxStalenessMillis ? prices[index] : Double.NaN;
+    }
+
+    /**
+     * Logical index of the last minute at or before {@code timestampMillis}, or -1.
+     */
+    private int floor(long timestampMillis, int head, int size) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (minutes[physical(head, mid)] <= timestampMillis) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private int physical(int logical) {
+        return physical(head, logical);
+    }
+
+    private int physical(int head, int logical) {
+        int index = head + logical;
+        return index >= minutes.length ? index - minutes.length : index;
+    }
+}
@@ -0,0 +1,286 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.PricePoint;
+import com.argus.domain.model.Token;
+import com.argus.domain.model.Transaction;
+import com.argus.domain.port.persistence.PricePersistencePort;
+import com.argus.domain.port.price.PriceFeedPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory USD prices per token and minute, for valuing transactions as they are ingested. Each token
+ * keeps its last {@code historyMinutes} minutes in a {@link PriceSeries}; {@link #priceAt} answers from
+ * there without touching the database.
+ * <p>
+ * Prices come from a {@link PriceFeedPort}, polled by {@link #refresh()} for the watched tokens: the
+ * configured ones plus every token seen in an ingested swap, up to {@code maxTokens}. New prices are
+ * written to the {@code token_prices} table by {@link #flush()} and read back by {@link #restore()} on
+ * startup, so history survives a restart. A price older than {@code maxStalenessMillis} at the asked
+ * moment counts as unknown.
+ */
+@Slf4j
+public class PriceService {
+
+    static final long MINUTE_MILLIS = 60_000L;
+
+    private static final String SWAP_TYPE = BlockIngestionService.SWAP_TYPE;
+    // usd_value is DECIMAL(20, 2); anything larger is a mispriced token, not a trade
+    private static final BigDecimal MAX_USD_VALUE = BigDecimal.TEN.pow(18);
+
+    private final PriceFeedPort priceFeedPort;
+    private final PricePersistencePort pricePersistencePort;
+    private final TokenMetadataResolver tokenMetadataResolver;
+    private final String nativeToken;
+    private final int historyMinutes;
+    private final long maxStalenessMillis;
+    private final int maxTokens;
+
+    private final Map<String, PriceSeries> series = new ConcurrentHashMap<>();
+    private final Set<String> watched = ConcurrentHashMap.newKeySet();
+    private final Queue<PricePoint> unsaved = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder stamped = new LongAdder();
+    private final LongAdder unpriced = new LongAdder();
+
+    /**
+     * @param nativeToken token whose price values plain ETH transfers (WETH)
+     * @param tokens      tokens to poll from the start, besides the native token
+     */
+    public PriceService(
+            PriceFeedPort priceFeedPort,
+            PricePersistencePort pricePersistencePort,
+            TokenMetadataResolver tokenMetadataResolver,
+            String nativeToken,
+            Collection<String> tokens,
+            int historyMinutes,
+            long maxStalenessMillis,
+            int maxTokens) {
+        if (nativeToken == null || nativeToken.isBlank()) {
+            throw new IllegalArgumentException("Native token cannot be null or empty");
+        }
+        if (historyMinutes < 1 || maxStalenessMillis < 0 || maxTokens < 1) {
+            throw new IllegalArgumentException(
+                    "History and token limit must be positive and staleness not negative");
+        }
+        this.priceFeedPort = priceFeedPort;
+        this.pricePersistencePort = pricePersistencePort;
+        this.tokenMetadataResolver = tokenMetadataResolver;
+        this.nativeToken = nativeToken.trim().toLowerCase();
+        this.historyMinutes = historyMinutes;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.maxTokens = maxTokens;
+        watch(List.of(this.nativeToken));
+        watch(tokens);
+    }
+
+    /**
+     * USD price of the token at the given moment, or NaN when unknown.
+     */
+    public double priceAt(String tokenAddress, long timestampMillis) {
+        if (tokenAddress == null) {
+            return Double.NaN;
+        }
+        // Addresses are usually lowercase already, in which case this returns the same string
+        PriceSeries prices = series.get(tokenAddress.toLowerCase());
+        return prices != null ? prices.priceAt(timestampMillis, maxStalenessMillis) : Double.NaN;
+    }
+
+    /**
+     * Stores the price for the minute containing {@code timestampMillis}, to be persisted by the next
+     * {@link #flush()}. Ignored for tokens beyond {@code maxTokens} and for minutes older than the
+     * series already holds.
+     */
+    public void record(String tokenAddress, long timestampMillis, double usdPrice) {
+        PricePoint point = store(tokenAddress, timestampMillis, usdPrice);
+        if (point != null) {
+            unsaved.add(point);
+        }
+    }
+
+    /**
+     * Polls the feed for the current price of every watched token.
+     *
+     * @return number of prices recorded
+     */
+    public int refresh() {
+        if (watched.isEmpty()) {
+            return 0;
+        }
+        List<PricePoint> points = priceFeedPort.fetchPrices(List.copyOf(watched));
+        points.forEach(point -> record(point.getTokenAddress(), point.getTimestampMillis(), point.getUsdPrice()));
+        log.debug("Recorded {} prices of {} watched tokens", points.size(), watched.size());
+        return points.size();
+    }
+
+    /**
+     * Writes the prices recorded since the last flush. On failure they stay queued for the next one.
+     *
+     * @return number of prices written
+     */
+    public int flush() {
+        List<PricePoint> points = new ArrayList<>();
+        for (PricePoint point = unsaved.poll(); point != null; point = unsaved.poll()) {
+            points.add(point);
+        }
+        if (points.isEmpty()) {
+            return 0;
+        }
+        try {
+            pricePersistencePort.saveAll(points);
+        } catch (RuntimeException e) {
+            unsaved.addAll(points);
+            throw e;
+        }
+        return points.size();
+    }
+
+    /**
+     * Loads the last {@code historyMinutes} of stored prices and watches their tokens again.
+     *
+     * @return number of prices loaded
+     */
+    public int restore() {
+        long since = System.currentTimeMillis() - historyMinutes * MINUTE_MILLIS;
+        List<PricePoint> points = pricePersistencePort.findSince(since);
+        Set<String> tokens = new HashSet<>();
+        for (PricePoint point : points) {
+            store(point.getTokenAddress(), point.getTimestampMillis(), point.getUsdPrice());
+            tokens.add(point.getTokenAddress());
+        }
+        watch(tokens);
+        log.info("Restored {} prices of {} tokens", points.size(), tokens.size());
+        return points.size();
+    }
+
+    /**
+     * Fills in the USD value of transactions that have none, at the price of their block's minute. A swap
+     * is valued by its input token, or by its output token when the input is not priced; any other
+     * transaction by the ETH it sends. Swap tokens become watched, so later swaps of them get priced.
+     */
+    public List<Transaction> stampUsdValues(List<Transaction> transactions) {
+        Set<String> tokens = new HashSet<>();
+        for (Transaction transaction : transactions) {
+            if (transaction.getUsdValue() == null && SWAP_TYPE.equals(transaction.getType())) {
+                addToken(tokens, transaction.getTokenIn());
+                addToken(tokens, transaction.getTokenOut());
+            }
+        }
+        watch(tokens);
+        Map<String, Token> metadata = tokens.isEmpty() ? Map.of() : tokenMetadataResolver.resolveAll(tokens);
+        return transactions.stream().map(transaction -> stamp(transaction, metadata)).toList();
+    }
+
+    /**
+     * Transactions that got a USD value from {@link #stampUsdValues}.
+     */
+    public long getStampedCount() {
+        return stamped.sum();
+    }
+
+    /**
+     * Transactions left without a USD value because no price, or no token decimals, were known.
+     */
+    public long getUnpricedCount() {
+        return unpriced.sum();
+    }
+
+    public int getTokenCount() {
+        return series.size();
+    }
+
+    private Transaction stamp(Transaction transaction, Map<String, Token> metadata) {
+        if (transaction.getUsdValue() != null || transaction.getTxTimestamp() == null) {
+            return transaction;
+        }
+        long timestampMillis = transaction.getTxTimestamp().toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        BigDecimal usdValue = null;
+        if (SWAP_TYPE.equals(transaction.getType())) {
+            usdValue = value(transaction.getTokenIn(), transaction.getAmountIn(), metadata, timestampMillis);
+            if (usdValue == null) {
+                usdValue = value(transaction.getTokenOut(), transaction.getAmountOut(), metadata, timestampMillis);
+            }
+        } else if (transaction.getValue() != null && transaction.getValue().signum() > 0) {
+            double price = priceAt(nativeToken, timestampMillis);
+            if (!Double.isNaN(price)) {
+                usdValue = transaction.getValue().multiply(BigDecimal.valueOf(price));
+            }
+        } else {
+            return transaction;
+        }
+
+        if (usdValue == null || usdValue.compareTo(MAX_USD_VALUE) >= 0) {
+            unpriced.increment();
+            return transaction;
+        }
+        stamped.increment();
+        return transaction.toBuilder().usdValue(usdValue.setScale(2, RoundingMode.HALF_UP)).build();
+    }
+
+    /**
+     * USD value of an amount in the token's smallest unit, or null when its price or decimals are unknown.
+     */
+    private BigDecimal value(String tokenAddress, BigDecimal amount, Map<String, Token> metadata,
+            long timestampMillis) {
+        if (tokenAddress == null || amount == null) {
+            return null;
+        }
+        Token token = metadata.get(tokenAddress.toLowerCase());
+        if (token == null) {
+            return null;
+        }
+        double price = priceAt(tokenAddress, timestampMillis);
+        if (Double.isNaN(price)) {
+            return null;
+        }
+        return amount.movePointLeft(token.getDecimals()).multiply(BigDecimal.valueOf(price));
+    }
+
+    private PricePoint store(String tokenAddress, long timestampMillis, double usdPrice) {
+        if (tokenAddress == null || tokenAddress.isBlank() || !Double.isFinite(usdPrice) || usdPrice < 0) {
+            return null;
+        }
+        String token = tokenAddress.trim().toLowerCase();
+        PriceSeries prices = series.get(token);
+        if (prices == null) {
+            if (series.size() >= maxTokens) {
+                return null;
+            }
+            prices = series.computeIfAbsent(token, ignored -> new PriceSeries(historyMinutes));
+        }
+        long minute = timestampMillis - Math.floorMod(timestampMillis, MINUTE_MILLIS);
+        return prices.record(minute, usdPrice) ? new PricePoint(token, minute, usdPrice) : null;
+    }
+
+    private void watch(Collection<String> tokens) {
+        for (String token : tokens) {
+            if (watched.size() >= maxTokens) {
+                log.debug("Watching {} tokens already, not adding more", watched.size());
+                return;
+            }
+            if (token != null && !token.isBlank()) {
+                watched.add(token.trim().toLowerCase());
+            }
+        }
+    }
+
+    private static void addToken(Set<String> tokens, String tokenAddress) {
+        if (tokenAddress != null) {
+            tokens.add(tokenAddress.toLowerCase());
+        }
+    }
+}
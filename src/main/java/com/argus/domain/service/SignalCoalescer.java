@@ -0,0 +1,347 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.Signal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Merges near-identical signals before they are stored. Signals with the same wallet, token and type
+ * that fall in one window become a single signal: USD values are summed, the highest confidence is
+ * kept, and everything else comes from the first signal. The merged signal is emitted once its window
+ * closes, by {@link #flushExpired()}, which is meant to run on a short fixed delay.
+ * <p>
+ * A {@link Mode#TUMBLING} window closes a fixed time after its first signal. A {@link Mode#SLIDING}
+ * window closes once its key has been quiet for the window length, but never later than
+ * {@code maxSpan} after its first signal, so a steady stream still gets emitted.
+ * <p>
+ * Keys are spread over lock stripes so ingest threads feeding different keys rarely contend. At most
+ * {@code maxOpenWindows} windows are held; a signal that would open one more is emitted on its own.
+ * <p>
+ * Signals the sink fails to take are kept and handed over again, ahead of newer ones, at the next flush.
+ * A failed batch is retried one signal at a time, so one signal the sink rejects does not hold back the
+ * rest. A signal is dropped after {@code maxAttempts} failed hand-overs, and at most {@code maxUnsent} are
+ * kept, dropping the oldest; both count towards {@link #getDroppedCount()}.
+ */
+@Slf4j
+public class SignalCoalescer implements AutoCloseable {
+
+    public enum Mode {
+        TUMBLING,
+        SLIDING
+    }
+
+    private final Consumer<List<Signal>> sink;
+    private final Mode mode;
+    private final long windowMillis;
+    private final long maxSpanMillis;
+    private final int maxOpenWindows;
+    private final Clock clock;
+    private final Stripe[] stripes;
+    private final AtomicInteger openWindows = new AtomicInteger();
+    private final int maxUnsent;
+    private final int maxAttempts;
+    private final ArrayDeque<Unsent> unsent = new ArrayDeque<>(); // Guarded by itself
+
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder emitted = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param sink        receives merged signals, in batches, from the thread that flushes
+     * @param maxUnsent   signals kept for another hand-over after the sink failed
+     * @param maxAttempts hand-overs of one signal before it is dropped
+     */
+    public SignalCoalescer(Consumer<List<Signal>> sink, Mode mode, long windowMillis, long maxSpanMillis,
+            int maxOpenWindows, int stripeCount, int maxUnsent, int maxAttempts, Clock clock) {
+        if (windowMillis < 1 || maxOpenWindows < 1 || stripeCount < 1) {
+            throw new IllegalArgumentException("Window, window limit and stripe count must be positive");
+        }
+        if (maxUnsent < 0 || maxAttempts < 1) {
+            throw new IllegalArgumentException("Unsent limit cannot be negative and attempts must be positive");
+        }
+        if (maxSpanMillis < windowMillis) {
+            throw new IllegalArgumentException("Max span cannot be shorter than the window");
+        }
+        this.sink = sink;
+        this.mode = mode;
+        this.windowMillis = windowMillis;
+        this.maxSpanMillis = maxSpanMillis;
+        this.maxOpenWindows = maxOpenWindows;
+        this.maxUnsent = maxUnsent;
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Adds a signal to the window of its key, opening one if needed. Safe to call from any thread.
+     */
+    public void offer(Signal signal) {
+        if (signal == null) {
+            throw new IllegalArgumentException("Signal cannot be null");
+        }
+        offered.increment();
+        Key key = Key.of(signal);
+        long now = clock.millis();
+        Stripe stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+
+        Signal closed = null;
+        stripe.lock.lock();
+        try {
+            Window window = stripe.windows.get(key);
+            if (window != null && window.closesAt() > now) {
+                window.merge(signal, now);
+                return;
+            }
+            if (window != null) {
+                // Closed but not flushed yet: emit it and reuse its slot for the new window
+                closed = window.toSignal();
+                stripe.windows.put(key, new Window(signal, now));
+            } else if (openWindows.incrementAndGet() > maxOpenWindows) {
+                openWindows.decrementAndGet();
+            } else {
+                stripe.windows.put(key, new Window(signal, now));
+                return;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (closed != null) {
+            emit(List.of(new Unsent(closed, 0)));
+            return;
+        }
+        overflowed.increment();
+        emit(List.of(new Unsent(signal, 0)));
+    }
+
+    /**
+     * Emits every window that has closed, after any signals a failed emit left behind.
+     *
+     * @return number of signals emitted
+     */
+    public int flushExpired() {
+        long now = clock.millis();
+        return flush(window -> window.closesAt() <= now);
+    }
+
+    /**
+     * Emits every open window regardless of its age.
+     */
+    public int flushAll() {
+        return flush(window -> true);
+    }
+
+    public int getOpenWindowCount() {
+        return openWindows.get();
+    }
+
+    public long getOfferedCount() {
+        return offered.sum();
+    }
+
+    /**
+     * Signals emitted, counting each merged signal once and overflowed signals individually.
+     */
+    public long getEmittedCount() {
+        return emitted.sum();
+    }
+
+    /**
+     * Signals passed through unmerged because {@code maxOpenWindows} windows were open.
+     */
+    public long getOverflowCount() {
+        return overflowed.sum();
+    }
+
+    /**
+     * Signals waiting to be handed to the sink again after it failed.
+     */
+    public int getUnsentCount() {
+        synchronized (unsent) {
+            return unsent.size();
+        }
+    }
+
+    /**
+     * Signals given up on, after {@code maxAttempts} failed hand-overs or to stay within {@code maxUnsent}.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        flushAll();
+    }
+
+    private int flush(Predicate<Window> closed) {
+        List<Unsent> merged;
+        synchronized (unsent) {
+            merged = new ArrayList<>(unsent);
+            unsent.clear();
+        }
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                for (Iterator<Window> iterator = stripe.windows.values().iterator(); iterator.hasNext(); ) {
+                    Window window = iterator.next();
+                    if (closed.test(window)) {
+                        iterator.remove();
+                        openWindows.decrementAndGet();
+                        merged.add(new Unsent(window.toSignal(), 0));
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return merged.isEmpty() ? 0 : emit(merged);
+    }
+
+    /**
+     * @return number of signals the sink took
+     */
+    private int emit(List<Unsent> batch) {
+        RuntimeException failure = accept(batch.stream().map(Unsent::signal).toList());
+        if (failure == null) {
+            return batch.size();
+        }
+        log.warn("Failed to hand over {} coalesced signals, retrying them one by one: {}", batch.size(),
+                failure.getMessage());
+
+        int handedOver = 0;
+        for (Unsent pending : batch) {
+            if (batch.size() > 1 && accept(List.of(pending.signal())) == null) {
+                handedOver++;
+            } else {
+                requeue(pending);
+            }
+        }
+        return handedOver;
+    }
+
+    /**
+     * @return the sink's failure, or null when it took the signals
+     */
+    private RuntimeException accept(List<Signal> signals) {
+        try {
+            sink.accept(signals);
+        } catch (RuntimeException e) {
+            return e;
+        }
+        emitted.add(signals.size());
+        return null;
+    }
+
+    private void requeue(Unsent pending) {
+        int attempts = pending.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            dropped.increment();
+            log.warn("Dropping {} signal for wallet {} after {} failed hand-overs", pending.signal().getType(),
+                    pending.signal().getWalletId(), attempts);
+            return;
+        }
+        synchronized (unsent) {
+            if (unsent.size() >= maxUnsent) {
+                // Full: the oldest goes, or this one when nothing may be kept
+                dropped.increment();
+                if (unsent.pollFirst() == null) {
+                    return;
+                }
+            }
+            unsent.addLast(new Unsent(pending.signal(), attempts));
+        }
+    }
+
+    /**
+     * A signal still to be handed over, with the number of hand-overs that already failed.
+     */
+    private record Unsent(Signal signal, int attempts) {
+    }
+
+    private record Key(UUID walletId, String tokenAddress, String type) {
+
+        private static Key of(Signal signal) {
+            String tokenAddress = signal.getTokenAddress() != null ? signal.getTokenAddress().toLowerCase() : null;
+            return new Key(signal.getWalletId(), tokenAddress, signal.getType());
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Key, Window> windows = new HashMap<>();
+    }
+
+    /**
+     * Guarded by the lock of its stripe.
+     */
+    private final class Window {
+
+        private final Signal first;
+        private final long openedAt;
+        private long lastSeenAt;
+        private BigDecimal usdValue;
+        private BigDecimal confidenceScore;
+
+        private Window(Signal first, long now) {
+            this.first = first;
+            this.openedAt = now;
+            this.lastSeenAt = now;
+            this.usdValue = first.getUsdValue();
+            this.confidenceScore = first.getConfidenceScore();
+        }
+
+        private void merge(Signal signal, long now) {
+            lastSeenAt = now;
+            if (signal.getUsdValue() != null) {
+                usdValue = usdValue == null ? signal.getUsdValue() : usdValue.add(signal.getUsdValue());
+            }
+            if (signal.getConfidenceScore() != null
+                    && (confidenceScore == null || signal.getConfidenceScore().compareTo(confidenceScore) > 0)) {
+                confidenceScore = signal.getConfidenceScore();
+            }
+        }
+
+        private long closesAt() {
+            return mode == Mode.TUMBLING
+                    ? openedAt + windowMillis
+                    : Math.min(lastSeenAt + windowMillis, openedAt + maxSpanMillis);
+        }
+
+        private Signal toSignal() {
+            return Signal.builder()
+                    .id(first.getId())
+                    .type(first.getType())
+                    .walletId(first.getWalletId())
+                    .tokenAddress(first.getTokenAddress())
+                    .tokenSymbol(first.getTokenSymbol())
+                    .chain(first.getChain())
+                    .usdValue(usdValue)
+                    .confidenceScore(confidenceScore)
+                    .aiNarrative(first.getAiNarrative())
+                    .metadata(first.getMetadata())
+                    .createdAt(first.getCreatedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package com.argus.domain.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Recognizes Uniswap V2/V3 router and Universal Router swaps from transaction calldata and extracts the
+ * tokens and amounts. Forks that kept the Uniswap ABI (SushiSwap, PancakeSwap V2, ...) decode as well,
+ * since only the function selector is matched, not the router address.
+ * <p>
+ * ABI words are read in place from the hex string or byte array: no intermediate byte copies, ABI type
+ * objects or lists are built, and calldata that isn't a known swap is rejected after its 4-byte selector.
+ * A decoded swap allocates little more than its result, the two address strings and the amounts.
+ * <p>
+ * Calldata only carries the exact amount on one side; the other side is the caller's limit (minimum out
+ * for exact-input swaps, maximum in for exact-output ones). Amounts are in the token's smallest unit.
+ */
+public class SwapCalldataDecoder {
+
+    // Uniswap V2 Router02
+    private static final int SWAP_EXACT_TOKENS_FOR_TOKENS = 0x38ed1739;
+    private static final int SWAP_TOKENS_FOR_EXACT_TOKENS = 0x8803dbee;
+    private static final int SWAP_EXACT_ETH_FOR_TOKENS = 0x7ff36ab5;
+    private static final int SWAP_TOKENS_FOR_EXACT_ETH = 0x4a25d94a;
+    private static final int SWAP_EXACT_TOKENS_FOR_ETH = 0x18cbafe5;
+    private static final int SWAP_ETH_FOR_EXACT_TOKENS = 0xfb3bdb41;
+    private static final int SWAP_EXACT_TOKENS_FOR_TOKENS_FEE_ON_TRANSFER = 0x5c11d795;
+    private static final int SWAP_EXACT_ETH_FOR_TOKENS_FEE_ON_TRANSFER = 0xb6f9de95;
+    private static final int SWAP_EXACT_TOKENS_FOR_ETH_FEE_ON_TRANSFER = 0x791ac947;
+    // SwapRouter02 V2 functions, without deadline
+    private static final int SWAP_EXACT_TOKENS_FOR_TOKENS_02 = 0x472b43f3;
+    private static final int SWAP_TOKENS_FOR_EXACT_TOKENS_02 = 0x42712a67;
+
+    // Uniswap V3 SwapRouter, and SwapRouter02 whose parameter structs drop the deadline
+    private static final int EXACT_INPUT_SINGLE = 0x414bf389;
+    private static final int EXACT_INPUT_SINGLE_02 = 0x04e45aaf;
+    private static final int EXACT_OUTPUT_SINGLE = 0xdb3e2198;
+    private static final int EXACT_OUTPUT_SINGLE_02 = 0x5023b4df;
+    private static final int EXACT_INPUT = 0xc04b8d59;
+    private static final int EXACT_INPUT_02 = 0xb858183f;
+    private static final int EXACT_OUTPUT = 0xf28c0498;
+    private static final int EXACT_OUTPUT_02 = 0x09b81346;
+    private static final int MULTICALL = 0xac9650d8;
+    private static final int MULTICALL_WITH_DEADLINE = 0x5ae401dc;
+    private static final int MULTICALL_WITH_BLOCKHASH = 0x1f0464d1;
+
+    // Universal Router
+    private static final int EXECUTE = 0x24856bc3;
+    private static final int EXECUTE_WITH_DEADLINE = 0x3593564c;
+    private static final int COMMAND_TYPE_MASK = 0x3f;
+    private static final int V3_SWAP_EXACT_IN = 0x00;
+    private static final int V3_SWAP_EXACT_OUT = 0x01;
+    private static final int V2_SWAP_EXACT_IN = 0x08;
+    private static final int V2_SWAP_EXACT_OUT = 0x09;
+
+    private static final int WORD = 32;
+    private static final int ADDRESS_LENGTH = 20;
+    private static final int V3_HOP_LENGTH = ADDRESS_LENGTH + 3;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * A decoded swap. {@code amountIn} is null when the input is native ETH sent as the transaction value,
+     * or when the router is told to spend its whole balance of an earlier hop's output.
+     */
+    public record Swap(String tokenIn, String tokenOut, BigDecimal amountIn, BigDecimal amountOut,
+                       boolean exactInput) {
+    }
+
+    /**
+     * @param input 0x-prefixed calldata, as returned by the node
+     * @return the swap, or null when the calldata isn't a recognized swap or is malformed
+     */
+    public Swap decode(String input) {
+        if (input == null || input.length() < 10 || (input.length() & 1) != 0
+                || input.charAt(0) != '0' || (input.charAt(1) | 0x20) != 'x') {
+            return null;
+        }
+        return decode(new HexCalldata(input));
+    }
+
+    /**
+     * @return the swap, or null when the calldata isn't a recognized swap or is malformed
+     */
+    public Swap decode(byte[] input) {
+        if (input == null || input.length < 4) {
+            return null;
+        }
+        return decode(new BytesCalldata(input));
+    }
+
+    private Swap decode(Calldata data) {
+        try {
+            return decodeCall(data, 0, data.length());
+        } catch (MalformedCalldata e) {
+            return null;
+        }
+    }
+
+    /**
+     * Decodes the call at [start, end): a selector followed by its ABI-encoded arguments.
+     */
+    private Swap decodeCall(Calldata data, int start, int end) {
+        if (end - start < 4) {
+            return null;
+        }
+        int args = start + 4;
+        return switch (data.int32(start)) {
+            case SWAP_EXACT_TOKENS_FOR_TOKENS, SWAP_EXACT_TOKENS_FOR_ETH,
+                 SWAP_EXACT_TOKENS_FOR_TOKENS_FEE_ON_TRANSFER, SWAP_EXACT_TOKENS_FOR_ETH_FEE_ON_TRANSFER,
+                 SWAP_EXACT_TOKENS_FOR_TOKENS_02 ->
+                    v2Swap(data, args, args + 2 * WORD, data.amount(args), data.amount(args + WORD), true);
+            case SWAP_TOKENS_FOR_EXACT_TOKENS, SWAP_TOKENS_FOR_EXACT_ETH, SWAP_TOKENS_FOR_EXACT_TOKENS_02 ->
+                    v2Swap(data, args, args + 2 * WORD, data.amount(args + WORD), data.amount(args), false);
+            case SWAP_EXACT_ETH_FOR_TOKENS, SWAP_EXACT_ETH_FOR_TOKENS_FEE_ON_TRANSFER ->
+                    v2Swap(data, args, args + WORD, null, data.amount(args), true);
+            case SWAP_ETH_FOR_EXACT_TOKENS ->
+                    v2Swap(data, args, args + WORD, null, data.amount(args), false);
+            case EXACT_INPUT_SINGLE -> v3SingleSwap(data, args, args + 5 * WORD, true);
+            case EXACT_INPUT_SINGLE_02 -> v3SingleSwap(data, args, args + 4 * WORD, true);
+            case EXACT_OUTPUT_SINGLE -> v3SingleSwap(data, args, args + 5 * WORD, false);
+            case EXACT_OUTPUT_SINGLE_02 -> v3SingleSwap(data, args, args + 4 * WORD, false);
+            case EXACT_INPUT -> v3PathSwap(data, args, 3 * WORD, true);
+            case EXACT_INPUT_02 -> v3PathSwap(data, args, 2 * WORD, true);
+            case EXACT_OUTPUT -> v3PathSwap(data, args, 3 * WORD, false);
+            case EXACT_OUTPUT_02 -> v3PathSwap(data, args, 2 * WORD, false);
+            case MULTICALL -> multicall(data, args, args);
+            case MULTICALL_WITH_DEADLINE, MULTICALL_WITH_BLOCKHASH -> multicall(data, args, args + WORD);
+            case EXECUTE, EXECUTE_WITH_DEADLINE -> execute(data, args);
+            default -> null;
+        };
+    }
+
+    /**
+     * V2 functions take {@code address[] path}; the first and last entries are the tokens swapped.
+     */
+    private Swap v2Swap(Calldata data, int base, int pathOffsetAt, BigDecimal amountIn, BigDecimal amountOut,
+                        boolean exactInput) {
+        int path = base + data.offset(pathOffsetAt);
+        int hops = data.offset(path);
+        if (hops < 2) {
+            throw MalformedCalldata.INSTANCE;
+        }
+        return new Swap(data.address(path + WORD), data.address(path + hops * WORD), amountIn, amountOut,
+                exactInput);
+    }
+
+    /**
+     * {@code exactInputSingle}/{@code exactOutputSingle} take a static struct, encoded in place:
+     * tokenIn, tokenOut, fee, recipient, [deadline], then the exact amount and the limit.
+     */
+    private Swap v3SingleSwap(Calldata data, int args, int amountsAt, boolean exactInput) {
+        BigDecimal exact = data.amount(amountsAt);
+        BigDecimal limit = data.amount(amountsAt + WORD);
+        return new Swap(data.address(args), data.address(args + WORD),
+                exactInput ? exact : limit, exactInput ? limit : exact, exactInput);
+    }
+
+    /**
+     * {@code exactInput}/{@code exactOutput} take a struct with {@code bytes path}, so the struct itself
+     * is behind an offset: path, recipient, [deadline], then the exact amount and the limit.
+     */
+    private Swap v3PathSwap(Calldata data, int args, int amountsAt, boolean exactInput) {
+        int params = args + data.offset(args);
+        BigDecimal exact = data.amount(params + amountsAt);
+        BigDecimal limit = data.amount(params + amountsAt + WORD);
+        return v3Path(data, params, params, exactInput ? exact : limit, exactInput ? limit : exact, exactInput);
+    }
+
+    /**
+     * V3 paths are packed {@code token (20 bytes) | fee (3 bytes) | token | ...}, written in the order the
+     * pool is traversed: input first for exact-input swaps, output first for exact-output ones.
+     */
+    private Swap v3Path(Calldata data, int base, int pathOffsetAt, BigDecimal amountIn, BigDecimal amountOut,
+                        boolean exactInput) {
+        int path = base + data.offset(pathOffsetAt);
+        int length = data.offset(path);
+        if (length < ADDRESS_LENGTH + V3_HOP_LENGTH || (length - ADDRESS_LENGTH) % V3_HOP_LENGTH != 0) {
+            throw MalformedCalldata.INSTANCE;
+        }
+        String first = data.packedAddress(path + WORD);
+        String last = data.packedAddress(path + WORD + length - ADDRESS_LENGTH);
+        return exactInput
+                ? new Swap(first, last, amountIn, amountOut, true)
+                : new Swap(last, first, amountIn, amountOut, false);
+    }
+
+    /**
+     * SwapRouter02 bundles calls into {@code multicall(bytes[])}, typically a swap followed by a WETH
+     * unwrap or refund. The first call that decodes as a swap wins.
+     */
+    private Swap multicall(Calldata data, int args, int callsOffsetAt) {
+        int calls = args + data.offset(callsOffsetAt);
+        int count = data.offset(calls);
+        for (int i = 0; i < count; i++) {
+            int call = calls + WORD + data.offset(calls + WORD + i * WORD);
+            int length = data.offset(call);
+            Swap swap = decodeCall(data, call + WORD, data.checkedEnd(call + WORD, length));
+            if (swap != null) {
+                return swap;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Universal Router {@code execute(bytes commands, bytes[] inputs, ...)} runs one command per byte with
+     * the matching ABI-encoded input. For multi-leg routes the tokens and amounts in come from the first
+     * swap command and the tokens and amounts out from the last.
+     */
+    private Swap execute(Calldata data, int args) {
+        int commands = args + data.offset(args);
+        int commandCount = data.offset(commands);
+        int inputs = args + data.offset(args + WORD);
+        if (data.offset(inputs) < commandCount) {
+            throw MalformedCalldata.INSTANCE;
+        }
+
+        int firstSwap = -1;
+        int lastSwap = -1;
+        for (int i = 0; i < commandCount; i++) {
+            if (isSwapCommand(data.uint8(commands + WORD + i))) {
+                if (firstSwap < 0) {
+                    firstSwap = i;
+                }
+                lastSwap = i;
+            }
+        }
+        if (firstSwap < 0) {
+            return null;
+        }
+
+        Swap first = executeSwap(data, commands, inputs, firstSwap);
+        if (lastSwap == firstSwap) {
+            return first;
+        }
+        Swap last = executeSwap(data, commands, inputs, lastSwap);
+        return new Swap(first.tokenIn(), last.tokenOut(), first.amountIn(), last.amountOut(), first.exactInput());
+    }
+
+    private static boolean isSwapCommand(int command) {
+        int type = command & COMMAND_TYPE_MASK;
+        return type == V3_SWAP_EXACT_IN || type == V3_SWAP_EXACT_OUT
+                || type == V2_SWAP_EXACT_IN || type == V2_SWAP_EXACT_OUT;
+    }
+
+    /**
+     * Swap command inputs are (recipient, exact amount, limit, path, payerIsUser).
+     */
+    private Swap executeSwap(Calldata data, int commands, int inputs, int index) {
+        int type = data.uint8(commands + WORD + index) & COMMAND_TYPE_MASK;
+        int input = inputs + WORD + data.offset(inputs + WORD + index * WORD);
+        int base = input + WORD;
+        data.checkedEnd(base, data.offset(input));
+
+        boolean exactInput = type == V3_SWAP_EXACT_IN || type == V2_SWAP_EXACT_IN;
+        BigDecimal exact = data.amount(base + WORD);
+        BigDecimal limit = data.amount(base + 2 * WORD);
+        BigDecimal amountIn = exactInput ? exact : limit;
+        BigDecimal amountOut = exactInput ? limit : exact;
+        int pathOffsetAt = base + 3 * WORD;
+
+        return type == V3_SWAP_EXACT_IN || type == V3_SWAP_EXACT_OUT
+                ? v3Path(data, base, pathOffsetAt, amountIn, amountOut, exactInput)
+                : v2Swap(data, base, pathOffsetAt, amountIn, amountOut, exactInput);
+    }
+
+    /**
+     * Random access to calldata bytes. All positions are byte positions; every read is bounds-checked and
+     * throws {@link MalformedCalldata} past the end.
+     */
+    private abstract static class Calldata {
+
+        abstract int length();
+
+        abstract int byteAt(int position);
+
+        BigInteger bigUint256(int position) {
+            byte[] magnitude = new byte[WORD];
+            for (int i = 0; i < WORD; i++) {
+                magnitude[i] = (byte) byteAt(position + i);
+            }
+            return new BigInteger(1, magnitude);
+        }
+
+        int checkedEnd(int position, int length) {
+            if (position < 0 || length < 0 || position > length() - length) {
+                throw MalformedCalldata.INSTANCE;
+            }
+            return position + length;
+        }
+
+        int uint8(int position) {
+            checkedEnd(position, 1);
+            return byteAt(position);
+        }
+
+        int int32(int position) {
+            checkedEnd(position, 4);
+            return byteAt(position) << 24 | byteAt(position + 1) << 16 | byteAt(position + 2) << 8
+                    | byteAt(position + 3);
+        }
+
+        /**
+         * A word used as an offset or length; anything that doesn't fit the calldata is malformed.
+         */
+        int offset(int position) {
+            checkedEnd(position, WORD);
+            for (int i = 0; i < WORD - 4; i++) {
+                if (byteAt(position + i) != 0) {
+                    throw MalformedCalldata.INSTANCE;
+                }
+            }
+            int value = int32(position + WORD - 4);
+            if (value < 0 || value > length()) {
+                throw MalformedCalldata.INSTANCE;
+            }
+            return value;
+        }
+
+        /**
+         * A uint256 amount, or null for values with the top bit set: the Universal Router uses
+         * {@code 1 << 255} to mean "the router's whole balance", and no real amount comes close.
+         */
+        BigDecimal amount(int position) {
+            checkedEnd(position, WORD);
+            if (byteAt(position) >= 0x80) {
+                return null;
+            }
+            int first = position;
+            while (first < position + WORD - 8 && byteAt(first) == 0) {
+                first++;
+            }
+            if (first == position + WORD - 8 && byteAt(first) < 0x80) {
+                long value = 0;
+                for (int i = first; i < position + WORD; i++) {
+                    value = value << 8 | byteAt(i);
+                }
+                return BigDecimal.valueOf(value);
+            }
+            return new BigDecimal(bigUint256(position));
+        }
+
+        /**
+         * An address ABI-encoded in a full word: the low 20 bytes.
+         */
+        String address(int position) {
+            checkedEnd(position, WORD);
+            return packedAddress(position + WORD - ADDRESS_LENGTH);
+        }
+
+        /**
+         * 20 raw address bytes, as in V3 paths; returned lowercase with 0x prefix.
+         */
+        String packedAddress(int position) {
+            checkedEnd(position, ADDRESS_LENGTH);
+            char[] chars = new char[2 + 2 * ADDRESS_LENGTH];
+            chars[0] = '0';
+            chars[1] = 'x';
+            for (int i = 0; i < ADDRESS_LENGTH; i++) {
+                int b = byteAt(position + i);
+                chars[2 + 2 * i] = HEX_DIGITS[b >>> 4];
+                chars[3 + 2 * i] = HEX_DIGITS[b & 0x0f];
+            }
+            return new String(chars);
+        }
+    }
+
+    private static final class HexCalldata extends Calldata {
+        private final String hex;
+
+        HexCalldata(String hex) {
+            this.hex = hex;
+        }
+
+        @Override
+        int length() {
+            return (hex.length() - 2) >> 1;
+        }
+
+        @Override
+        int byteAt(int position) {
+            int index = 2 + 2 * position;
+            return nibble(hex.charAt(index)) << 4 | nibble(hex.charAt(index + 1));
+        }
+
+        private static int nibble(char c) {
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            }
+            int lower = c | 0x20;
+            if (lower >= 'a' && lower <= 'f') {
+                return lower - 'a' + 10;
+            }
+            throw MalformedCalldata.INSTANCE;
+        }
+    }
+
+    private static final class BytesCalldata extends Calldata {
+        private final byte[] bytes;
+
+        BytesCalldata(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        int length() {
+            return bytes.length;
+        }
+
+        @Override
+        int byteAt(int position) {
+            return bytes[position] & 0xff;
+        }
+
+        @Override
+        BigInteger bigUint256(int position) {
+            return new BigInteger(1, bytes, position, WORD);
+        }
+    }
+
+    /**
+     * Thrown from deep inside the word readers and caught once in {@link #decode(Calldata)}. Shared and
+     * without a stack trace, so malformed input doesn't allocate either.
+     */
+    private static final class MalformedCalldata extends RuntimeException {
+        static final MalformedCalldata INSTANCE = new MalformedCalldata();
+
+        private MalformedCalldata() {
+            super("Malformed calldata", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.argus.domain.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiter that refills {@code permitsPerSecond} tokens continuously, up to one second's worth, so
+ * short bursts go out at once and sustained load is spread evenly. Thread-safe.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double nanosPerToken;
+
+    // Guarded by this
+    private double tokens;
+    private long refilledAtNanos;
+
+    TokenBucket(int permitsPerSecond) {
+        if (permitsPerSecond < 1) {
+            throw new IllegalArgumentException("Permits per second must be positive");
+        }
+        this.capacity = permitsPerSecond;
+        this.nanosPerToken = (double) TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.tokens = capacity;
+        this.refilledAtNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next one
+     */
+    synchronized long tryAcquire(long nowNanos) {
+        if (nowNanos > refilledAtNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - refilledAtNanos) / nanosPerToken);
+            refilledAtNanos = nowNanos;
+        }
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) * nanosPerToken));
+    }
+
+    void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquire(System.nanoTime())) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
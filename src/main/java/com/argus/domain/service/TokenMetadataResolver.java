@@ -0,0 +1,162 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.Token;
+import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.persistence.TokenPersistencePort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Looks up ERC-20 metadata by address in three tiers: an in-process LRU cache, then the {@code tokens}
+ * table, then the chain. Addresses missing from both are read together in Multicall3 batches and stored,
+ * so each token is read from chain once. Concurrent lookups of the same address wait for the one already
+ * running instead of starting another.
+ * <p>
+ * Addresses that turn out not to be tokens are remembered in the cache only. Addresses whose lookup
+ * fails are left out of the result and tried again on the next lookup.
+ */
+@Slf4j
+public class TokenMetadataResolver {
+
+    private final BlockChainPort blockChainPort;
+    private final TokenPersistencePort tokenPersistencePort;
+    private final Map<String, Optional<Token>> cache;
+    private final Map<String, CompletableFuture<Optional<Token>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder databaseHits = new LongAdder();
+    private final LongAdder chainLookups = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public TokenMetadataResolver(BlockChainPort blockChainPort, TokenPersistencePort tokenPersistencePort,
+            int cacheMaxEntries) {
+        if (cacheMaxEntries < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.blockChainPort = blockChainPort;
+        this.tokenPersistencePort = tokenPersistencePort;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<Token>> eldest) {
+                return size() > cacheMaxEntries;
+            }
+        });
+    }
+
+    public Optional<Token> resolve(String address) {
+        if (address == null || address.isBlank()) {
+            throw new IllegalArgumentException("Address cannot be null or empty");
+        }
+        return Optional.ofNullable(resolveAll(List.of(address)).get(address.trim().toLowerCase()));
+    }
+
+    /**
+     * Resolves all addresses at once. Keyed by lowercase address; addresses that are not tokens, or
+     * could not be looked up, are left out.
+     */
+    public Map<String, Token> resolveAll(Collection<String> addresses) {
+        if (addresses == null) {
+            throw new IllegalArgumentException("Addresses cannot be null");
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String address : addresses) {
+            if (address != null && !address.isBlank()) {
+                unique.add(address.trim().toLowerCase());
+            }
+        }
+
+        Map<String, Token> resolved = new HashMap<>(unique.size() * 2);
+        Map<String, CompletableFuture<Optional<Token>>> waiting = new HashMap<>();
+        List<String> owned = new ArrayList<>();
+        for (String address : unique) {
+            Optional<Token> cached = cache.get(address);
+            if (cached != null) {
+                cacheHits.increment();
+                cached.ifPresent(token -> resolved.put(address, token));
+                continue;
+            }
+            CompletableFuture<Optional<Token>> future = new CompletableFuture<>();
+            CompletableFuture<Optional<Token>> running = inFlight.putIfAbsent(address, future);
+            if (running == null) {
+                // Another lookup may have finished between the cache check and here
+                Optional<Token> loaded = cache.get(address);
+                if (loaded != null) {
+                    inFlight.remove(address);
+                    future.complete(loaded);
+                } else {
+                    owned.add(address);
+                }
+                waiting.put(address, future);
+            } else {
+                waiting.put(address, running);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            load(owned);
+        }
+        waiting.forEach((address, future) -> future.join().ifPresent(token -> resolved.put(address, token)));
+        return resolved;
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getDatabaseHitCount() {
+        return databaseHits.sum();
+    }
+
+    /**
+     * Addresses read from chain, including those that turned out not to be tokens.
+     */
+    public long getChainLookupCount() {
+        return chainLookups.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    private void load(List<String> addresses) {
+        Map<String, Optional<Token>> loaded = new HashMap<>(addresses.size() * 2);
+        try {
+            for (Token token : tokenPersistencePort.findByAddresses(addresses)) {
+                loaded.put(token.getAddress().toLowerCase(), Optional.of(token));
+            }
+            databaseHits.add(loaded.size());
+
+            List<String> missing = addresses.stream().filter(address -> !loaded.containsKey(address)).toList();
+            if (!missing.isEmpty()) {
+                Map<String, Token> fetched = blockChainPort.getTokenMetadata(missing);
+                tokenPersistencePort.saveAllIfAbsent(List.copyOf(fetched.values()));
+                chainLookups.add(missing.size());
+                missing.forEach(address -> loaded.put(address, Optional.ofNullable(fetched.get(address))));
+
+                log.debug("Resolved {} of {} new addresses as tokens from chain", fetched.size(), missing.size());
+            }
+        } catch (RuntimeException e) {
+            failed.add(addresses.size() - loaded.size());
+            log.warn("Failed to resolve metadata of {} tokens: {}", addresses.size() - loaded.size(), e.getMessage());
+        } finally {
+            // Cached before leaving inFlight, so a concurrent lookup finds one or the other
+            loaded.forEach(cache::put);
+            for (String address : addresses) {
+                inFlight.remove(address).complete(loaded.getOrDefault(address, Optional.empty()));
+            }
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.Wallet;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * In-memory set of tracked wallet addresses, built for checking every from/to address of every block.
+ * <p>
+ * Each 20-byte address is stored as three longs (plus the wallet id as two more) in an open-addressing
+ * table with linear probing, so there are no {@code String} keys or boxed entries. A Bloom filter sized at
+ * about ten bits per address rejects almost all untracked addresses before the table is touched.
+ * <p>
+ * Lookups parse the hex address in place and allocate nothing. Writers build a new table and publish it
+ * through a volatile field, so readers always see a complete snapshot and never block. Tracked wallets
+ * change rarely, which makes rebuilding on each write affordable.
+ * <p>
+ * {@link #refresh} reloads the whole set while adds and removes keep coming in; those are recorded during
+ * the load and applied again on top of it, so a load that started before them cannot undo them.
+ */
+@Slf4j
+public class TrackedAddressIndex {
+
+    private static final int ADDRESS_HEX_DIGITS = 40;
+    // Slot layout: address bytes 0-7, bytes 8-15, bytes 16-19 | OCCUPIED, wallet id msb, wallet id lsb
+    private static final int SLOT_WORDS = 5;
+    private static final long OCCUPIED = 1L << 32;
+    private static final int BLOOM_BITS_PER_ADDRESS = 10;
+    private static final int BLOOM_HASHES = 4;
+
+    private volatile Snapshot snapshot = Snapshot.build(new long[0], 0);
+    private final Object refreshLock = new Object();
+    private List<Change> changesDuringRefresh; // Guarded by this; non-null while a refresh is loading
+
+    /**
+     * True when {@code address} ("0x" followed by 40 hex digits, any case) is tracked. Malformed input is
+     * simply not tracked.
+     */
+    public boolean contains(CharSequence address) {
+        return snapshot.find(address) >= 0;
+    }
+
+    /**
+     * Wallet id tracking {@code address}, or null. Only a hit allocates (the returned UUID).
+     */
+    public UUID findWalletId(CharSequence address) {
+        Snapshot current = snapshot;
+        int slot = current.find(address);
+        if (slot < 0) {
+            return null;
+        }
+        return new UUID(current.table[slot + 3], current.table[slot + 4]);
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    public synchronized void add(String address, UUID walletId) {
+        snapshot = withEntry(snapshot, address, parseOrThrow(address), walletId);
+        if (changesDuringRefresh != null) {
+            changesDuringRefresh.add(new Change(address, walletId));
+        }
+    }
+
+    public synchronized boolean remove(String address) {
+        // Recorded even when absent: the refresh may be loading it
+        if (changesDuringRefresh != null) {
+            changesDuringRefresh.add(new Change(address, null));
+        }
+        Snapshot current = snapshot;
+        Snapshot removed = withoutEntry(current, address);
+        snapshot = removed;
+        return removed != current;
+    }
+
+    /**
+     * Replaces the whole index, e.g. on startup.
+     */
+    public synchronized void replaceAll(Collection<Wallet> wallets) {
+        snapshot = build(wallets);
+        log.info("Tracked address index rebuilt with {} addresses", snapshot.size);
+    }
+
+    /**
+     * Replaces the whole index with the wallets {@code loader} returns, e.g. to pick up wallets created on
+     * other nodes. Adds and removes made while it loads are applied again on top of its result, since the
+     * load may have read the wallets before they changed.
+     */
+    public void refresh(Supplier<? extends Collection<Wallet>> loader) {
+        synchronized (refreshLock) {
+            synchronized (this) {
+                changesDuringRefresh = new ArrayList<>();
+            }
+            try {
+                Collection<Wallet> wallets = loader.get();
+                synchronized (this) {
+                    Snapshot rebuilt = build(wallets);
+                    for (Change change : changesDuringRefresh) {
+                        if (change.walletId() != null) {
+                            rebuilt = withEntry(rebuilt, change.address(), parseOrThrow(change.address()),
+                                    change.walletId());
+                        } else {
+                            rebuilt = withoutEntry(rebuilt, change.address());
+                        }
+                    }
+                    snapshot = rebuilt;
+                    log.info("Tracked address index rebuilt with {} addresses, {} changed during the reload",
+                            rebuilt.size, changesDuringRefresh.size());
+                }
+            } finally {
+                synchronized (this) {
+                    changesDuringRefresh = null;
+                }
+            }
+        }
+    }
+
+    private static Snapshot withEntry(Snapshot current, String address, long[] words, UUID walletId) {
+        int existing = current.find(address);
+        int count = existing >= 0 ? current.size - 1 : current.size;
+        long[] entries = current.entriesExcept(existing, 1);
+        writeEntry(entries, count, words, walletId);
+        return Snapshot.build(entries, count + 1);
+    }
+
+    /**
+     * {@code current} itself when the address is not in it.
+     */
+    private static Snapshot withoutEntry(Snapshot current, String address) {
+        int slot = current.find(address);
+        if (slot < 0) {
+            return current;
+        }
+        return Snapshot.build(current.entriesExcept(slot, 0), current.size - 1);
+    }
+
+    private static Snapshot build(Collection<Wallet> wallets) {
+        long[] entries = new long[wallets.size() * SLOT_WORDS];
+        int count = 0;
+        for (Wallet wallet : wallets) {
+            if (wallet.getAddress() == null || wallet.getId() == null || !isAddress(wallet.getAddress())) {
+                log.warn("Not indexing wallet {} with invalid address {}", wallet.getId(), wallet.getAddress());
+                continue;
+            }
+            writeEntry(entries, count++, parseOrThrow(wallet.getAddress()), wallet.getId());
+        }
+        return Snapshot.build(entries, count);
+    }
+
+    private static void writeEntry(long[] entries, int index, long[] words, UUID walletId) {
+        int offset = index * SLOT_WORDS;
+        entries[offset] = words[0];
+        entries[offset + 1] = words[1];
+        entries[offset + 2] = words[2];
+        entries[offset + 3] = walletId.getMostSignificantBits();
+        entries[offset + 4] = walletId.getLeastSignificantBits();
+    }
+
+    private static long[] parseOrThrow(String address) {
+        if (address == null || !isAddress(address)) {
+            throw new IllegalArgumentException("Invalid address: " + address);
+        }
+        return new long[] {word(address, 2, 16), word(address, 18, 16), word(address, 34, 8) | OCCUPIED};
+    }
+
+    private static boolean isAddress(CharSequence address) {
+        if (address.length() != ADDRESS_HEX_DIGITS + 2 || address.charAt(0) != '0'
+                || (address.charAt(1) != 'x' && address.charAt(1) != 'X')) {
+            return false;
+        }
+        for (int i = 2; i < address.length(); i++) {
+            if (hexValue(address.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long word(CharSequence address, int offset, int digits) {
+        long value = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            value = (value << 4) | hexValue(address.charAt(i));
+        }
+        return value;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static long hash(long w0, long w1, long w2) {
+        return mix(w0 * 0x9E3779B97F4A7C15L ^ w1 * 0xC2B2AE3D27D4EB4FL ^ w2);
+    }
+
+    /**
+     * MurmurHash3 finalizer. Addresses are already close to random, but the mix keeps the table and the
+     * Bloom filter independent of which bits happen to be used for indexing.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * An add, or a remove when {@code walletId} is null.
+     */
+    private record Change(String address, UUID walletId) {
+    }
+
+    /**
+     * Immutable once published.
+     */
+    private static final class Snapshot {
+        private final long[] table;
+        private final int mask;
+        private final long[] bloom;
+        private final long bloomMask;
+        private final int size;
+
+        private Snapshot(long[] table, int mask, long[] bloom, long bloomMask, int size) {
+            this.table = table;
+            this.mask = mask;
+            this.bloom = bloom;
+            this.bloomMask = bloomMask;
+            this.size = size;
+        }
+
+        static Snapshot build(long[] entries, int count) {
+            // Load factor at most 1/2 keeps linear probe chains short
+            int capacity = Integer.highestOneBit(Math.max(16, count * 2 - 1)) << 1;
+            long bloomBits = Long.highestOneBit(Math.max(64L, (long) count * BLOOM_BITS_PER_ADDRESS - 1)) << 1;
+            Snapshot snapshot = new Snapshot(new long[capacity * SLOT_WORDS], capacity - 1,
+                    new long[(int) (bloomBits >>> 6)], bloomBits - 1, count);
+
+            for (int i = 0; i < count; i++) {
+                snapshot.insert(entries, i * SLOT_WORDS);
+            }
+            return snapshot;
+        }
+
+        private void insert(long[] entries, int offset) {
+            long w0 = entries[offset];
+            long w1 = entries[offset + 1];
+            long w2 = entries[offset + 2];
+            long h = hash(w0, w1, w2);
+
+            int index = (int) h & mask;
+            while (table[index * SLOT_WORDS + 2] != 0) {
+                index = (index + 1) & mask;
+            }
+            System.arraycopy(entries, offset, table, index * SLOT_WORDS, SLOT_WORDS);
+
+            long h2 = mix(h ^ 0x632BE59BD9B4E019L) | 1;
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                long bit = (h + i * h2) & bloomMask;
+                bloom[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        /**
+         * Offset of the slot holding {@code address}, or -1.
+         */
+        int find(CharSequence address) {
+            if (size == 0 || address == null || !isAddress(address)) {
+                return -1;
+            }
+            long w0 = word(address, 2, 16);
+            long w1 = word(address, 18, 16);
+            long w2 = word(address, 34, 8) | OCCUPIED;
+            long h = hash(w0, w1, w2);
+
+            long h2 = mix(h ^ 0x632BE59BD9B4E019L) | 1;
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                long bit = (h + i * h2) & bloomMask;
+                if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return -1;
+                }
+            }
+
+            int index = (int) h & mask;
+            while (true) {
+                int slot = index * SLOT_WORDS;
+                long stored = table[slot + 2];
+                if (stored == 0) {
+                    return -1;
+                }
+                if (stored == w2 && table[slot] == w0 && table[slot + 1] == w1) {
+                    return slot;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        /**
+         * Copies all entries except the slot at {@code skipSlot} (may be -1) into a flat array with room for
+         * {@code extra} more.
+         */
+        long[] entriesExcept(int skipSlot, int extra) {
+            long[] entries = new long[(size + extra) * SLOT_WORDS];
+            int count = 0;
+            for (int slot = 0; slot < table.length; slot += SLOT_WORDS) {
+                if (table[slot + 2] != 0 && slot != skipSlot) {
+                    System.arraycopy(table, slot, entries, count++ * SLOT_WORDS, SLOT_WORDS);
+                }
+            }
+            return entries;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.argus.domain.service;
 
 import com.argus.core.exception.WalletNotFoundException;
 import com.argus.domain.model.Wallet;
+import com.argus.domain.model.WalletCursor;
+import com.argus.domain.model.WalletPage;
 import com.argus.domain.port.persistence.WalletPersistencePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,12 +11,16 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Slf4j
 @RequiredArgsConstructor
 public class WalletService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final WalletPersistencePort walletPersistencePort;
+    private final TrackedAddressIndex trackedAddressIndex;
 
     public Wallet createWallet(Wallet wallet) {
         log.info("Creating wallet with address: {}", wallet.getAddress());
@@ -32,29 +38,63 @@ public class WalletService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        return walletPersistencePort.save(walletToCreate);
+        Wallet created = walletPersistencePort.save(walletToCreate);
+        trackedAddressIndex.add(created.getAddress(), created.getId());
+        return created;
     }
 
     public Wallet getWalletById(UUID id) {
         log.debug("Fetching wallet by id: {}", id);
         return walletPersistencePort.findById(id)
-                .orElseThrow(() -> new WalletNotFoundException("Wallet not found with id: " + id));
+                .orElseThrow(() -> new WalletNotFoundException(id));
     }
 
     public Wallet getWalletByAddress(String address) {
         log.debug("Fetching wallet by address: {}", address);
         return walletPersistencePort.findByAddress(address)
-                .orElseThrow(() -> new WalletNotFoundException("Wallet not found with address: " + address));
+                .orElseThrow(() -> new WalletNotFoundException(address));
+    }
+
+    /**
+     * One page of wallets in creation order, optionally of one type. Page sizes above
+     * {@link #MAX_PAGE_SIZE} are capped.
+     */
+    public WalletPage getWallets(Wallet.WalletType type, WalletCursor after, int pageSize) {
+        int limit = pageLimit(pageSize);
+        log.debug("Fetching {} wallets (type: {}) after {}", limit, type, after != null ? after.getId() : null);
+
+        List<Wallet> wallets = walletPersistencePort.findPage(type, after, limit + 1);
+        return toPage(wallets, limit, WalletCursor::byCreatedAt);
     }
 
-    public List<Wallet> getAllWallets() {
-        log.debug("Fetching all wallets");
-        return walletPersistencePort.findAll();
+    /**
+     * One page of profitable wallets with a win rate above {@code minWinRate}, highest PnL first.
+     */
+    public WalletPage getTopPerformers(double minWinRate, WalletCursor after, int pageSize) {
+        int limit = pageLimit(pageSize);
+        log.debug("Fetching {} top performers (min win rate: {}) after {}", limit, minWinRate,
+                after != null ? after.getId() : null);
+
+        List<Wallet> wallets = walletPersistencePort.findTopPerformersPage(minWinRate, after, limit + 1);
+        return toPage(wallets, limit, WalletCursor::byTotalPnl);
     }
 
-    public List<Wallet> getWalletsByType(Wallet.WalletType type) {
-        log.debug("Fetching wallets by type: {}", type);
-        return walletPersistencePort.findByType(type);
+    private static int pageLimit(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * One extra row is fetched to tell whether another page follows without a count query.
+     */
+    private static WalletPage toPage(List<Wallet> wallets, int limit, Function<Wallet, WalletCursor> cursor) {
+        if (wallets.size() <= limit) {
+            return new WalletPage(wallets, null);
+        }
+        List<Wallet> page = wallets.subList(0, limit);
+        return new WalletPage(page, cursor.apply(page.get(limit - 1)));
     }
 
     public Wallet updateWallet(UUID id, Wallet updatedWallet) {
@@ -83,11 +123,10 @@ public class WalletService {
     public void deleteWallet(UUID id) {
         log.info("Deleting wallet with id: {}", id);
 
-        if (!walletPersistencePort.existsById(id)) {
-            throw new WalletNotFoundException("Wallet not found with id: " + id);
-        }
+        Wallet existingWallet = getWalletById(id);
 
-        walletPersistencePort.deleteById(id);
+        walletPersistencePort.delete(id);
+        trackedAddressIndex.remove(existingWallet.getAddress());
     }
 
     public boolean walletExists(String address) {
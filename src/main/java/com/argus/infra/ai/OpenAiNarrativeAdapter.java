@@ -0,0 +1,139 @@
+package com.argus.infra.ai;
+
+import com.argus.core.exception.AiException;
+import com.argus.domain.model.SignalFingerprint;
+import com.argus.domain.port.ai.NarrativePort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes narratives with the OpenAI Chat Completions API. A whole batch of fingerprints goes into one
+ * prompt as a JSON array, and the model answers in JSON mode with {@code {"narratives": [...]}}, one
+ * string per fingerprint in the same order.
+ */
+public class OpenAiNarrativeAdapter implements NarrativePort {
+
+    private static final String SYSTEM_PROMPT = "You write narratives for on-chain trading signals shown to "
+            + "crypto traders. For each signal in the user's JSON array, write one or two factual sentences "
+            + "naming the token, the kind of wallet and the size of the move. Do not give financial advice "
+            + "or invent numbers. Answer with a JSON object {\"narratives\": [...]} holding exactly one "
+            + "string per input signal, in input order.";
+
+    private final HttpClient httpClient;
+    private final URI completionsUri;
+    private final String apiKey;
+    private final String model;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public OpenAiNarrativeAdapter(String apiUrl, String apiKey, String model, ObjectMapper objectMapper,
+            Duration timeout) {
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new IllegalArgumentException("OpenAI API key must be set");
+        }
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.completionsUri = URI.create(apiUrl.replaceAll("/+$", "") + "/v1/chat/completions");
+        this.apiKey = apiKey;
+        this.model = model;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public List<String> generate(List<SignalFingerprint> fingerprints) {
+        if (fingerprints.isEmpty()) {
+            return List.of();
+        }
+        HttpRequest request = HttpRequest.newBuilder(completionsUri)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + apiKey)
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody(fingerprints), StandardCharsets.UTF_8))
+                .build();
+
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new AiException("Failed to reach OpenAI: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiException("Interrupted while waiting for OpenAI", e);
+        }
+
+        if (response.statusCode() != 200) {
+            String message;
+            try {
+                message = objectMapper.readTree(response.body()).path("error").path("message").asText("no error message");
+            } catch (JsonProcessingException e) {
+                message = "no error message";
+            }
+            throw new AiException("OpenAI returned HTTP " + response.statusCode() + ": " + message);
+        }
+        JsonNode body = readJson(response.body());
+        JsonNode narratives = readJson(body.path("choices").path(0).path("message").path("content").asText())
+                .path("narratives");
+        if (!narratives.isArray() || narratives.size() != fingerprints.size()) {
+            throw new AiException("OpenAI answered with " + (narratives.isArray() ? narratives.size() : "no")
+                    + " narratives for " + fingerprints.size() + " signals");
+        }
+
+        List<String> texts = new ArrayList<>(narratives.size());
+        narratives.forEach(narrative -> texts.add(narrative.asText().trim()));
+        return texts;
+    }
+
+    private String requestBody(List<SignalFingerprint> fingerprints) {
+        ArrayNode signals = objectMapper.createArrayNode();
+        for (SignalFingerprint fingerprint : fingerprints) {
+            signals.addObject()
+                    .put("type", fingerprint.getType())
+                    .put("token", fingerprint.getTokenSymbol())
+                    .put("tokenAddress", fingerprint.getTokenAddress())
+                    .put("walletType", fingerprint.getWalletType().name())
+                    .put("usdValue", describeValue(fingerprint.getValueBucket()));
+        }
+
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("model", model)
+                .put("temperature", 0.3);
+        body.putObject("response_format").put("type", "json_object");
+        ArrayNode messages = body.putArray("messages");
+        messages.addObject().put("role", "system").put("content", SYSTEM_PROMPT);
+        try {
+            messages.addObject().put("role", "user").put("content", objectMapper.writeValueAsString(signals));
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode narrative prompt", e);
+        }
+    }
+
+    private static String describeValue(long valueBucket) {
+        if (valueBucket == 0) {
+            return "unknown";
+        }
+        return String.format(Locale.ROOT, "$%,d to $%,d", valueBucket, valueBucket * 10);
+    }
+
+    private JsonNode readJson(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new AiException("OpenAI answered with malformed JSON", e);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.argus.infra.blockchain;
+
+import io.reactivex.disposables.Disposable;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.websocket.WebSocketService;
+import org.web3j.utils.Numeric;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the chain head in memory. Heads are pushed over a {@code newHeads} WebSocket subscription;
+ * while the socket is down (or when no WebSocket URL is configured) the head is polled over HTTP and
+ * the socket is reconnected with backoff. A watchdog treats a silent socket as dropped.
+ */
+@Slf4j
+public class ChainHeadTracker implements AutoCloseable {
+
+    private final HeadStream headStream;
+    private final Supplier<CompletableFuture<Long>> headPoller;
+    private final long pollIntervalMillis;
+    private final long maxHeadAgeNanos;
+    private final RpcRetryExecutor reconnectBackoff;
+    private final ScheduledExecutorService scheduler;
+    private final List<LongConsumer> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile long head = -1;
+    private volatile long lastUpdateNanos;
+    private volatile boolean closed;
+
+    // Guarded by this; generation lets late callbacks from an abandoned connection be ignored
+    private HeadSubscription subscription;
+    private long generation;
+    private long connectedAtNanos;
+    private int reconnectAttempts;
+    private ScheduledFuture<?> pollTask;
+
+    public ChainHeadTracker(HeadStream headStream, Supplier<CompletableFuture<Long>> headPoller,
+            long pollIntervalMillis, long maxHeadAgeMillis, RpcRetryExecutor reconnectBackoff) {
+        this.headStream = headStream;
+        this.headPoller = headPoller;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxHeadAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxHeadAgeMillis);
+        this.reconnectBackoff = reconnectBackoff;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chain-head-tracker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        if (headStream == null) {
+            log.info("No WebSocket URL configured, polling chain head every {}ms", pollIntervalMillis);
+            startPolling();
+            return;
+        }
+        scheduler.execute(this::connect);
+        scheduler.scheduleWithFixedDelay(this::checkStale, maxHeadAgeNanos, maxHeadAgeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public OptionalLong getCurrentHead() {
+        long current = head;
+        if (current < 0 || System.nanoTime() - lastUpdateNanos > maxHeadAgeNanos) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(current);
+    }
+
+    public void addListener(LongConsumer listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(LongConsumer listener) {
+        listeners.remove(listener);
+    }
+
+    public synchronized boolean isConnected() {
+        return subscription != null;
+    }
+
+    /**
+     * Records a head seen by either source. Only a higher number notifies listeners; an equal or lower
+     * one (duplicate delivery, reorg to a sibling block) just confirms the tracker is alive.
+     */
+    synchronized void onHead(long blockNumber) {
+        lastUpdateNanos = System.nanoTime();
+        if (blockNumber <= head) {
+            return;
+        }
+        head = blockNumber;
+        for (LongConsumer listener : listeners) {
+            try {
+                listener.accept(blockNumber);
+            } catch (Exception e) {
+                log.warn("New head listener failed for block {}: {}", blockNumber, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs on the scheduler thread. The stream is opened without holding the lock, because the socket's
+     * own threads may deliver heads while the handshake is still completing.
+     */
+    private void connect() {
+        long connectionGeneration;
+        synchronized (this) {
+            if (closed || subscription != null) {
+                return;
+            }
+            connectionGeneration = ++generation;
+        }
+
+        try {
+            HeadSubscription opened = headStream.open(this::onHead,
+                    error -> execute(() -> onDisconnect(connectionGeneration, error)));
+            synchronized (this) {
+                if (closed || connectionGeneration != generation) {
+                    opened.close();
+                    return;
+                }
+                subscription = opened;
+                connectedAtNanos = System.nanoTime();
+                reconnectAttempts = 0;
+                stopPolling();
+            }
+            log.info("Subscribed to newHeads");
+        } catch (Exception e) {
+            onDisconnect(connectionGeneration, e);
+        }
+    }
+
+    private synchronized void onDisconnect(long connectionGeneration, Throwable error) {
+        if (closed || connectionGeneration != generation) {
+            return;
+        }
+        generation++;
+        closeSubscription();
+        startPolling();
+
+        int attempt = ++reconnectAttempts;
+        log.warn("newHeads subscription lost ({}), polling until reconnect attempt {}",
+                error != null ? error.getMessage() : "closed", attempt);
+        reconnectBackoff.delay(attempt).thenRun(() -> execute(this::connect));
+    }
+
+    private synchronized void checkStale() {
+        long lastSignNanos = Math.max(lastUpdateNanos, connectedAtNanos);
+        if (subscription != null && System.nanoTime() - lastSignNanos > maxHeadAgeNanos) {
+            onDisconnect(generation, new IllegalStateException(
+                    "no new head for " + TimeUnit.NANOSECONDS.toMillis(maxHeadAgeNanos) + "ms"));
+        }
+    }
+
+    private synchronized void startPolling() {
+        if (pollTask == null && !closed) {
+            pollTask = scheduler.scheduleWithFixedDelay(this::poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void stopPolling() {
+        if (pollTask != null) {
+            pollTask.cancel(false);
+            pollTask = null;
+        }
+    }
+
+    private void poll() {
+        try {
+            // Waiting here keeps polls from overlapping on a slow provider
+            onHead(RpcRetryExecutor.await(headPoller.get()));
+        } catch (Exception e) {
+            log.warn("Failed to poll chain head: {}", e.getMessage());
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            if (!closed) {
+                scheduler.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            log.debug("Chain head tracker already closed");
+        }
+    }
+
+    private void closeSubscription() {
+        if (subscription != null) {
+            try {
+                subscription.close();
+            } catch (Exception e) {
+                log.debug("Failed to close newHeads subscription: {}", e.getMessage());
+            }
+            subscription = null;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        stopPolling();
+        closeSubscription();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Source of pushed heads. {@code open} delivers block numbers to {@code onHead} until the stream
+     * breaks, then calls {@code onDisconnect} once.
+     */
+    @FunctionalInterface
+    public interface HeadStream {
+        HeadSubscription open(LongConsumer onHead, Consumer<Throwable> onDisconnect) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface HeadSubscription {
+        void close();
+    }
+
+    /**
+     * {@code eth_subscribe("newHeads")} over a dedicated web3j WebSocket connection.
+     */
+    public static HeadStream webSocket(String wsUrl) {
+        return (onHead, onDisconnect) -> {
+            WebSocketService webSocketService = new WebSocketService(wsUrl, false);
+            webSocketService.connect(message -> { }, onDisconnect, () -> onDisconnect.accept(null));
+
+            Disposable disposable = Web3j.build(webSocketService).newHeadsNotifications().subscribe(
+                    notification -> onHead.accept(
+                            Numeric.decodeQuantity(notification.getParams().getResult().getNumber()).longValue()),
+                    onDisconnect::accept,
+                    () -> onDisconnect.accept(null));
+
+            return () -> {
+                disposable.dispose();
+                webSocketService.close();
+            };
+        };
+    }
+}
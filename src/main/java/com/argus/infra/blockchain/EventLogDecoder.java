@@ -0,0 +1,205 @@
+package com.argus.infra.blockchain;
+
+import com.argus.domain.model.Transaction;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns ERC-20 {@code Transfer} and Uniswap V2/V3 {@code Swap} logs into {@link Transaction} rows, one
+ * per transaction and tracked address, seen from that address:
+ * <ul>
+ *   <li>{@code SWAP} when the address received a pool's swap output or both sent and received tokens:
+ *       {@code tokenIn}/{@code amountIn} is what it sent, {@code tokenOut}/{@code amountOut} what it got.
+ *       {@code from} is the address and {@code to} the pool, if a Swap log names one.</li>
+ *   <li>{@code TRANSFER} otherwise, with the token in {@code tokenIn} when the address sent it and in
+ *       {@code tokenOut} when it received it; {@code from}/{@code to} are sender and recipient.</li>
+ * </ul>
+ * Amounts are in the token's smallest unit. Swaps paid in native ETH have no outgoing transfer, so their
+ * input side stays empty.
+ */
+final class EventLogDecoder {
+
+    static final String TRANSFER_TOPIC = "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+    static final String UNISWAP_V2_SWAP_TOPIC = "0xd78ad95fa46c994b6551d0da85fc275fe613ce37657fb8d5e3d130840159d822";
+    static final String UNISWAP_V3_SWAP_TOPIC = "0xc42079f94a6350d7e6235f29174924f928cc2ac818eb64fed8004e115fbcca67";
+    static final String WETH_DEPOSIT_TOPIC = "0xe1fffcc4923d04b559f4d29a8bfc6cda04eb5b0d3c460751c2402c5c5cc9109c";
+    static final String WETH_WITHDRAWAL_TOPIC = "0x7fcf532c15f0a6db0bd6d0e038bea71d30d808c7d98cb3bf7268a95bf5081b65";
+
+    private static final String ZERO_ADDRESS = "0x" + "0".repeat(40);
+
+    static final String SWAP_TYPE = "SWAP";
+    static final String TRANSFER_TYPE = "TRANSFER";
+
+    private EventLogDecoder() {
+    }
+
+    /**
+     * An address as a 32-byte indexed topic.
+     */
+    static String addressTopic(String address) {
+        String hex = address.toLowerCase().startsWith("0x") ? address.substring(2) : address;
+        return "0x" + "0".repeat(64 - hex.length()) + hex.toLowerCase();
+    }
+
+    private static String topicAddress(String topic) {
+        return "0x" + topic.substring(topic.length() - 40).toLowerCase();
+    }
+
+    /**
+     * @param trackedAddresses lowercase addresses rows are produced for
+     * @param timestamps       block timestamps by block number
+     */
+    static List<Transaction> decode(List<Log> logs, Set<String> trackedAddresses,
+                                    Map<Long, LocalDateTime> timestamps) {
+        // Overlapping queries (a transfer between two tracked wallets matches both) return the same log twice
+        Map<String, Log> unique = new LinkedHashMap<>();
+        logs.stream()
+                .filter(log -> !log.isRemoved() && log.getTopics() != null && !log.getTopics().isEmpty())
+                .sorted(Comparator.comparing(Log::getBlockNumber).thenComparing(Log::getLogIndex))
+                .forEach(log -> unique.putIfAbsent(log.getTransactionHash() + ":" + log.getLogIndex(), log));
+
+        Map<String, List<Log>> byTransaction = new LinkedHashMap<>();
+        unique.values().forEach(log -> byTransaction
+                .computeIfAbsent(log.getTransactionHash(), hash -> new ArrayList<>())
+                .add(log));
+
+        List<Transaction> rows = new ArrayList<>();
+        byTransaction.forEach((hash, transactionLogs) -> {
+            Set<String> involved = new LinkedHashSet<>();
+            for (Log log : transactionLogs) {
+                for (int i = 1; i < log.getTopics().size(); i++) {
+                    String address = topicAddress(log.getTopics().get(i));
+                    if (trackedAddresses.contains(address)) {
+                        involved.add(address);
+                    }
+                }
+            }
+            for (String address : involved) {
+                Transaction row = decodeFor(address, transactionLogs, timestamps);
+                if (row != null) {
+                    rows.add(row);
+                }
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * The token movements in a receipt's logs, in log order. WETH {@code Deposit}/{@code Withdrawal} are
+     * reported as a transfer from/to the zero address, like a mint or burn, so swaps wrapping or unwrapping
+     * ETH on the way have both their sides.
+     */
+    static List<Transaction.TokenTransfer> transfers(List<Log> logs) {
+        List<Transaction.TokenTransfer> transfers = new ArrayList<>();
+        if (logs == null) {
+            return transfers;
+        }
+        for (Log log : logs) {
+            if (log.isRemoved() || log.getTopics() == null || log.getTopics().isEmpty() || log.getAddress() == null) {
+                continue;
+            }
+            String topic0 = log.getTopics().get(0);
+            String token = log.getAddress().toLowerCase();
+            if (TRANSFER_TOPIC.equalsIgnoreCase(topic0) && isErc20Transfer(log)) {
+                transfers.add(new Transaction.TokenTransfer(token, topicAddress(log.getTopics().get(1)),
+                        topicAddress(log.getTopics().get(2)), amount(log)));
+            } else if (log.getTopics().size() == 2 && hasAmount(log)) {
+                String account = topicAddress(log.getTopics().get(1));
+                if (WETH_DEPOSIT_TOPIC.equalsIgnoreCase(topic0)) {
+                    transfers.add(new Transaction.TokenTransfer(token, ZERO_ADDRESS, account, amount(log)));
+                } else if (WETH_WITHDRAWAL_TOPIC.equalsIgnoreCase(topic0)) {
+                    transfers.add(new Transaction.TokenTransfer(token, account, ZERO_ADDRESS, amount(log)));
+                }
+            }
+        }
+        return transfers;
+    }
+
+    private static Transaction decodeFor(String address, List<Log> logs, Map<Long, LocalDateTime> timestamps) {
+        Log firstSent = null;
+        Log lastReceived = null;
+        String pool = null;
+
+        for (Log log : logs) {
+            String topic0 = log.getTopics().get(0);
+            if (TRANSFER_TOPIC.equalsIgnoreCase(topic0) && isErc20Transfer(log)) {
+                if (address.equals(topicAddress(log.getTopics().get(1))) && firstSent == null) {
+                    firstSent = log;
+                }
+                if (address.equals(topicAddress(log.getTopics().get(2)))) {
+                    lastReceived = log;
+                }
+            } else if ((UNISWAP_V2_SWAP_TOPIC.equalsIgnoreCase(topic0) || UNISWAP_V3_SWAP_TOPIC.equalsIgnoreCase(topic0))
+                    && log.getTopics().size() == 3 && address.equals(topicAddress(log.getTopics().get(2)))) {
+                pool = log.getAddress().toLowerCase();
+            }
+        }
+        if (firstSent == null && lastReceived == null) {
+            return null;
+        }
+
+        Log first = firstSent != null ? firstSent : lastReceived;
+        Transaction.TransactionBuilder row = Transaction.builder()
+                .txHash(first.getTransactionHash())
+                .chain("ethereum")
+                .blockNumber(first.getBlockNumber().longValue())
+                .txTimestamp(timestamps.get(first.getBlockNumber().longValue()))
+                .createdAt(LocalDateTime.now());
+        if (firstSent != null) {
+            row.tokenIn(firstSent.getAddress().toLowerCase()).amountIn(sum(logs, firstSent.getAddress(), address, 1));
+        }
+        if (lastReceived != null) {
+            row.tokenOut(lastReceived.getAddress().toLowerCase())
+                    .amountOut(sum(logs, lastReceived.getAddress(), address, 2));
+        }
+
+        if (pool != null || (firstSent != null && lastReceived != null)) {
+            return row.type(SWAP_TYPE).from(address).to(pool).build();
+        }
+        return row.type(TRANSFER_TYPE)
+                .from(topicAddress(first.getTopics().get(1)))
+                .to(topicAddress(first.getTopics().get(2)))
+                .build();
+    }
+
+    /**
+     * ERC-721 also emits {@code Transfer}, but with the token id as a third indexed topic and no data.
+     */
+    private static boolean isErc20Transfer(Log log) {
+        return log.getTopics().size() == 3 && hasAmount(log);
+    }
+
+    private static boolean hasAmount(Log log) {
+        return log.getData() != null && log.getData().length() >= 66;
+    }
+
+    private static BigDecimal amount(Log log) {
+        return new BigDecimal(new BigInteger(log.getData().substring(2, 66), 16));
+    }
+
+    /**
+     * Total of the token's transfers from ({@code topic} 1) or to ({@code topic} 2) the address; routes
+     * can move the same token in several legs.
+     */
+    private static BigDecimal sum(List<Log> logs, String token, String address, int topic) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Log log : logs) {
+            if (TRANSFER_TOPIC.equalsIgnoreCase(log.getTopics().get(0)) && isErc20Transfer(log)
+                    && token.equalsIgnoreCase(log.getAddress())
+                    && address.equals(topicAddress(log.getTopics().get(topic)))) {
+                total = total.add(amount(log));
+            }
+        }
+        return total;
+    }
+}
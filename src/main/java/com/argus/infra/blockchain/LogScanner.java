@@ -0,0 +1,137 @@
+package com.argus.infra.blockchain;
+
+import com.argus.core.exception.BlockchainException;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits a block span into {@code eth_getLogs} ranges and fetches up to {@code concurrency} of them at
+ * once. The range size adapts to the provider: a range the provider rejects for returning too many
+ * results is halved and both halves are fetched instead, and the size grows back while responses stay
+ * well under {@code targetLogsPerRange}. The learned size is kept across scans.
+ */
+@Slf4j
+public class LogScanner {
+
+    /**
+     * Fetches the logs of blocks [fromBlock, toBlock]. Completes with null when the provider refuses the
+     * range as too large or as returning too many results; other failures complete exceptionally.
+     */
+    @FunctionalInterface
+    public interface RangeFetcher {
+        CompletableFuture<List<Log>> fetch(long fromBlock, long toBlock);
+    }
+
+    private final int maxRange;
+    private final int targetLogsPerRange;
+    private final int concurrency;
+    private final AtomicInteger rangeSize;
+
+    public LogScanner(int initialRange, int maxRange, int targetLogsPerRange, int concurrency) {
+        if (initialRange < 1 || maxRange < initialRange || targetLogsPerRange < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("Log scan ranges, target and concurrency must be positive, "
+                    + "with the initial range at most the maximum");
+        }
+        this.maxRange = maxRange;
+        this.targetLogsPerRange = targetLogsPerRange;
+        this.concurrency = concurrency;
+        this.rangeSize = new AtomicInteger(initialRange);
+    }
+
+    public int getRangeSize() {
+        return rangeSize.get();
+    }
+
+    /**
+     * @return every log of blocks [fromBlock, toBlock], in fetch order; callers sort as they need
+     */
+    public CompletableFuture<List<Log>> scan(long fromBlock, long toBlock, RangeFetcher fetcher) {
+        if (fromBlock < 0 || toBlock < fromBlock) {
+            throw new IllegalArgumentException("Invalid block range " + fromBlock + ".." + toBlock);
+        }
+
+        List<Log> logs = Collections.synchronizedList(new ArrayList<>());
+        Cursor cursor = new Cursor(fromBlock, toBlock);
+
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            workers[i] = work(cursor, fetcher, logs);
+        }
+        return CompletableFuture.allOf(workers).thenApply(ignored -> logs);
+    }
+
+    /**
+     * Each worker claims the next range when its previous one is done, so at most {@code concurrency}
+     * requests are in flight and a slow range does not hold up the others.
+     */
+    private CompletableFuture<Void> work(Cursor cursor, RangeFetcher fetcher, List<Log> logs) {
+        long[] range = cursor.claim(rangeSize.get());
+        if (range == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return fetchRange(range[0], range[1], fetcher, logs)
+                .thenCompose(ignored -> work(cursor, fetcher, logs));
+    }
+
+    private CompletableFuture<Void> fetchRange(long from, long to, RangeFetcher fetcher, List<Log> logs) {
+        int span = (int) (to - from + 1);
+        return fetcher.fetch(from, to).thenCompose(result -> {
+            if (result == null) {
+                if (span == 1) {
+                    throw new BlockchainException("Provider rejects eth_getLogs even for the single block " + from);
+                }
+                int half = span / 2;
+                shrinkTo(half);
+                log.debug("Log range {}..{} too large, splitting; range size now {}", from, to, rangeSize.get());
+                return fetchRange(from, from + half - 1, fetcher, logs)
+                        .thenCompose(ignored -> fetchRange(from + half, to, fetcher, logs));
+            }
+
+            logs.addAll(result);
+            adapt(span, result.size());
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * Halves the size after a response above target and doubles it after one under half the target.
+     * Only full-size ranges count for growth, so the short tail of a scan does not inflate the size.
+     */
+    private void adapt(int span, int logCount) {
+        if (logCount > targetLogsPerRange) {
+            shrinkTo(Math.max(1, span / 2));
+        } else if (logCount < targetLogsPerRange / 2) {
+            rangeSize.updateAndGet(size -> span >= size ? Math.min(maxRange, size * 2) : size);
+        }
+    }
+
+    private void shrinkTo(int size) {
+        rangeSize.updateAndGet(current -> Math.min(current, size));
+    }
+
+    private static final class Cursor {
+        private final long toBlock;
+        private long next;
+
+        private Cursor(long fromBlock, long toBlock) {
+            this.next = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        private synchronized long[] claim(int size) {
+            if (next > toBlock) {
+                return null;
+            }
+            long from = next;
+            long to = Math.min(toBlock, from + size - 1);
+            next = to + 1;
+            return new long[] {from, to};
+        }
+    }
+}
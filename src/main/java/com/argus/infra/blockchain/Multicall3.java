@@ -0,0 +1,212 @@
+package com.argus.infra.blockchain;
+
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ABI encoding for Multicall3 {@code aggregate3((address,bool,bytes)[])}, which runs many read-only calls
+ * in one {@code eth_call} and returns {@code (bool success, bytes returnData)[]} in call order. The
+ * contract is deployed at the same address on Ethereum and most EVM chains.
+ */
+final class Multicall3 {
+
+    static final String ADDRESS = "0xcA11bde05977b3631167028862bE2a173976CA11";
+
+    static final byte[] SYMBOL = selector("95d89b41");
+    static final byte[] NAME = selector("06fdde03");
+    static final byte[] DECIMALS = selector("313ce567");
+
+    private static final byte[] BALANCE_OF = selector("70a08231");
+    private static final byte[] GET_ETH_BALANCE = selector("4d2301cc");
+
+    private static final String AGGREGATE3_SELECTOR = "82ad56cb";
+    private static final int WORD = 32;
+
+    private Multicall3() {
+    }
+
+    record Call(String target, boolean allowFailure, byte[] callData) {
+    }
+
+    record Result(boolean success, byte[] returnData) {
+    }
+
+    /**
+     * Call data for {@code aggregate3(calls)}, as a 0x-prefixed hex string.
+     */
+    static String encodeAggregate3(List<Call> calls) {
+        int size = 4 + 2 * WORD + calls.size() * WORD;
+        for (Call call : calls) {
+            size += tupleSize(call);
+        }
+
+        byte[] data = new byte[size];
+        byte[] selector = Numeric.hexStringToByteArray(AGGREGATE3_SELECTOR);
+        System.arraycopy(selector, 0, data, 0, 4);
+        int position = 4;
+        position = putWord(data, position, WORD);
+        position = putWord(data, position, calls.size());
+
+        // Tuples with a bytes member are dynamic: the array holds offsets, relative to the first of them
+        int offsets = position;
+        int tupleOffset = calls.size() * WORD;
+        for (Call call : calls) {
+            position = putWord(data, position, tupleOffset);
+            tupleOffset += tupleSize(call);
+        }
+
+        position = offsets + calls.size() * WORD;
+        for (Call call : calls) {
+            byte[] target = Numeric.hexStringToByteArray(call.target());
+            if (target.length != 20) {
+                throw new IllegalArgumentException("Not an address: " + call.target());
+            }
+            System.arraycopy(target, 0, data, position + WORD - 20, 20);
+            position += WORD;
+            position = putWord(data, position, call.allowFailure() ? 1 : 0);
+            position = putWord(data, position, 3 * WORD);
+            position = putWord(data, position, call.callData().length);
+            System.arraycopy(call.callData(), 0, data, position, call.callData().length);
+            position += padded(call.callData().length);
+        }
+
+        return Numeric.toHexString(data);
+    }
+
+    /**
+     * Results of {@code aggregate3} from the hex return data of the {@code eth_call}.
+     */
+    static List<Result> decodeAggregate3(String hex) {
+        byte[] data = Numeric.hexStringToByteArray(hex);
+        int array = readOffset(data, 0, 0);
+        int count = readOffset(data, array, 0);
+        int base = array + WORD;
+
+        List<Result> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int tuple = readOffset(data, base + i * WORD, base);
+            boolean success = readOffset(data, tuple, 0) != 0;
+            int bytes = readOffset(data, tuple + WORD, tuple);
+            int length = readOffset(data, bytes, 0);
+            checkBounds(data, bytes + WORD, length);
+            results.add(new Result(success, Arrays.copyOfRange(data, bytes + WORD, bytes + WORD + length)));
+        }
+        return results;
+    }
+
+    /**
+     * Call data for ERC-20 {@code balanceOf(owner)}.
+     */
+    static byte[] balanceOf(String owner) {
+        return withAddress(BALANCE_OF, owner);
+    }
+
+    /**
+     * Call data for Multicall3's own {@code getEthBalance(owner)}, so native balances can go in the same
+     * batch as token balances.
+     */
+    static byte[] getEthBalance(String owner) {
+        return withAddress(GET_ETH_BALANCE, owner);
+    }
+
+    /**
+     * A {@code uint256} return value; null when the data is too short to hold one.
+     */
+    static BigInteger decodeUint(byte[] returnData) {
+        if (returnData.length < WORD) {
+            return null;
+        }
+        return new BigInteger(1, Arrays.copyOfRange(returnData, 0, WORD));
+    }
+
+    /**
+     * A {@code string} return value. Some early tokens (MKR, SAI) return {@code bytes32} instead, which
+     * is read as a NUL-padded string. Null when the data is neither.
+     */
+    static String decodeString(byte[] returnData) {
+        if (returnData.length == WORD) {
+            int length = 0;
+            while (length < WORD && returnData[length] != 0) {
+                length++;
+            }
+            return clean(new String(returnData, 0, length, StandardCharsets.UTF_8));
+        }
+        if (returnData.length < 2 * WORD) {
+            return null;
+        }
+        try {
+            int start = readOffset(returnData, 0, 0);
+            int length = readOffset(returnData, start, 0);
+            checkBounds(returnData, start + WORD, length);
+            return clean(new String(returnData, start + WORD, length, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String clean(String value) {
+        // Postgres rejects NUL in text columns
+        String cleaned = value.replace("\u0000", "").trim();
+        return cleaned.isEmpty() ? null : cleaned;
+    }
+
+    private static byte[] withAddress(byte[] selector, String address) {
+        byte[] bytes = Numeric.hexStringToByteArray(address);
+        if (bytes.length != 20) {
+            throw new IllegalArgumentException("Not an address: " + address);
+        }
+        byte[] data = new byte[4 + WORD];
+        System.arraycopy(selector, 0, data, 0, 4);
+        System.arraycopy(bytes, 0, data, 4 + WORD - 20, 20);
+        return data;
+    }
+
+    private static byte[] selector(String hex) {
+        return Numeric.hexStringToByteArray(hex);
+    }
+
+    private static int tupleSize(Call call) {
+        return 4 * WORD + padded(call.callData().length);
+    }
+
+    private static int padded(int length) {
+        return (length + WORD - 1) / WORD * WORD;
+    }
+
+    private static int putWord(byte[] data, int position, long value) {
+        for (int i = 0; i < 8; i++) {
+            data[position + WORD - 1 - i] = (byte) (value >>> (8 * i));
+        }
+        return position + WORD;
+    }
+
+    /**
+     * Reads the word at {@code position} as an offset or length and adds {@code base}. Only the low
+     * four bytes may be set; anything larger cannot point inside the data.
+     */
+    private static int readOffset(byte[] data, int position, int base) {
+        checkBounds(data, position, WORD);
+        for (int i = position; i < position + WORD - 4; i++) {
+            if (data[i] != 0) {
+                throw new IllegalArgumentException("ABI offset out of range at " + position);
+            }
+        }
+        int value = ((data[position + 28] & 0xff) << 24) | ((data[position + 29] & 0xff) << 16)
+                | ((data[position + 30] & 0xff) << 8) | (data[position + 31] & 0xff);
+        if (value < 0) {
+            throw new IllegalArgumentException("ABI offset out of range at " + position);
+        }
+        return base + value;
+    }
+
+    private static void checkBounds(byte[] data, int position, int length) {
+        if (position < 0 || length < 0 || (long) position + length > data.length) {
+            throw new IllegalArgumentException("ABI data truncated at " + position);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.argus.infra.blockchain;
+
+import org.web3j.protocol.Web3jService;
+
+import java.util.Arrays;
+
+/**
+ * One RPC provider in an {@link RpcEndpointPool}, together with its live health: EWMA latency, EWMA error
+ * rate and a window of recent latencies from which the p95 hedging threshold is derived.
+ */
+public class RpcEndpoint {
+
+    static final double EWMA_ALPHA = 0.2;
+    static final int LATENCY_WINDOW = 256;
+    static final int MIN_SAMPLES_FOR_PERCENTILE = 20;
+    static final int WARMUP_REQUESTS = 5;
+
+    // Each unit of error rate costs this many times the endpoint's latency, plus a flat cost so that an
+    // endpoint failing fast (e.g. rate limited) does not look attractive just because it answers quickly
+    private static final double ERROR_PENALTY = 10.0;
+    private static final double FAILURE_COST_NANOS = 1_000_000_000.0;
+    private static final int PERCENTILE_REFRESH_INTERVAL = 16;
+
+    private final String name;
+    private final Web3jService service;
+
+    private final long[] latencyWindow = new long[LATENCY_WINDOW];
+    private int samples;
+    private int nextSample;
+    private int samplesSinceRefresh;
+
+    private volatile double ewmaLatencyNanos;
+    private volatile double ewmaErrorRate;
+    private volatile long p95LatencyNanos = -1;
+    private volatile long lastSelectedNanos;
+    private volatile long requests;
+    private volatile long failures;
+
+    public RpcEndpoint(String name, Web3jService service) {
+        this.name = name;
+        this.service = service;
+        this.lastSelectedNanos = System.nanoTime();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Web3jService getService() {
+        return service;
+    }
+
+    /**
+     * Lower is healthier. Endpoints still warming up score 0 so each one gets a few requests before it is
+     * judged; otherwise a slow first request (connection setup, TLS) would starve it of traffic for good.
+     */
+    public double score() {
+        if (requests < WARMUP_REQUESTS) {
+            return 0;
+        }
+        return ewmaLatencyNanos * (1 + ERROR_PENALTY * ewmaErrorRate) + FAILURE_COST_NANOS * ewmaErrorRate;
+    }
+
+    public double getEwmaLatencyMillis() {
+        return ewmaLatencyNanos / 1_000_000.0;
+    }
+
+    public double getErrorRate() {
+        return ewmaErrorRate;
+    }
+
+    /**
+     * p95 of recent successful latencies, or -1 until enough samples have been seen.
+     */
+    public long getP95LatencyNanos() {
+        return p95LatencyNanos;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    long getLastSelectedNanos() {
+        return lastSelectedNanos;
+    }
+
+    void markSelected(long nowNanos) {
+        lastSelectedNanos = nowNanos;
+    }
+
+    synchronized void recordSuccess(long latencyNanos) {
+        requests++;
+        ewmaLatencyNanos = smooth(latencyNanos);
+        ewmaErrorRate = (1 - EWMA_ALPHA) * ewmaErrorRate;
+
+        latencyWindow[nextSample] = latencyNanos;
+        nextSample = (nextSample + 1) % LATENCY_WINDOW;
+        samples = Math.min(samples + 1, LATENCY_WINDOW);
+
+        // Sorting the window on every sample would cost more than the request; refresh periodically
+        samplesSinceRefresh++;
+        if (samples >= MIN_SAMPLES_FOR_PERCENTILE
+                && (p95LatencyNanos < 0 || samplesSinceRefresh >= PERCENTILE_REFRESH_INTERVAL)) {
+            long[] sorted = Arrays.copyOf(latencyWindow, samples);
+            Arrays.sort(sorted);
+            p95LatencyNanos = sorted[(int) Math.ceil(0.95 * samples) - 1];
+            samplesSinceRefresh = 0;
+        }
+    }
+
+    synchronized void recordFailure(long latencyNanos) {
+        requests++;
+        failures++;
+        // A fast failure must not make the endpoint look faster than it is
+        ewmaLatencyNanos = Math.max(ewmaLatencyNanos, smooth(latencyNanos));
+        ewmaErrorRate = EWMA_ALPHA + (1 - EWMA_ALPHA) * ewmaErrorRate;
+    }
+
+    /**
+     * Plain running mean during warmup, so the first request (connection setup) does not seed the EWMA
+     * on its own; exponential smoothing afterwards.
+     */
+    private double smooth(long latencyNanos) {
+        if (requests <= WARMUP_REQUESTS) {
+            return ewmaLatencyNanos + (latencyNanos - ewmaLatencyNanos) / requests;
+        }
+        return EWMA_ALPHA * latencyNanos + (1 - EWMA_ALPHA) * ewmaLatencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[ewma=%.1fms, p95=%s, errorRate=%.2f, requests=%d, failures=%d]",
+                name, getEwmaLatencyMillis(),
+                p95LatencyNanos < 0 ? "n/a" : String.format("%.1fms", p95LatencyNanos / 1_000_000.0),
+                ewmaErrorRate, requests, failures);
+    }
+}
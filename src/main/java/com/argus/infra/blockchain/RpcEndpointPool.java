@@ -0,0 +1,357 @@
+package com.argus.infra.blockchain;
+
+import io.reactivex.Flowable;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Web3jService} that spreads requests over several RPC providers. Each request goes to the
+ * endpoint with the best EWMA latency/error score. When a read has not answered within that endpoint's
+ * p95 latency, a hedged copy is sent to the next best endpoint and whichever answers first wins.
+ * <p>
+ * A JSON-RPC error the provider is to blame for (rate limits, internal errors), in a response or in any
+ * element of a batch, counts as a failure of the endpoint, like an I/O error; errors about the request
+ * itself (bad params, unknown method, reverts, log ranges too large) do not. A hedged read fails over past
+ * a provider error, and when every leg returned one, the caller gets the response as usual.
+ */
+@Slf4j
+public class RpcEndpointPool implements Web3jService {
+
+    // Invalid request, unknown method, invalid params, parse error, execution reverted
+    private static final Set<Integer> REQUEST_ERROR_CODES = Set.of(-32600, -32601, -32602, -32700, 3);
+    private static final List<String> REQUEST_ERROR_MESSAGES = List.of(
+            "revert", "more than", "too many results", "block range", "response size");
+
+    private final List<RpcEndpoint> endpoints;
+    private final boolean hedgingEnabled;
+    private final long probeIntervalNanos;
+    private final ExecutorService executor;
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicLong hedgedRequests = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+
+    public RpcEndpointPool(List<RpcEndpoint> endpoints, boolean hedgingEnabled, long probeIntervalMillis) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("At least one RPC endpoint is required");
+        }
+        this.endpoints = List.copyOf(endpoints);
+        this.hedgingEnabled = hedgingEnabled;
+        this.probeIntervalNanos = TimeUnit.MILLISECONDS.toNanos(probeIntervalMillis);
+        this.executor = Executors.newCachedThreadPool(daemonThreads());
+    }
+
+    public List<RpcEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public long getHedgedRequests() {
+        return hedgedRequests.get();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return execute(isHedgeable(request), endpoint -> endpoint.getService().send(request, responseType));
+    }
+
+    /**
+     * Not a non-blocking send: {@link #send} blocks in a virtual thread of its own, as the HTTP endpoints
+     * have nothing better, and the returned future completes with its response.
+     */
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        return blockOnVirtualThread(() -> send(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        boolean hedgeable = batchRequest.getRequests().stream().allMatch(this::isHedgeable);
+        return execute(hedgeable, endpoint -> endpoint.getService().sendBatch(batchRequest));
+    }
+
+    /**
+     * Blocks on {@link #sendBatch} in a virtual thread, like {@link #sendAsync}.
+     */
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return blockOnVirtualThread(() -> sendBatch(batchRequest));
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        throw new UnsupportedOperationException("Pooled HTTP endpoints do not support subscriptions");
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.info("Closing RPC endpoint pool: {}", endpoints);
+        executor.shutdownNow();
+        callers.shutdownNow();
+        for (RpcEndpoint endpoint : endpoints) {
+            endpoint.getService().close();
+        }
+    }
+
+    /**
+     * Only reads may be sent twice; anything that submits or signs must reach exactly one provider.
+     */
+    private boolean isHedgeable(Request<?, ?> request) {
+        String method = request.getMethod();
+        return method != null
+                && !method.startsWith("eth_send")
+                && !method.startsWith("eth_sign")
+                && !method.startsWith("personal_");
+    }
+
+    /**
+     * A response with a provider error is handed back as is once no leg did better.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T execute(boolean hedgeable, RpcCall<T> call) throws IOException {
+        try {
+            return executeLegs(hedgeable, call);
+        } catch (ProviderErrorResponse e) {
+            return (T) e.response;
+        }
+    }
+
+    private <T> T executeLegs(boolean hedgeable, RpcCall<T> call) throws IOException {
+        RpcEndpoint primary = selectEndpoint(null);
+        long hedgeDelayNanos = primary.getP95LatencyNanos();
+
+        if (!hedgeable || !hedgingEnabled || endpoints.size() < 2 || hedgeDelayNanos < 0) {
+            return invoke(primary, call);
+        }
+
+        CompletableFuture<T> primaryLeg = CompletableFuture.supplyAsync(() -> invokeUnchecked(primary, call), executor);
+        try {
+            return primaryLeg.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return hedge(primary, primaryLeg, call);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for " + primary.getName(), e);
+        } catch (ExecutionException e) {
+            if (RpcRetryExecutor.unwrap(e) instanceof ProviderErrorResponse) {
+                // Answered fast but with a provider error: try the next endpoint right away
+                return hedge(primary, primaryLeg, call);
+            }
+            throw asIOException(e);
+        }
+    }
+
+    private <T> T hedge(RpcEndpoint primary, CompletableFuture<T> primaryLeg, RpcCall<T> call) throws IOException {
+        RpcEndpoint secondary = selectEndpoint(primary);
+        hedgedRequests.incrementAndGet();
+        log.debug("{} slower than its p95, hedging to {}", primary.getName(), secondary.getName());
+
+        CompletableFuture<T> secondaryLeg = CompletableFuture.supplyAsync(
+                () -> invokeUnchecked(secondary, call), executor);
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicBoolean claimed = new AtomicBoolean();
+        AtomicInteger pendingLegs = new AtomicInteger(2);
+        AtomicReference<Throwable> providerError = new AtomicReference<>();
+        primaryLeg.whenComplete((value, error) ->
+                settle(winner, claimed, pendingLegs, providerError, value, error, false));
+        secondaryLeg.whenComplete((value, error) ->
+                settle(winner, claimed, pendingLegs, providerError, value, error, true));
+
+        try {
+            return winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for hedged request", e);
+        } catch (ExecutionException e) {
+            throw asIOException(e);
+        } finally {
+            // The losing leg's HTTP call still finishes in the background and its latency is recorded
+            primaryLeg.cancel(false);
+            secondaryLeg.cancel(false);
+        }
+    }
+
+    /**
+     * First successful leg wins; the request only fails once both legs have failed. A provider error is a
+     * failed leg, and is what the request fails with if the other leg failed otherwise, so the caller
+     * still gets a response.
+     */
+    private <T> void settle(CompletableFuture<T> winner, AtomicBoolean claimed, AtomicInteger pendingLegs,
+            AtomicReference<Throwable> providerError, T value, Throwable error, boolean hedgeLeg) {
+        if (error == null) {
+            if (claimed.compareAndSet(false, true)) {
+                if (hedgeLeg) {
+                    hedgeWins.incrementAndGet();
+                }
+                winner.complete(value);
+            }
+        } else {
+            Throwable cause = RpcRetryExecutor.unwrap(error);
+            if (cause instanceof ProviderErrorResponse) {
+                providerError.compareAndSet(null, cause);
+            }
+            if (pendingLegs.decrementAndGet() == 0) {
+                winner.completeExceptionally(providerError.get() != null ? providerError.get() : error);
+            }
+        }
+    }
+
+    RpcEndpoint selectEndpoint(RpcEndpoint exclude) {
+        long now = System.nanoTime();
+        RpcEndpoint best = null;
+
+        for (RpcEndpoint endpoint : endpoints) {
+            if (endpoint == exclude) {
+                continue;
+            }
+            // Endpoints that lost traffic after a bad spell get an occasional probe so they can recover
+            if (exclude == null && endpoints.size() > 1 && now - endpoint.getLastSelectedNanos() > probeIntervalNanos) {
+                best = endpoint;
+                break;
+            }
+            if (best == null || endpoint.score() < best.score()) {
+                best = endpoint;
+            }
+        }
+
+        if (best == null) {
+            best = endpoints.get(0);
+        }
+        best.markSelected(now);
+        return best;
+    }
+
+    private <T> T invoke(RpcEndpoint endpoint, RpcCall<T> call) throws IOException {
+        long start = System.nanoTime();
+        try {
+            T result = call.call(endpoint);
+            Response.Error error = providerError(result);
+            if (error != null) {
+                endpoint.recordFailure(System.nanoTime() - start);
+                log.debug("{} answered with error {}: {}", endpoint.getName(), error.getCode(), error.getMessage());
+                throw new ProviderErrorResponse(endpoint, error, result);
+            }
+            endpoint.recordSuccess(System.nanoTime() - start);
+            return result;
+        } catch (ProviderErrorResponse e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            endpoint.recordFailure(System.nanoTime() - start);
+            log.debug("Request to {} failed: {}", endpoint.getName(), e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * The first error in the response, or any response of the batch, that is down to the provider.
+     */
+    static Response.Error providerError(Object result) {
+        if (result instanceof Response<?> response) {
+            return isProviderError(response.getError()) ? response.getError() : null;
+        }
+        if (result instanceof BatchResponse batch && batch.getResponses() != null) {
+            for (Response<?> response : batch.getResponses()) {
+                if (response != null && isProviderError(response.getError())) {
+                    return response.getError();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isProviderError(Response.Error error) {
+        if (error == null || REQUEST_ERROR_CODES.contains(error.getCode())) {
+            return false;
+        }
+        // Some providers report reverts and oversized log queries as generic server or limit errors
+        String message = error.getMessage() != null ? error.getMessage().toLowerCase() : "";
+        return REQUEST_ERROR_MESSAGES.stream().noneMatch(message::contains);
+    }
+
+    private <T> T invokeUnchecked(RpcEndpoint endpoint, RpcCall<T> call) {
+        try {
+            return invoke(endpoint, call);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private <T> CompletableFuture<T> blockOnVirtualThread(RpcSend<T> send) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return send.send();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, callers);
+    }
+
+    private IOException asIOException(Throwable error) {
+        Throwable cause = RpcRetryExecutor.unwrap(error);
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        return new IOException(cause.getMessage(), cause);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "rpc-pool-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Fails a leg that got a provider error, carrying the response for when no other leg does better.
+     */
+    private static final class ProviderErrorResponse extends IOException {
+
+        private final transient Object response;
+
+        private ProviderErrorResponse(RpcEndpoint endpoint, Response.Error error, Object response) {
+            super(endpoint.getName() + " answered with error " + error.getCode() + ": " + error.getMessage());
+            this.response = response;
+        }
+    }
+
+    @FunctionalInterface
+    interface RpcCall<T> {
+        T call(RpcEndpoint endpoint) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RpcSend<T> {
+        T send() throws IOException;
+    }
+}
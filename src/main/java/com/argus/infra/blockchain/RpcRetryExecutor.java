@@ -0,0 +1,146 @@
+package com.argus.infra.blockchain;
+
+import com.argus.core.exception.BlockchainException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries asynchronous RPC calls with exponential backoff and jitter. Waiting between attempts is done
+ * by a shared scheduler thread, so no caller or I/O thread is parked while a provider recovers.
+ */
+@Slf4j
+public class RpcRetryExecutor {
+
+    private static final ScheduledExecutorService SHARED_SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rpc-retry-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public RpcRetryExecutor(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this(maxAttempts, baseDelayMillis, maxDelayMillis, SHARED_SCHEDULER);
+    }
+
+    RpcRetryExecutor(int maxAttempts, long baseDelayMillis, long maxDelayMillis,
+            ScheduledExecutorService scheduler) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Retry attempts must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.scheduler = scheduler;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Runs {@code call} until it succeeds or {@code maxAttempts} is reached. The failure message reads
+     * "Failed to {operation} after N attempts" with the last error as cause.
+     */
+    public <T> CompletableFuture<T> execute(String operation, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(operation, call, 1, result);
+        return result;
+    }
+
+    /**
+     * Completes after the backoff that follows the given (1-based) failed attempt.
+     */
+    public CompletableFuture<Void> delay(int failedAttempt) {
+        CompletableFuture<Void> delay = new CompletableFuture<>();
+        scheduler.schedule(() -> delay.complete(null), backoffMillis(failedAttempt), TimeUnit.MILLISECONDS);
+        return delay;
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": half of the delay is fixed, the other half random, so
+     * callers that failed together do not retry in lockstep.
+     */
+    long backoffMillis(int failedAttempt) {
+        long exponential = baseDelayMillis << Math.min(failedAttempt - 1, 20);
+        long capped = Math.min(exponential, maxDelayMillis);
+        long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private <T> void attempt(String operation, Supplier<CompletableFuture<T>> call, int attempt,
+            CompletableFuture<T> result) {
+
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+
+            Throwable cause = unwrap(error);
+            if (cause instanceof IllegalArgumentException || cause instanceof CancellationException) {
+                result.completeExceptionally(cause);
+                return;
+            }
+
+            log.warn("Attempt {}/{} failed to {}: {}", attempt, maxAttempts, operation, cause.getMessage());
+
+            if (attempt >= maxAttempts) {
+                result.completeExceptionally(new BlockchainException(
+                        "Failed to " + operation + " after " + maxAttempts + " attempts", cause));
+                return;
+            }
+
+            delay(attempt).thenRun(() -> attempt(operation, call, attempt + 1, result));
+        });
+    }
+
+    /**
+     * Blocks until {@code future} completes and rethrows its failure unwrapped. Used by the synchronous
+     * port methods, which keep their original exception contract.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new BlockchainException("Interrupted while waiting for blockchain response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BlockchainException(cause.getMessage(), cause);
+        }
+    }
+
+    static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,139 @@
+package com.argus.infra.blockchain;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caches asynchronous loads and coalesces concurrent ones: callers asking for a key that is already being
+ * loaded share the in-flight future instead of issuing their own call. How long a value stays cached is
+ * decided per value, so immutable results can be kept until evicted while volatile ones expire quickly.
+ * Failed loads are never cached.
+ */
+public class SingleFlightCache<K, V> {
+
+    /** TTL meaning "keep until evicted by the size bound". */
+    public static final long FOREVER = Long.MAX_VALUE;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // Only permanent entries are queued, so the queue cannot grow with keys that expire on their own
+    private final Queue<K> permanentKeys = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+
+    public SingleFlightCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached or in-flight value for {@code key}, or starts {@code loader}. Once the load
+     * succeeds, {@code ttlMillis} decides how long the value is kept: 0 or less drops it straight away,
+     * {@link #FOREVER} keeps it until evicted.
+     */
+    public CompletableFuture<V> get(K key, Supplier<CompletableFuture<V>> loader, ToLongFunction<V> ttlMillis) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(now)) {
+            hits.incrementAndGet();
+            return entry.future.copy();
+        }
+
+        Entry<V> created = new Entry<>();
+        Entry<V> current = entry == null
+                ? entries.putIfAbsent(key, created)
+                : (entries.replace(key, entry, created) ? null : entries.get(key));
+        if (current != null) {
+            // Another caller started a load between our lookup and insert
+            hits.incrementAndGet();
+            return current.future.copy();
+        }
+
+        loads.incrementAndGet();
+        CompletableFuture<V> load;
+        try {
+            load = loader.get();
+        } catch (RuntimeException e) {
+            load = CompletableFuture.failedFuture(e);
+        }
+
+        load.whenComplete((value, error) -> {
+            long ttl = error == null ? ttlMillis.applyAsLong(value) : 0;
+            if (ttl <= 0) {
+                entries.remove(key, created);
+            } else if (ttl == FOREVER) {
+                created.expiresAtNanos = Long.MAX_VALUE;
+                permanentKeys.add(key);
+            } else {
+                created.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl);
+            }
+
+            if (error == null) {
+                created.future.complete(value);
+            } else {
+                created.future.completeExceptionally(error);
+            }
+            enforceSizeBound();
+        });
+
+        return created.future.copy();
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getLoads() {
+        return loads.get();
+    }
+
+    /**
+     * Drops expired entries first and then the oldest permanent ones. In-flight loads are never evicted.
+     */
+    private void enforceSizeBound() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(candidate -> candidate.getValue().isExpired(now));
+
+        while (entries.size() > maxEntries) {
+            K oldest = permanentKeys.poll();
+            if (oldest == null) {
+                break;
+            }
+            entries.computeIfPresent(oldest, (key, candidate) ->
+                    candidate.future.isDone() && candidate.expiresAtNanos == Long.MAX_VALUE ? null : candidate);
+        }
+    }
+
+    private static class Entry<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        // Written before the future completes, so a reader that sees a completed future sees the expiry
+        private volatile long expiresAtNanos = Long.MAX_VALUE;
+
+        private boolean isExpired(long now) {
+            long expiresAt = expiresAtNanos;
+            return future.isDone() && expiresAt != Long.MAX_VALUE && now - expiresAt > 0;
+        }
+    }
+}
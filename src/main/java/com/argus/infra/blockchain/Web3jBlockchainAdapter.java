@@ -1,49 +1,209 @@
 package com.argus.infra.blockchain;
 
 import com.argus.core.exception.BlockchainException;
+import com.argus.domain.model.BalanceSheet;
+import com.argus.domain.model.Block;
+import com.argus.domain.model.Token;
 import com.argus.domain.model.Transaction;
+import com.argus.domain.model.WalletBalanceSnapshot;
+import com.argus.domain.port.blockchain.AsyncBlockChainPort;
 import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.blockchain.ChainHeadPort;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthCall;
 import org.web3j.protocol.http.HttpService;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.utils.Convert;
+import org.web3j.utils.Numeric;
+import okhttp3.OkHttpClient;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 
 @Slf4j
 @Component
-public class Web3jBlockchainAdapter implements BlockChainPort {
+public class Web3jBlockchainAdapter implements BlockChainPort, AsyncBlockChainPort, ChainHeadPort {
+
+    static final int DEFAULT_BATCH_SIZE = 100;
+    static final long DEFAULT_RETRY_BACKOFF_MILLIS = 1000;
+    static final long MAX_RETRY_BACKOFF_MILLIS = 10_000;
+    static final long ENDPOINT_PROBE_INTERVAL_MILLIS = 30_000;
+    static final long DEFAULT_HEAD_POLL_INTERVAL_MILLIS = 2000;
+    static final long DEFAULT_HEAD_MAX_AGE_MILLIS = 30_000;
+    static final long DEFAULT_CACHE_TTL_MILLIS = 1000;
+    static final int DEFAULT_FINALITY_DEPTH = 64;
+    static final int DEFAULT_CACHE_MAX_BLOCKS = 256;
+    static final int DEFAULT_CACHE_MAX_TRANSACTIONS = 10_000;
+    static final int DEFAULT_LOGS_INITIAL_RANGE = 500;
+    static final int DEFAULT_LOGS_MAX_RANGE = 5000;
+    static final int DEFAULT_LOGS_TARGET_RESULTS = 2000;
+    static final int DEFAULT_LOGS_CONCURRENCY = 4;
+    static final int DEFAULT_MULTICALL_MAX_CALLS = 300;
+    static final int DEFAULT_MULTICALL_CONCURRENCY = 4;
+    // Providers cap the size of OR-ed topic lists; larger address sets are split over several queries
+    private static final int MAX_TOPIC_ADDRESSES = 500;
+    private static final String LATEST_BLOCK_KEY = "latest";
+    private static final int METHOD_NOT_FOUND = -32601;
+    private static final BigInteger MAX_TOKEN_DECIMALS = BigInteger.valueOf(255);
 
     private final String rpcUrl;
+    private final List<String> fallbackRpcUrls;
     private final int timeoutSeconds;
     private final int retryAttempts;
+    private final int batchSize;
+    private final boolean hedgingEnabled;
+    private final String wsUrl;
+    private final RpcRetryExecutor retryExecutor;
+    private final ChainHeadTracker headTracker;
+    private final long cacheTtlMillis;
+    private final int finalityDepth;
+    private final SingleFlightCache<String, Long> latestBlockCache;
+    private final SingleFlightCache<Long, Optional<Block>> blockCache;
+    private final SingleFlightCache<String, Optional<Transaction>> transactionCache;
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final LogScanner logScanner;
+    private final int multicallMaxCalls;
+    private final int multicallConcurrency;
+
+    private volatile long lastKnownHead = -1;
+    private volatile boolean blockReceiptsSupported = true;
 
     private Web3j web3j;
+    private RpcEndpointPool endpointPool;
+
+    public Web3jBlockchainAdapter(String rpcUrl, int timeoutSeconds, int retryAttempts) {
+        this(rpcUrl, timeoutSeconds, retryAttempts, DEFAULT_BATCH_SIZE);
+    }
 
+    public Web3jBlockchainAdapter(String rpcUrl, int timeoutSeconds, int retryAttempts, int batchSize) {
+        this(rpcUrl, "", "", timeoutSeconds, retryAttempts, batchSize, DEFAULT_RETRY_BACKOFF_MILLIS, true,
+                DEFAULT_HEAD_POLL_INTERVAL_MILLIS, DEFAULT_HEAD_MAX_AGE_MILLIS, DEFAULT_CACHE_TTL_MILLIS,
+                DEFAULT_FINALITY_DEPTH, DEFAULT_CACHE_MAX_BLOCKS, DEFAULT_CACHE_MAX_TRANSACTIONS,
+                DEFAULT_LOGS_INITIAL_RANGE, DEFAULT_LOGS_MAX_RANGE, DEFAULT_LOGS_TARGET_RESULTS,
+                DEFAULT_LOGS_CONCURRENCY, DEFAULT_MULTICALL_MAX_CALLS, DEFAULT_MULTICALL_CONCURRENCY);
+    }
+
+    @Autowired
     public Web3jBlockchainAdapter(
             @Value("${argus.blockchain.rpc-url}") String rpcUrl,
+            @Value("${argus.blockchain.fallback-rpc-urls:}") String fallbackRpcUrls,
+            @Value("${argus.blockchain.ws-url:}") String wsUrl,
             @Value("${argus.blockchain.timeout-seconds:30}") int timeoutSeconds,
-            @Value("${argus.blockchain.retry-attempts:3}") int retryAttempts) {
+            @Value("${argus.blockchain.retry-attempts:3}") int retryAttempts,
+            @Value("${argus.blockchain.batch-size:100}") int batchSize,
+            @Value("${argus.blockchain.retry-backoff-ms:1000}") long retryBackoffMillis,
+            @Value("${argus.blockchain.hedging-enabled:true}") boolean hedgingEnabled,
+            @Value("${argus.blockchain.head-poll-interval-ms:2000}") long headPollIntervalMillis,
+            @Value("${argus.blockchain.head-max-age-ms:30000}") long headMaxAgeMillis,
+            @Value("${argus.blockchain.cache.ttl-ms:1000}") long cacheTtlMillis,
+            @Value("${argus.blockchain.cache.finality-depth:64}") int finalityDepth,
+            @Value("${argus.blockchain.cache.max-blocks:256}") int cacheMaxBlocks,
+            @Value("${argus.blockchain.cache.max-transactions:10000}") int cacheMaxTransactions,
+            @Value("${argus.blockchain.logs.initial-range:500}") int logsInitialRange,
+            @Value("${argus.blockchain.logs.max-range:5000}") int logsMaxRange,
+            @Value("${argus.blockchain.logs.target-results:2000}") int logsTargetResults,
+            @Value("${argus.blockchain.logs.concurrency:4}") int logsConcurrency,
+            @Value("${argus.blockchain.multicall.max-calls:300}") int multicallMaxCalls,
+            @Value("${argus.blockchain.multicall.concurrency:4}") int multicallConcurrency) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (multicallMaxCalls < 1 || multicallConcurrency < 1) {
+            throw new IllegalArgumentException("Multicall size and concurrency must be positive");
+        }
         this.rpcUrl = rpcUrl;
+        this.fallbackRpcUrls = fallbackRpcUrls == null ? List.of() : Arrays.stream(fallbackRpcUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
         this.timeoutSeconds = timeoutSeconds;
         this.retryAttempts = retryAttempts;
+        this.batchSize = batchSize;
+        this.hedgingEnabled = hedgingEnabled;
+        this.wsUrl = wsUrl == null ? "" : wsUrl.trim();
+        this.retryExecutor = new RpcRetryExecutor(retryAttempts, retryBackoffMillis, MAX_RETRY_BACKOFF_MILLIS);
+        this.headTracker = new ChainHeadTracker(
+                this.wsUrl.isEmpty() ? null : ChainHeadTracker.webSocket(this.wsUrl),
+                this::fetchLatestBlockNumberAsync,
+                headPollIntervalMillis,
+                headMaxAgeMillis,
+                retryExecutor);
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.finalityDepth = finalityDepth;
+        this.latestBlockCache = new SingleFlightCache<>(1);
+        this.blockCache = new SingleFlightCache<>(cacheMaxBlocks);
+        this.transactionCache = new SingleFlightCache<>(cacheMaxTransactions);
+        this.logScanner = new LogScanner(logsInitialRange, logsMaxRange, logsTargetResults, logsConcurrency);
+        this.multicallMaxCalls = multicallMaxCalls;
+        this.multicallConcurrency = multicallConcurrency;
     }
 
     @PostConstruct
     public void init() {
         log.info("Initializing Web3j blockchain adapter");
         log.info("RPC URL: {}", maskApiKey(rpcUrl));
-        log.info("Timeout: {}s, Retries: {}", timeoutSeconds, retryAttempts);
+        fallbackRpcUrls.forEach(url -> log.info("Fallback RPC URL: {}", maskApiKey(url)));
+        if (!wsUrl.isEmpty()) {
+            log.info("WebSocket URL: {}", maskApiKey(wsUrl));
+        }
+        log.info("Timeout: {}s, Retries: {}, Batch size: {}, Hedging: {}",
+                timeoutSeconds, retryAttempts, batchSize, hedgingEnabled);
+
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .connectTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .readTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .writeTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .build();
 
-        this.web3j = Web3j.build(new HttpService(rpcUrl));
+        List<RpcEndpoint> endpoints = new ArrayList<>();
+        endpoints.add(new RpcEndpoint(maskApiKey(rpcUrl), new HttpService(rpcUrl, httpClient)));
+        for (String url : fallbackRpcUrls) {
+            endpoints.add(new RpcEndpoint(maskApiKey(url), new HttpService(url, httpClient)));
+        }
+
+        this.endpointPool = new RpcEndpointPool(endpoints, hedgingEnabled, ENDPOINT_PROBE_INTERVAL_MILLIS);
+        this.web3j = Web3j.build(endpointPool);
 
         try {
             String clientVersion = web3j.web3ClientVersion().send().getWeb3ClientVersion();
@@ -51,125 +211,866 @@ public class Web3jBlockchainAdapter implements BlockChainPort {
         } catch (Exception e) {
             log.warn("Failed to verify blockchain connection: {}", e.getMessage());
         }
+
+        headTracker.start();
     }
 
     @PreDestroy
     public void shutdown() {
+        headTracker.close();
         if (web3j != null) {
             log.info("Shutting down Web3j connection");
+            if (endpointPool != null) {
+                log.info("RPC endpoint stats: {}, hedged requests: {} ({} won by the hedge)",
+                        endpointPool.getEndpoints(), endpointPool.getHedgedRequests(), endpointPool.getHedgeWins());
+            }
+            log.info("RPC cache hits/loads: blocks {}/{}, transactions {}/{}, latest block {}/{}",
+                    blockCache.getHits(), blockCache.getLoads(),
+                    transactionCache.getHits(), transactionCache.getLoads(),
+                    latestBlockCache.getHits(), latestBlockCache.getLoads());
             web3j.shutdown();
         }
+        callers.shutdownNow();
     }
 
+    /**
+     * Answered from the in-memory head when the tracker has a fresh one; otherwise a network round-trip.
+     */
     @Override
     public long getLatestBlockNumber() {
-        log.debug("Fetching latest block number");
+        OptionalLong head = headTracker.getCurrentHead();
+        if (head.isPresent()) {
+            return head.getAsLong();
+        }
+        return RpcRetryExecutor.await(fetchLatestBlockNumberAsync());
+    }
 
-        Exception lastException = null;
+    @Override
+    public Optional<Transaction> getTransactionByHash(String txHash) {
+        return RpcRetryExecutor.await(getTransactionByHashAsync(txHash));
+    }
 
-        for (int attempt = 1; attempt <= retryAttempts; attempt++) {
-            try {
-                EthBlockNumber ethBlockNumber = web3j.ethBlockNumber().send();
+    @Override
+    public List<Optional<Transaction>> getTransactionsByHashes(Collection<String> txHashes) {
+        return RpcRetryExecutor.await(getTransactionsByHashesAsync(txHashes));
+    }
 
-                if (ethBlockNumber.hasError()) {
-                    throw new BlockchainException(
-                            "RPC error: " + ethBlockNumber.getError().getMessage());
-                }
+    @Override
+    public Optional<Block> getBlockByNumber(long blockNumber) {
+        return RpcRetryExecutor.await(getBlockByNumberAsync(blockNumber));
+    }
+
+    @Override
+    public List<Transaction> scanLogs(long fromBlock, long toBlock, Collection<String> addresses) {
+        return RpcRetryExecutor.await(scanLogsAsync(fromBlock, toBlock, addresses));
+    }
+
+    @Override
+    public Map<String, Token> getTokenMetadata(Collection<String> tokenAddresses) {
+        return RpcRetryExecutor.await(getTokenMetadataAsync(tokenAddresses));
+    }
+
+    @Override
+    public BalanceSheet getBalances(List<String> owners, List<String> tokens, long blockNumber) {
+        return RpcRetryExecutor.await(getBalancesAsync(owners, tokens, blockNumber));
+    }
+
+    @Override
+    public CompletableFuture<Long> getLatestBlockNumberAsync() {
+        OptionalLong head = headTracker.getCurrentHead();
+        if (head.isPresent()) {
+            return CompletableFuture.completedFuture(head.getAsLong());
+        }
+        return fetchLatestBlockNumberAsync();
+    }
+
+    @Override
+    public OptionalLong getCurrentHead() {
+        return headTracker.getCurrentHead();
+    }
+
+    @Override
+    public void addNewHeadListener(LongConsumer listener) {
+        headTracker.addListener(listener);
+    }
 
-                BigInteger blockNumber = ethBlockNumber.getBlockNumber();
-                long blockNum = blockNumber.longValue();
+    @Override
+    public void removeNewHeadListener(LongConsumer listener) {
+        headTracker.removeListener(listener);
+    }
 
-                log.debug("Latest block number: {}", blockNum);
-                return blockNum;
+    /**
+     * Concurrent callers share one in-flight {@code eth_blockNumber}, and the answer is reused for the
+     * cache TTL.
+     */
+    private CompletableFuture<Long> fetchLatestBlockNumberAsync() {
+        return latestBlockCache.get(LATEST_BLOCK_KEY, this::requestLatestBlockNumberAsync, blockNum -> {
+            lastKnownHead = Math.max(lastKnownHead, blockNum);
+            return cacheTtlMillis;
+        });
+    }
 
-            } catch (Exception e) {
-                lastException = e;
-                log.warn("Attempt {}/{} failed to get block number: {}",
-                        attempt, retryAttempts, e.getMessage());
+    private CompletableFuture<Long> requestLatestBlockNumberAsync() {
+        log.debug("Fetching latest block number");
 
-                if (attempt < retryAttempts) {
-                    try {
-                        Thread.sleep(1000 * attempt);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
+        return retryExecutor.execute("get latest block number", () -> sendOnVirtualThread(web3j.ethBlockNumber())
+                .thenApply(ethBlockNumber -> {
+                    if (ethBlockNumber.hasError()) {
+                        throw new BlockchainException(
+                                "RPC error: " + ethBlockNumber.getError().getMessage());
                     }
-                }
-            }
-        }
 
-        throw new BlockchainException(
-                "Failed to get latest block number after " + retryAttempts + " attempts",
-                lastException);
+                    long blockNum = ethBlockNumber.getBlockNumber().longValue();
+
+                    log.debug("Latest block number: {}", blockNum);
+                    return blockNum;
+                }));
     }
 
     @Override
-    public Optional<Transaction> getTransactionByHash(String txHash) {
+    public CompletableFuture<Optional<Transaction>> getTransactionByHashAsync(String txHash) {
         if (txHash == null || txHash.trim().isEmpty()) {
             throw new IllegalArgumentException("Transaction hash cannot be null or empty");
         }
 
+        return transactionCache.get(txHash.toLowerCase(), () -> requestTransactionAsync(txHash),
+                transaction -> transaction.map(Transaction::getBlockNumber).filter(this::isFinal).isPresent()
+                        ? SingleFlightCache.FOREVER
+                        : cacheTtlMillis);
+    }
+
+    private CompletableFuture<Optional<Transaction>> requestTransactionAsync(String txHash) {
         log.debug("Fetching transaction by hash: {}", txHash);
 
-        Exception lastException = null;
+        return retryExecutor.execute("get transaction " + txHash,
+                () -> sendOnVirtualThread(web3j.ethGetTransactionByHash(txHash))
+                        .thenApply(ethTransaction -> {
+                            if (ethTransaction.hasError()) {
+                                throw new BlockchainException(
+                                        "RPC error: " + ethTransaction.getError().getMessage());
+                            }
+
+                            if (!ethTransaction.getTransaction().isPresent()) {
+                                log.debug("Transaction not found: {}", txHash);
+                                return Optional.<Transaction>empty();
+                            }
+
+                            Transaction domainTx = convertToDomainTransaction(ethTransaction.getTransaction().get());
+
+                            log.debug("Successfully fetched transaction: {}", txHash);
+                            return Optional.of(domainTx);
+                        }));
+    }
+
+    @Override
+    public CompletableFuture<List<Optional<Transaction>>> getTransactionsByHashesAsync(Collection<String> txHashes) {
+        if (txHashes == null) {
+            throw new IllegalArgumentException("Transaction hashes cannot be null");
+        }
+
+        List<String> hashes = new ArrayList<>(txHashes);
+        for (String txHash : hashes) {
+            if (txHash == null || txHash.trim().isEmpty()) {
+                throw new IllegalArgumentException("Transaction hash cannot be null or empty");
+            }
+        }
+
+        log.debug("Fetching {} transactions in batches of {}", hashes.size(), batchSize);
+
+        return fetchInBatches(hashes, new BatchCall<>("transactions", EthTransaction.class,
+                web3j::ethGetTransactionByHash,
+                ethTransaction -> ethTransaction.getTransaction().map(this::convertToDomainTransaction)));
+    }
+
+    @Override
+    public Block enrichWithReceipts(Block block) {
+        return RpcRetryExecutor.await(enrichWithReceiptsAsync(block));
+    }
+
+    /**
+     * Fetches every receipt of the block in one {@code eth_getBlockReceipts} call. Providers that do not
+     * support it are remembered and served by batched {@code eth_getTransactionReceipt} instead.
+     */
+    @Override
+    public CompletableFuture<Block> enrichWithReceiptsAsync(Block block) {
+        if (block == null || block.getNumber() == null) {
+            throw new IllegalArgumentException("Block and block number cannot be null");
+        }
+        if (block.getTransactions().isEmpty()) {
+            return CompletableFuture.completedFuture(block);
+        }
+
+        CompletableFuture<Map<String, TransactionReceipt>> receipts = blockReceiptsSupported
+                ? fetchBlockReceipts(block.getNumber()).thenCompose(byHash -> byHash != null
+                        ? CompletableFuture.completedFuture(byHash)
+                        : fetchTransactionReceipts(block))
+                : fetchTransactionReceipts(block);
+
+        return receipts.thenApply(byHash -> applyReceipts(block, byHash));
+    }
+
+    /**
+     * Each range costs three {@code eth_getLogs} per chunk of addresses (transfers from them, transfers to
+     * them, swaps paying out to them), then one batch of block headers for the timestamps of the blocks
+     * with matches.
+     */
+    @Override
+    public CompletableFuture<List<Transaction>> scanLogsAsync(long fromBlock, long toBlock,
+                                                              Collection<String> addresses) {
+        if (addresses == null) {
+            throw new IllegalArgumentException("Addresses cannot be null");
+        }
+        Set<String> tracked = new LinkedHashSet<>();
+        for (String address : addresses) {
+            if (address != null && !address.isBlank()) {
+                tracked.add(address.trim().toLowerCase());
+            }
+        }
+        if (tracked.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        List<String> topics = tracked.stream().map(EventLogDecoder::addressTopic).toList();
+        List<String[]> topicChunks = new ArrayList<>();
+        for (int from = 0; from < topics.size(); from += MAX_TOPIC_ADDRESSES) {
+            topicChunks.add(topics.subList(from, Math.min(from + MAX_TOPIC_ADDRESSES, topics.size()))
+                    .toArray(String[]::new));
+        }
+
+        long startNanos = System.nanoTime();
+        return logScanner.scan(fromBlock, toBlock, (from, to) -> fetchLogs(from, to, topicChunks))
+                .thenCompose(logs -> fetchBlockTimestamps(logs)
+                        .thenApply(timestamps -> EventLogDecoder.decode(logs, tracked, timestamps)))
+                .whenComplete((rows, error) -> {
+                    if (error == null) {
+                        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+                        log.debug("Scanned logs of blocks {}..{} for {} addresses: {} rows in {}s, range size {}",
+                                fromBlock, toBlock, tracked.size(), rows.size(),
+                                String.format("%.1f", elapsedSeconds), logScanner.getRangeSize());
+                    }
+                });
+    }
 
-        for (int attempt = 1; attempt <= retryAttempts; attempt++) {
-            try {
-                EthTransaction ethTransaction = web3j
-                        .ethGetTransactionByHash(txHash).send();
+    /**
+     * Completes with null when the provider refuses any of the queries for the range as too large.
+     */
+    private CompletableFuture<List<Log>> fetchLogs(long fromBlock, long toBlock, List<String[]> topicChunks) {
+        List<CompletableFuture<List<Log>>> queries = new ArrayList<>();
+        for (String[] addressTopics : topicChunks) {
+            queries.add(getLogs(fromBlock, toBlock, filter -> filter
+                    .addSingleTopic(EventLogDecoder.TRANSFER_TOPIC)
+                    .addOptionalTopics(addressTopics)));
+            queries.add(getLogs(fromBlock, toBlock, filter -> filter
+                    .addSingleTopic(EventLogDecoder.TRANSFER_TOPIC)
+                    .addNullTopic()
+                    .addOptionalTopics(addressTopics)));
+            queries.add(getLogs(fromBlock, toBlock, filter -> filter
+                    .addOptionalTopics(EventLogDecoder.UNISWAP_V2_SWAP_TOPIC, EventLogDecoder.UNISWAP_V3_SWAP_TOPIC)
+                    .addNullTopic()
+                    .addOptionalTopics(addressTopics)));
+        }
 
-                if (ethTransaction.hasError()) {
-                    throw new BlockchainException(
-                            "RPC error: " + ethTransaction.getError().getMessage());
+        return CompletableFuture.allOf(queries.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            List<Log> logs = new ArrayList<>();
+            for (CompletableFuture<List<Log>> query : queries) {
+                List<Log> result = query.join();
+                if (result == null) {
+                    return null;
                 }
+                logs.addAll(result);
+            }
+            return logs;
+        });
+    }
+
+    private CompletableFuture<List<Log>> getLogs(long fromBlock, long toBlock, Consumer<EthFilter> topics) {
+        // No contract address filter: transfers of any token and swaps in any pool
+        EthFilter filter = new EthFilter(
+                DefaultBlockParameter.valueOf(BigInteger.valueOf(fromBlock)),
+                DefaultBlockParameter.valueOf(BigInteger.valueOf(toBlock)),
+                (List<String>) null);
+        topics.accept(filter);
+
+        return retryExecutor.execute("get logs for blocks " + fromBlock + ".." + toBlock,
+                () -> sendOnVirtualThread(web3j.ethGetLogs(filter))
+                        .thenApply(ethLog -> {
+                            if (ethLog.hasError()) {
+                                if (isLogRangeTooLarge(ethLog.getError())) {
+                                    return null;
+                                }
+                                throw new BlockchainException("RPC error: " + ethLog.getError().getMessage());
+                            }
+
+                            List<Log> logs = new ArrayList<>();
+                            for (EthLog.LogResult<?> result : ethLog.getLogs()) {
+                                if (result instanceof EthLog.LogObject logObject) {
+                                    logs.add(logObject.get());
+                                }
+                            }
+                            return logs;
+                        }));
+    }
+
+    /**
+     * Providers word this differently: "query returned more than 10000 results" (Infura), "Log response
+     * size exceeded" (Alchemy), "eth_getLogs is limited to a 10,000 blocks range" (QuickNode), ...
+     */
+    private boolean isLogRangeTooLarge(Response.Error error) {
+        String message = error.getMessage() != null ? error.getMessage().toLowerCase() : "";
+        return message.contains("more than") || message.contains("response size")
+                || message.contains("too many results") || message.contains("block range")
+                || message.contains("blocks range") || message.contains("range is too large")
+                || message.contains("range too large");
+    }
+
+    private CompletableFuture<Map<Long, LocalDateTime>> fetchBlockTimestamps(List<Log> logs) {
+        List<String> blockNumbers = logs.stream()
+                .map(Log::getBlockNumber)
+                .distinct()
+                .map(BigInteger::toString)
+                .toList();
+
+        return fetchInBatches(blockNumbers, new BatchCall<>("block headers", EthBlock.class,
+                blockNumber -> web3j.ethGetBlockByNumber(
+                        DefaultBlockParameter.valueOf(new BigInteger(blockNumber)), false),
+                ethBlock -> ethBlock.getBlock() != null && ethBlock.getBlock().getTimestampRaw() != null
+                        ? LocalDateTime.ofEpochSecond(ethBlock.getBlock().getTimestamp().longValue(), 0, ZoneOffset.UTC)
+                        : null))
+                .thenApply(timestamps -> {
+                    Map<Long, LocalDateTime> byBlock = new HashMap<>(blockNumbers.size() * 2);
+                    for (int i = 0; i < blockNumbers.size(); i++) {
+                        if (timestamps.get(i) == null) {
+                            throw new BlockchainException("Block " + blockNumbers.get(i) + " disappeared while scanning logs");
+                        }
+                        byBlock.put(Long.parseLong(blockNumbers.get(i)), timestamps.get(i));
+                    }
+                    return byBlock;
+                });
+    }
+
+    /**
+     * Three calls per token, each allowed to fail on its own so one broken contract does not revert the
+     * whole batch. A call to an address without code succeeds with empty data, so EOAs drop out at
+     * {@code decimals()} too.
+     */
+    @Override
+    public CompletableFuture<Map<String, Token>> getTokenMetadataAsync(Collection<String> tokenAddresses) {
+        if (tokenAddresses == null) {
+            throw new IllegalArgumentException("Token addresses cannot be null");
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String address : tokenAddresses) {
+            if (address != null && !address.isBlank()) {
+                unique.add(address.trim().toLowerCase());
+            }
+        }
+        if (unique.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
 
-                if (!ethTransaction.getTransaction().isPresent()) {
-                    log.debug("Transaction not found: {}", txHash);
-                    return Optional.empty();
+        List<String> tokens = new ArrayList<>(unique);
+        List<Multicall3.Call> calls = new ArrayList<>(tokens.size() * 3);
+        for (String token : tokens) {
+            calls.add(new Multicall3.Call(token, true, Multicall3.DECIMALS));
+            calls.add(new Multicall3.Call(token, true, Multicall3.SYMBOL));
+            calls.add(new Multicall3.Call(token, true, Multicall3.NAME));
+        }
+
+        return multicall("token metadata", calls, DefaultBlockParameterName.LATEST).thenApply(results -> {
+            Map<String, Token> metadata = new HashMap<>(tokens.size() * 2);
+            for (int i = 0; i < tokens.size(); i++) {
+                Multicall3.Result decimals = results.get(3 * i);
+                BigInteger value = decimals.success() ? Multicall3.decodeUint(decimals.returnData()) : null;
+                if (value == null || value.compareTo(MAX_TOKEN_DECIMALS) > 0) {
+                    continue;
                 }
+                metadata.put(tokens.get(i), Token.builder()
+                        .address(tokens.get(i))
+                        .chain("ethereum")
+                        .symbol(decodeText(results.get(3 * i + 1)))
+                        .name(decodeText(results.get(3 * i + 2)))
+                        .decimals(value.intValue())
+                        .build());
+            }
+
+            log.debug("Resolved metadata of {} of {} tokens in {} multicalls",
+                    metadata.size(), tokens.size(), chunkCount(calls.size()));
+            return metadata;
+        });
+    }
+
+    /**
+     * One call per owner and token. Native balances go through Multicall3's {@code getEthBalance}, so
+     * they share the batches with token balances; every chunk is pinned to the same block.
+     */
+    @Override
+    public CompletableFuture<BalanceSheet> getBalancesAsync(List<String> owners, List<String> tokens,
+                                                            long blockNumber) {
+        if (owners == null || tokens == null) {
+            throw new IllegalArgumentException("Owners and tokens cannot be null");
+        }
+        if (blockNumber < 0) {
+            throw new IllegalArgumentException("Block number cannot be negative");
+        }
+        if (owners.isEmpty() || tokens.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BalanceSheet(blockNumber, owners, tokens, new BigInteger[0], 0));
+        }
+
+        List<Multicall3.Call> calls = new ArrayList<>(owners.size() * tokens.size());
+        for (String owner : owners) {
+            for (String token : tokens) {
+                calls.add(WalletBalanceSnapshot.ETH.equalsIgnoreCase(token)
+                        ? new Multicall3.Call(Multicall3.ADDRESS, true, Multicall3.getEthBalance(owner))
+                        : new Multicall3.Call(token, true, Multicall3.balanceOf(owner)));
+            }
+        }
+
+        DefaultBlockParameter block = DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber));
+        return multicall("balance", calls, block).thenApply(results -> {
+            BigInteger[] balances = new BigInteger[results.size()];
+            for (int i = 0; i < balances.length; i++) {
+                Multicall3.Result result = results.get(i);
+                balances[i] = result.success() ? Multicall3.decodeUint(result.returnData()) : null;
+            }
+            return new BalanceSheet(blockNumber, owners, tokens, balances, chunkCount(calls.size()));
+        });
+    }
+
+    private static String decodeText(Multicall3.Result result) {
+        return result.success() ? Multicall3.decodeString(result.returnData()) : null;
+    }
+
+    private int chunkCount(int calls) {
+        return (calls + multicallMaxCalls - 1) / multicallMaxCalls;
+    }
+
+    /**
+     * Sends the calls through Multicall3 {@code aggregate3} in chunks of {@code multicallMaxCalls}, all
+     * against {@code block}. Up to {@code multicallConcurrency} chunks are in flight at a time; each is
+     * retried on its own. Results are in call order.
+     */
+    private CompletableFuture<List<Multicall3.Result>> multicall(
+            String noun, List<Multicall3.Call> calls, DefaultBlockParameter block) {
+        List<List<Multicall3.Call>> chunks = new ArrayList<>();
+        for (int from = 0; from < calls.size(); from += multicallMaxCalls) {
+            chunks.add(calls.subList(from, Math.min(from + multicallMaxCalls, calls.size())));
+        }
+        List<List<Multicall3.Result>> results = new ArrayList<>(Collections.nCopies(chunks.size(), null));
+
+        // Each lane works through every multicallConcurrency-th chunk, one after another
+        List<CompletableFuture<Void>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < Math.min(multicallConcurrency, chunks.size()); lane++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int index = lane; index < chunks.size(); index += multicallConcurrency) {
+                int chunk = index;
+                chain = chain.thenCompose(ignored -> aggregate3(noun, chunks.get(chunk), block)
+                        .thenAccept(chunkResults -> results.set(chunk, chunkResults)));
+            }
+            lanes.add(chain);
+        }
+
+        return CompletableFuture.allOf(lanes.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> results.stream().flatMap(List::stream).toList());
+    }
+
+    private CompletableFuture<List<Multicall3.Result>> aggregate3(
+            String noun, List<Multicall3.Call> calls, DefaultBlockParameter block) {
+        String data = Multicall3.encodeAggregate3(calls);
+
+        return retryExecutor.execute("multicall " + calls.size() + " " + noun + " calls",
+                () -> sendOnVirtualThread(web3j.ethCall(org.web3j.protocol.core.methods.request.Transaction
+                        .createEthCallTransaction(null, Multicall3.ADDRESS, data), block))
+                        .thenApply(ethCall -> decodeAggregate3(ethCall, calls.size())));
+    }
+
+    private List<Multicall3.Result> decodeAggregate3(EthCall ethCall, int callCount) {
+        if (ethCall.hasError()) {
+            throw new BlockchainException("RPC error: " + ethCall.getError().getMessage());
+        }
+
+        List<Multicall3.Result> results;
+        try {
+            results = Multicall3.decodeAggregate3(ethCall.getValue());
+        } catch (IllegalArgumentException e) {
+            // Empty data means there is no Multicall3 at that address on this chain (or at that block)
+            throw new BlockchainException("Malformed Multicall3 response: " + e.getMessage(), e);
+        }
+        if (results.size() != callCount) {
+            throw new BlockchainException("Multicall3 answered " + results.size() + " results for "
+                    + callCount + " calls");
+        }
+        return results;
+    }
+
+    /**
+     * Completes with null when the provider does not know {@code eth_getBlockReceipts}.
+     */
+    private CompletableFuture<Map<String, TransactionReceipt>> fetchBlockReceipts(long blockNumber) {
+        log.debug("Fetching receipts for block {}", blockNumber);
+
+        DefaultBlockParameter blockParameter = DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber));
+
+        return retryExecutor.execute("get receipts for block " + blockNumber,
+                () -> sendOnVirtualThread(web3j.ethGetBlockReceipts(blockParameter))
+                        .thenApply(ethGetBlockReceipts -> {
+                            if (ethGetBlockReceipts.hasError()) {
+                                if (isMethodNotSupported(ethGetBlockReceipts.getError())) {
+                                    log.warn("Provider does not support eth_getBlockReceipts ({}), "
+                                                    + "falling back to batched eth_getTransactionReceipt",
+                                            ethGetBlockReceipts.getError().getMessage());
+                                    blockReceiptsSupported = false;
+                                    return null;
+                                }
+                                throw new BlockchainException(
+                                        "RPC error: " + ethGetBlockReceipts.getError().getMessage());
+                            }
+
+                            return indexReceipts(ethGetBlockReceipts.getBlockReceipts().orElse(List.of()));
+                        }));
+    }
+
+    private CompletableFuture<Map<String, TransactionReceipt>> fetchTransactionReceipts(Block block) {
+        List<String> hashes = block.getTransactions().stream().map(Transaction::getTxHash).toList();
+
+        log.debug("Fetching {} receipts for block {} in batches of {}", hashes.size(), block.getNumber(), batchSize);
+
+        return fetchInBatches(hashes, new BatchCall<>("receipts", EthGetTransactionReceipt.class,
+                web3j::ethGetTransactionReceipt,
+                EthGetTransactionReceipt::getTransactionReceipt))
+                .thenApply(receipts -> indexReceipts(receipts.stream().flatMap(Optional::stream).toList()));
+    }
+
+    private Map<String, TransactionReceipt> indexReceipts(List<TransactionReceipt> receipts) {
+        Map<String, TransactionReceipt> byHash = new HashMap<>(receipts.size() * 2);
+        for (TransactionReceipt receipt : receipts) {
+            if (receipt.getTransactionHash() != null) {
+                byHash.put(receipt.getTransactionHash().toLowerCase(), receipt);
+            }
+        }
+        return byHash;
+    }
+
+    /**
+     * Replaces the gas limit guess with what the transaction actually used and paid, and records whether
+     * it succeeded. A missing receipt or one from another block (reorg in between) fails the whole block,
+     * so the caller retries instead of storing half-enriched data.
+     */
+    private Block applyReceipts(Block block, Map<String, TransactionReceipt> receipts) {
+        List<Transaction> enriched = new ArrayList<>(block.getTransactions().size());
+
+        for (Transaction transaction : block.getTransactions()) {
+            TransactionReceipt receipt = transaction.getTxHash() != null
+                    ? receipts.get(transaction.getTxHash().toLowerCase())
+                    : null;
+            if (receipt == null) {
+                throw new BlockchainException("Missing receipt for transaction " + transaction.getTxHash()
+                        + " in block " + block.getNumber());
+            }
+            if (block.getHash() != null && receipt.getBlockHash() != null
+                    && !block.getHash().equalsIgnoreCase(receipt.getBlockHash())) {
+                throw new BlockchainException("Block " + block.getNumber() + " changed while fetching receipts");
+            }
+
+            enriched.add(transaction.toBuilder()
+                    .gasUsed(receipt.getGasUsedRaw() != null ? receipt.getGasUsed().longValue() : null)
+                    .effectiveGasPrice(receipt.getEffectiveGasPrice() != null
+                            ? new BigDecimal(Numeric.decodeQuantity(receipt.getEffectiveGasPrice()))
+                            : transaction.getGasPrice())
+                    // Receipts from before Byzantium have no status field
+                    .success(receipt.getStatus() != null ? receipt.isStatusOK() : null)
+                    .tokenTransfers(EventLogDecoder.transfers(receipt.getLogs()))
+                    .build());
+        }
+
+        log.debug("Enriched {} transactions in block {} with receipts", enriched.size(), block.getNumber());
+
+        return Block.builder()
+                .number(block.getNumber())
+                .hash(block.getHash())
+                .parentHash(block.getParentHash())
+                .timestamp(block.getTimestamp())
+                .transactions(enriched)
+                .build();
+    }
+
+    private boolean isMethodNotSupported(Response.Error error) {
+        String message = error.getMessage() != null ? error.getMessage().toLowerCase() : "";
+        return error.getCode() == METHOD_NOT_FOUND
+                || (message.contains("method") && (message.contains("not found")
+                        || message.contains("not supported") || message.contains("does not exist")
+                        || message.contains("not available")));
+    }
+
+    /**
+     * Looks up one JSON-RPC call per key in batches of {@code batchSize}. The result has one entry per key,
+     * in key order.
+     */
+    private <R extends Response<?>, V> CompletableFuture<List<V>> fetchInBatches(List<String> keys, BatchCall<R, V> call) {
+        List<V> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+
+        // Chunks go out one after another so a large lookup does not flood the provider
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<Integer> chunk = new ArrayList<>();
+            for (int index = from; index < Math.min(from + batchSize, keys.size()); index++) {
+                chunk.add(index);
+            }
+            chain = chain.thenCompose(ignored -> fetchChunk(call, keys, chunk, chunk.size(), 1, results));
+        }
+
+        return chain.thenApply(ignored -> results);
+    }
+
+    /**
+     * Sends the pending keys as one JSON-RPC batch. Only the elements that failed are resent on the
+     * next attempt, so one bad hash or a rate-limited element does not cost the whole batch.
+     */
+    private <R extends Response<?>, V> CompletableFuture<Void> fetchChunk(
+            BatchCall<R, V> call, List<String> keys, List<Integer> pending, int chunkSize, int attempt,
+            List<V> results) {
+
+        return sendBatch(call, keys, pending, results).thenCompose(outcome -> {
+            if (outcome.failed.isEmpty()) {
+                log.debug("Successfully fetched batch of {} {}", chunkSize, call.noun());
+                return CompletableFuture.<Void>completedFuture(null);
+            }
 
-                org.web3j.protocol.core.methods.response.Transaction web3jTx = ethTransaction.getTransaction().get();
+            log.warn("Attempt {}/{}: {} of {} {} in batch failed: {}",
+                    attempt, retryAttempts, outcome.failed.size(), chunkSize, call.noun(),
+                    outcome.lastError != null ? outcome.lastError.getMessage() : null);
 
-                Transaction domainTx = convertToDomainTransaction(web3jTx);
+            if (attempt >= retryAttempts) {
+                return CompletableFuture.<Void>failedFuture(new BlockchainException(
+                        "Failed to get " + outcome.failed.size() + " of " + chunkSize + " " + call.noun()
+                                + " after " + retryAttempts + " attempts",
+                        outcome.lastError));
+            }
+
+            return retryExecutor.delay(attempt).thenCompose(ignored ->
+                    fetchChunk(call, keys, outcome.failed, chunkSize, attempt + 1, results));
+        });
+    }
+
+    private <R extends Response<?>, V> CompletableFuture<BatchOutcome> sendBatch(
+            BatchCall<R, V> call, List<String> keys, List<Integer> pending, List<V> results) {
 
-                log.debug("Successfully fetched transaction: {}", txHash);
-                return Optional.of(domainTx);
+        Map<Long, Integer> indexByRequestId = new HashMap<>();
+        List<Integer> indexByPosition = new ArrayList<>(pending.size());
+        BatchRequest batch;
 
-            } catch (Exception e) {
-                lastException = e;
-                log.warn("Attempt {}/{} failed to get transaction {}: {}",
-                        attempt, retryAttempts, txHash, e.getMessage());
+        try {
+            batch = web3j.newBatch();
+            for (int index : pending) {
+                Request<?, R> request = call.request().apply(keys.get(index));
+                batch.add(request);
+                indexByRequestId.put(request.getId(), index);
+                indexByPosition.add(index);
+            }
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(new BatchOutcome(pending, e));
+        }
 
-                if (attempt < retryAttempts) {
-                    try {
-                        Thread.sleep(1000 * attempt);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        break;
+        return blockOnVirtualThread(batch::send).handle((batchResponse, error) -> {
+            if (error != null) {
+                return new BatchOutcome(pending, RpcRetryExecutor.unwrap(error));
+            }
+
+            Map<Integer, R> responses = matchResponses(
+                    batchResponse, call.responseType(), indexByRequestId, indexByPosition);
+            List<Integer> failed = new ArrayList<>();
+            Throwable lastError = null;
+
+            for (int index : pending) {
+                R response = responses.get(index);
+
+                try {
+                    if (response == null) {
+                        throw new BlockchainException("Missing batch response for " + keys.get(index));
                     }
+                    if (response.hasError()) {
+                        throw new BlockchainException(
+                                "RPC error: " + response.getError().getMessage());
+                    }
+                    results.set(index, call.convert().apply(response));
+                } catch (Exception e) {
+                    lastError = e;
+                    failed.add(index);
+                }
+            }
+
+            return new BatchOutcome(failed, lastError);
+        });
+    }
+
+    /**
+     * Providers are allowed to answer a batch out of order, so responses are matched back to their
+     * request by JSON-RPC id, falling back to position when the id is unknown.
+     */
+    private <R extends Response<?>> Map<Integer, R> matchResponses(
+            BatchResponse batchResponse, Class<R> responseType,
+            Map<Long, Integer> indexByRequestId, List<Integer> indexByPosition) {
+
+        Map<Integer, R> matched = new HashMap<>();
+        List<? extends Response<?>> responses = batchResponse.getResponses();
+
+        for (int position = 0; position < responses.size(); position++) {
+            Response<?> response = responses.get(position);
+            if (!responseType.isInstance(response)) {
+                continue;
+            }
+
+            Integer index = indexByRequestId.get(response.getId());
+            if (index == null && position < indexByPosition.size()) {
+                index = indexByPosition.get(position);
+            }
+            if (index != null) {
+                matched.putIfAbsent(index, responseType.cast(response));
+            }
+        }
+
+        return matched;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Block>> getBlockByNumberAsync(long blockNumber) {
+        if (blockNumber < 0) {
+            throw new IllegalArgumentException("Block number cannot be negative");
+        }
+
+        return blockCache.get(blockNumber, () -> requestBlockAsync(blockNumber),
+                block -> block.isPresent() && isFinal(blockNumber) ? SingleFlightCache.FOREVER : cacheTtlMillis);
+    }
+
+    private CompletableFuture<Optional<Block>> requestBlockAsync(long blockNumber) {
+        log.debug("Fetching block {} with full transactions", blockNumber);
+
+        DefaultBlockParameter blockParameter = DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber));
+
+        return retryExecutor.execute("get block " + blockNumber,
+                () -> sendOnVirtualThread(web3j.ethGetBlockByNumber(blockParameter, true))
+                        .thenApply(ethBlock -> {
+                            if (ethBlock.hasError()) {
+                                throw new BlockchainException(
+                                        "RPC error: " + ethBlock.getError().getMessage());
+                            }
+
+                            if (ethBlock.getBlock() == null) {
+                                log.debug("Block not available yet: {}", blockNumber);
+                                return Optional.<Block>empty();
+                            }
+
+                            Block block = convertToDomainBlock(ethBlock.getBlock());
+
+                            log.debug("Successfully fetched block {} with {} transactions",
+                                    blockNumber, block.getTransactions().size());
+                            return Optional.of(block);
+                        }));
+    }
+
+    /**
+     * A block this far below the head will not be reorganised, so anything read from it can be cached
+     * until evicted.
+     */
+    private boolean isFinal(Long blockNumber) {
+        long head = Math.max(lastKnownHead, headTracker.getCurrentHead().orElse(-1));
+        return blockNumber != null && head >= 0 && blockNumber <= head - finalityDepth;
+    }
+
+    /**
+     * Blocks on {@link Request#send()} in a virtual thread of its own; the returned future completes with the
+     * response. web3j's HTTP transport has no non-blocking send ({@link Request#sendAsync()} parks a thread of
+     * its shared pool the same way), and a parked virtual thread costs next to nothing.
+     */
+    private <T extends Response<?>> CompletableFuture<T> sendOnVirtualThread(Request<?, T> request) {
+        return blockOnVirtualThread(request::send);
+    }
+
+    private <T> CompletableFuture<T> blockOnVirtualThread(Callable<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            callers.execute(() -> {
+                try {
+                    result.complete(call.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private Block convertToDomainBlock(EthBlock.Block web3jBlock) {
+        LocalDateTime timestamp = web3jBlock.getTimestampRaw() != null
+                ? LocalDateTime.ofEpochSecond(web3jBlock.getTimestamp().longValue(), 0, ZoneOffset.UTC)
+                : null;
+
+        List<Transaction> transactions = new ArrayList<>();
+        if (web3jBlock.getTransactions() != null) {
+            for (EthBlock.TransactionResult<?> result : web3jBlock.getTransactions()) {
+                if (result instanceof EthBlock.TransactionObject transactionObject) {
+                    transactions.add(convertToDomainTransaction(transactionObject.get(), timestamp));
                 }
             }
         }
 
-        throw new BlockchainException(
-                "Failed to get transaction " + txHash + " after " + retryAttempts + " attempts",
-                lastException);
+        return Block.builder()
+                .number(web3jBlock.getNumberRaw() != null ? web3jBlock.getNumber().longValue() : null)
+                .hash(web3jBlock.getHash())
+                .parentHash(web3jBlock.getParentHash())
+                .timestamp(timestamp)
+                .transactions(transactions)
+                .build();
     }
 
     private Transaction convertToDomainTransaction(
             org.web3j.protocol.core.methods.response.Transaction web3jTx) {
+        return convertToDomainTransaction(web3jTx, null);
+    }
+
+    private Transaction convertToDomainTransaction(
+            org.web3j.protocol.core.methods.response.Transaction web3jTx, LocalDateTime txTimestamp) {
 
         return Transaction.builder()
                 .txHash(web3jTx.getHash())
                 .chain("ethereum")
+                .from(web3jTx.getFrom())
+                .to(web3jTx.getTo())
+                .value(web3jTx.getValueRaw() != null
+                        ? Convert.fromWei(new BigDecimal(web3jTx.getValue()), Convert.Unit.ETHER)
+                        : null)
+                .input(web3jTx.getInput())
                 .blockNumber(web3jTx.getBlockNumber() != null ? web3jTx.getBlockNumber().longValue() : null)
-                .gasUsed(web3jTx.getGas() != null ? web3jTx.getGas().longValue() : null)
+                // Only the limit is known here; gasUsed comes from the receipt (see enrichWithReceipts)
+                .gasLimit(web3jTx.getGas() != null ? web3jTx.getGas().longValue() : null)
                 .gasPrice(web3jTx.getGasPrice() != null ? new BigDecimal(web3jTx.getGasPrice()) : null)
-                .txTimestamp(null)
+                .txTimestamp(txTimestamp)
                 .createdAt(LocalDateTime.now())
                 .build();
     }
 
+    /**
+     * One kind of per-key JSON-RPC lookup sent through {@link #fetchInBatches}.
+     */
+    private record BatchCall<R extends Response<?>, V>(
+            String noun,
+            Class<R> responseType,
+            Function<String, Request<?, R>> request,
+            Function<R, V> convert) {
+    }
+
+    private static class BatchOutcome {
+        private final List<Integer> failed;
+        private final Throwable lastError;
+
+        private BatchOutcome(List<Integer> failed, Throwable lastError) {
+            this.failed = failed;
+            this.lastError = lastError;
+        }
+    }
+
     private String maskApiKey(String url) {
         if (url == null)
             return "null";
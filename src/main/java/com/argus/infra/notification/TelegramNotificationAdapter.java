@@ -0,0 +1,94 @@
+package com.argus.infra.notification;
+
+import com.argus.core.exception.NotificationException;
+import com.argus.domain.port.notification.NotificationPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends messages through the Telegram Bot API's {@code sendMessage}. Rate limiting (HTTP 429, with the
+ * wait in {@code parameters.retry_after}) and server errors are reported as retryable; other rejections,
+ * such as an unknown chat or a user who blocked the bot, are not.
+ * <p>
+ * The request URL contains the bot token, so it never appears in errors or logs.
+ */
+public class TelegramNotificationAdapter implements NotificationPort {
+
+    private final HttpClient httpClient;
+    private final URI sendMessageUri;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public TelegramNotificationAdapter(String apiUrl, String botToken, ObjectMapper objectMapper, Duration timeout) {
+        if (botToken == null || botToken.isBlank()) {
+            throw new IllegalArgumentException("Telegram bot token must be set");
+        }
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.sendMessageUri = URI.create(apiUrl.replaceAll("/+$", "") + "/bot" + botToken + "/sendMessage");
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void send(String chatId, String text) {
+        HttpRequest request = HttpRequest.newBuilder(sendMessageUri)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody(chatId, text), StandardCharsets.UTF_8))
+                .build();
+
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new NotificationException("Failed to reach Telegram: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException("Interrupted while sending to Telegram", false, 0);
+        }
+
+        int status = response.statusCode();
+        if (status == 200) {
+            return;
+        }
+        JsonNode error = readError(response.body());
+        String description = error.path("description").asText("HTTP " + status);
+        if (status == 429) {
+            long retryAfterSeconds = error.path("parameters").path("retry_after").asLong(1);
+            throw new NotificationException("Telegram rate limit: " + description, true,
+                    TimeUnit.SECONDS.toMillis(retryAfterSeconds));
+        }
+        throw new NotificationException("Telegram rejected message to chat " + chatId + ": " + description,
+                status >= 500, 0);
+    }
+
+    private String requestBody(String chatId, String text) {
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "chat_id", chatId,
+                    "text", text,
+                    "disable_web_page_preview", true));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode Telegram message", e);
+        }
+    }
+
+    private JsonNode readError(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            return objectMapper.createObjectNode();
+        }
+    }
+}
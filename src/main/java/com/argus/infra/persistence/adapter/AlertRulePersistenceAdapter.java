@@ -0,0 +1,80 @@
+package com.argus.infra.persistence.adapter;
+
+import com.argus.domain.model.AlertRule;
+import com.argus.domain.port.persistence.AlertRulePersistencePort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@Transactional(readOnly = true)
+public class AlertRulePersistenceAdapter implements AlertRulePersistencePort {
+
+    private static final TypeReference<Map<String, Object>> CONDITIONS_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public AlertRulePersistenceAdapter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Rules whose conditions are not a JSON object are logged and left out.
+     */
+    @Override
+    public List<AlertRule> findEnabled() {
+        return jdbcTemplate.query("SELECT id, user_id, name, conditions::text AS conditions, enabled, created_at, "
+                                + "updated_at FROM alert_rules WHERE enabled",
+                        (resultSet, rowNum) -> {
+                            UUID id = resultSet.getObject("id", UUID.class);
+                            Map<String, Object> conditions = readConditions(id, resultSet.getString("conditions"));
+                            if (conditions == null) {
+                                return null;
+                            }
+                            return AlertRule.builder()
+                                    .id(id)
+                                    .userId(resultSet.getObject("user_id", UUID.class))
+                                    .name(resultSet.getString("name"))
+                                    .conditions(conditions)
+                                    .enabled(resultSet.getBoolean("enabled"))
+                                    .createdAt(resultSet.getObject("created_at", LocalDateTime.class))
+                                    .updatedAt(resultSet.getObject("updated_at", LocalDateTime.class))
+                                    .build();
+                        })
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * A counter every statement writing {@code alert_rules} bumps in its own transaction (see V16), so it
+     * moves exactly when the rules seen by {@link #findEnabled()} do.
+     */
+    @Override
+    public String findVersion() {
+        return jdbcTemplate.queryForObject("SELECT version::text FROM alert_rules_version", String.class);
+    }
+
+    private Map<String, Object> readConditions(UUID ruleId, String json) {
+        try {
+            return objectMapper.readValue(json, CONDITIONS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("Alert rule {} has conditions that are not a JSON object: {}", ruleId, e.getOriginalMessage());
+            return null;
+        }
+    }
+}
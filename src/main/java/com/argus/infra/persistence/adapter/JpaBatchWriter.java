@@ -0,0 +1,52 @@
+package com.argus.infra.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Persists many new entities in JDBC batches. Hibernate groups the INSERTs of one flush into batches of
+ * {@code hibernate.jdbc.batch_size} (only for sequence ids; IDENTITY needs one round-trip per row to learn
+ * the id). Flushing and clearing at that size keeps the persistence context from growing with the input.
+ * <p>
+ * Must run inside a transaction.
+ */
+@Component
+public class JpaBatchWriter {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public JpaBatchWriter(
+            EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserts the entities, which must not have ids yet. Ids are assigned on return.
+     */
+    public <E> List<E> persistAll(List<E> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                flush();
+            }
+        }
+        if (entities.size() % batchSize != 0) {
+            flush();
+        }
+        return entities;
+    }
+
+    private void flush() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package com.argus.infra.persistence.adapter;
+
+import com.argus.domain.model.PricePoint;
+import com.argus.domain.port.persistence.PricePersistencePort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Stores minute prices with one batched upsert. Minutes are stored in UTC, like transaction timestamps.
+ */
+@Component
+@Transactional(readOnly = true)
+public class PricePersistenceAdapter implements PricePersistencePort {
+
+    private static final String UPSERT = "INSERT INTO token_prices (token_address, minute, usd_price) "
+            + "VALUES (?, ?, ?) "
+            + "ON CONFLICT (token_address, minute) DO UPDATE SET usd_price = EXCLUDED.usd_price";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PricePersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<PricePoint> prices) {
+        if (prices == null) {
+            throw new IllegalArgumentException("Prices cannot be null");
+        }
+        if (prices.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = prices.stream()
+                .map(price -> new Object[] {
+                        price.getTokenAddress().toLowerCase(),
+                        toTimestamp(price.getTimestampMillis()),
+                        price.getUsdPrice()})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+
+    @Override
+    public List<PricePoint> findSince(long timestampMillis) {
+        return jdbcTemplate.query("SELECT token_address, minute, usd_price FROM token_prices "
+                        + "WHERE minute >= ? ORDER BY minute",
+                (resultSet, rowNum) -> new PricePoint(
+                        resultSet.getString("token_address"),
+                        resultSet.getObject("minute", LocalDateTime.class).toInstant(ZoneOffset.UTC).toEpochMilli(),
+                        resultSet.getDouble("usd_price")),
+                toTimestamp(timestampMillis));
+    }
+
+    private static Timestamp toTimestamp(long timestampMillis) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneOffset.UTC));
+    }
+}
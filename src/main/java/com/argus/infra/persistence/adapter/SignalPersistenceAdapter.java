@@ -2,19 +2,35 @@ package com.argus.infra.persistence.adapter;
 
 import com.argus.domain.port.persistence.SignalPersistencePort;
 import com.argus.infra.persistence.entity.SignalEntity;
+import com.argus.infra.persistence.export.StreamingQueryExecutor;
 import com.argus.infra.persistence.repository.SignalRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import com.argus.domain.model.ExportFilter;
 import com.argus.domain.model.Signal;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SignalPersistenceAdapter implements SignalPersistencePort {
 
+    private static final String EXPORT_COLUMNS = "id, type, wallet_id, token_address, token_symbol, chain, "
+            + "usd_value, confidence_score, ai_narrative, metadata, created_at";
+
     private final SignalRepository signalRepository;
+    private final JpaBatchWriter batchWriter;
+    private final StreamingQueryExecutor streamingQueryExecutor;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -25,6 +41,51 @@ public class SignalPersistenceAdapter implements SignalPersistencePort {
         return toDomain(saved);
     }
 
+    @Override
+    @Transactional
+    public List<Signal> saveAll(List<Signal> signals) {
+        if (signals == null) {
+            throw new IllegalArgumentException("Signals cannot be null");
+        }
+        signals.forEach(this::validateSignal);
+
+        List<SignalEntity> entities = signals.stream().map(this::toEntity).toList();
+        return batchWriter.persistAll(entities).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    @Transactional
+    public void updateNarratives(Map<Long, String> narratives) {
+        if (narratives == null) {
+            throw new IllegalArgumentException("Narratives cannot be null");
+        }
+        if (narratives.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(narratives.size());
+        narratives.forEach((id, narrative) -> rows.add(new Object[]{narrative, id}));
+        jdbcTemplate.batchUpdate("UPDATE signals SET ai_narrative = ? WHERE id = ?", rows);
+    }
+
+    @Override
+    public void export(ExportFilter filter, Consumer<Signal> sink) {
+        streamingQueryExecutor.stream("signals", EXPORT_COLUMNS, "created_at", filter,
+                (resultSet, rowNum) -> Signal.builder()
+                        .id(resultSet.getLong("id"))
+                        .type(resultSet.getString("type"))
+                        .walletId(resultSet.getObject("wallet_id", UUID.class))
+                        .tokenAddress(resultSet.getString("token_address"))
+                        .tokenSymbol(resultSet.getString("token_symbol"))
+                        .chain(resultSet.getString("chain"))
+                        .usdValue(resultSet.getBigDecimal("usd_value"))
+                        .confidenceScore(resultSet.getBigDecimal("confidence_score"))
+                        .aiNarrative(resultSet.getString("ai_narrative"))
+                        .metadata(resultSet.getString("metadata"))
+                        .createdAt(resultSet.getObject("created_at", LocalDateTime.class))
+                        .build(),
+                sink);
+    }
+
     private void validateSignal(Signal signal) {
         if (signal == null) {
             throw new IllegalArgumentException("Signal cannot be null");
@@ -1,5 +1,6 @@
 package com.argus.infra.persistence.adapter;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,12 +11,25 @@ import com.argus.infra.persistence.repository.TokenRepository;
 
 import lombok.RequiredArgsConstructor;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TokenPersistenceAdapter implements TokenPersistencePort {
 
+    private static final String INSERT_IF_ABSENT = "INSERT INTO tokens "
+            + "(address, chain, symbol, name, decimals, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (address) DO NOTHING";
+    private static final int MAX_SYMBOL_LENGTH = 20;
+    private static final int MAX_NAME_LENGTH = 100;
+
     private final TokenRepository tokenRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -26,15 +40,68 @@ public class TokenPersistenceAdapter implements TokenPersistencePort {
         return toDomain(saved);
     }
 
+    @Override
+    @Transactional
+    public void saveAllIfAbsent(List<Token> tokens) {
+        if (tokens == null) {
+            throw new IllegalArgumentException("Tokens cannot be null");
+        }
+        if (tokens.isEmpty()) {
+            return;
+        }
+        tokens.forEach(this::validateToken);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = tokens.stream()
+                .map(token -> new Object[] {
+                        token.getAddress().toLowerCase(),
+                        token.getChain() != null ? token.getChain() : "ethereum",
+                        // Anyone can deploy a token with an arbitrarily long symbol or name
+                        truncate(token.getSymbol(), MAX_SYMBOL_LENGTH),
+                        truncate(token.getName(), MAX_NAME_LENGTH),
+                        token.getDecimals(),
+                        now,
+                        now})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, rows);
+    }
+
+    @Override
+    public Optional<Token> findByAddress(String address) {
+        if (address == null || address.isBlank()) {
+            throw new IllegalArgumentException("Address cannot be null or empty");
+        }
+        return tokenRepository.findById(address.toLowerCase()).map(this::toDomain);
+    }
+
+    @Override
+    public List<Token> findByAddresses(Collection<String> addresses) {
+        if (addresses == null) {
+            throw new IllegalArgumentException("Addresses cannot be null");
+        }
+        if (addresses.isEmpty()) {
+            return List.of();
+        }
+        List<String> lowercase = addresses.stream().map(String::toLowerCase).distinct().toList();
+        return tokenRepository.findAllById(lowercase).stream().map(this::toDomain).toList();
+    }
+
     private void validateToken(Token token) {
         if (token == null) {
             throw new IllegalArgumentException("Token cannot be null");
         }
+        if (token.getAddress() == null || token.getAddress().isBlank()) {
+            throw new IllegalArgumentException("Token address cannot be null or empty");
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
     }
 
     private Token toDomain(TokenEntity tokenEntity) {
         return Token.builder()
-                .id(tokenEntity.getId())
+                .address(tokenEntity.getAddress())
                 .chain(tokenEntity.getChain())
                 .symbol(tokenEntity.getSymbol())
                 .name(tokenEntity.getName())
@@ -49,16 +116,16 @@ public class TokenPersistenceAdapter implements TokenPersistencePort {
 
     private TokenEntity toEntity(Token token) {
         return TokenEntity.builder()
-                .id(token.getId())
+                .address(token.getAddress().toLowerCase())
                 .chain(token.getChain())
-                .symbol(token.getSymbol())
-                .name(token.getName())
+                .symbol(truncate(token.getSymbol(), MAX_SYMBOL_LENGTH))
+                .name(truncate(token.getName(), MAX_NAME_LENGTH))
                 .decimals(token.getDecimals())
                 .marketCap(token.getMarketCap())
                 .liquidity(token.getLiquidity())
                 .riskScore(token.getRiskScore())
-                .createdAt(token.getId() != null ? token.getCreatedAt() : null)
-                .updatedAt(token.getId() != null ? token.getUpdatedAt() : null)
+                .createdAt(token.getCreatedAt())
+                .updatedAt(token.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,11 @@
 package com.argus.infra.persistence.adapter;
 
+import com.argus.domain.model.ExportFilter;
 import com.argus.domain.model.Transaction;
 import com.argus.domain.port.persistence.TransactionPersistencePort;
+import com.argus.infra.persistence.copy.TransactionCopyLoader;
 import com.argus.infra.persistence.entity.TransactionEntity;
+import com.argus.infra.persistence.export.StreamingQueryExecutor;
 import com.argus.infra.persistence.repository.TransactionRepository;
 
 import org.springframework.transaction.annotation.Transactional;
@@ -10,11 +13,24 @@ import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TransactionPersistenceAdapter implements TransactionPersistencePort {
+
+    private static final String EXPORT_COLUMNS = "id, wallet_id, tx_hash, chain, type, from_address, to_address, "
+            + "value_eth, input, token_in, token_out, amount_in, amount_out, usd_value, block_number, gas_limit, "
+            + "gas_used, gas_price, effective_gas_price, success, tx_timestamp, created_at";
+
     private final TransactionRepository transactionRepository;
+    private final JpaBatchWriter batchWriter;
+    private final TransactionCopyLoader copyLoader;
+    private final StreamingQueryExecutor streamingQueryExecutor;
 
     @Override
     @Transactional
@@ -25,6 +41,67 @@ public class TransactionPersistenceAdapter implements TransactionPersistencePort
         return toDomain(saved);
     }
 
+    @Override
+    @Transactional
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        if (transactions == null) {
+            throw new IllegalArgumentException("Transactions cannot be null");
+        }
+        transactions.forEach(this::validateTransaction);
+
+        List<TransactionEntity> entities = transactions.stream().map(this::toEntity).toList();
+        return batchWriter.persistAll(entities).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    @Transactional
+    public long bulkLoad(Iterable<Transaction> transactions) {
+        if (transactions == null) {
+            throw new IllegalArgumentException("Transactions cannot be null");
+        }
+        return copyLoader.load(transactions);
+    }
+
+    @Override
+    public List<Transaction> findByWallet(UUID walletId, LocalDateTime from, LocalDateTime to) {
+        if (walletId == null || from == null || to == null) {
+            throw new IllegalArgumentException("Wallet id and time range are required");
+        }
+        return transactionRepository.findByWalletInRange(walletId, from, to).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void export(ExportFilter filter, Consumer<Transaction> sink) {
+        streamingQueryExecutor.stream("transactions", EXPORT_COLUMNS, "tx_timestamp", filter,
+                (resultSet, rowNum) -> Transaction.builder()
+                        .id(resultSet.getLong("id"))
+                        .walletId(resultSet.getObject("wallet_id", UUID.class))
+                        .txHash(resultSet.getString("tx_hash"))
+                        .chain(resultSet.getString("chain"))
+                        .type(resultSet.getString("type"))
+                        .from(resultSet.getString("from_address"))
+                        .to(resultSet.getString("to_address"))
+                        .value(resultSet.getBigDecimal("value_eth"))
+                        .input(resultSet.getString("input"))
+                        .tokenIn(resultSet.getString("token_in"))
+                        .tokenOut(resultSet.getString("token_out"))
+                        .amountIn(resultSet.getBigDecimal("amount_in"))
+                        .amountOut(resultSet.getBigDecimal("amount_out"))
+                        .usdValue(resultSet.getBigDecimal("usd_value"))
+                        .blockNumber(resultSet.getObject("block_number", Long.class))
+                        .gasLimit(resultSet.getObject("gas_limit", Long.class))
+                        .gasUsed(resultSet.getObject("gas_used", Long.class))
+                        .gasPrice(resultSet.getBigDecimal("gas_price"))
+                        .effectiveGasPrice(resultSet.getBigDecimal("effective_gas_price"))
+                        .success(resultSet.getObject("success", Boolean.class))
+                        .txTimestamp(resultSet.getObject("tx_timestamp", LocalDateTime.class))
+                        .createdAt(resultSet.getObject("created_at", LocalDateTime.class))
+                        .build(),
+                sink);
+    }
+
     private void validateTransaction(Transaction transaction) {
         if (transaction == null) {
             throw new IllegalArgumentException("Transaction cannot be null");
@@ -48,8 +125,11 @@ public class TransactionPersistenceAdapter implements TransactionPersistencePort
                 .amountOut(entity.getAmountOut())
                 .usdValue(entity.getUsdValue())
                 .blockNumber(entity.getBlockNumber())
+                .gasLimit(entity.getGasLimit())
                 .gasUsed(entity.getGasUsed())
                 .gasPrice(entity.getGasPrice())
+                .effectiveGasPrice(entity.getEffectiveGasPrice())
+                .success(entity.getSuccess())
                 .txTimestamp(entity.getTxTimestamp())
                 .createdAt(entity.getCreatedAt())
                 .build();
@@ -72,8 +152,11 @@ public class TransactionPersistenceAdapter implements TransactionPersistencePort
                 .amountOut(transaction.getAmountOut())
                 .usdValue(transaction.getUsdValue())
                 .blockNumber(transaction.getBlockNumber())
+                .gasLimit(transaction.getGasLimit())
                 .gasUsed(transaction.getGasUsed())
                 .gasPrice(transaction.getGasPrice())
+                .effectiveGasPrice(transaction.getEffectiveGasPrice())
+                .success(transaction.getSuccess())
                 .txTimestamp(transaction.getTxTimestamp())
                 .createdAt(transaction.getCreatedAt())
                 .build();
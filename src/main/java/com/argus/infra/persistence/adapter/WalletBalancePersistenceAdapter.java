@@ -0,0 +1,25 @@
+package com.argus.infra.persistence.adapter;
+
+import com.argus.domain.model.WalletBalanceSnapshot;
+import com.argus.domain.port.persistence.WalletBalancePersistencePort;
+import com.argus.infra.persistence.copy.WalletBalanceCopyLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WalletBalancePersistenceAdapter implements WalletBalancePersistencePort {
+
+    private final WalletBalanceCopyLoader copyLoader;
+
+    @Override
+    @Transactional
+    public long saveAll(Iterable<WalletBalanceSnapshot> snapshots) {
+        if (snapshots == null) {
+            throw new IllegalArgumentException("Snapshots cannot be null");
+        }
+        return copyLoader.load(snapshots);
+    }
+}
@@ -1,15 +1,24 @@
 package com.argus.infra.persistence.adapter;
 
 import com.argus.domain.model.Wallet;
+import com.argus.domain.model.WalletCursor;
+import com.argus.domain.port.persistence.WalletLeaderboardPort;
 import com.argus.domain.port.persistence.WalletPersistencePort;
 import com.argus.infra.persistence.entity.WalletEntity;
+import com.argus.infra.persistence.projection.WalletRow;
 import com.argus.infra.persistence.repository.WalletRepository;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -20,14 +29,28 @@ import java.util.stream.Collectors;
 public class WalletPersistenceAdapter implements WalletPersistencePort {
 
     private final WalletRepository repository;
+    private final ObjectProvider<WalletLeaderboardPort> leaderboard;
 
+    /**
+     * Wallets whose PnL, win rate, chain or type changed are re-ranked once the transaction commits.
+     */
     @Override
     @Transactional
     public Wallet save(Wallet wallet) {
         validateWallet(wallet);
+        // Loaded into the persistence context, so the save below merges into it without another query
+        Wallet previous = wallet.getId() != null
+                ? repository.findById(wallet.getId()).map(this::toDomain).orElse(null)
+                : null;
+
         WalletEntity entity = toEntity(wallet);
         WalletEntity saved = repository.save(entity);
-        return toDomain(saved);
+        Wallet savedWallet = toDomain(saved);
+
+        if (previous == null || rankingChanged(previous, savedWallet)) {
+            leaderboard.ifAvailable(board -> afterCommit(() -> board.updateAll(List.of(savedWallet))));
+        }
+        return savedWallet;
     }
 
     @Override
@@ -79,6 +102,43 @@ public class WalletPersistenceAdapter implements WalletPersistencePort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Wallet> findPage(Wallet.WalletType type, WalletCursor after, int limit) {
+        if (after != null && after.getCreatedAt() == null) {
+            throw new IllegalArgumentException("Wallet listings need a cursor ordered by creation time");
+        }
+        Limit pageLimit = Limit.of(limit);
+        List<WalletRow> rows;
+
+        if (type == null) {
+            rows = after == null
+                    ? repository.findFirstPage(pageLimit)
+                    : repository.findPageAfter(after.getCreatedAt(), after.getId(), pageLimit);
+        } else {
+            WalletEntity.WalletType entityType = mapToEntityType(type);
+            rows = after == null
+                    ? repository.findFirstPageByType(entityType, pageLimit)
+                    : repository.findPageByTypeAfter(entityType, after.getCreatedAt(), after.getId(), pageLimit);
+        }
+
+        return rows.stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<Wallet> findTopPerformersPage(double minWinRate, WalletCursor after, int limit) {
+        if (after != null && after.getTotalPnl() == null) {
+            throw new IllegalArgumentException("Top performers need a cursor ordered by total PnL");
+        }
+        BigDecimal minWinRateValue = BigDecimal.valueOf(minWinRate);
+        Limit pageLimit = Limit.of(limit);
+
+        List<WalletRow> rows = after == null
+                ? repository.findFirstTopPerformersPage(minWinRateValue, pageLimit)
+                : repository.findTopPerformersPageAfter(minWinRateValue, after.getTotalPnl(), after.getId(), pageLimit);
+
+        return rows.stream().map(this::toDomain).toList();
+    }
+
     @Override
     public boolean existsByAddress(String address) {
         return repository.existsByAddress(address);
@@ -87,12 +147,43 @@ public class WalletPersistenceAdapter implements WalletPersistencePort {
     @Override
     public void delete(UUID id) {
         repository.deleteById(id);
+        leaderboard.ifAvailable(board -> afterCommit(() -> board.remove(id)));
     }
 
     @Override
     public void deleteByAddress(String address) {
         repository.findByAddress(address)
-                .ifPresent(repository::delete);
+                .ifPresent(entity -> {
+                    repository.delete(entity);
+                    leaderboard.ifAvailable(board -> afterCommit(() -> board.remove(entity.getId())));
+                });
+    }
+
+    private static boolean rankingChanged(Wallet previous, Wallet current) {
+        return !sameValue(previous.getTotalPnl(), current.getTotalPnl())
+                || !sameValue(previous.getWinRate(), current.getWinRate())
+                || !Objects.equals(previous.getChain(), current.getChain())
+                || previous.getType() != current.getType();
+    }
+
+    private static boolean sameValue(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    /**
+     * Runs the action after the surrounding transaction commits, or right away outside of one.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     private void validateWallet(Wallet wallet) {
@@ -121,6 +212,22 @@ public class WalletPersistenceAdapter implements WalletPersistencePort {
                 .build();
     }
 
+    private Wallet toDomain(WalletRow row) {
+        return Wallet.builder()
+                .id(row.id())
+                .address(row.address())
+                .chain(row.chain())
+                .label(row.label())
+                .type(mapToDomainType(row.type()))
+                .totalPnl(row.totalPnl())
+                .winRate(row.winRate())
+                .firstSeenAt(row.firstSeenAt())
+                .lastActivityAt(row.lastActivityAt())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
     private WalletEntity toEntity(Wallet domain) {
         if (domain == null) {
             return null;
@@ -0,0 +1,96 @@
+package com.argus.infra.persistence.adapter;
+
+import com.argus.domain.model.WalletPnlSnapshot;
+import com.argus.domain.port.persistence.WalletPnlPersistencePort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stores PnL snapshots with one batched upsert; the open lots go into a JSONB column.
+ */
+@Component
+@Transactional(readOnly = true)
+public class WalletPnlPersistenceAdapter implements WalletPnlPersistencePort {
+
+    private static final String UPSERT = "INSERT INTO wallet_pnl_snapshots "
+            + "(wallet_id, realized_pnl, wins, closed_trades, last_block_number, lots, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?::jsonb, ?) "
+            + "ON CONFLICT (wallet_id) DO UPDATE SET realized_pnl = EXCLUDED.realized_pnl, wins = EXCLUDED.wins, "
+            + "closed_trades = EXCLUDED.closed_trades, last_block_number = EXCLUDED.last_block_number, "
+            + "lots = EXCLUDED.lots, updated_at = EXCLUDED.updated_at";
+
+    private static final TypeReference<Map<String, List<WalletPnlSnapshot.Lot>>> LOTS_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public WalletPnlPersistenceAdapter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<WalletPnlSnapshot> snapshots) {
+        if (snapshots == null) {
+            throw new IllegalArgumentException("Snapshots cannot be null");
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = snapshots.stream()
+                .map(snapshot -> new Object[] {
+                        snapshot.getWalletId(),
+                        snapshot.getRealizedPnl(),
+                        snapshot.getWins(),
+                        snapshot.getClosedTrades(),
+                        snapshot.getLastBlockNumber(),
+                        writeLots(snapshot.getLots()),
+                        Timestamp.valueOf(snapshot.getUpdatedAt() != null ? snapshot.getUpdatedAt() : LocalDateTime.now())})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+
+    @Override
+    public List<WalletPnlSnapshot> findAll() {
+        return jdbcTemplate.query("SELECT wallet_id, realized_pnl, wins, closed_trades, last_block_number, "
+                        + "lots::text AS lots, updated_at FROM wallet_pnl_snapshots",
+                (resultSet, rowNum) -> WalletPnlSnapshot.builder()
+                        .walletId(resultSet.getObject("wallet_id", UUID.class))
+                        .realizedPnl(resultSet.getBigDecimal("realized_pnl"))
+                        .wins(resultSet.getInt("wins"))
+                        .closedTrades(resultSet.getInt("closed_trades"))
+                        .lastBlockNumber(resultSet.getLong("last_block_number"))
+                        .lots(readLots(resultSet.getString("lots")))
+                        .updatedAt(resultSet.getObject("updated_at", LocalDateTime.class))
+                        .build());
+    }
+
+    private String writeLots(Map<String, List<WalletPnlSnapshot.Lot>> lots) {
+        try {
+            return objectMapper.writeValueAsString(lots != null ? lots : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize PnL lots", e);
+        }
+    }
+
+    private Map<String, List<WalletPnlSnapshot.Lot>> readLots(String json) {
+        try {
+            return objectMapper.readValue(json, LOTS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read PnL lots", e);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.argus.infra.persistence.cache;
+
+import com.argus.domain.model.Wallet;
+import com.argus.domain.model.WalletCursor;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache in front of another {@link WalletPersistencePort}. Single-wallet lookups are served
+ * from a small in-process near-cache, then Redis, then the delegate. Misses are cached too, so repeated
+ * "does this address exist" checks stay off the database.
+ * <p>
+ * Writes go straight to the delegate and then invalidate the affected keys in Redis. The keys are also
+ * published on {@link #INVALIDATION_CHANNEL} so every node drops them from its near-cache. A read racing
+ * a write can still put a stale value back; the TTLs bound how long it survives.
+ */
+@Slf4j
+public class CachingWalletPersistenceAdapter implements WalletPersistencePort {
+
+    public static final String INVALIDATION_CHANNEL = "argus:wallet-cache:invalidate";
+
+    private static final String KEY_PREFIX = "argus:wallet:";
+    // JSON for "no such wallet", cached like any other value
+    private static final String MISSING = "null";
+
+    private final WalletPersistencePort delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration redisTtl;
+    private final long nearTtlNanos;
+    private final int nearMaxEntries;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, NearEntry> nearCache = new ConcurrentHashMap<>();
+
+    private final LongAdder nearHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder redisErrors = new LongAdder();
+
+    public CachingWalletPersistenceAdapter(
+            WalletPersistencePort delegate,
+            StringRedisTemplate redisTemplate,
+            Duration redisTtl,
+            Duration nearTtl,
+            int nearMaxEntries) {
+        if (nearMaxEntries < 1) {
+            throw new IllegalArgumentException("Near-cache size must be positive");
+        }
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.nearTtlNanos = nearTtl.toNanos();
+        this.nearMaxEntries = nearMaxEntries;
+        // Wallet has no setters and exposes derived is-getters, so map fields only
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .setVisibility(PropertyAccessor.CREATOR, JsonAutoDetect.Visibility.ANY);
+    }
+
+    @Override
+    public Wallet save(Wallet wallet) {
+        Wallet saved = delegate.save(wallet);
+        List<String> keys = new ArrayList<>(keysFor(saved));
+        if (wallet.getAddress() != null && !wallet.getAddress().equals(saved.getAddress())) {
+            keys.add(addressKey(wallet.getAddress()));
+        }
+        invalidate(keys);
+        return saved;
+    }
+
+    @Override
+    public Optional<Wallet> findById(UUID id) {
+        return read(idKey(id), () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<Wallet> findByAddress(String address) {
+        return read(addressKey(address), () -> delegate.findByAddress(address));
+    }
+
+    @Override
+    public List<Wallet> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Wallet> findByChain(String chain) {
+        return delegate.findByChain(chain);
+    }
+
+    @Override
+    public List<Wallet> findByType(Wallet.WalletType type) {
+        return delegate.findByType(type);
+    }
+
+    @Override
+    public List<Wallet> findByChainAndType(String chain, Wallet.WalletType type) {
+        return delegate.findByChainAndType(chain, type);
+    }
+
+    @Override
+    public List<Wallet> findTopPerformers(double minWinRate) {
+        return delegate.findTopPerformers(minWinRate);
+    }
+
+    @Override
+    public List<Wallet> findPage(Wallet.WalletType type, WalletCursor after, int limit) {
+        return delegate.findPage(type, after, limit);
+    }
+
+    @Override
+    public List<Wallet> findTopPerformersPage(double minWinRate, WalletCursor after, int limit) {
+        return delegate.findTopPerformersPage(minWinRate, after, limit);
+    }
+
+    @Override
+    public boolean existsByAddress(String address) {
+        return findByAddress(address).isPresent();
+    }
+
+    @Override
+    public void delete(UUID id) {
+        Optional<Wallet> existing = findById(id);
+        delegate.delete(id);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(idKey(id));
+        existing.ifPresent(wallet -> keys.addAll(keysFor(wallet)));
+        invalidate(keys);
+    }
+
+    @Override
+    public void deleteByAddress(String address) {
+        Optional<Wallet> existing = findByAddress(address);
+        delegate.deleteByAddress(address);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(addressKey(address));
+        existing.ifPresent(wallet -> keys.addAll(keysFor(wallet)));
+        invalidate(keys);
+    }
+
+    /**
+     * Handles a message from {@link #INVALIDATION_CHANNEL}: one cache key per line.
+     */
+    public void onInvalidation(String message) {
+        for (String key : message.split("\n")) {
+            if (!key.isEmpty()) {
+                nearCache.remove(key);
+            }
+        }
+    }
+
+    public CacheStats getStats() {
+        long near = nearHits.sum();
+        long redis = redisHits.sum();
+        long miss = misses.sum();
+        long lookups = near + redis + miss;
+
+        return CacheStats.builder()
+                .nearHits(near)
+                .redisHits(redis)
+                .misses(miss)
+                .hitRatio(lookups == 0 ? 0 : (double) (near + redis) / lookups)
+                .invalidations(invalidations.sum())
+                .redisErrors(redisErrors.sum())
+                .nearSize(nearCache.size())
+                .nearMaxEntries(nearMaxEntries)
+                .build();
+    }
+
+    private Optional<Wallet> read(String key, Supplier<Optional<Wallet>> loader) {
+        String json = nearGet(key);
+        Optional<Wallet> cached = json != null ? decode(key, json) : null;
+        if (cached != null) {
+            nearHits.increment();
+            return cached;
+        }
+
+        json = redisGet(key);
+        cached = json != null ? decode(key, json) : null;
+        if (cached != null) {
+            redisHits.increment();
+            nearPut(key, json);
+            return cached;
+        }
+
+        misses.increment();
+        Optional<Wallet> wallet = loader.get();
+        json = encode(wallet);
+        if (json == null) {
+            return wallet;
+        }
+
+        // A wallet found by id is also cached under its address and vice versa
+        List<String> keys = wallet.map(this::keysFor).orElse(List.of(key));
+        for (String cacheKey : keys) {
+            redisSet(cacheKey, json);
+            nearPut(cacheKey, json);
+        }
+        return wallet;
+    }
+
+    private void invalidate(List<String> keys) {
+        invalidations.increment();
+        keys.forEach(nearCache::remove);
+        try {
+            redisTemplate.delete(keys);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join("\n", keys));
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Failed to invalidate wallet cache keys {}: {}", keys, e.getMessage());
+        }
+    }
+
+    private String nearGet(String key) {
+        NearEntry entry = nearCache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos > 0) {
+            nearCache.remove(key, entry);
+            return null;
+        }
+        return entry.json;
+    }
+
+    private void nearPut(String key, String json) {
+        if (nearCache.size() >= nearMaxEntries) {
+            evictNear();
+        }
+        nearCache.put(key, new NearEntry(json, System.nanoTime() + nearTtlNanos));
+    }
+
+    /**
+     * Drops expired entries, then arbitrary ones until a tenth of the capacity is free. Near-cache
+     * entries live for seconds, so approximate eviction is good enough and needs no ordering structure.
+     */
+    private void evictNear() {
+        long now = System.nanoTime();
+        nearCache.values().removeIf(entry -> now - entry.expiresAtNanos > 0);
+
+        int target = nearMaxEntries - Math.max(1, nearMaxEntries / 10);
+        Iterator<String> keys = nearCache.keySet().iterator();
+        while (nearCache.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private String redisGet(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Redis read failed for {}, falling back to database: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void redisSet(String key, String json) {
+        try {
+            redisTemplate.opsForValue().set(key, json, redisTtl);
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Redis write failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private String encode(Optional<Wallet> wallet) {
+        if (wallet.isEmpty()) {
+            return MISSING;
+        }
+        try {
+            return objectMapper.writeValueAsString(wallet.get());
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize wallet {} for cache: {}", wallet.get().getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns null for an unreadable entry (e.g. written by an older version), which is then treated as
+     * a miss and overwritten.
+     */
+    private Optional<Wallet> decode(String key, String json) {
+        try {
+            return Optional.ofNullable(objectMapper.readValue(json, Wallet.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable wallet cache entry {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<String> keysFor(Wallet wallet) {
+        List<String> keys = new ArrayList<>(2);
+        if (wallet.getId() != null) {
+            keys.add(idKey(wallet.getId()));
+        }
+        if (wallet.getAddress() != null) {
+            keys.add(addressKey(wallet.getAddress()));
+        }
+        return keys;
+    }
+
+    private static String idKey(UUID id) {
+        return KEY_PREFIX + "id:" + id;
+    }
+
+    private static String addressKey(String address) {
+        return KEY_PREFIX + "address:" + address;
+    }
+
+    private record NearEntry(String json, long expiresAtNanos) {
+    }
+
+    @Getter
+    @Builder
+    public static class CacheStats {
+        private final long nearHits;
+        private final long redisHits;
+        private final long misses;
+        private final double hitRatio;
+        private final long invalidations;
+        private final long redisErrors;
+        private final int nearSize;
+        private final int nearMaxEntries;
+    }
+}
@@ -0,0 +1,117 @@
+package com.argus.infra.persistence.copy;
+
+import com.argus.domain.model.Transaction;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+/**
+ * Loads transactions with {@code COPY ... FROM STDIN (FORMAT BINARY)} into a temporary staging table,
+ * then merges them into {@code transactions} with {@code ON CONFLICT DO NOTHING} on
+ * (tx_hash, wallet_id, tx_timestamp). Rows that are already there are skipped, so a backfill can simply be
+ * rerun after a failure. Every row needs a wallet id: the unique index treats nulls as distinct, so rows
+ * without one would be inserted again on every rerun.
+ * <p>
+ * Uses the connection of the surrounding Spring transaction; the staging table is dropped on commit.
+ */
+@Slf4j
+@Component
+public class TransactionCopyLoader {
+
+    private static final String COLUMNS = "wallet_id, tx_hash, chain, type, from_address, to_address, value_eth, "
+            + "input, token_in, token_out, amount_in, amount_out, usd_value, block_number, gas_limit, gas_used, "
+            + "gas_price, effective_gas_price, success, tx_timestamp, created_at";
+    private static final int COLUMN_COUNT = 21;
+
+    private final DataSource dataSource;
+
+    public TransactionCopyLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @return number of rows inserted; rows skipped as duplicates are not counted
+     */
+    public long load(Iterable<Transaction> transactions) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            long startNanos = System.nanoTime();
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE transactions_staging ON COMMIT DROP AS "
+                        + "SELECT " + COLUMNS + " FROM transactions WITH NO DATA");
+            }
+
+            long copied = copy(connection.unwrap(PGConnection.class), transactions);
+
+            long inserted;
+            try (Statement statement = connection.createStatement()) {
+                inserted = statement.executeUpdate("INSERT INTO transactions (" + COLUMNS + ") "
+                        + "SELECT " + COLUMNS + " FROM transactions_staging "
+                        + "ON CONFLICT (tx_hash, wallet_id, tx_timestamp) DO NOTHING");
+                statement.execute("DROP TABLE transactions_staging");
+            }
+
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            log.info("Bulk loaded {} transactions ({} already present) in {}s, {} rows/s",
+                    inserted, copied - inserted, String.format("%.1f", elapsedSeconds),
+                    String.format("%.0f", elapsedSeconds > 0 ? copied / elapsedSeconds : 0));
+
+            return inserted;
+        } catch (SQLException | IOException e) {
+            throw new DataAccessResourceFailureException("Bulk load of transactions failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private long copy(PGConnection connection, Iterable<Transaction> transactions) throws SQLException, IOException {
+        long rows = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        try (PgBinaryRowWriter writer = new PgBinaryRowWriter(new PGCopyOutputStream(
+                connection, "COPY transactions_staging (" + COLUMNS + ") FROM STDIN (FORMAT BINARY)"))) {
+            for (Transaction transaction : transactions) {
+                if (transaction.getTxHash() == null || transaction.getTxTimestamp() == null
+                        || transaction.getWalletId() == null) {
+                    throw new IllegalArgumentException(
+                            "Transaction hash, wallet id and timestamp are required for bulk load");
+                }
+                writer.startRow(COLUMN_COUNT);
+                writer.writeUuid(transaction.getWalletId());
+                writer.writeText(transaction.getTxHash());
+                writer.writeText(transaction.getChain());
+                writer.writeText(transaction.getType());
+                writer.writeText(transaction.getFrom());
+                writer.writeText(transaction.getTo());
+                writer.writeNumeric(transaction.getValue());
+                writer.writeText(transaction.getInput());
+                writer.writeText(transaction.getTokenIn());
+                writer.writeText(transaction.getTokenOut());
+                writer.writeNumeric(transaction.getAmountIn());
+                writer.writeNumeric(transaction.getAmountOut());
+                writer.writeNumeric(transaction.getUsdValue());
+                writer.writeLong(transaction.getBlockNumber());
+                writer.writeLong(transaction.getGasLimit());
+                writer.writeLong(transaction.getGasUsed());
+                writer.writeNumeric(transaction.getGasPrice());
+                writer.writeNumeric(transaction.getEffectiveGasPrice());
+                writer.writeBoolean(transaction.getSuccess());
+                writer.writeTimestamp(transaction.getTxTimestamp());
+                writer.writeTimestamp(transaction.getCreatedAt() != null ? transaction.getCreatedAt() : now);
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,83 @@
+package com.argus.infra.persistence.copy;
+
+import com.argus.domain.model.WalletBalanceSnapshot;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+/**
+ * Loads balance snapshots the way {@link TransactionCopyLoader} loads transactions: binary {@code COPY}
+ * into a temporary staging table, then one {@code INSERT ... ON CONFLICT DO NOTHING} into
+ * {@code wallet_balance_snapshots}.
+ * <p>
+ * Uses the connection of the surrounding Spring transaction; the staging table is dropped on commit.
+ */
+@Component
+public class WalletBalanceCopyLoader {
+
+    private static final String COLUMNS = "wallet_id, token_address, block_number, balance, snapshot_at";
+    private static final int COLUMN_COUNT = 5;
+
+    private final DataSource dataSource;
+
+    public WalletBalanceCopyLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @return number of rows inserted; rows skipped as duplicates are not counted
+     */
+    public long load(Iterable<WalletBalanceSnapshot> snapshots) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE wallet_balance_snapshots_staging ON COMMIT DROP AS "
+                        + "SELECT " + COLUMNS + " FROM wallet_balance_snapshots WITH NO DATA");
+            }
+
+            copy(connection.unwrap(PGConnection.class), snapshots);
+
+            try (Statement statement = connection.createStatement()) {
+                long inserted = statement.executeUpdate("INSERT INTO wallet_balance_snapshots (" + COLUMNS + ") "
+                        + "SELECT " + COLUMNS + " FROM wallet_balance_snapshots_staging "
+                        + "ON CONFLICT (wallet_id, token_address, block_number) DO NOTHING");
+                statement.execute("DROP TABLE wallet_balance_snapshots_staging");
+                return inserted;
+            }
+        } catch (SQLException | IOException e) {
+            throw new DataAccessResourceFailureException("Bulk load of balance snapshots failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void copy(PGConnection connection, Iterable<WalletBalanceSnapshot> snapshots)
+            throws SQLException, IOException {
+        LocalDateTime now = LocalDateTime.now();
+
+        try (PgBinaryRowWriter writer = new PgBinaryRowWriter(new PGCopyOutputStream(connection,
+                "COPY wallet_balance_snapshots_staging (" + COLUMNS + ") FROM STDIN (FORMAT BINARY)"))) {
+            for (WalletBalanceSnapshot snapshot : snapshots) {
+                if (snapshot.getWalletId() == null || snapshot.getTokenAddress() == null
+                        || snapshot.getBalance() == null) {
+                    throw new IllegalArgumentException("Wallet, token and balance are required for bulk load");
+                }
+                writer.startRow(COLUMN_COUNT);
+                writer.writeUuid(snapshot.getWalletId());
+                writer.writeText(snapshot.getTokenAddress().toLowerCase());
+                writer.writeLong(snapshot.getBlockNumber());
+                writer.writeNumeric(snapshot.getBalance());
+                writer.writeTimestamp(snapshot.getSnapshotAt() != null ? snapshot.getSnapshotAt() : now);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.FetchType;
@@ -27,8 +28,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class SignalEntity {
+    // A sequence (not IDENTITY) lets Hibernate batch inserts; each nextval reserves 50 ids
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "signals_id_seq")
+    @SequenceGenerator(name = "signals_id_seq", sequenceName = "signals_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "type", nullable = false, length = 50)
@@ -2,12 +2,9 @@ package com.argus.infra.persistence.entity;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -28,8 +25,8 @@ import lombok.Setter;
 @Builder
 public class TokenEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
-    private UUID id;
+    @Column(name = "address", length = 66)
+    private String address;
 
     @Column(name = "chain", nullable = false, length = 20)
     private String chain;
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
@@ -25,8 +26,10 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 public class TransactionEntity {
+    // A sequence (not IDENTITY) lets Hibernate batch inserts; each nextval reserves 50 ids
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_id_seq")
+    @SequenceGenerator(name = "transactions_id_seq", sequenceName = "transactions_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "wallet_id")
@@ -61,10 +64,11 @@ public class TransactionEntity {
     @Column(length = 66)
     private String tokenOut;
 
-    @Column(precision = 30, scale = 18)
+    // Raw token units, up to uint256
+    @Column(precision = 78, scale = 0)
     private BigDecimal amountIn;
 
-    @Column(precision = 30, scale = 18)
+    @Column(precision = 78, scale = 0)
     private BigDecimal amountOut;
 
     @Column(precision = 20, scale = 2)
@@ -73,11 +77,18 @@ public class TransactionEntity {
     // Block metadata
     private Long blockNumber;
 
+    private Long gasLimit;
+
     private Long gasUsed;
 
-    @Column(precision = 30, scale = 18)
+    @Column(precision = 78, scale = 0)
     private BigDecimal gasPrice;
 
+    @Column(precision = 78, scale = 0)
+    private BigDecimal effectiveGasPrice;
+
+    private Boolean success;
+
     private LocalDateTime txTimestamp;
 
     private LocalDateTime createdAt;
@@ -0,0 +1,65 @@
+package com.argus.infra.persistence.export;
+
+import com.argus.domain.model.ExportFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+/**
+ * Runs export queries row by row. With a fetch size set and autocommit off (i.e. inside a transaction),
+ * the Postgres driver reads through a server-side cursor {@code fetchSize} rows at a time instead of
+ * loading the whole result, so memory stays flat however many rows match.
+ */
+@Component
+public class StreamingQueryExecutor {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public StreamingQueryExecutor(
+            DataSource dataSource,
+            @Value("${argus.export.fetch-size:1000}") int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    /**
+     * Streams the rows of {@code table} matching {@code filter} in id order. {@code timeColumn} is the
+     * column the from/to range applies to.
+     */
+    public <T> void stream(String table, String columns, String timeColumn, ExportFilter filter,
+                           RowMapper<T> rowMapper, Consumer<T> sink) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns).append(" FROM ").append(table)
+                .append(" WHERE id > :afterId");
+        MapSqlParameterSource params = new MapSqlParameterSource("afterId",
+                filter.getAfterId() != null ? filter.getAfterId() : Long.MIN_VALUE);
+
+        if (filter.getWalletId() != null) {
+            sql.append(" AND wallet_id = :walletId");
+            params.addValue("walletId", filter.getWalletId());
+        }
+        if (filter.getChain() != null) {
+            sql.append(" AND chain = :chain");
+            params.addValue("chain", filter.getChain());
+        }
+        if (filter.getFrom() != null) {
+            sql.append(" AND ").append(timeColumn).append(" >= :from");
+            params.addValue("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            sql.append(" AND ").append(timeColumn).append(" < :to");
+            params.addValue("to", filter.getTo());
+        }
+        sql.append(" ORDER BY id");
+
+        jdbcTemplate.query(sql.toString(), params, resultSet -> {
+            sink.accept(rowMapper.mapRow(resultSet, resultSet.getRow()));
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package com.argus.infra.persistence.leaderboard;
+
+import com.argus.domain.model.LeaderboardEntry;
+import com.argus.domain.model.Wallet;
+import com.argus.domain.port.persistence.WalletLeaderboardPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Leaderboard in Redis sorted sets, one per metric and (chain, type) filter, including the "any chain"
+ * and "any type" combinations, so every query is a single {@code ZREVRANGE} or {@code ZREVRANK}:
+ * O(log n + limit) and O(log n). A wallet is a member of four sets per metric, keyed by its id.
+ * <p>
+ * A hash remembers the chain and type each wallet was last ranked under, so a wallet that changes either
+ * is removed from its old sets. Updates take two round trips: one to read that hash, one pipeline for
+ * the writes.
+ */
+@Slf4j
+public class RedisWalletLeaderboard implements WalletLeaderboardPort {
+
+    private static final String KEY_PREFIX = "argus:leaderboard:";
+    private static final String MEMBERS_KEY = KEY_PREFIX + "members";
+    private static final String ANY = "*";
+    private static final String UNKNOWN_CHAIN = "unknown";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisWalletLeaderboard(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void updateAll(Collection<Wallet> wallets) {
+        List<Wallet> ranked = wallets.stream().filter(wallet -> wallet.getId() != null).toList();
+        if (ranked.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Object> ids = new ArrayList<>(ranked.stream().map(wallet -> (Object) wallet.getId().toString()).toList());
+            List<Object> previous = redisTemplate.opsForHash().multiGet(MEMBERS_KEY, ids);
+
+            pipelined(redis -> {
+                ZSetOperations<String, String> zSet = redis.opsForZSet();
+                for (int i = 0; i < ranked.size(); i++) {
+                    Wallet wallet = ranked.get(i);
+                    String id = wallet.getId().toString();
+                    String chain = chainOf(wallet.getChain());
+                    String type = typeOf(wallet.getType());
+                    String membership = chain + "|" + type;
+
+                    Object previousMembership = previous.get(i);
+                    if (previousMembership != null && !membership.equals(previousMembership)) {
+                        String[] parts = previousMembership.toString().split("\\|", 2);
+                        for (LeaderboardEntry.Metric metric : LeaderboardEntry.Metric.values()) {
+                            keys(metric, parts[0], parts[1]).forEach(key -> zSet.remove(key, id));
+                        }
+                    }
+
+                    for (LeaderboardEntry.Metric metric : LeaderboardEntry.Metric.values()) {
+                        BigDecimal score = scoreOf(wallet, metric);
+                        for (String key : keys(metric, chain, type)) {
+                            if (score != null) {
+                                zSet.add(key, id, score.doubleValue());
+                            } else {
+                                zSet.remove(key, id);
+                            }
+                        }
+                    }
+                    redis.opsForHash().put(MEMBERS_KEY, id, membership);
+                }
+            });
+        } catch (DataAccessException e) {
+            // The board is rebuilt from the database on startup
+            log.warn("Failed to update leaderboard for {} wallets: {}", ranked.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void remove(UUID walletId) {
+        String id = walletId.toString();
+        try {
+            Object membership = redisTemplate.opsForHash().get(MEMBERS_KEY, id);
+            if (membership == null) {
+                return;
+            }
+            String[] parts = membership.toString().split("\\|", 2);
+            pipelined(redis -> {
+                for (LeaderboardEntry.Metric metric : LeaderboardEntry.Metric.values()) {
+                    keys(metric, parts[0], parts[1]).forEach(key -> redis.opsForZSet().remove(key, id));
+                }
+                redis.opsForHash().delete(MEMBERS_KEY, id);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to remove wallet {} from leaderboard: {}", walletId, e.getMessage());
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> findTop(LeaderboardEntry.Metric metric, String chain, Wallet.WalletType type,
+                                          int limit) {
+        if (limit < 1) {
+            return List.of();
+        }
+        Set<ZSetOperations.TypedTuple<String>> top = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key(metric, filterChain(chain), filterType(type)), 0, limit - 1L);
+        if (top == null) {
+            return List.of();
+        }
+
+        List<LeaderboardEntry> entries = new ArrayList<>(top.size());
+        long rank = 1;
+        for (ZSetOperations.TypedTuple<String> member : top) {
+            entries.add(LeaderboardEntry.builder()
+                    .walletId(UUID.fromString(member.getValue()))
+                    .rank(rank++)
+                    .score(member.getScore() != null ? BigDecimal.valueOf(member.getScore()) : null)
+                    .build());
+        }
+        return entries;
+    }
+
+    @Override
+    public Optional<LeaderboardEntry> findRank(LeaderboardEntry.Metric metric, UUID walletId, String chain,
+                                               Wallet.WalletType type) {
+        String key = key(metric, filterChain(chain), filterType(type));
+        String id = walletId.toString();
+
+        Long rank = redisTemplate.opsForZSet().reverseRank(key, id);
+        if (rank == null) {
+            return Optional.empty();
+        }
+        Double score = redisTemplate.opsForZSet().score(key, id);
+        return Optional.of(LeaderboardEntry.builder()
+                .walletId(walletId)
+                .rank(rank + 1)
+                .score(score != null ? BigDecimal.valueOf(score) : null)
+                .build());
+    }
+
+    static String key(LeaderboardEntry.Metric metric, String chain, String type) {
+        return KEY_PREFIX + metric.name().toLowerCase() + ":" + chain + ":" + type;
+    }
+
+    private static List<String> keys(LeaderboardEntry.Metric metric, String chain, String type) {
+        return List.of(key(metric, chain, type), key(metric, chain, ANY), key(metric, ANY, type), key(metric, ANY, ANY));
+    }
+
+    private static String chainOf(String chain) {
+        return chain == null || chain.isBlank() ? UNKNOWN_CHAIN : chain.trim().toLowerCase();
+    }
+
+    private static String typeOf(Wallet.WalletType type) {
+        return (type != null ? type : Wallet.WalletType.UNKNOWN).name().toLowerCase();
+    }
+
+    private static String filterChain(String chain) {
+        return chain == null || chain.isBlank() ? ANY : chainOf(chain);
+    }
+
+    private static String filterType(Wallet.WalletType type) {
+        return type == null ? ANY : typeOf(type);
+    }
+
+    private static BigDecimal scoreOf(Wallet wallet, LeaderboardEntry.Metric metric) {
+        return switch (metric) {
+            case PNL -> wallet.getTotalPnl();
+            case WIN_RATE -> wallet.getWinRate();
+        };
+    }
+
+    private void pipelined(Consumer<RedisOperations<String, String>> commands) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package com.argus.infra.persistence.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maintains the monthly range partitions of {@code transactions} (see V10). Partitions are named
+ * {@code transactions_YYYY_MM} and cover [first of month, first of next month) of {@code tx_timestamp}.
+ * <p>
+ * Creating a partition locks the parent table, so they are created a few months ahead rather than on
+ * first insert. Rows with no matching partition go to {@code transactions_default}, which is never
+ * detached by retention.
+ */
+@Slf4j
+@Component
+public class TransactionPartitionManager {
+
+    private static final String PARENT_TABLE = "transactions";
+    private static final String PREFIX = PARENT_TABLE + "_";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    public enum RetentionMode {
+        /** Detached partitions stay in the database as standalone tables, e.g. to archive and drop later. */
+        DETACH,
+        DROP
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransactionPartitionManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static String partitionName(YearMonth month) {
+        return PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    static Optional<YearMonth> monthOf(String partitionName) {
+        if (!partitionName.startsWith(PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PREFIX.length()), SUFFIX_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Names of the partitions currently attached to {@code transactions}, including the default one.
+     */
+    public List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits "
+                        + "JOIN pg_class parent ON parent.oid = pg_inherits.inhparent "
+                        + "JOIN pg_class child ON child.oid = pg_inherits.inhrelid "
+                        + "WHERE parent.relname = ? ORDER BY child.relname",
+                String.class, PARENT_TABLE);
+    }
+
+    /**
+     * Creates the partitions for {@code from} through {@code from + monthsAhead} that don't exist yet.
+     * A month whose rows already sit in the default partition can't be created; that is logged and the
+     * remaining months are still attempted.
+     *
+     * @return months whose partitions were created
+     */
+    public List<YearMonth> ensurePartitions(YearMonth from, int monthsAhead) {
+        List<String> existing = listPartitions();
+        List<YearMonth> created = new ArrayList<>();
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = from.plusMonths(i);
+            String name = partitionName(month);
+            if (existing.contains(name)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        name, PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+                created.add(month);
+                log.info("Created transaction partition {}", name);
+            } catch (DataAccessException e) {
+                log.warn("Could not create transaction partition {}: {}", name, e.getMessage());
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Detaches, and with {@link RetentionMode#DROP} also drops, every monthly partition before
+     * {@code oldestKept}.
+     *
+     * @return names of the partitions removed from {@code transactions}
+     */
+    public List<String> applyRetention(YearMonth oldestKept, RetentionMode mode) {
+        List<String> removed = new ArrayList<>();
+
+        for (String name : listPartitions()) {
+            Optional<YearMonth> month = monthOf(name);
+            if (month.isEmpty() || !month.get().isBefore(oldestKept)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + name);
+            if (mode == RetentionMode.DROP) {
+                jdbcTemplate.execute("DROP TABLE " + name);
+            }
+            removed.add(name);
+            log.info("{} transaction partition {}", mode == RetentionMode.DROP ? "Dropped" : "Detached", name);
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,25 @@
+package com.argus.infra.persistence.projection;
+
+import com.argus.infra.persistence.entity.WalletEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only wallet row selected with a JPQL constructor expression. Unlike {@link WalletEntity} it is
+ * not tracked by the persistence context, so large listings skip entity hydration and dirty checking.
+ */
+public record WalletRow(
+        UUID id,
+        String address,
+        String chain,
+        String label,
+        WalletEntity.WalletType type,
+        BigDecimal totalPnl,
+        BigDecimal winRate,
+        LocalDateTime firstSeenAt,
+        LocalDateTime lastActivityAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
@@ -1,9 +1,19 @@
 package com.argus.infra.persistence.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.argus.infra.persistence.entity.TransactionEntity;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
 public interface TransactionRepository extends JpaRepository<TransactionEntity, Long> {
 
+    // transactions is partitioned by month of tx_timestamp: bounding it lets the planner skip the other months
+
+    @Query("SELECT t FROM TransactionEntity t WHERE t.walletId = :walletId "
+            + "AND t.txTimestamp >= :from AND t.txTimestamp < :to ORDER BY t.txTimestamp, t.id")
+    List<TransactionEntity> findByWalletInRange(UUID walletId, LocalDateTime from, LocalDateTime to);
 }
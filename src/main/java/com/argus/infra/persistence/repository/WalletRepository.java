@@ -1,10 +1,14 @@
 package com.argus.infra.persistence.repository;
 
 import com.argus.infra.persistence.entity.WalletEntity;
+import com.argus.infra.persistence.projection.WalletRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,6 +16,10 @@ import java.util.UUID;
 @Repository
 public interface WalletRepository extends JpaRepository<WalletEntity, UUID> {
 
+    String SELECT_ROW = "SELECT new com.argus.infra.persistence.projection.WalletRow(w.id, w.address, w.chain, "
+            + "w.label, w.type, w.totalPnl, w.winRate, w.firstSeenAt, w.lastActivityAt, w.createdAt, w.updatedAt) "
+            + "FROM WalletEntity w ";
+
     Optional<WalletEntity> findByAddress(String address);
 
     List<WalletEntity> findByChain(String chain);
@@ -26,4 +34,25 @@ public interface WalletRepository extends JpaRepository<WalletEntity, UUID> {
 
     @Query("SELECT w FROM WalletEntity w WHERE w.winRate > :minWinRate AND w.totalPnl > 0 ORDER BY w.totalPnl DESC")
     List<WalletEntity> findTopPerformers(Double minWinRate);
+
+    // Keyset pages: each query seeks past the cursor on an index instead of skipping OFFSET rows
+
+    @Query(SELECT_ROW + "ORDER BY w.createdAt, w.id")
+    List<WalletRow> findFirstPage(Limit limit);
+
+    @Query(SELECT_ROW + "WHERE (w.createdAt, w.id) > (:createdAt, :id) ORDER BY w.createdAt, w.id")
+    List<WalletRow> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query(SELECT_ROW + "WHERE w.type = :type ORDER BY w.createdAt, w.id")
+    List<WalletRow> findFirstPageByType(WalletEntity.WalletType type, Limit limit);
+
+    @Query(SELECT_ROW + "WHERE w.type = :type AND (w.createdAt, w.id) > (:createdAt, :id) ORDER BY w.createdAt, w.id")
+    List<WalletRow> findPageByTypeAfter(WalletEntity.WalletType type, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query(SELECT_ROW + "WHERE w.winRate > :minWinRate AND w.totalPnl > 0 ORDER BY w.totalPnl DESC, w.id DESC")
+    List<WalletRow> findFirstTopPerformersPage(BigDecimal minWinRate, Limit limit);
+
+    @Query(SELECT_ROW + "WHERE w.winRate > :minWinRate AND w.totalPnl > 0 AND (w.totalPnl, w.id) < (:totalPnl, :id) "
+            + "ORDER BY w.totalPnl DESC, w.id DESC")
+    List<WalletRow> findTopPerformersPageAfter(BigDecimal minWinRate, BigDecimal totalPnl, UUID id, Limit limit);
 }
@@ -0,0 +1,122 @@
+package com.argus.infra.price;
+
+import com.argus.core.exception.PriceFeedException;
+import com.argus.domain.model.PricePoint;
+import com.argus.domain.port.price.PriceFeedPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads token prices from CoinGecko's {@code simple/token_price/ethereum}, up to
+ * {@code maxTokensPerRequest} contract addresses per request. Each price is stamped with CoinGecko's
+ * {@code last_updated_at}, or the time of the request when it is missing.
+ * <p>
+ * The API key, when set, is sent in {@code apiKeyHeader} ({@code x-cg-demo-api-key} for demo keys,
+ * {@code x-cg-pro-api-key} for the pro API) and never appears in errors or logs.
+ */
+public class CoinGeckoPriceFeedAdapter implements PriceFeedPort {
+
+    private final HttpClient httpClient;
+    private final String tokenPriceUrl;
+    private final String apiKeyHeader;
+    private final String apiKey;
+    private final int maxTokensPerRequest;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public CoinGeckoPriceFeedAdapter(String apiUrl, String apiKeyHeader, String apiKey, int maxTokensPerRequest,
+            ObjectMapper objectMapper, Duration timeout) {
+        if (maxTokensPerRequest < 1) {
+            throw new IllegalArgumentException("Tokens per request must be positive");
+        }
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.tokenPriceUrl = apiUrl.replaceAll("/+$", "") + "/api/v3/simple/token_price/ethereum";
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKey = apiKey;
+        this.maxTokensPerRequest = maxTokensPerRequest;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public List<PricePoint> fetchPrices(Collection<String> tokenAddresses) {
+        List<PricePoint> prices = new ArrayList<>();
+        Iterator<String> addresses = tokenAddresses.iterator();
+        while (addresses.hasNext()) {
+            List<String> chunk = new ArrayList<>(maxTokensPerRequest);
+            while (addresses.hasNext() && chunk.size() < maxTokensPerRequest) {
+                chunk.add(addresses.next().toLowerCase());
+            }
+            prices.addAll(fetchChunk(chunk));
+        }
+        return prices;
+    }
+
+    private List<PricePoint> fetchChunk(List<String> addresses) {
+        URI uri = URI.create(tokenPriceUrl + "?contract_addresses=" + String.join(",", addresses)
+                + "&vs_currencies=usd&include_last_updated_at=true");
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET();
+        if (apiKey != null && !apiKey.isBlank()) {
+            request.header(apiKeyHeader, apiKey);
+        }
+
+        long requestedAt = System.currentTimeMillis();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new PriceFeedException("Failed to reach CoinGecko: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PriceFeedException("Interrupted while reading prices from CoinGecko");
+        }
+
+        if (response.statusCode() != 200) {
+            throw new PriceFeedException("CoinGecko rejected price request for " + addresses.size() + " tokens: HTTP "
+                    + response.statusCode());
+        }
+        return parse(response.body(), requestedAt);
+    }
+
+    private List<PricePoint> parse(String body, long requestedAt) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new PriceFeedException("CoinGecko answered with invalid JSON", e);
+        }
+
+        List<PricePoint> prices = new ArrayList<>(root.size());
+        for (Iterator<Map.Entry<String, JsonNode>> fields = root.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode usd = field.getValue().path("usd");
+            if (!usd.isNumber()) {
+                continue;
+            }
+            JsonNode updatedAt = field.getValue().path("last_updated_at");
+            long timestampMillis = updatedAt.canConvertToLong() && updatedAt.asLong() > 0
+                    ? TimeUnit.SECONDS.toMillis(updatedAt.asLong())
+                    : requestedAt;
+            prices.add(new PricePoint(field.getKey().toLowerCase(), timestampMillis, usd.asDouble()));
+        }
+        return prices;
+    }
+}
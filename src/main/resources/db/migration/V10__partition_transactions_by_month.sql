@@ -0,0 +1,72 @@
+-- Range-partition transactions by month of tx_timestamp. Time-bounded queries only scan the partitions
+-- they cover, index maintenance stays per partition, and old months can be detached or dropped whole.
+-- Upcoming partitions are created at runtime (TransactionPartitionManager); rows outside every monthly
+-- partition (e.g. backfilled history older than the first one) land in transactions_default.
+
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER SEQUENCE transactions_id_seq OWNED BY NONE;
+
+-- Index names are unique per schema and stay with the renamed table; free them for the new one
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT transactions_pkey TO transactions_unpartitioned_pkey;
+DROP INDEX idx_transactions_wallet, idx_transactions_timestamp, idx_transactions_type,
+    uq_transactions_tx_hash_wallet;
+
+CREATE TABLE transactions (
+    id BIGINT NOT NULL DEFAULT nextval('transactions_id_seq'),
+    wallet_id UUID REFERENCES wallets(id) ON DELETE CASCADE,
+    tx_hash VARCHAR(66) NOT NULL,
+    chain VARCHAR(20) NOT NULL DEFAULT 'ethereum',
+    type VARCHAR(20),
+    from_address VARCHAR(42),
+    to_address VARCHAR(42),
+    value_eth DECIMAL(30, 18),
+    input TEXT,
+    token_in VARCHAR(66),
+    token_out VARCHAR(66),
+    amount_in DECIMAL(30, 18),
+    amount_out DECIMAL(30, 18),
+    usd_value DECIMAL(20, 2),
+    block_number BIGINT,
+    gas_limit BIGINT,
+    gas_used BIGINT,
+    -- Wei, up to uint256 like the swap amounts; DECIMAL(30, 18) overflowed past 1000 gwei
+    gas_price NUMERIC(78, 0),
+    effective_gas_price NUMERIC(78, 0),
+    success BOOLEAN,
+    tx_timestamp TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT NOW(),
+    -- Unique constraints on a partitioned table must include the partition key
+    PRIMARY KEY (id, tx_timestamp)
+) PARTITION BY RANGE (tx_timestamp);
+
+ALTER SEQUENCE transactions_id_seq OWNED BY transactions.id;
+
+-- A transaction always has the same timestamp, so this is still "once per tracked wallet"
+CREATE UNIQUE INDEX uq_transactions_tx_hash_wallet_time ON transactions(tx_hash, wallet_id, tx_timestamp);
+CREATE INDEX idx_transactions_wallet_time ON transactions(wallet_id, tx_timestamp);
+CREATE INDEX idx_transactions_type ON transactions(type);
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- Monthly partitions from the oldest existing row up to three months ahead
+DO $$
+DECLARE
+    month DATE := date_trunc('month', COALESCE((SELECT MIN(tx_timestamp) FROM transactions_unpartitioned), NOW()));
+    last_month DATE := date_trunc('month', NOW() + INTERVAL '3 months');
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                       'transactions_' || to_char(month, 'YYYY_MM'), month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO transactions (id, wallet_id, tx_hash, chain, type, from_address, to_address, value_eth, input,
+                          token_in, token_out, amount_in, amount_out, usd_value, block_number, gas_limit,
+                          gas_used, gas_price, effective_gas_price, success, tx_timestamp, created_at)
+SELECT id, wallet_id, tx_hash, chain, type, from_address, to_address, value_eth, input,
+       token_in, token_out, amount_in, amount_out, usd_value, block_number, gas_limit,
+       gas_used, gas_price, effective_gas_price, success, tx_timestamp, created_at
+FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
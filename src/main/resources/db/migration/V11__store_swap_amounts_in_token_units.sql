@@ -0,0 +1,4 @@
+-- Swap amounts are decoded from calldata in the token's smallest unit (uint256). DECIMAL(30, 18) holds
+-- only 12 integer digits, i.e. a millionth of an 18-decimal token.
+ALTER TABLE transactions ALTER COLUMN amount_in TYPE NUMERIC(78, 0);
+ALTER TABLE transactions ALTER COLUMN amount_out TYPE NUMERIC(78, 0);
@@ -0,0 +1,11 @@
+-- Periodic snapshots of the in-memory PnL engine, so a restart resumes instead of replaying history.
+-- lots holds the open FIFO cost-basis lots per token: {"0xtoken": [{"quantity": ..., "costUsd": ...}, ...]}
+CREATE TABLE wallet_pnl_snapshots (
+    wallet_id UUID PRIMARY KEY REFERENCES wallets(id) ON DELETE CASCADE,
+    realized_pnl NUMERIC(38, 18) NOT NULL DEFAULT 0,
+    wins INTEGER NOT NULL DEFAULT 0,
+    closed_trades INTEGER NOT NULL DEFAULT 0,
+    last_block_number BIGINT NOT NULL,
+    lots JSONB NOT NULL DEFAULT '{}',
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
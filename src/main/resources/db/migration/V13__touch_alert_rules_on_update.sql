@@ -0,0 +1,12 @@
+-- The alert rule engine reloads when COUNT(*) or MAX(updated_at) of alert_rules changes, so every
+-- update has to move updated_at, whoever writes it
+CREATE OR REPLACE FUNCTION touch_updated_at() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at = NOW();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_alert_rules_touch_updated_at
+    BEFORE UPDATE ON alert_rules
+    FOR EACH ROW EXECUTE FUNCTION touch_updated_at();
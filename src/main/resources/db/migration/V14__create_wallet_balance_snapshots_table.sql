@@ -0,0 +1,13 @@
+-- Periodic balances of tracked wallets in ETH and a configured set of top tokens, every wallet of a run
+-- read at the same block. token_address is the zero address for ETH; balance is in the token's smallest
+-- unit (scale by tokens.decimals). Zero balances are not stored.
+CREATE TABLE wallet_balance_snapshots (
+    wallet_id UUID NOT NULL REFERENCES wallets(id) ON DELETE CASCADE,
+    token_address VARCHAR(66) NOT NULL,
+    block_number BIGINT NOT NULL,
+    balance NUMERIC(78, 0) NOT NULL,
+    snapshot_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (wallet_id, token_address, block_number)
+);
+
+CREATE INDEX idx_wallet_balance_snapshots_block ON wallet_balance_snapshots(block_number);
@@ -0,0 +1,10 @@
+-- USD price of each token per minute (UTC), the history behind the in-memory price series that value
+-- ingested transactions. Written in batches, read back on startup.
+CREATE TABLE token_prices (
+    token_address VARCHAR(66) NOT NULL,
+    minute TIMESTAMP NOT NULL,
+    usd_price DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (token_address, minute)
+);
+
+CREATE INDEX idx_token_prices_minute ON token_prices(minute);
@@ -0,0 +1,24 @@
+-- COUNT(*) and MAX(updated_at) of alert_rules miss changes: an insert and a delete in one poll cancel
+-- out, and an update stamped with its transaction's start time can be older than the newest row. The
+-- rule engine polls this counter instead, bumped once by every statement that writes alert_rules.
+-- The V13 trigger stamping updated_at only served the old check and goes with it.
+DROP TRIGGER IF EXISTS trg_alert_rules_touch_updated_at ON alert_rules;
+DROP FUNCTION IF EXISTS touch_updated_at();
+
+CREATE TABLE alert_rules_version (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    version BIGINT NOT NULL
+);
+
+INSERT INTO alert_rules_version (version) VALUES (0);
+
+CREATE OR REPLACE FUNCTION bump_alert_rules_version() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE alert_rules_version SET version = version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_alert_rules_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON alert_rules
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_alert_rules_version();
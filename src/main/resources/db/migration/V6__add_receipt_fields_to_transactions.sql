@@ -0,0 +1,3 @@
+ALTER TABLE transactions ADD COLUMN gas_limit BIGINT;
+ALTER TABLE transactions ADD COLUMN effective_gas_price DECIMAL(30, 18);
+ALTER TABLE transactions ADD COLUMN success BOOLEAN;
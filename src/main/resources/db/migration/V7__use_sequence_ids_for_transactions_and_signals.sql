@@ -0,0 +1,21 @@
+-- Sequence-backed BIGINT ids so inserts can be batched. INCREMENT BY must match the entities'
+-- allocationSize: Hibernate hands out the 50 ids below each value it draws.
+-- Nothing references these ids, so existing rows are simply renumbered.
+
+CREATE SEQUENCE transactions_id_seq INCREMENT BY 50;
+
+ALTER TABLE transactions DROP CONSTRAINT transactions_pkey;
+ALTER TABLE transactions ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE transactions ALTER COLUMN id TYPE BIGINT USING nextval('transactions_id_seq');
+ALTER TABLE transactions ALTER COLUMN id SET DEFAULT nextval('transactions_id_seq');
+ALTER TABLE transactions ADD PRIMARY KEY (id);
+ALTER SEQUENCE transactions_id_seq OWNED BY transactions.id;
+
+CREATE SEQUENCE signals_id_seq INCREMENT BY 50;
+
+ALTER TABLE signals DROP CONSTRAINT signals_pkey;
+ALTER TABLE signals ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE signals ALTER COLUMN id TYPE BIGINT USING nextval('signals_id_seq');
+ALTER TABLE signals ALTER COLUMN id SET DEFAULT nextval('signals_id_seq');
+ALTER TABLE signals ADD PRIMARY KEY (id);
+ALTER SEQUENCE signals_id_seq OWNED BY signals.id;
@@ -0,0 +1,18 @@
+-- Columns mapped by TransactionEntity that the original table was created without
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS from_address VARCHAR(42);
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS to_address VARCHAR(42);
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS value_eth DECIMAL(30, 18);
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS input TEXT;
+
+-- A transaction is stored once per tracked wallet. The key lets bulk loads skip rows that are
+-- already there (INSERT ... ON CONFLICT DO NOTHING), so backfills can be rerun safely.
+DELETE FROM transactions duplicate
+USING transactions original
+WHERE duplicate.tx_hash = original.tx_hash
+  AND duplicate.wallet_id IS NOT DISTINCT FROM original.wallet_id
+  AND duplicate.id > original.id;
+
+CREATE UNIQUE INDEX uq_transactions_tx_hash_wallet ON transactions(tx_hash, wallet_id);
+
+-- Superseded by the unique index, which also serves lookups by hash
+DROP INDEX idx_transactions_tx_hash;
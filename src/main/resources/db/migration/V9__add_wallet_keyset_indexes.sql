@@ -0,0 +1,4 @@
+-- Keyset pagination seeks on these instead of sorting the whole table per page
+CREATE INDEX idx_wallets_created_id ON wallets(created_at, id);
+CREATE INDEX idx_wallets_type_created_id ON wallets(type, created_at, id);
+CREATE INDEX idx_wallets_top_performers ON wallets(total_pnl DESC, id DESC) WHERE total_pnl > 0;
@@ -0,0 +1,166 @@
+package com.argus.api;
+
+import com.argus.api.exception.GlobalExceptionHandler;
+import com.argus.domain.model.ExportFilter;
+import com.argus.domain.model.Transaction;
+import com.argus.domain.service.ExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportController Unit Tests")
+class ExportControllerTest {
+
+    private static final UUID WALLET_ID = UUID.fromString("2f1c3d4e-5a6b-4c7d-8e9f-0a1b2c3d4e5f");
+
+    @Mock
+    private ExportService exportService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ExportController(exportService, objectMapper, 3_600_000))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        lenient().doAnswer(invocation -> {
+            ExportFilter filter = invocation.getArgument(0);
+            Consumer<Transaction> sink = invocation.getArgument(1);
+            long first = filter.getAfterId() != null ? filter.getAfterId() + 1 : 1;
+            for (long id = first; id <= 3; id++) {
+                sink.accept(Transaction.builder()
+                        .id(id)
+                        .walletId(WALLET_ID)
+                        .txHash("0x" + id)
+                        .value(new BigDecimal("1.5"))
+                        .txTimestamp(LocalDateTime.of(2024, 1, 15, 10, 30))
+                        .build());
+            }
+            return null;
+        }).when(exportService).exportTransactions(any(), any());
+    }
+
+    private MvcResult export(String query, String acceptEncoding) throws Exception {
+        var request = get("/api/v1/export/transactions" + query);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MvcResult started = mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+    }
+
+    private List<JsonNode> lines(String body) throws IOException {
+        return body.lines().map(line -> {
+            try {
+                return objectMapper.readTree(line);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }).toList();
+    }
+
+    @Test
+    @DisplayName("should write one JSON object per line with the filters passed through")
+    void shouldStreamNdjson() throws Exception {
+        MvcResult result = export("?walletId=" + WALLET_ID + "&chain=ethereum&from=2024-01-01T00:00:00", null);
+
+        assertThat(result.getResponse().getContentType()).isEqualTo("application/x-ndjson");
+        List<JsonNode> lines = lines(result.getResponse().getContentAsString());
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).get("data").get("txHash").asText()).isEqualTo("0x1");
+        assertThat(lines.get(0).get("data").get("txTimestamp").asText()).isEqualTo("2024-01-15T10:30:00");
+
+        ArgumentCaptor<ExportFilter> filter = ArgumentCaptor.forClass(ExportFilter.class);
+        verify(exportService).exportTransactions(filter.capture(), any());
+        assertThat(filter.getValue().getWalletId()).isEqualTo(WALLET_ID);
+        assertThat(filter.getValue().getChain()).isEqualTo("ethereum");
+        assertThat(filter.getValue().getFrom()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(filter.getValue().getAfterId()).isNull();
+    }
+
+    @Test
+    @DisplayName("should resume after the row whose cursor is passed back")
+    void shouldResumeFromCursor() throws Exception {
+        List<JsonNode> firstRun = lines(export("", null).getResponse().getContentAsString());
+        String cursor = firstRun.get(0).get("cursor").asText();
+
+        List<JsonNode> resumed = lines(export("?cursor=" + cursor, null).getResponse().getContentAsString());
+
+        assertThat(resumed).extracting(line -> line.get("data").get("id").asLong()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("should give the export its own async timeout")
+    void shouldApplyExportTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/export/transactions"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(3_600_000);
+    }
+
+    @Test
+    @DisplayName("should gzip the stream when the client accepts it")
+    void shouldGzip_WhenAccepted() throws Exception {
+        MvcResult result = export("", "gzip, deflate");
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        byte[] body = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))
+                .readAllBytes();
+        assertThat(lines(new String(body, StandardCharsets.UTF_8))).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("should reject a malformed cursor")
+    void shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/export/transactions?cursor=not-a-cursor!"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("should answer 400 to an inverted range before streaming anything")
+    void shouldRejectInvertedRange() throws Exception {
+        doCallRealMethod().when(exportService).validate(any());
+
+        mockMvc.perform(get("/api/v1/export/signals?from=2024-02-01T00:00:00&to=2024-01-01T00:00:00"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+
+        verify(exportService, never()).exportSignals(any(), any());
+    }
+}
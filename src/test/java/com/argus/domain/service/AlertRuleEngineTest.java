@@ -0,0 +1,135 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.AlertRule;
+import com.argus.domain.model.Signal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AlertRuleEngine Unit Tests")
+class AlertRuleEngineTest {
+
+    private static final UUID WALLET_ID = UUID.fromString("2f1c3d4e-5a6b-4c7d-8e9f-0a1b2c3d4e5f");
+    private static final String PEPE = "0x6982508145454ce325ddbe47a25d4ec3d2311933";
+
+    private final AlertRuleEngine engine = new AlertRuleEngine(new AlertRuleCompiler());
+
+    static AlertRule rule(String name, Map<String, Object> conditions) {
+        return AlertRule.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .conditions(conditions)
+                .enabled(true)
+                .build();
+    }
+
+    private static Signal signal(String type, String usdValue) {
+        return Signal.builder()
+                .type(type)
+                .walletId(WALLET_ID)
+                .tokenAddress(PEPE.toUpperCase().replace("0X", "0x"))
+                .tokenSymbol("PEPE")
+                .chain("ethereum")
+                .usdValue(new BigDecimal(usdValue))
+                .confidenceScore(new BigDecimal("0.85"))
+                .build();
+    }
+
+    private List<String> matches(Signal signal) {
+        return engine.match(signal).stream().map(AlertRule::getName).sorted().toList();
+    }
+
+    @Nested
+    @DisplayName("Conditions")
+    class ConditionTests {
+
+        @Test
+        @DisplayName("should combine equality, lists, comparisons and any-of")
+        void shouldEvaluateConditions() {
+            engine.reload(List.of(
+                    rule("big whale buys", Map.of("type", "WHALE_BUY", "usdValue", Map.of("gte", 100_000))),
+                    rule("pepe on l1 or l2", Map.of("tokenAddress", PEPE, "chain", List.of("Ethereum", "base"))),
+                    rule("confident or small", Map.of("walletId", WALLET_ID.toString(), "any", List.of(
+                            Map.of("confidenceScore", Map.of("gt", 0.9)),
+                            Map.of("usdValue", Map.of("lt", 1_000))))),
+                    rule("not pepe", Map.of("tokenSymbol", Map.of("ne", "pepe"))),
+                    rule("range", Map.of("usdValue", Map.of("gt", "50000", "lte", 150_000.5)))));
+
+            assertThat(matches(signal("WHALE_BUY", "120000")))
+                    .containsExactly("big whale buys", "pepe on l1 or l2", "range");
+            assertThat(matches(signal("whale_buy", "500")))
+                    .containsExactly("confident or small", "pepe on l1 or l2");
+        }
+
+        @Test
+        @DisplayName("should not match conditions on fields the signal lacks")
+        void shouldNotMatchMissingFields() {
+            engine.reload(List.of(rule("any big signal", Map.of("usdValue", Map.of("gte", 0)))));
+
+            assertThat(engine.match(Signal.builder().type("WHALE_BUY").build())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should reject unknown fields, operators and malformed values")
+        void shouldRejectInvalidConditions() {
+            AlertRuleCompiler compiler = new AlertRuleCompiler();
+
+            assertThatThrownBy(() -> compiler.compile(rule("bad field", Map.of("price", 1))))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("price");
+            assertThatThrownBy(() -> compiler.compile(rule("bad operator", Map.of("type", Map.of("gt", "A")))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> compiler.compile(rule("bad number", Map.of("usdValue", Map.of("gte", "lots")))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> compiler.compile(rule("bad any", Map.of("any", "type"))))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Indexing and reload")
+    class IndexTests {
+
+        @Test
+        @DisplayName("should index by the most selective equality field")
+        void shouldPickIndexField() {
+            AlertRuleCompiler compiler = new AlertRuleCompiler();
+
+            assertThat(compiler.compile(rule("a", Map.of("type", "WHALE_BUY", "tokenAddress", PEPE))))
+                    .satisfies(compiled -> {
+                        assertThat(compiled.indexField()).isEqualTo("tokenAddress");
+                        assertThat(compiled.indexValues()).containsExactly(PEPE);
+                    });
+            assertThat(compiler.compile(rule("b", Map.of("chain", Map.of("in", List.of("ETHEREUM", "base"))))))
+                    .satisfies(compiled -> assertThat(compiled.indexValues()).containsExactlyInAnyOrder("ethereum", "base"));
+            assertThat(compiler.compile(rule("c", Map.of("type", Map.of("ne", "X"), "usdValue", 5))).indexField())
+                    .isNull();
+        }
+
+        @Test
+        @DisplayName("should skip disabled and invalid rules and swap in reloaded rules")
+        void shouldReload() {
+            AlertRule disabled = AlertRule.builder().id(UUID.randomUUID()).name("disabled")
+                    .conditions(Map.of("type", "WHALE_BUY")).enabled(false).build();
+
+            int loaded = engine.reload(List.of(rule("whale", Map.of("type", "WHALE_BUY")), disabled,
+                    rule("broken", Map.of("price", 1))));
+
+            assertThat(loaded).isEqualTo(1);
+            assertThat(matches(signal("WHALE_BUY", "1"))).containsExactly("whale");
+
+            engine.reload(List.of(rule("sells", Map.of("type", "WHALE_SELL"))));
+
+            assertThat(engine.getRuleCount()).isEqualTo(1);
+            assertThat(matches(signal("WHALE_BUY", "1"))).isEmpty();
+            assertThat(matches(signal("WHALE_SELL", "1"))).containsExactly("sells");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.BalanceSheet;
+import com.argus.domain.model.Wallet;
+import com.argus.domain.model.WalletBalanceSnapshot;
+import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.persistence.WalletBalancePersistencePort;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceSnapshotService Unit Tests")
+class BalanceSnapshotServiceTest {
+
+    private static final String USDC = "0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48";
+    private static final long HEAD = 19_000_000L;
+
+    @Mock
+    private BlockChainPort blockChainPort;
+
+    @Mock
+    private WalletPersistencePort walletPersistencePort;
+
+    @Mock
+    private WalletBalancePersistencePort walletBalancePersistencePort;
+
+    @Mock
+    private TokenMetadataResolver tokenMetadataResolver;
+
+    private final List<WalletBalanceSnapshot> stored = new ArrayList<>();
+    private BalanceSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BalanceSnapshotService(blockChainPort, walletPersistencePort, walletBalancePersistencePort,
+                tokenMetadataResolver, List.of(" 0xA0b86991c6218b36c1d19d4a2e9eb0ce3606eB48"), 2, 2);
+        lenient().when(blockChainPort.getLatestBlockNumber()).thenReturn(HEAD);
+        lenient().when(walletBalancePersistencePort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<WalletBalanceSnapshot> snapshots = invocation.getArgument(0);
+            stored.addAll(snapshots);
+            return (long) snapshots.size();
+        });
+    }
+
+    private static Wallet wallet(int index) {
+        return Wallet.builder()
+                .id(UUID.randomUUID())
+                .address(String.format("0x%040x", index + 1))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(index))
+                .build();
+    }
+
+    @Test
+    @DisplayName("should read every page at the same block and store only non-zero balances")
+    void shouldSnapshotAllPagesAtOneBlock() {
+        List<Wallet> wallets = IntStream.range(0, 3).mapToObj(BalanceSnapshotServiceTest::wallet).toList();
+        when(walletPersistencePort.findPage(isNull(), any(), eq(2)))
+                .thenReturn(wallets.subList(0, 2), wallets.subList(2, 3));
+        when(blockChainPort.getBalances(anyList(), anyList(), anyLong())).thenAnswer(invocation -> {
+            List<String> owners = invocation.getArgument(0);
+            List<String> tokens = invocation.getArgument(1);
+            BigInteger[] balances = new BigInteger[owners.size() * tokens.size()];
+            for (int i = 0; i < balances.length; i++) {
+                // Second owner of the first page holds nothing; USDC of the last wallet failed
+                balances[i] = i / tokens.size() == 1 ? BigInteger.ZERO : BigInteger.valueOf(1_000 + i);
+            }
+            if (owners.size() == 1) {
+                balances[1] = null;
+            }
+            return new BalanceSheet(invocation.<Long>getArgument(2), owners, tokens, balances, 1);
+        });
+
+        BalanceSnapshotService.Report report = service.snapshot();
+
+        verify(blockChainPort, times(2)).getBalances(anyList(), eq(List.of(WalletBalanceSnapshot.ETH, USDC)),
+                eq(HEAD - 2));
+        verify(tokenMetadataResolver).resolveAll(List.of(USDC));
+        assertThat(stored).extracting(WalletBalanceSnapshot::getWalletId)
+                .containsExactly(wallets.get(0).getId(), wallets.get(0).getId(), wallets.get(2).getId());
+        assertThat(stored).allSatisfy(snapshot -> assertThat(snapshot.getBlockNumber()).isEqualTo(HEAD - 2));
+        assertThat(report.wallets()).isEqualTo(3);
+        assertThat(report.balanceReads()).isEqualTo(6);
+        assertThat(report.rpcCalls()).isEqualTo(2);
+        assertThat(report.callsSaved()).isEqualTo(4);
+        assertThat(report.failedReads()).isEqualTo(1);
+        assertThat(report.rowsStored()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should do nothing when no wallets are tracked")
+    void shouldHandleNoWallets() {
+        when(walletPersistencePort.findPage(isNull(), isNull(), eq(2))).thenReturn(List.of());
+
+        BalanceSnapshotService.Report report = service.snapshot();
+
+        assertThat(report.wallets()).isZero();
+        verify(blockChainPort, never()).getBalances(anyList(), anyList(), anyLong());
+        verifyNoInteractions(walletBalancePersistencePort);
+    }
+}
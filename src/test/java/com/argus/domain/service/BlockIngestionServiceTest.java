@@ -0,0 +1,339 @@
+package com.argus.domain.service;
+
+import com.argus.core.exception.BlockchainException;
+import com.argus.domain.model.Block;
+import com.argus.domain.model.Token;
+import com.argus.domain.model.Transaction;
+import com.argus.domain.model.Wallet;
+import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.persistence.PricePersistencePort;
+import com.argus.domain.port.persistence.TransactionPersistencePort;
+import com.argus.domain.port.price.PriceFeedPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.generated.Uint256;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlockIngestionService Unit Tests")
+class BlockIngestionServiceTest {
+
+    private static final String TRACKED_ADDRESS = "0x1111111111111111111111111111111111111111";
+    private static final String OTHER_ADDRESS = "0x2222222222222222222222222222222222222222";
+    private static final UUID WALLET_ID = UUID.randomUUID();
+
+    @Mock
+    private BlockChainPort blockChainPort;
+
+    @Mock
+    private TransactionPersistencePort transactionPersistencePort;
+
+    private final TrackedAddressIndex trackedAddressIndex = new TrackedAddressIndex();
+    private final PnlEngine pnlEngine = new PnlEngine(Map.of());
+    private ExecutorService executor;
+
+    private BlockIngestionService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        service = new BlockIngestionService(
+                blockChainPort, trackedAddressIndex, transactionPersistencePort, new SwapCalldataDecoder(),
+                pnlEngine, executor, 4, 100);
+        lenient().when(blockChainPort.enrichWithReceipts(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        trackedAddressIndex.replaceAll(List.of(Wallet.builder()
+                .id(WALLET_ID)
+                .address(TRACKED_ADDRESS.toUpperCase().replace("0X", "0x"))
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Block block(long number) {
+        return Block.builder()
+                .number(number)
+                .transactions(List.of(
+                        Transaction.builder().txHash("0xtracked" + number).from(OTHER_ADDRESS).to(TRACKED_ADDRESS).build(),
+                        Transaction.builder().txHash("0xother" + number).from(OTHER_ADDRESS).to(OTHER_ADDRESS).build()))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Transaction> savedTransactions(int batches) {
+        ArgumentCaptor<List<Transaction>> saved = ArgumentCaptor.forClass(List.class);
+        verify(transactionPersistencePort, times(batches)).saveAll(saved.capture());
+        return saved.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    @Nested
+    @DisplayName("ingestUpTo Tests")
+    class IngestUpToTests {
+
+        @Test
+        @DisplayName("should commit blocks in order even when fetches complete out of order")
+        void shouldCommitInBlockOrder() {
+            when(blockChainPort.getBlockByNumber(anyLong())).thenAnswer(invocation -> {
+                long number = invocation.getArgument(0);
+                // Earlier blocks answer last
+                Thread.sleep((105 - number) * 20);
+                return Optional.of(block(number));
+            });
+
+            int committed = service.ingestUpTo(105);
+
+            List<Transaction> saved = savedTransactions(6);
+            assertThat(committed).isEqualTo(6);
+            assertThat(saved)
+                    .extracting(Transaction::getTxHash)
+                    .containsExactly("0xtracked100", "0xtracked101", "0xtracked102",
+                            "0xtracked103", "0xtracked104", "0xtracked105");
+            assertThat(saved).allMatch(tx -> WALLET_ID.equals(tx.getWalletId()));
+            assertThat(service.getCursor()).isEqualTo(106);
+            assertThat(service.getStats().getLagBlocks()).isZero();
+            assertThat(service.getStats().getTotalBlocks()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("should stop at the first block the node does not have yet")
+        void shouldStop_WhenBlockNotAvailable() {
+            when(blockChainPort.getBlockByNumber(anyLong())).thenAnswer(invocation -> {
+                long number = invocation.getArgument(0);
+                return number < 102 ? Optional.of(block(number)) : Optional.empty();
+            });
+
+            int committed = service.ingestUpTo(105);
+
+            assertThat(committed).isEqualTo(2);
+            assertThat(service.getCursor()).isEqualTo(102);
+            assertThat(service.getStats().getLagBlocks()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should keep cursor at the failed block so the next run resumes there")
+        void shouldKeepCursor_WhenFetchFails() {
+            when(blockChainPort.getBlockByNumber(anyLong())).thenAnswer(invocation -> {
+                long number = invocation.getArgument(0);
+                if (number == 101) {
+                    throw new BlockchainException("Failed to get block 101 after 2 attempts");
+                }
+                return Optional.of(block(number));
+            });
+
+            assertThatThrownBy(() -> service.ingestUpTo(103))
+                    .isInstanceOf(BlockchainException.class)
+                    .hasMessageContaining("block 101");
+
+            assertThat(service.getCursor()).isEqualTo(101);
+            verify(transactionPersistencePort, times(1)).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("should fetch receipts for tracked transactions only and persist their receipt fields")
+        void shouldEnrichTrackedTransactionsOnly() {
+            when(blockChainPort.getBlockByNumber(100L)).thenReturn(Optional.of(block(100)));
+            when(blockChainPort.enrichWithReceipts(any())).thenAnswer(invocation -> {
+                Block block = invocation.getArgument(0);
+                return Block.builder()
+                        .number(block.getNumber())
+                        .transactions(block.getTransactions().stream()
+                                .map(tx -> tx.toBuilder().gasUsed(21_000L).success(false).build())
+                                .toList())
+                        .build();
+            });
+
+            service.ingestUpTo(100);
+
+            ArgumentCaptor<Block> enriched = ArgumentCaptor.forClass(Block.class);
+            verify(blockChainPort).enrichWithReceipts(enriched.capture());
+            assertThat(enriched.getValue().getTransactions())
+                    .extracting(Transaction::getTxHash)
+                    .containsExactly("0xtracked100");
+
+            assertThat(savedTransactions(1)).singleElement().satisfies(tx -> {
+                assertThat(tx.getGasUsed()).isEqualTo(21_000L);
+                assertThat(tx.getSuccess()).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("should decode swap calldata, taking the ETH value as amount in")
+        void shouldDecodeTrackedSwaps() {
+            String input = SwapCalldataDecoderTest.call("0x7ff36ab5", new Uint256(5_000),
+                    new DynamicArray<>(Address.class, new Address(SwapCalldataDecoderTest.WETH),
+                            new Address(SwapCalldataDecoderTest.PEPE)),
+                    new Address(TRACKED_ADDRESS), new Uint256(1_700_000_000L));
+            when(blockChainPort.getBlockByNumber(100L)).thenReturn(Optional.of(Block.builder()
+                    .number(100L)
+                    .transactions(List.of(Transaction.builder()
+                            .txHash("0xswap").from(TRACKED_ADDRESS).to(OTHER_ADDRESS)
+                            .value(new BigDecimal("1.5")).input(input)
+                            .build()))
+                    .build()));
+
+            service.ingestUpTo(100);
+
+            assertThat(savedTransactions(1)).singleElement().satisfies(tx -> {
+                assertThat(tx.getType()).isEqualTo(BlockIngestionService.SWAP_TYPE);
+                assertThat(tx.getTokenIn()).isEqualTo(SwapCalldataDecoderTest.WETH);
+                assertThat(tx.getTokenOut()).isEqualTo(SwapCalldataDecoderTest.PEPE);
+                assertThat(tx.getAmountIn()).isEqualByComparingTo("1500000000000000000");
+                assertThat(tx.getAmountOut()).as("only the minimum out is known").isNull();
+            });
+            assertThat(pnlEngine.getPnl(WALLET_ID)).isPresent();
+        }
+
+        @Test
+        @DisplayName("should take swap amounts from the receipt's transfers, not the calldata's limits")
+        void shouldUseExecutedSwapAmounts() {
+            String router = "0x7a250d5630b4cf539739df2c5dacb4c659f2488d";
+            String input = SwapCalldataDecoderTest.call("0x8803dbee", new Uint256(5_000), new Uint256(2_000),
+                    new DynamicArray<>(Address.class, new Address(SwapCalldataDecoderTest.USDC),
+                            new Address(SwapCalldataDecoderTest.PEPE)),
+                    new Address(TRACKED_ADDRESS), new Uint256(1_700_000_000L));
+            String ethOut = SwapCalldataDecoderTest.call("0x18cbafe5", new Uint256(1_000), new Uint256(1),
+                    new DynamicArray<>(Address.class, new Address(SwapCalldataDecoderTest.PEPE),
+                            new Address(SwapCalldataDecoderTest.WETH)),
+                    new Address(TRACKED_ADDRESS), new Uint256(1_700_000_000L));
+            when(blockChainPort.getBlockByNumber(100L)).thenReturn(Optional.of(Block.builder()
+                    .number(100L)
+                    .transactions(List.of(
+                            Transaction.builder()
+                                    .txHash("0xexecuted").from(TRACKED_ADDRESS).to(router).input(input)
+                                    .tokenTransfers(List.of(
+                                            new Transaction.TokenTransfer(SwapCalldataDecoderTest.USDC,
+                                                    TRACKED_ADDRESS, OTHER_ADDRESS, new BigDecimal("1200")),
+                                            new Transaction.TokenTransfer(SwapCalldataDecoderTest.PEPE,
+                                                    OTHER_ADDRESS, TRACKED_ADDRESS, new BigDecimal("5000"))))
+                                    .build(),
+                            Transaction.builder()
+                                    .txHash("0xunwrapped").from(TRACKED_ADDRESS).to(router).input(ethOut)
+                                    .tokenTransfers(List.of(
+                                            new Transaction.TokenTransfer(SwapCalldataDecoderTest.PEPE,
+                                                    TRACKED_ADDRESS, OTHER_ADDRESS, new BigDecimal("1000")),
+                                            new Transaction.TokenTransfer(SwapCalldataDecoderTest.WETH,
+                                                    OTHER_ADDRESS, router, new BigDecimal("7")),
+                                            new Transaction.TokenTransfer(SwapCalldataDecoderTest.WETH,
+                                                    router, "0x0000000000000000000000000000000000000000",
+                                                    new BigDecimal("7"))))
+                                    .build(),
+                            Transaction.builder()
+                                    .txHash("0xnologs").from(TRACKED_ADDRESS).to(router).input(input)
+                                    .build()))
+                    .build()));
+
+            service.ingestUpTo(100);
+
+            assertThat(savedTransactions(1)).satisfiesExactly(
+                    executed -> {
+                        assertThat(executed.getAmountIn()).isEqualByComparingTo("1200");
+                        assertThat(executed.getAmountOut()).isEqualByComparingTo("5000");
+                    },
+                    unwrapped -> {
+                        assertThat(unwrapped.getAmountIn()).isEqualByComparingTo("1000");
+                        assertThat(unwrapped.getAmountOut()).isEqualByComparingTo("7");
+                    },
+                    noLogs -> {
+                        assertThat(noLogs.getAmountIn()).as("only the maximum in is known").isNull();
+                        assertThat(noLogs.getAmountOut()).isEqualByComparingTo("5000");
+                    });
+        }
+
+        @Test
+        @DisplayName("should stamp the USD value of tracked transactions from the price service")
+        void shouldStampUsdValues() {
+            LocalDateTime blockTime = LocalDateTime.of(2024, 3, 1, 12, 0, 30);
+            TokenMetadataResolver tokenMetadataResolver = mock(TokenMetadataResolver.class);
+            when(tokenMetadataResolver.resolveAll(anyCollection())).thenReturn(Map.of(SwapCalldataDecoderTest.WETH,
+                    Token.builder().address(SwapCalldataDecoderTest.WETH).decimals(18).build()));
+            PriceService priceService = new PriceService(mock(PriceFeedPort.class), mock(PricePersistencePort.class),
+                    tokenMetadataResolver, SwapCalldataDecoderTest.WETH, List.of(), 60, 300_000, 10);
+            priceService.record(SwapCalldataDecoderTest.WETH, blockTime.toInstant(ZoneOffset.UTC).toEpochMilli(), 3_000);
+            service = new BlockIngestionService(
+                    blockChainPort, trackedAddressIndex, transactionPersistencePort, new SwapCalldataDecoder(),
+                    pnlEngine, priceService, executor, 4, 100);
+
+            String input = SwapCalldataDecoderTest.call("0x7ff36ab5", new Uint256(5_000),
+                    new DynamicArray<>(Address.class, new Address(SwapCalldataDecoderTest.WETH),
+                            new Address(SwapCalldataDecoderTest.PEPE)),
+                    new Address(TRACKED_ADDRESS), new Uint256(1_700_000_000L));
+            when(blockChainPort.getBlockByNumber(100L)).thenReturn(Optional.of(Block.builder()
+                    .number(100L)
+                    .timestamp(blockTime)
+                    .transactions(List.of(
+                            Transaction.builder()
+                                    .txHash("0xswap").from(TRACKED_ADDRESS).to(OTHER_ADDRESS)
+                                    .value(new BigDecimal("1.5")).input(input).txTimestamp(blockTime)
+                                    .build(),
+                            Transaction.builder()
+                                    .txHash("0xtransfer").from(OTHER_ADDRESS).to(TRACKED_ADDRESS)
+                                    .value(new BigDecimal("0.01")).txTimestamp(blockTime)
+                                    .build()))
+                    .build()));
+
+            service.ingestUpTo(100);
+
+            assertThat(savedTransactions(1)).extracting(Transaction::getUsdValue)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(new BigDecimal("4500.00"), new BigDecimal("30.00"));
+        }
+
+        @Test
+        @DisplayName("should not fetch receipts for blocks without tracked transactions")
+        void shouldSkipReceipts_WhenNothingTracked() {
+            trackedAddressIndex.replaceAll(List.of());
+            when(blockChainPort.getBlockByNumber(100L)).thenReturn(Optional.of(block(100)));
+
+            assertThat(service.ingestUpTo(100)).isEqualTo(1);
+
+            verify(blockChainPort, never()).enrichWithReceipts(any());
+            verify(transactionPersistencePort, never()).saveAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("ingestToHead Tests")
+    class IngestToHeadTests {
+
+        @Test
+        @DisplayName("should start at head when no start block is configured")
+        void shouldStartAtHead_WhenCursorUnset() {
+            service = new BlockIngestionService(
+                    blockChainPort, trackedAddressIndex, transactionPersistencePort, new SwapCalldataDecoder(),
+                    pnlEngine, executor, 4, -1);
+            when(blockChainPort.getLatestBlockNumber()).thenReturn(200L);
+            when(blockChainPort.getBlockByNumber(200L)).thenReturn(Optional.of(block(200)));
+
+            int committed = service.ingestToHead();
+
+            assertThat(committed).isEqualTo(1);
+            assertThat(service.getCursor()).isEqualTo(201);
+            verify(blockChainPort, never()).getBlockByNumber(199L);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.argus.domain.service;
+
+import com.argus.core.exception.AiException;
+import com.argus.domain.model.Signal;
+import com.argus.domain.model.SignalFingerprint;
+import com.argus.domain.model.Wallet;
+import com.argus.domain.port.ai.NarrativePort;
+import com.argus.domain.port.persistence.SignalPersistencePort;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NarrativeService Unit Tests")
+class NarrativeServiceTest {
+
+    private static final UUID WHALE_ID = UUID.randomUUID();
+    private static final String PEPE = "0x6982508145454ce325ddbe47a25d4ec3d2311933";
+
+    @Mock
+    private SignalPersistencePort signalPersistencePort;
+
+    @Mock
+    private WalletPersistencePort walletPersistencePort;
+
+    private final FakeNarrativePort narrativePort = new FakeNarrativePort();
+    private final Map<Long, String> stored = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private NarrativeService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            stored.putAll(invocation.getArgument(0));
+            return null;
+        }).when(signalPersistencePort).updateNarratives(any());
+        lenient().when(walletPersistencePort.findById(WHALE_ID))
+                .thenReturn(Optional.of(Wallet.builder().id(WHALE_ID).type(Wallet.WalletType.WHALE).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        narrativePort.release.countDown();
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    private NarrativeService start(int batchSize, int maxConcurrentCalls) {
+        service = new NarrativeService(narrativePort, signalPersistencePort, walletPersistencePort, batchSize, 50,
+                maxConcurrentCalls, 1_000, 100);
+        service.start();
+        return service;
+    }
+
+    private Signal signal(String type, String usdValue) {
+        return Signal.builder()
+                .id(ids.incrementAndGet())
+                .type(type)
+                .walletId(WHALE_ID)
+                .tokenAddress(PEPE)
+                .tokenSymbol("PEPE")
+                .usdValue(new BigDecimal(usdValue))
+                .build();
+    }
+
+    @Test
+    @DisplayName("should narrate a batch of signals with one call and store narratives by id")
+    void shouldBatchSignals() {
+        start(10, 2);
+
+        service.enqueue(signal("WHALE_BUY", "150000"));
+        service.enqueue(signal("WHALE_SELL", "150000"));
+        service.enqueue(signal("WHALE_BUY", "5000"));
+
+        await().until(() -> stored.size() == 3);
+        assertThat(narrativePort.calls).singleElement().satisfies(call -> assertThat(call).hasSize(3));
+        assertThat(stored.get(1L)).isEqualTo("WHALE_BUY PEPE WHALE 100000");
+        assertThat(stored.get(3L)).isEqualTo("WHALE_BUY PEPE WHALE 1000");
+    }
+
+    @Test
+    @DisplayName("should reuse narratives for signals with the same fingerprint")
+    void shouldCacheByFingerprint() {
+        start(10, 2);
+
+        service.enqueue(signal("WHALE_BUY", "150000"));
+        service.enqueue(signal("WHALE_BUY", "420000.50"));
+        await().until(() -> stored.size() == 2);
+        service.enqueue(signal("WHALE_BUY", "999999"));
+        await().until(() -> stored.size() == 3);
+
+        assertThat(narrativePort.calls).singleElement().satisfies(call -> assertThat(call).hasSize(1));
+        assertThat(stored.values()).containsOnly("WHALE_BUY PEPE WHALE 100000");
+        assertThat(service.getCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should cap concurrent model calls")
+    void shouldCapInFlightCalls() {
+        narrativePort.blocking = true;
+        start(1, 2);
+
+        for (int i = 0; i < 6; i++) {
+            service.enqueue(signal("TYPE_" + i, "100"));
+        }
+
+        await().until(() -> narrativePort.running.get() == 2);
+        await().during(100, TimeUnit.MILLISECONDS).until(() -> narrativePort.running.get() <= 2);
+        narrativePort.release.countDown();
+
+        await().until(() -> stored.size() == 6);
+        assertThat(narrativePort.maxRunning.get()).isEqualTo(2);
+        assertThat(service.getCallCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("should leave narratives empty when a call fails and try again for later signals")
+    void shouldSurviveFailures() {
+        narrativePort.failures.set(1);
+        start(10, 2);
+
+        service.enqueue(signal("WHALE_BUY", "150000"));
+        await().until(() -> service.getFailedCount() == 1);
+        service.enqueue(signal("WHALE_BUY", "150000"));
+
+        await().until(() -> stored.size() == 1);
+        assertThat(stored).containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("should require stored signals and skip those already narrated")
+    void shouldValidateSignals() {
+        service = new NarrativeService(narrativePort, signalPersistencePort, walletPersistencePort, 10, 50, 2, 1_000, 100);
+
+        assertThatThrownBy(() -> service.enqueue(Signal.builder().type("WHALE_BUY").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.enqueue(Signal.builder().id(1L).aiNarrative("done").build())).isTrue();
+        assertThat(service.getDroppedCount()).isZero();
+    }
+
+    private static class FakeNarrativePort implements NarrativePort {
+
+        private final List<List<SignalFingerprint>> calls = new CopyOnWriteArrayList<>();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean blocking;
+
+        @Override
+        public List<String> generate(List<SignalFingerprint> fingerprints) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                if (blocking) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                if (failures.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                    throw new AiException("model unavailable");
+                }
+                calls.add(fingerprints);
+                return fingerprints.stream()
+                        .map(fingerprint -> fingerprint.getType() + " " + fingerprint.getTokenSymbol() + " "
+                                + fingerprint.getWalletType() + " " + fingerprint.getValueBucket())
+                        .toList();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AiException("interrupted", e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.argus.domain.service;
+
+import com.argus.core.exception.NotificationException;
+import com.argus.domain.port.notification.NotificationPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("NotificationDispatcher Unit Tests")
+class NotificationDispatcherTest {
+
+    private final FakeNotificationPort port = new FakeNotificationPort();
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    private NotificationDispatcher start(int queueCapacity, long digestWindowMillis, int messagesPerSecond) {
+        dispatcher = new NotificationDispatcher(port, queueCapacity, digestWindowMillis, messagesPerSecond, 3, 10);
+        dispatcher.start();
+        return dispatcher;
+    }
+
+    @Test
+    @DisplayName("should coalesce a burst to one chat into a single digest")
+    void shouldCoalesceBursts() {
+        start(1_000, 200, 30);
+
+        for (int i = 0; i < 50; i++) {
+            dispatcher.submit("alice", "alert " + i);
+        }
+        dispatcher.submit("bob", "only alert");
+
+        await().until(() -> dispatcher.getDeliveredCount() == 51);
+        assertThat(port.sent).hasSize(2);
+        assertThat(port.textsFor("alice")).singleElement().asString()
+                .startsWith("50 alerts\n\nalert 0\n\nalert 1")
+                .endsWith("alert 49");
+        assertThat(port.textsFor("bob")).containsExactly("only alert");
+    }
+
+    @Test
+    @DisplayName("should send at most one message per chat per window, in order")
+    void shouldSpaceMessagesPerChat() {
+        start(1_000, 150, 30);
+
+        dispatcher.submit("alice", "first");
+        await().until(() -> dispatcher.getSendCount() == 1);
+        dispatcher.submit("alice", "second");
+        dispatcher.submit("alice", "third");
+
+        await().until(() -> dispatcher.getSendCount() == 2);
+        assertThat(port.textsFor("alice")).containsExactly("first", "2 alerts\n\nsecond\n\nthird");
+        assertThat(Duration.between(port.sent.get(0).at(), port.sent.get(1).at())).isGreaterThanOrEqualTo(Duration.ofMillis(140));
+    }
+
+    @Test
+    @DisplayName("should hold sends across all chats to the global rate")
+    void shouldRateLimitAcrossChats() {
+        start(1_000, 1, 20);
+
+        long startNanos = System.nanoTime();
+        IntStream.range(0, 40).forEach(i -> dispatcher.submit("chat-" + i, "alert"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.getSendCount() == 40);
+        // 20 go out from the full bucket, the other 20 at 20 per second
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isGreaterThanOrEqualTo(Duration.ofMillis(900));
+    }
+
+    @Test
+    @DisplayName("should retry retryable failures and give up on the others")
+    void shouldRetryWithBackoff() {
+        port.failures.put("flaky", new ArrayDeque<>(List.of(
+                new NotificationException("busy", true, 0),
+                new NotificationException("rate limited", true, 50))));
+        port.failures.put("blocked", new ArrayDeque<>(List.of(
+                new NotificationException("bot was blocked by the user", false, 0))));
+        start(1_000, 1, 30);
+
+        dispatcher.submit("flaky", "alert");
+        dispatcher.submit("blocked", "alert");
+
+        await().until(() -> dispatcher.getDeliveredCount() == 1 && dispatcher.getFailedCount() == 1);
+        assertThat(port.attempts).containsEntry("flaky", 3).containsEntry("blocked", 1);
+        assertThat(port.textsFor("flaky")).containsExactly("alert");
+    }
+
+    @Test
+    @DisplayName("should drop messages beyond the queue capacity")
+    void shouldBoundQueue() {
+        dispatcher = new NotificationDispatcher(port, 3, 1_000, 30, 3, 10);
+
+        assertThat(IntStream.range(0, 5).mapToObj(i -> dispatcher.submit("alice", "alert " + i)))
+                .containsExactly(true, true, true, false, false);
+        assertThat(dispatcher.getQueuedCount()).isEqualTo(3);
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should split digests that would exceed the message length limit")
+    void shouldSplitLongDigests() {
+        start(1_000, 50, 30);
+        String longAlert = "x".repeat(1_500);
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.submit("alice", longAlert);
+        }
+
+        await().until(() -> dispatcher.getDeliveredCount() == 5);
+        assertThat(port.textsFor("alice"))
+                .hasSize(3)
+                .allSatisfy(text -> assertThat(text.length()).isLessThanOrEqualTo(NotificationDispatcher.MAX_MESSAGE_LENGTH));
+    }
+
+    @Test
+    @DisplayName("should flush queued messages on close")
+    void shouldFlushOnClose() {
+        start(1_000, 60_000, 30);
+
+        dispatcher.submit("alice", "alert");
+        dispatcher.close();
+
+        assertThat(port.textsFor("alice")).containsExactly("alert");
+        assertThat(dispatcher.submit("alice", "late")).isFalse();
+    }
+
+    private record Sent(String chatId, String text, Instant at) {
+    }
+
+    private static class FakeNotificationPort implements NotificationPort {
+
+        private final List<Sent> sent = new CopyOnWriteArrayList<>();
+        private final Map<String, Queue<NotificationException>> failures = new ConcurrentHashMap<>();
+        private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+
+        @Override
+        public void send(String chatId, String text) {
+            attempts.merge(chatId, 1, Integer::sum);
+            Queue<NotificationException> pending = failures.getOrDefault(chatId, new ArrayDeque<>());
+            NotificationException failure;
+            synchronized (pending) {
+                failure = pending.poll();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            sent.add(new Sent(chatId, text, Instant.now()));
+        }
+
+        List<String> textsFor(String chatId) {
+            return sent.stream().filter(message -> message.chatId().equals(chatId)).map(Sent::text).toList();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.Transaction;
+import com.argus.domain.model.WalletPnlSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PnlEngine Unit Tests")
+class PnlEngineTest {
+
+    private static final String USDC = "0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48";
+    private static final String WETH = "0xc02aaa39b223fe8d0a0e5c4f27ead9083c756cc2";
+    private static final String PEPE = "0x6982508145454ce325ddbe47a25d4ec3d2311933";
+    private static final UUID WALLET_ID = UUID.randomUUID();
+
+    private final PnlEngine engine = new PnlEngine(Map.of(USDC.toUpperCase().replace("0X", "0x"), 6));
+
+    private static Transaction swap(long block, String tokenIn, String amountIn, String tokenOut, String amountOut) {
+        return Transaction.builder()
+                .walletId(WALLET_ID)
+                .type(PnlEngine.SWAP_TYPE)
+                .blockNumber(block)
+                .tokenIn(tokenIn)
+                .amountIn(new BigDecimal(amountIn))
+                .tokenOut(tokenOut)
+                .amountOut(new BigDecimal(amountOut))
+                .build();
+    }
+
+    /**
+     * Buys {@code quantity} PEPE for {@code usd} USDC.
+     */
+    private static Transaction buy(long block, String quantity, long usd) {
+        return swap(block, USDC, String.valueOf(usd * 1_000_000), PEPE, quantity);
+    }
+
+    private static Transaction sell(long block, String quantity, long usd) {
+        return swap(block, PEPE, quantity, USDC, String.valueOf(usd * 1_000_000));
+    }
+
+    private WalletPnlSnapshot pnl() {
+        return engine.getPnl(WALLET_ID).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("FIFO lots")
+    class FifoTests {
+
+        @Test
+        @DisplayName("should realize against the oldest lots first, splitting a partially sold lot")
+        void shouldCloseOldestLotsFirst() {
+            engine.apply(buy(1, "100", 100));  // $1.00 each
+            engine.apply(buy(2, "100", 300));  // $3.00 each
+            engine.apply(sell(3, "150", 300)); // $2.00 each: 100 at $1 and 50 at $3
+
+            WalletPnlSnapshot pnl = pnl();
+            assertThat(pnl.getRealizedPnl()).isEqualByComparingTo("50");
+            assertThat(pnl.getClosedTrades()).isEqualTo(1);
+            assertThat(pnl.getWins()).isEqualTo(1);
+            assertThat(pnl.getLots().get(PEPE)).singleElement().satisfies(lot -> {
+                assertThat(lot.quantity()).isEqualByComparingTo("50");
+                assertThat(lot.costUsd()).isEqualByComparingTo("150");
+            });
+
+            engine.apply(sell(4, "50", 50));
+
+            assertThat(pnl().getRealizedPnl()).isEqualByComparingTo("-50");
+            assertThat(pnl().getWinRate()).isEqualByComparingTo("0.5");
+            assertThat(pnl().getLots()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should only count the share of a sell covered by open lots")
+        void shouldIgnoreUnknownBasis() {
+            engine.apply(buy(1, "100", 100));
+            engine.apply(sell(2, "200", 400)); // half of the proceeds belong to tokens bought before tracking
+
+            assertThat(pnl().getRealizedPnl()).isEqualByComparingTo("100");
+
+            engine.apply(sell(3, "10", 10));
+
+            assertThat(pnl().getClosedTrades()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should carry the cost basis over an unpriced token-to-token swap")
+        void shouldCarryBasis_WhenSwapUnpriced() {
+            engine.apply(buy(1, "100", 100));
+            engine.apply(swap(2, PEPE, "100", WETH, "5"));
+            engine.apply(swap(3, WETH, "5", USDC, "250000000"));
+
+            assertThat(pnl().getRealizedPnl()).isEqualByComparingTo("150");
+            assertThat(pnl().getClosedTrades()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should skip swap sides without an executed amount")
+        void shouldSkipSidesWithoutAmount() {
+            engine.apply(buy(1, "100", 100));
+            engine.apply(sell(2, "100", 300).toBuilder().amountIn(null).build());
+            engine.apply(buy(3, "100", 50).toBuilder().amountOut(null).build());
+
+            assertThat(pnl().getClosedTrades()).isZero();
+            assertThat(pnl().getLots().get(PEPE)).singleElement()
+                    .satisfies(lot -> assertThat(lot.quantity()).isEqualByComparingTo("100"));
+        }
+
+        @Test
+        @DisplayName("should prefer the transaction's USD value and skip non-swaps and reverted swaps")
+        void shouldUseUsdValue() {
+            engine.apply(swap(1, WETH, "1", PEPE, "100").toBuilder().usdValue(new BigDecimal("2000")).build());
+            engine.apply(swap(2, PEPE, "100", WETH, "1").toBuilder().usdValue(new BigDecimal("2500")).build());
+            engine.apply(sell(3, "100", 10).toBuilder().type("TRANSFER").build());
+            engine.apply(sell(4, "100", 10).toBuilder().success(false).build());
+
+            assertThat(pnl().getRealizedPnl()).isEqualByComparingTo("500");
+            // The WETH bought back opened a lot at the same USD value
+            assertThat(pnl().getLots().get(WETH)).singleElement()
+                    .satisfies(lot -> assertThat(lot.costUsd()).isEqualByComparingTo("2500"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("should hand out changed wallets once, and again after markDirty")
+        void shouldDrainDirtyWallets() {
+            engine.apply(buy(1, "100", 100));
+
+            assertThat(engine.drainDirty()).extracting(WalletPnlSnapshot::getWalletId).containsExactly(WALLET_ID);
+            assertThat(engine.drainDirty()).isEmpty();
+
+            engine.markDirty(List.of(WALLET_ID));
+
+            assertThat(engine.drainDirty()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should resume from a snapshot and skip blocks it already covers")
+        void shouldRestore() {
+            engine.apply(buy(1, "100", 100));
+            engine.apply(sell(2, "50", 100));
+            WalletPnlSnapshot snapshot = engine.drainDirty().get(0);
+
+            PnlEngine restarted = new PnlEngine(Map.of(USDC, 6));
+            restarted.restore(List.of(snapshot));
+            restarted.apply(sell(2, "50", 100)); // replayed
+            restarted.apply(sell(3, "50", 25));
+
+            WalletPnlSnapshot pnl = restarted.getPnl(WALLET_ID).orElseThrow();
+            assertThat(pnl.getRealizedPnl()).isEqualByComparingTo("25");
+            assertThat(pnl.getClosedTrades()).isEqualTo(2);
+            assertThat(pnl.getLastBlockNumber()).isEqualTo(3);
+            assertThat(pnl.getLots()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should keep swaps applied before a late restore, on top of the restored state")
+        void shouldMergeLateRestore() {
+            engine.apply(buy(1, "100", 100));
+            engine.apply(sell(2, "50", 100));
+            WalletPnlSnapshot snapshot = engine.drainDirty().get(0);
+
+            PnlEngine restarted = new PnlEngine(Map.of(USDC, 6));
+            restarted.apply(buy(3, "10", 30));
+            restarted.restore(List.of(snapshot));
+            restarted.apply(sell(2, "50", 100)); // replayed
+            restarted.apply(sell(4, "60", 120));
+
+            WalletPnlSnapshot pnl = restarted.getPnl(WALLET_ID).orElseThrow();
+            // The restored 50 at $1 go first, then the 10 at $3: 50 + (120 - 50 - 30)
+            assertThat(pnl.getRealizedPnl()).isEqualByComparingTo("90");
+            assertThat(pnl.getClosedTrades()).isEqualTo(2);
+            assertThat(pnl.getLastBlockNumber()).isEqualTo(4);
+            assertThat(pnl.getLots()).isEmpty();
+            assertThat(restarted.drainDirty()).hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.argus.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.argus.domain.service.PriceService.MINUTE_MILLIS;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JMH benchmark of {@link PriceService#priceAt} over a full day of minute prices for 500 tokens, the
+ * lookup ingestion makes for every tracked transaction. Run with the GC profiler, which reports bytes
+ * allocated per call ({@code gc.alloc.rate.norm}); the JUnit test below does that and asserts there are
+ * none.
+ * <p>
+ * Runs only when {@code ARGUS_BENCHMARK} is set, e.g.
+ * {@code ARGUS_BENCHMARK=true mvn test -Dtest=PriceServiceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "ARGUS_BENCHMARK", matches = ".+")
+@DisplayName("PriceService benchmark")
+public class PriceServiceBenchmark {
+
+    private static final int TOKENS = 500;
+    private static final int MINUTES = 1440;
+    private static final long START = 1_709_294_400_000L;
+
+    private final PriceService service = new PriceService(null, null, null, token(0), List.of(), MINUTES,
+            15 * MINUTE_MILLIS, TOKENS);
+    private final String[] tokens = new String[TOKENS];
+    private int next;
+
+    public PriceServiceBenchmark() {
+        for (int t = 0; t < TOKENS; t++) {
+            tokens[t] = token(t);
+            for (int minute = 0; minute < MINUTES; minute++) {
+                service.record(tokens[t], START + minute * MINUTE_MILLIS, 1 + t + minute / 1000.0);
+            }
+        }
+    }
+
+    private static String token(int index) {
+        return String.format("0x%040x", index + 1);
+    }
+
+    @Benchmark
+    public double priceAt() {
+        int call = next++ & Integer.MAX_VALUE;
+        return service.priceAt(tokens[call % TOKENS], START + (call * 7_919L) % (MINUTES * MINUTE_MILLIS));
+    }
+
+    @Benchmark
+    public double priceAtUnknownToken() {
+        return service.priceAt("0x6982508145454ce325ddbe47a25d4ec3d2311933", START);
+    }
+
+    @Test
+    @DisplayName("should look prices up without allocating")
+    void shouldNotAllocate() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(PriceServiceBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        Map<String, Double> bytesPerCall = results.stream().collect(Collectors.toMap(
+                result -> result.getParams().getBenchmark().replaceAll(".*\\.", ""),
+                result -> result.getSecondaryResults().get("gc.alloc.rate.norm").getScore()));
+        String description = "bytes allocated per call " + bytesPerCall;
+
+        assertThat(bytesPerCall.get("priceAt")).as(description).isLessThan(1);
+        assertThat(bytesPerCall.get("priceAtUnknownToken")).as(description).isLessThan(1);
+    }
+}
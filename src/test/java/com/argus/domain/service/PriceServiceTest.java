@@ -0,0 +1,220 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.PricePoint;
+import com.argus.domain.model.Token;
+import com.argus.domain.model.Transaction;
+import com.argus.domain.port.persistence.PricePersistencePort;
+import com.argus.domain.port.price.PriceFeedPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.argus.domain.service.PriceService.MINUTE_MILLIS;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceService Unit Tests")
+class PriceServiceTest {
+
+    private static final String WETH = "0xc02aaa39b223fe8d0a0e5c4f27ead9083c756cc2";
+    private static final String USDC = "0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48";
+    private static final String PEPE = "0x6982508145454ce325ddbe47a25d4ec3d2311933";
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 1, 12, 0);
+    private static final long T0 = NOON.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    @Mock
+    private PriceFeedPort priceFeedPort;
+
+    @Mock
+    private PricePersistencePort pricePersistencePort;
+
+    @Mock
+    private TokenMetadataResolver tokenMetadataResolver;
+
+    private PriceService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PriceService(priceFeedPort, pricePersistencePort, tokenMetadataResolver, WETH, List.of(USDC),
+                5, 3 * MINUTE_MILLIS, 3);
+    }
+
+    @Nested
+    @DisplayName("priceAt Tests")
+    class PriceAtTests {
+
+        @Test
+        @DisplayName("should answer with the latest minute at or before the moment, within the staleness limit")
+        void shouldFindLatestMinute() {
+            service.record(WETH, T0 + 10_000, 3_000);
+            service.record(WETH, T0 + 2 * MINUTE_MILLIS, 3_100);
+
+            assertThat(service.priceAt(WETH, T0 - 1)).isNaN();
+            assertThat(service.priceAt(WETH, T0)).isEqualTo(3_000);
+            assertThat(service.priceAt(WETH.toUpperCase().replace("0X", "0x"), T0 + 59_999)).isEqualTo(3_000);
+            assertThat(service.priceAt(WETH, T0 + MINUTE_MILLIS + 30_000)).isEqualTo(3_000);
+            assertThat(service.priceAt(WETH, T0 + 2 * MINUTE_MILLIS)).isEqualTo(3_100);
+            assertThat(service.priceAt(WETH, T0 + 5 * MINUTE_MILLIS)).isEqualTo(3_100);
+            assertThat(service.priceAt(WETH, T0 + 5 * MINUTE_MILLIS + 1)).isNaN();
+            assertThat(service.priceAt(PEPE, T0)).isNaN();
+            assertThat(service.priceAt(null, T0)).isNaN();
+        }
+
+        @Test
+        @DisplayName("should keep only the last history-minutes minutes once the ring wraps around")
+        void shouldWrapAround() {
+            for (int minute = 0; minute < 12; minute++) {
+                service.record(WETH, T0 + minute * MINUTE_MILLIS, 1_000 + minute);
+            }
+
+            assertThat(service.priceAt(WETH, T0 + 6 * MINUTE_MILLIS)).isNaN();
+            for (int minute = 7; minute < 12; minute++) {
+                assertThat(service.priceAt(WETH, T0 + minute * MINUTE_MILLIS + 1)).isEqualTo(1_000 + minute);
+            }
+        }
+
+        @Test
+        @DisplayName("should overwrite a stored minute and drop a minute older than the newest that was never stored")
+        void shouldOverwriteOrDropOlderMinutes() {
+            service.record(WETH, T0, 3_000);
+            service.record(WETH, T0 + 2 * MINUTE_MILLIS, 3_200);
+
+            service.record(WETH, T0 + 30_000, 3_050);
+            service.record(WETH, T0 + MINUTE_MILLIS, 3_100);
+
+            assertThat(service.priceAt(WETH, T0 + MINUTE_MILLIS)).isEqualTo(3_050);
+            assertThat(service.priceAt(WETH, T0 + 2 * MINUTE_MILLIS)).isEqualTo(3_200);
+        }
+
+        @Test
+        @DisplayName("should ignore invalid prices and tokens beyond the token limit")
+        void shouldIgnoreInvalidPrices() {
+            service.record(WETH, T0, Double.NaN);
+            service.record(USDC, T0, -1);
+            service.record(WETH, T0, 3_000);
+            service.record(USDC, T0, 1);
+            service.record(PEPE, T0, 0.00001);
+            service.record("0x95ad61b0a150d79219dcf64e1e6cc01f0b64c4ce", T0, 0.00002);
+
+            assertThat(service.getTokenCount()).isEqualTo(3);
+            assertThat(service.priceAt("0x95ad61b0a150d79219dcf64e1e6cc01f0b64c4ce", T0)).isNaN();
+        }
+    }
+
+    @Nested
+    @DisplayName("Feed and persistence Tests")
+    class FeedAndPersistenceTests {
+
+        @Test
+        @DisplayName("should poll the watched tokens and store each new price once")
+        @SuppressWarnings("unchecked")
+        void shouldRefreshAndFlush() {
+            when(priceFeedPort.fetchPrices(anyCollection())).thenReturn(List.of(
+                    new PricePoint(WETH, T0 + 5_000, 3_000), new PricePoint(USDC, T0 + 5_000, 1.0001)));
+
+            assertThat(service.refresh()).isEqualTo(2);
+            assertThat(service.flush()).isEqualTo(2);
+            assertThat(service.flush()).isZero();
+
+            ArgumentCaptor<Collection<String>> polled = ArgumentCaptor.forClass(Collection.class);
+            verify(priceFeedPort).fetchPrices(polled.capture());
+            assertThat(polled.getValue()).containsExactlyInAnyOrder(WETH, USDC);
+            verify(pricePersistencePort, times(1)).saveAll(List.of(
+                    new PricePoint(WETH, T0, 3_000), new PricePoint(USDC, T0, 1.0001)));
+            assertThat(service.priceAt(USDC, T0 + 30_000)).isEqualTo(1.0001);
+        }
+
+        @Test
+        @DisplayName("should keep prices queued when storing them fails")
+        void shouldRetryFailedFlush() {
+            service.record(WETH, T0, 3_000);
+            doThrow(new IllegalStateException("database down")).doNothing().when(pricePersistencePort).saveAll(anyList());
+
+            assertThatThrownBy(() -> service.flush()).hasMessage("database down");
+            assertThat(service.flush()).isEqualTo(1);
+            verify(pricePersistencePort, times(2)).saveAll(List.of(new PricePoint(WETH, T0, 3_000)));
+        }
+
+        @Test
+        @DisplayName("should restore stored history without storing it again, and watch its tokens")
+        @SuppressWarnings("unchecked")
+        void shouldRestore() {
+            when(pricePersistencePort.findSince(anyLong())).thenReturn(List.of(
+                    new PricePoint(PEPE, T0, 0.00001), new PricePoint(PEPE, T0 + MINUTE_MILLIS, 0.000012)));
+
+            assertThat(service.restore()).isEqualTo(2);
+
+            assertThat(service.priceAt(PEPE, T0 + MINUTE_MILLIS)).isEqualTo(0.000012);
+            assertThat(service.flush()).isZero();
+            service.refresh();
+            ArgumentCaptor<Collection<String>> polled = ArgumentCaptor.forClass(Collection.class);
+            verify(priceFeedPort).fetchPrices(polled.capture());
+            assertThat(polled.getValue()).containsExactlyInAnyOrder(WETH, USDC, PEPE);
+        }
+    }
+
+    @Nested
+    @DisplayName("stampUsdValues Tests")
+    class StampTests {
+
+        private Transaction swap(String tokenIn, String amountIn, String tokenOut, String amountOut) {
+            return Transaction.builder()
+                    .type(BlockIngestionService.SWAP_TYPE)
+                    .tokenIn(tokenIn).amountIn(new BigDecimal(amountIn))
+                    .tokenOut(tokenOut).amountOut(new BigDecimal(amountOut))
+                    .txTimestamp(NOON.plusSeconds(30))
+                    .build();
+        }
+
+        @BeforeEach
+        void setUpPrices() {
+            service.record(WETH, T0, 3_000);
+            lenient().when(tokenMetadataResolver.resolveAll(anyCollection())).thenReturn(Map.of(
+                    WETH, Token.builder().address(WETH).decimals(18).build(),
+                    PEPE, Token.builder().address(PEPE).decimals(18).build()));
+        }
+
+        @Test
+        @DisplayName("should value swaps by the priced side and ETH transfers by the WETH price")
+        void shouldStampUsdValues() {
+            List<Transaction> stamped = service.stampUsdValues(List.of(
+                    swap(WETH, "1500000000000000000", PEPE, "5000"),
+                    swap(PEPE, "5000", WETH, "250000000000000000"),
+                    Transaction.builder().value(new BigDecimal("0.1")).txTimestamp(NOON).build(),
+                    swap(WETH, "1000000000000000000", PEPE, "1").toBuilder().usdValue(new BigDecimal("42")).build()));
+
+            assertThat(stamped).extracting(Transaction::getUsdValue)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(new BigDecimal("4500.00"), new BigDecimal("750.00"), new BigDecimal("300.00"),
+                            new BigDecimal("42"));
+            assertThat(service.getStampedCount()).isEqualTo(3);
+            verify(tokenMetadataResolver).resolveAll(argThat(tokens -> tokens.containsAll(List.of(WETH, PEPE))));
+        }
+
+        @Test
+        @DisplayName("should leave transactions without a known price or timestamp unvalued")
+        void shouldLeaveUnpricedTransactions() {
+            List<Transaction> stamped = service.stampUsdValues(List.of(
+                    swap(PEPE, "5000", USDC, "1000000"),
+                    swap(WETH, "1", PEPE, "1").toBuilder().txTimestamp(NOON.plusHours(1)).build(),
+                    swap(WETH, "1", PEPE, "1").toBuilder().txTimestamp(null).build(),
+                    Transaction.builder().txTimestamp(NOON).build()));
+
+            assertThat(stamped).extracting(Transaction::getUsdValue).containsOnlyNulls();
+            assertThat(service.getUnpricedCount()).isEqualTo(2);
+        }
+    }
+}
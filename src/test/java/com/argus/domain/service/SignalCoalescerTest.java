@@ -0,0 +1,257 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.Signal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SignalCoalescer Unit Tests")
+class SignalCoalescerTest {
+
+    private static final UUID WALLET_ID = UUID.randomUUID();
+    private static final String PEPE = "0x6982508145454ce325ddbe47a25d4ec3d2311933";
+
+    private final FakeClock clock = new FakeClock();
+    private final List<Signal> emitted = new CopyOnWriteArrayList<>();
+
+    private SignalCoalescer coalescer(SignalCoalescer.Mode mode, int maxOpenWindows) {
+        return new SignalCoalescer(emitted::addAll, mode, 1_000, 3_000, maxOpenWindows, 8, 100, 3, clock);
+    }
+
+    private SignalCoalescer coalescer(Consumer<List<Signal>> sink, int maxOpenWindows, int maxUnsent) {
+        return new SignalCoalescer(sink, SignalCoalescer.Mode.TUMBLING, 1_000, 3_000, maxOpenWindows, 8,
+                maxUnsent, 3, clock);
+    }
+
+    private static Signal signal(UUID walletId, String type, String usdValue, String confidence) {
+        return Signal.builder()
+                .type(type)
+                .walletId(walletId)
+                .tokenAddress(PEPE)
+                .tokenSymbol("PEPE")
+                .chain("ethereum")
+                .usdValue(new BigDecimal(usdValue))
+                .confidenceScore(new BigDecimal(confidence))
+                .build();
+    }
+
+    @Test
+    @DisplayName("should merge a split buy into one signal when the window closes")
+    void shouldMergeWithinWindow() {
+        SignalCoalescer coalescer = coalescer(SignalCoalescer.Mode.TUMBLING, 100);
+
+        for (int i = 0; i < 10; i++) {
+            coalescer.offer(signal(WALLET_ID, "WHALE_BUY", "1000.50", i == 3 ? "0.95" : "0.70"));
+        }
+        coalescer.offer(signal(WALLET_ID, "WHALE_SELL", "200", "0.60"));
+        assertThat(coalescer.flushExpired()).isZero();
+
+        clock.advance(1_000);
+
+        assertThat(coalescer.flushExpired()).isEqualTo(2);
+        assertThat(emitted).filteredOn(signal -> signal.getType().equals("WHALE_BUY")).singleElement()
+                .satisfies(signal -> {
+                    assertThat(signal.getUsdValue()).isEqualByComparingTo("10005.00");
+                    assertThat(signal.getConfidenceScore()).isEqualByComparingTo("0.95");
+                    assertThat(signal.getTokenSymbol()).isEqualTo("PEPE");
+                });
+        assertThat(coalescer.getOpenWindowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should start a new tumbling window once the previous one has closed")
+    void shouldTumble() {
+        SignalCoalescer coalescer = coalescer(SignalCoalescer.Mode.TUMBLING, 100);
+
+        coalescer.offer(signal(WALLET_ID, "WHALE_BUY", "100", "0.5"));
+        clock.advance(600);
+        coalescer.offer(signal(WALLET_ID, "WHALE_BUY", "100", "0.5"));
+        clock.advance(600);
+        // The first window closed 200ms ago but has not been flushed yet
+        coalescer.offer(signal(WALLET_ID, "WHALE_BUY", "100", "0.5"));
+
+        assertThat(emitted).singleElement().satisfies(signal -> assertThat(signal.getUsdValue()).isEqualByComparingTo("200"));
+        clock.advance(1_000);
+        coalescer.flushExpired();
+        assertThat(emitted).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should keep a sliding window open while signals keep coming, up to the max span")
+    void shouldSlide() {
+        SignalCoalescer coalescer = coalescer(SignalCoalescer.Mode.SLIDING, 100);
+
+        for (int i = 0; i < 5; i++) {
+            coalescer.offer(signal(WALLET_ID, "WHALE_BUY", "100", "0.5"));
+            clock.advance(700);
+            if (i < 4) {
+                assertThat(coalescer.flushExpired()).as("after signal %d", i).isZero();
+            }
+        }
+
+        // 3.5s after the first signal, past the 3s max span
+        assertThat(coalescer.flushExpired()).isEqualTo(1);
+        assertThat(emitted).singleElement().satisfies(signal -> assertThat(signal.getUsdValue()).isEqualByComparingTo("500"));
+    }
+
+    @Test
+    @DisplayName("should pass signals through unmerged once the window limit is reached")
+    void shouldBoundOpenWindows() {
+        SignalCoalescer coalescer = coalescer(SignalCoalescer.Mode.TUMBLING, 2);
+
+        coalescer.offer(signal(UUID.randomUUID(), "WHALE_BUY", "1", "0.5"));
+        coalescer.offer(signal(UUID.randomUUID(), "WHALE_BUY", "2", "0.5"));
+        coalescer.offer(signal(UUID.randomUUID(), "WHALE_BUY", "3", "0.5"));
+
+        assertThat(coalescer.getOpenWindowCount()).isEqualTo(2);
+        assertThat(coalescer.getOverflowCount()).isEqualTo(1);
+        assertThat(emitted).singleElement().satisfies(signal -> assertThat(signal.getUsdValue()).isEqualByComparingTo("3"));
+
+        coalescer.close();
+        assertThat(emitted).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("should hand signals over again at the next flush when the sink fails")
+    void shouldRetryFailedEmit() {
+        AtomicBoolean down = new AtomicBoolean(true);
+        SignalCoalescer coalescer = coalescer(signals -> {
+            if (down.get()) {
+                throw new IllegalStateException("database down");
+            }
+            emitted.addAll(signals);
+        }, 1, 100);
+
+        coalescer.offer(signal(WALLET_ID, "WHALE_BUY", "100", "0.5"));
+        coalescer.offer(signal(UUID.randomUUID(), "WHALE_BUY", "7", "0.5")); // overflows, emitted directly
+        clock.advance(1_000);
+
+        assertThat(coalescer.flushExpired()).isZero();
+        assertThat(coalescer.getUnsentCount()).isEqualTo(2);
+        down.set(false);
+        assertThat(coalescer.flushExpired()).isEqualTo(2);
+        assertThat(coalescer.getUnsentCount()).isZero();
+        assertThat(coalescer.getEmittedCount()).isEqualTo(2);
+        assertThat(coalescer.getDroppedCount()).isZero();
+        assertThat(emitted).extracting(Signal::getUsdValue)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyInAnyOrder(new BigDecimal("100"), new BigDecimal("7"));
+    }
+
+    @Test
+    @DisplayName("should store the rest of a batch the sink rejects and drop the signal it keeps rejecting")
+    void shouldIsolateRejectedSignal() {
+        SignalCoalescer coalescer = coalescer(signals -> {
+            if (signals.stream().anyMatch(signal -> "WHALE_SELL".equals(signal.getType()))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            emitted.addAll(signals);
+        }, 100, 100);
+
+        coalescer.offer(signal(WALLET_ID, "WHALE_BUY", "100", "0.5"));
+        coalescer.offer(signal(WALLET_ID, "WHALE_SELL", "5", "0.5"));
+        coalescer.offer(signal(UUID.randomUUID(), "WHALE_BUY", "7", "0.5"));
+        clock.advance(1_000);
+
+        assertThat(coalescer.flushExpired()).isEqualTo(2);
+        assertThat(emitted).extracting(Signal::getType).containsExactly("WHALE_BUY", "WHALE_BUY");
+        assertThat(coalescer.getUnsentCount()).isEqualTo(1);
+
+        assertThat(coalescer.flushExpired()).isZero();
+        assertThat(coalescer.flushExpired()).isZero();
+        assertThat(coalescer.getUnsentCount()).isZero();
+        assertThat(coalescer.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep only the newest unsent signals while the sink is down")
+    void shouldBoundUnsentSignals() {
+        SignalCoalescer coalescer = coalescer(signals -> {
+            throw new IllegalStateException("database down");
+        }, 1, 2);
+
+        coalescer.offer(signal(WALLET_ID, "WHALE_BUY", "1", "0.5"));
+        for (int i = 0; i < 5; i++) {
+            coalescer.offer(signal(UUID.randomUUID(), "WHALE_BUY", "2", "0.5"));
+        }
+
+        assertThat(coalescer.getUnsentCount()).isEqualTo(2);
+        assertThat(coalescer.getDroppedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should not lose value when many threads feed the same keys")
+    void shouldMergeConcurrently() throws Exception {
+        SignalCoalescer coalescer = coalescer(SignalCoalescer.Mode.TUMBLING, 1_000);
+        List<UUID> wallets = IntStream.range(0, 16).mapToObj(i -> UUID.randomUUID()).toList();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = IntStream.range(0, 8)
+                    .<Future<?>>mapToObj(thread -> executor.submit(() -> {
+                        for (int i = 0; i < 2_000; i++) {
+                            coalescer.offer(signal(wallets.get(i % wallets.size()), "WHALE_BUY", "1", "0.5"));
+                        }
+                    }))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        clock.advance(1_000);
+        coalescer.flushExpired();
+
+        assertThat(emitted).hasSize(16);
+        assertThat(emitted.stream().map(Signal::getUsdValue).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo("16000");
+        assertThat(coalescer.getOfferedCount()).isEqualTo(16_000);
+    }
+
+    private static class FakeClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+
+        void advance(long deltaMillis) {
+            millis.addAndGet(deltaMillis);
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.argus.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.StaticStruct;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint160;
+import org.web3j.abi.datatypes.generated.Uint24;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JMH benchmark of {@link SwapCalldataDecoder}, with web3j's generic ABI decoder on the same V2 calldata
+ * as a baseline. Run with the GC profiler, which reports bytes allocated per call
+ * ({@code gc.alloc.rate.norm}); the JUnit test below does that and asserts the bounds.
+ * <p>
+ * Runs only when {@code ARGUS_BENCHMARK} is set, e.g.
+ * {@code ARGUS_BENCHMARK=true mvn test -Dtest=SwapCalldataDecoderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "ARGUS_BENCHMARK", matches = ".+")
+@DisplayName("SwapCalldataDecoder benchmark")
+public class SwapCalldataDecoderBenchmark {
+
+    private static final String WETH = SwapCalldataDecoderTest.WETH;
+    private static final String USDC = SwapCalldataDecoderTest.USDC;
+    private static final String RECIPIENT = SwapCalldataDecoderTest.RECIPIENT;
+
+    private final SwapCalldataDecoder decoder = new SwapCalldataDecoder();
+
+    private final String v2Swap = SwapCalldataDecoderTest.swapExactTokensForTokens(
+            new BigInteger("25000000000000000000000"), BigInteger.valueOf(41_500_000L), WETH, USDC);
+    private final byte[] v2SwapBytes = Numeric.hexStringToByteArray(v2Swap);
+    private final String multicall = SwapCalldataDecoderTest.call("0x5ae401dc", new Uint256(1_700_000_000L),
+            new DynamicArray<>(DynamicBytes.class, new DynamicBytes(Numeric.hexStringToByteArray(
+                    SwapCalldataDecoderTest.call("0x04e45aaf", new StaticStruct(new Address(USDC),
+                            new Address(WETH), new Uint24(500), new Address(RECIPIENT), new Uint256(3_000_000_000L),
+                            new Uint256(new BigInteger("1000000000000000000")), new Uint160(0)))))));
+    private final String transfer = SwapCalldataDecoderTest.call("0xa9059cbb", new Address(RECIPIENT),
+            new Uint256(1_000));
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private final List<TypeReference<Type>> v2Parameters = (List) List.of(
+            new TypeReference<Uint256>() { },
+            new TypeReference<Uint256>() { },
+            new TypeReference<DynamicArray<Address>>() { },
+            new TypeReference<Address>() { },
+            new TypeReference<Uint256>() { });
+
+    @Benchmark
+    public Object decodeV2Hex() {
+        return decoder.decode(v2Swap);
+    }
+
+    @Benchmark
+    public Object decodeV2Bytes() {
+        return decoder.decode(v2SwapBytes);
+    }
+
+    @Benchmark
+    public Object decodeMulticall() {
+        return decoder.decode(multicall);
+    }
+
+    @Benchmark
+    public Object rejectNonSwap() {
+        return decoder.decode(transfer);
+    }
+
+    @Benchmark
+    public Object web3jV2Baseline() {
+        return FunctionReturnDecoder.decode(v2Swap.substring(10), v2Parameters);
+    }
+
+    @Test
+    @DisplayName("should decode with a fraction of the generic ABI decoder's allocations")
+    void shouldBeAllocationLight() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(SwapCalldataDecoderBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        Map<String, Double> bytesPerCall = results.stream().collect(Collectors.toMap(
+                result -> result.getParams().getBenchmark().replaceAll(".*\\.", ""),
+                result -> result.getSecondaryResults().get("gc.alloc.rate.norm").getScore()));
+        String description = "bytes allocated per call " + bytesPerCall;
+
+        assertThat(bytesPerCall.get("rejectNonSwap")).as(description).isLessThan(64);
+        assertThat(bytesPerCall.get("decodeV2Bytes")).as(description)
+                .isLessThan(bytesPerCall.get("web3jV2Baseline") / 5);
+        assertThat(bytesPerCall.get("decodeV2Hex")).as(description)
+                .isLessThan(bytesPerCall.get("web3jV2Baseline") / 5);
+    }
+}
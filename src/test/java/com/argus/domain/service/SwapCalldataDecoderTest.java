@@ -0,0 +1,220 @@
+package com.argus.domain.service;
+
+import com.argus.domain.service.SwapCalldataDecoder.Swap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.StaticStruct;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint160;
+import org.web3j.abi.datatypes.generated.Uint24;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SwapCalldataDecoder Unit Tests")
+class SwapCalldataDecoderTest {
+
+    static final String WETH = "0xc02aaa39b223fe8d0a0e5c4f27ead9083c756cc2";
+    static final String USDC = "0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48";
+    static final String PEPE = "0x6982508145454ce325ddbe47a25d4ec3d2311933";
+    static final String RECIPIENT = "0x1111111111111111111111111111111111111111";
+
+    private static final BigInteger DEADLINE = BigInteger.valueOf(1_700_000_000L);
+    private static final BigInteger CONTRACT_BALANCE = BigInteger.ONE.shiftLeft(255);
+
+    private final SwapCalldataDecoder decoder = new SwapCalldataDecoder();
+
+    /**
+     * Encodes with web3j's ABI encoder, so the fixtures don't share any code with the decoder.
+     */
+    @SuppressWarnings("rawtypes")
+    static String call(String selector, Type... params) {
+        return selector + FunctionEncoder.encodeConstructor(List.of(params));
+    }
+
+    private static Uint256 uint(long value) {
+        return new Uint256(value);
+    }
+
+    private static DynamicArray<Address> path(String... tokens) {
+        return new DynamicArray<>(Address.class, List.of(tokens).stream().map(Address::new).toList());
+    }
+
+    /**
+     * Packed V3 path: token, 3-byte fee, token, ...
+     */
+    private static DynamicBytes v3Path(String... tokens) {
+        StringBuilder hex = new StringBuilder();
+        for (int i = 0; i < tokens.length; i++) {
+            if (i > 0) {
+                hex.append("000bb8"); // 0.3% fee tier
+            }
+            hex.append(Numeric.cleanHexPrefix(tokens[i]));
+        }
+        return new DynamicBytes(Numeric.hexStringToByteArray(hex.toString()));
+    }
+
+    private static DynamicBytes bytes(String hex) {
+        return new DynamicBytes(Numeric.hexStringToByteArray(hex));
+    }
+
+    static String swapExactTokensForTokens(BigInteger amountIn, BigInteger amountOutMin, String... tokens) {
+        return call("0x38ed1739", new Uint256(amountIn), new Uint256(amountOutMin), path(tokens),
+                new Address(RECIPIENT), new Uint256(DEADLINE));
+    }
+
+    @Nested
+    @DisplayName("Uniswap V2 router")
+    class V2Tests {
+
+        @Test
+        @DisplayName("should take the first and last path entries and both amounts of an exact-input swap")
+        void shouldDecodeExactInput() {
+            BigInteger amountIn = new BigInteger("25000000000000000000000"); // 25,000 tokens, beyond a long
+
+            Swap swap = decoder.decode(swapExactTokensForTokens(amountIn, BigInteger.valueOf(41_500_000L),
+                    PEPE, WETH, USDC));
+
+            assertThat(swap).isEqualTo(new Swap(PEPE, USDC, new BigDecimal(amountIn),
+                    BigDecimal.valueOf(41_500_000L), true));
+        }
+
+        @Test
+        @DisplayName("should swap the amount order for exact-output swaps")
+        void shouldDecodeExactOutput() {
+            Swap swap = decoder.decode(call("0x8803dbee", uint(1_000), uint(2_000), path(USDC, WETH),
+                    new Address(RECIPIENT), new Uint256(DEADLINE)));
+
+            assertThat(swap.amountOut()).isEqualByComparingTo("1000");
+            assertThat(swap.amountIn()).isEqualByComparingTo("2000");
+            assertThat(swap.exactInput()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should leave amountIn unset when ETH is paid as the transaction value")
+        void shouldLeaveAmountInUnset_ForEthIn() {
+            Swap swap = decoder.decode(call("0x7ff36ab5", uint(5_000), path(WETH, PEPE),
+                    new Address(RECIPIENT), new Uint256(DEADLINE)));
+
+            assertThat(swap).isEqualTo(new Swap(WETH, PEPE, null, BigDecimal.valueOf(5_000), true));
+        }
+
+        @Test
+        @DisplayName("should decode the same from bytes and from mixed-case hex")
+        void shouldDecodeBytesAndUppercaseHex() {
+            String input = swapExactTokensForTokens(BigInteger.TEN, BigInteger.ONE, USDC, WETH);
+            Swap expected = decoder.decode(input);
+
+            assertThat(decoder.decode(Numeric.hexStringToByteArray(input))).isEqualTo(expected);
+            assertThat(decoder.decode("0X" + input.substring(2).toUpperCase())).isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("Uniswap V3 routers")
+    class V3Tests {
+
+        @Test
+        @DisplayName("should decode exactInputSingle with and without deadline")
+        void shouldDecodeExactInputSingle() {
+            Swap legacy = decoder.decode(call("0x414bf389", new StaticStruct(new Address(USDC), new Address(WETH),
+                    new Uint24(500), new Address(RECIPIENT), new Uint256(DEADLINE), uint(3_000_000_000L),
+                    uint(1_000_000_000_000_000_000L), new Uint160(0))));
+            Swap router02 = decoder.decode(call("0x04e45aaf", new StaticStruct(new Address(USDC), new Address(WETH),
+                    new Uint24(500), new Address(RECIPIENT), uint(3_000_000_000L),
+                    uint(1_000_000_000_000_000_000L), new Uint160(0))));
+
+            Swap expected = new Swap(USDC, WETH, BigDecimal.valueOf(3_000_000_000L),
+                    BigDecimal.valueOf(1_000_000_000_000_000_000L), true);
+            assertThat(legacy).isEqualTo(expected);
+            assertThat(router02).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("should read multi-hop exactOutput paths backwards")
+        void shouldDecodeExactOutputPath() {
+            Swap swap = decoder.decode(call("0xf28c0498", new DynamicStruct(v3Path(PEPE, WETH, USDC),
+                    new Address(RECIPIENT), new Uint256(DEADLINE), uint(7_000), uint(9_000))));
+
+            assertThat(swap).isEqualTo(new Swap(USDC, PEPE, BigDecimal.valueOf(9_000), BigDecimal.valueOf(7_000),
+                    false));
+        }
+
+        @Test
+        @DisplayName("should find the swap inside a SwapRouter02 multicall")
+        void shouldDecodeMulticall() {
+            String exactInput = call("0xb858183f", new DynamicStruct(v3Path(WETH, USDC),
+                    new Address(RECIPIENT), uint(4_000), uint(3_000)));
+            String unwrap = call("0x49404b7c", uint(0), new Address(RECIPIENT));
+
+            Swap swap = decoder.decode(call("0x5ae401dc", new Uint256(DEADLINE),
+                    new DynamicArray<>(DynamicBytes.class, bytes(unwrap), bytes(exactInput))));
+
+            assertThat(swap).isEqualTo(new Swap(WETH, USDC, BigDecimal.valueOf(4_000), BigDecimal.valueOf(3_000),
+                    true));
+        }
+    }
+
+    @Nested
+    @DisplayName("Universal Router")
+    class UniversalRouterTests {
+
+        @SuppressWarnings("rawtypes")
+        private static DynamicBytes input(Type... params) {
+            return bytes(FunctionEncoder.encodeConstructor(List.of(params)));
+        }
+
+        @Test
+        @DisplayName("should combine the first and last swap commands of a route")
+        void shouldDecodeMultiLegRoute() {
+            // WRAP_ETH, V3_SWAP_EXACT_IN spending the wrapped balance, V2_SWAP_EXACT_IN (allow-revert flag set)
+            DynamicBytes commands = bytes("0b0088");
+            DynamicBytes wrap = input(new Address(RECIPIENT), uint(1_000));
+            DynamicBytes v3 = input(new Address(RECIPIENT), new Uint256(CONTRACT_BALANCE), uint(0),
+                    v3Path(WETH, USDC), new Bool(false));
+            DynamicBytes v2 = input(new Address(RECIPIENT), new Uint256(CONTRACT_BALANCE), uint(8_000),
+                    path(USDC, PEPE), new Bool(false));
+
+            Swap swap = decoder.decode(call("0x3593564c", commands,
+                    new DynamicArray<>(DynamicBytes.class, wrap, v3, v2), new Uint256(DEADLINE)));
+
+            assertThat(swap).isEqualTo(new Swap(WETH, PEPE, null, BigDecimal.valueOf(8_000), true));
+        }
+
+        @Test
+        @DisplayName("should ignore executions without swap commands")
+        void shouldIgnoreNonSwapCommands() {
+            Swap swap = decoder.decode(call("0x24856bc3", bytes("0b"),
+                    new DynamicArray<>(DynamicBytes.class, input(new Address(RECIPIENT), uint(1_000)))));
+
+            assertThat(swap).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("should return null for non-swap, empty and malformed calldata")
+    void shouldRejectNonSwaps() {
+        String transfer = call("0xa9059cbb", new Address(RECIPIENT), uint(1_000));
+        String swap = swapExactTokensForTokens(BigInteger.TEN, BigInteger.ONE, USDC, WETH);
+
+        assertThat(decoder.decode(transfer)).isNull();
+        assertThat(decoder.decode("0x")).isNull();
+        assertThat(decoder.decode((String) null)).isNull();
+        assertThat(decoder.decode(swap.substring(0, swap.length() - 64))).as("truncated").isNull();
+        assertThat(decoder.decode(swap.replace("38ed1739", "38ed173g"))).as("invalid hex").isNull();
+        // Path offset pointing far past the end
+        assertThat(decoder.decode(swap.substring(0, 138) + "ff" + swap.substring(140))).as("bad offset").isNull();
+    }
+}
@@ -0,0 +1,123 @@
+package com.argus.domain.service;
+
+import com.argus.core.exception.BlockchainException;
+import com.argus.domain.model.Token;
+import com.argus.domain.port.blockchain.BlockChainPort;
+import com.argus.domain.port.persistence.TokenPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenMetadataResolver Unit Tests")
+class TokenMetadataResolverTest {
+
+    private static final String USDC = "0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48";
+    private static final String PEPE = "0x6982508145454ce325ddbe47a25d4ec3d2311933";
+    private static final String EOA = "0x00000000219ab540356cbb839cbe05303d7705fa";
+
+    @Mock
+    private BlockChainPort blockChainPort;
+
+    @Mock
+    private TokenPersistencePort tokenPersistencePort;
+
+    private TokenMetadataResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new TokenMetadataResolver(blockChainPort, tokenPersistencePort, 100);
+    }
+
+    private static Token token(String address, String symbol, int decimals) {
+        return Token.builder().address(address).chain("ethereum").symbol(symbol).name(symbol).decimals(decimals).build();
+    }
+
+    @Test
+    @DisplayName("should read only the addresses missing from the database from chain, in one call, and store them")
+    void shouldResolveMissingFromChain() {
+        when(tokenPersistencePort.findByAddresses(anyCollection())).thenReturn(List.of(token(USDC, "USDC", 6)));
+        when(blockChainPort.getTokenMetadata(List.of(PEPE, EOA))).thenReturn(Map.of(PEPE, token(PEPE, "PEPE", 18)));
+
+        Map<String, Token> resolved = resolver.resolveAll(List.of(USDC, PEPE.toUpperCase(), EOA));
+
+        assertThat(resolved).containsOnlyKeys(USDC, PEPE);
+        assertThat(resolved.get(USDC).getDecimals()).isEqualTo(6);
+        verify(tokenPersistencePort).saveAllIfAbsent(List.of(resolved.get(PEPE)));
+        assertThat(resolver.getDatabaseHitCount()).isEqualTo(1);
+        assertThat(resolver.getChainLookupCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should answer repeated lookups, including non-tokens, from the cache")
+    void shouldCache() {
+        when(tokenPersistencePort.findByAddresses(anyCollection())).thenReturn(List.of());
+        when(blockChainPort.getTokenMetadata(anyCollection())).thenReturn(Map.of(PEPE, token(PEPE, "PEPE", 18)));
+
+        resolver.resolveAll(List.of(PEPE, EOA));
+        assertThat(resolver.resolve(PEPE)).hasValueSatisfying(token -> assertThat(token.getSymbol()).isEqualTo("PEPE"));
+        assertThat(resolver.resolve(EOA)).isEmpty();
+
+        verify(blockChainPort, times(1)).getTokenMetadata(anyCollection());
+        assertThat(resolver.getCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should leave out failed lookups without caching them")
+    void shouldRetryAfterFailure() {
+        when(tokenPersistencePort.findByAddresses(anyCollection())).thenReturn(List.of());
+        when(blockChainPort.getTokenMetadata(anyCollection()))
+                .thenThrow(new BlockchainException("RPC error: rate limited"))
+                .thenReturn(Map.of(PEPE, token(PEPE, "PEPE", 18)));
+
+        assertThat(resolver.resolveAll(List.of(PEPE))).isEmpty();
+        assertThat(resolver.getFailedCount()).isEqualTo(1);
+
+        assertThat(resolver.resolve(PEPE)).isPresent();
+        verify(blockChainPort, times(2)).getTokenMetadata(anyCollection());
+    }
+
+    @Test
+    @DisplayName("should let concurrent lookups of the same token share one chain read")
+    void shouldShareInFlightLookups() throws Exception {
+        CountDownLatch called = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(tokenPersistencePort.findByAddresses(anyCollection())).thenReturn(List.of());
+        when(blockChainPort.getTokenMetadata(anyCollection())).thenAnswer(invocation -> {
+            called.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            Collection<String> addresses = invocation.getArgument(0);
+            assertThat(addresses).containsExactly(PEPE);
+            return Map.of(PEPE, token(PEPE, "PEPE", 18));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<String, Token>> first = executor.submit(() -> resolver.resolveAll(List.of(PEPE)));
+            assertThat(called.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Map<String, Token>> second = executor.submit(() -> resolver.resolveAll(List.of(PEPE)));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsKey(PEPE);
+            assertThat(second.get(5, TimeUnit.SECONDS)).containsKey(PEPE);
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(blockChainPort, times(1)).getTokenMetadata(anyCollection());
+    }
+}
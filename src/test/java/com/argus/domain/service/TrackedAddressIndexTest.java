@@ -0,0 +1,166 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.Wallet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TrackedAddressIndex Unit Tests")
+class TrackedAddressIndexTest {
+
+    private static final String ADDRESS = "0x742d35Cc6634C0532925a3b844Bc9e7595f0bEb0";
+
+    private final TrackedAddressIndex index = new TrackedAddressIndex();
+    private final Random random = new Random(42);
+
+    private String randomAddress() {
+        byte[] bytes = new byte[20];
+        random.nextBytes(bytes);
+        return "0x" + HexFormat.of().formatHex(bytes);
+    }
+
+    @Test
+    @DisplayName("should match addresses regardless of hex case")
+    void shouldMatchCaseInsensitively() {
+        UUID walletId = UUID.randomUUID();
+        index.add(ADDRESS, walletId);
+
+        assertThat(index.contains(ADDRESS.toLowerCase())).isTrue();
+        assertThat(index.contains(ADDRESS.toUpperCase().replace("0X", "0x"))).isTrue();
+        assertThat(index.findWalletId(ADDRESS)).isEqualTo(walletId);
+    }
+
+    @Test
+    @DisplayName("should treat malformed input as untracked")
+    void shouldRejectMalformedAddresses() {
+        index.add(ADDRESS, UUID.randomUUID());
+
+        assertThat(index.contains(null)).isFalse();
+        assertThat(index.contains("0x742d35")).isFalse();
+        assertThat(index.contains(ADDRESS.replace('d', 'z'))).isFalse();
+        assertThatThrownBy(() -> index.add("not-an-address", UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should keep adds and removes made while a refresh is loading")
+    void shouldReapplyChanges_MadeDuringRefresh() {
+        String removed = randomAddress();
+        String kept = randomAddress();
+        UUID addedId = UUID.randomUUID();
+        index.add(removed, UUID.randomUUID());
+
+        index.refresh(() -> {
+            // The load read the wallets before these two changes reached the database
+            List<Wallet> stale = List.of(
+                    Wallet.builder().id(UUID.randomUUID()).address(removed).build(),
+                    Wallet.builder().id(UUID.randomUUID()).address(kept).build());
+            index.add(ADDRESS, addedId);
+            index.remove(removed);
+            return stale;
+        });
+
+        assertThat(index.findWalletId(ADDRESS)).isEqualTo(addedId);
+        assertThat(index.contains(removed)).isFalse();
+        assertThat(index.contains(kept)).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+
+        index.refresh(List::of);
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should stop matching removed addresses and keep the rest")
+    void shouldRemoveAddress() {
+        String other = randomAddress();
+        index.add(ADDRESS, UUID.randomUUID());
+        index.add(other, UUID.randomUUID());
+
+        assertThat(index.remove(ADDRESS)).isTrue();
+        assertThat(index.remove(ADDRESS)).isFalse();
+
+        assertThat(index.contains(ADDRESS)).isFalse();
+        assertThat(index.contains(other)).isTrue();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should find every indexed address and none of the others")
+    void shouldHaveNoFalseNegativesOrPositives() {
+        List<Wallet> wallets = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            wallets.add(Wallet.builder().id(UUID.randomUUID()).address(randomAddress()).build());
+        }
+        index.replaceAll(wallets);
+
+        assertThat(wallets).allSatisfy(wallet ->
+                assertThat(index.findWalletId(wallet.getAddress())).isEqualTo(wallet.getId()));
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(index.contains(randomAddress())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("should not allocate on membership checks")
+    void shouldNotAllocate_OnLookup() {
+        index.add(ADDRESS, UUID.randomUUID());
+        String miss = randomAddress();
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int found = 0;
+        for (int i = 0; i < 200_000; i++) {
+            found += index.contains(ADDRESS) ? 1 : 0;
+            found += index.contains(miss) ? 1 : 0;
+        }
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            found += index.contains(ADDRESS) ? 1 : 0;
+            found += index.contains(miss) ? 1 : 0;
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(found).isEqualTo(300_000);
+        assertThat(allocated).isLessThan(10_000);
+    }
+
+    @Test
+    @DisplayName("should keep answering readers correctly while a writer updates the index")
+    void shouldServeConcurrentReaders_DuringWrites() {
+        index.add(ADDRESS, UUID.randomUUID());
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        CompletableFuture<Integer> reader = CompletableFuture.supplyAsync(() -> {
+            int misses = 0;
+            while (writing.get()) {
+                if (!index.contains(ADDRESS)) {
+                    misses++;
+                }
+            }
+            return misses;
+        });
+
+        for (int i = 0; i < 2_000; i++) {
+            String address = randomAddress();
+            index.add(address, UUID.randomUUID());
+            if (i % 2 == 0) {
+                index.remove(address);
+            }
+        }
+        writing.set(false);
+
+        assertThat(reader.join()).isZero();
+        assertThat(index.size()).isEqualTo(1_001);
+    }
+}
@@ -0,0 +1,90 @@
+package com.argus.domain.service;
+
+import com.argus.domain.model.Wallet;
+import com.argus.domain.model.WalletCursor;
+import com.argus.domain.model.WalletPage;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WalletService Unit Tests")
+class WalletServiceTest {
+
+    @Mock
+    private WalletPersistencePort walletPersistencePort;
+
+    private WalletService walletService;
+
+    @BeforeEach
+    void setUp() {
+        walletService = new WalletService(walletPersistencePort, new TrackedAddressIndex());
+    }
+
+    private List<Wallet> wallets(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Wallet.builder()
+                        .id(UUID.randomUUID())
+                        .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i))
+                        .totalPnl(BigDecimal.valueOf(1000 - i))
+                        .build())
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("Pagination Tests")
+    class PaginationTests {
+
+        @Test
+        @DisplayName("should return a cursor at the last wallet when another page follows")
+        void shouldReturnNextCursor_WhenMoreWallets() {
+            List<Wallet> wallets = wallets(3);
+            when(walletPersistencePort.findPage(Wallet.WalletType.WHALE, null, 3)).thenReturn(wallets);
+
+            WalletPage page = walletService.getWallets(Wallet.WalletType.WHALE, null, 2);
+
+            assertThat(page.getWallets()).containsExactlyElementsOf(wallets.subList(0, 2));
+            assertThat(page.getNextCursor().getId()).isEqualTo(wallets.get(1).getId());
+            assertThat(page.getNextCursor().getCreatedAt()).isEqualTo(wallets.get(1).getCreatedAt());
+        }
+
+        @Test
+        @DisplayName("should return no cursor on the last page")
+        void shouldReturnNoCursor_OnLastPage() {
+            WalletCursor after = WalletCursor.byTotalPnl(wallets(1).get(0));
+            when(walletPersistencePort.findTopPerformersPage(0.6, after, 3)).thenReturn(wallets(2));
+
+            WalletPage page = walletService.getTopPerformers(0.6, after, 2);
+
+            assertThat(page.getWallets()).hasSize(2);
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should cap the page size and reject non-positive sizes")
+        void shouldCapPageSize() {
+            when(walletPersistencePort.findPage(any(), any(), anyInt())).thenReturn(List.of());
+
+            walletService.getWallets(null, null, 100_000);
+
+            verify(walletPersistencePort).findPage(null, null, WalletService.MAX_PAGE_SIZE + 1);
+            assertThatThrownBy(() -> walletService.getWallets(null, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
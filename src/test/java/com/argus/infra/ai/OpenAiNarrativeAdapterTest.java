@@ -0,0 +1,103 @@
+package com.argus.infra.ai;
+
+import com.argus.core.exception.AiException;
+import com.argus.domain.model.SignalFingerprint;
+import com.argus.domain.model.Wallet;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OpenAiNarrativeAdapter Tests against a local stand-in model endpoint")
+class OpenAiNarrativeAdapterTest {
+
+    private static final List<SignalFingerprint> FINGERPRINTS = List.of(
+            new SignalFingerprint("WHALE_BUY", "0x6982508145454ce325ddbe47a25d4ec3d2311933", "PEPE",
+                    Wallet.WalletType.WHALE, 100_000),
+            new SignalFingerprint("WHALE_SELL", "0x6982508145454ce325ddbe47a25d4ec3d2311933", "PEPE",
+                    Wallet.WalletType.SMART_MONEY, 0));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private volatile int status = 200;
+    private volatile String content = "{\"narratives\": [\"A whale bought PEPE.\", \" Smart money sold PEPE. \"]}";
+    private OpenAiNarrativeAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            requests.add(objectMapper.readTree(exchange.getRequestBody()));
+            String body = status == 200
+                    ? objectMapper.createObjectNode().set("choices", objectMapper.createArrayNode().add(
+                            objectMapper.createObjectNode().set("message",
+                                    objectMapper.createObjectNode().put("role", "assistant").put("content", content))))
+                            .toString()
+                    : "{\"error\":{\"message\":\"Rate limit reached\"}}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        adapter = new OpenAiNarrativeAdapter("http://127.0.0.1:" + server.getAddress().getPort(), "sk-test",
+                "gpt-4o-mini", objectMapper, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("should ask for all fingerprints in one JSON-mode prompt and return narratives in order")
+    void shouldGenerateBatch() {
+        List<String> narratives = adapter.generate(FINGERPRINTS);
+
+        assertThat(narratives).containsExactly("A whale bought PEPE.", "Smart money sold PEPE.");
+        assertThat(authorizations).containsExactly("Bearer sk-test");
+        JsonNode request = requests.get(0);
+        assertThat(request.path("model").asText()).isEqualTo("gpt-4o-mini");
+        assertThat(request.path("response_format").path("type").asText()).isEqualTo("json_object");
+        assertThat(request.path("messages").get(1).path("content").asText())
+                .contains("\"walletType\":\"WHALE\"", "$100,000 to $1,000,000", "\"usdValue\":\"unknown\"");
+    }
+
+    @Test
+    @DisplayName("should reject answers without one narrative per fingerprint")
+    void shouldRejectMismatchedAnswers() {
+        content = "{\"narratives\": [\"Only one.\"]}";
+
+        assertThatThrownBy(() -> adapter.generate(FINGERPRINTS))
+                .isInstanceOf(AiException.class)
+                .hasMessageContaining("1 narratives for 2 signals");
+    }
+
+    @Test
+    @DisplayName("should report API errors")
+    void shouldReportErrors() {
+        status = 429;
+
+        assertThatThrownBy(() -> adapter.generate(FINGERPRINTS))
+                .isInstanceOf(AiException.class)
+                .hasMessageContaining("429")
+                .hasMessageContaining("Rate limit reached");
+    }
+}
@@ -0,0 +1,137 @@
+package com.argus.infra.blockchain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("ChainHeadTracker Unit Tests")
+class ChainHeadTrackerTest {
+
+    private final FakeHeadStream stream = new FakeHeadStream();
+    private final AtomicLong polledHead = new AtomicLong(100);
+    private final AtomicInteger polls = new AtomicInteger();
+    private ChainHeadTracker tracker;
+
+    @AfterEach
+    void tearDown() {
+        if (tracker != null) {
+            tracker.close();
+        }
+    }
+
+    private ChainHeadTracker startTracker(ChainHeadTracker.HeadStream headStream, long maxHeadAgeMillis) {
+        tracker = new ChainHeadTracker(headStream, () -> {
+            polls.incrementAndGet();
+            return CompletableFuture.completedFuture(polledHead.get());
+        }, 20, maxHeadAgeMillis, new RpcRetryExecutor(3, 20, 100));
+        tracker.start();
+        return tracker;
+    }
+
+    @Test
+    @DisplayName("should serve pushed heads from memory and notify listeners once per new head")
+    void shouldTrackPushedHeads() {
+        List<Long> notified = new CopyOnWriteArrayList<>();
+        startTracker(stream, 10_000).addListener(notified::add);
+        await().until(tracker::isConnected);
+
+        stream.push(200);
+        stream.push(200);
+        stream.push(199);
+        stream.push(201);
+
+        assertThat(tracker.getCurrentHead()).hasValue(201);
+        assertThat(notified).containsExactly(200L, 201L);
+    }
+
+    @Test
+    @DisplayName("should poll while the socket is down and stop polling after reconnecting")
+    void shouldFallBackToPolling_WhenSocketDrops() {
+        startTracker(stream, 10_000);
+        await().until(tracker::isConnected);
+        stream.push(90);
+
+        stream.drop();
+        await().until(() -> tracker.getCurrentHead().orElse(-1) == 100);
+        assertThat(polls.get()).isPositive();
+
+        await().until(tracker::isConnected);
+        assertThat(stream.opens).hasValue(2);
+        int pollsAfterReconnect = polls.get();
+        stream.push(300);
+
+        assertThat(tracker.getCurrentHead()).hasValue(300);
+        assertThat(polls.get()).isLessThanOrEqualTo(pollsAfterReconnect + 1);
+    }
+
+    @Test
+    @DisplayName("should keep retrying the socket with polling in the meantime")
+    void shouldRetryConnect_WhenSocketUnavailable() {
+        AtomicInteger attempts = new AtomicInteger();
+        startTracker((onHead, onDisconnect) -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConnectException("refused");
+            }
+            return stream.open(onHead, onDisconnect);
+        }, 10_000);
+
+        await().until(tracker::isConnected);
+        assertThat(attempts).hasValue(3);
+        assertThat(tracker.getCurrentHead()).hasValue(100);
+    }
+
+    @Test
+    @DisplayName("should poll only when no WebSocket is configured")
+    void shouldPoll_WhenNoWebSocket() {
+        startTracker(null, 10_000);
+
+        await().until(() -> tracker.getCurrentHead().isPresent());
+        assertThat(tracker.getCurrentHead()).hasValue(100);
+        assertThat(tracker.isConnected()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reconnect a socket that stops delivering heads")
+    void shouldReconnect_WhenSocketGoesSilent() {
+        startTracker(stream, 200);
+        await().until(tracker::isConnected);
+
+        await().until(() -> stream.opens.get() >= 2);
+        assertThat(polls.get()).isPositive();
+    }
+
+    private static class FakeHeadStream implements ChainHeadTracker.HeadStream {
+
+        private final AtomicInteger opens = new AtomicInteger();
+        private volatile LongConsumer onHead;
+        private volatile Consumer<Throwable> onDisconnect;
+
+        @Override
+        public ChainHeadTracker.HeadSubscription open(LongConsumer onHead, Consumer<Throwable> onDisconnect) {
+            opens.incrementAndGet();
+            this.onHead = onHead;
+            this.onDisconnect = onDisconnect;
+            return () -> { };
+        }
+
+        void push(long blockNumber) {
+            onHead.accept(blockNumber);
+        }
+
+        void drop() {
+            onDisconnect.accept(new ConnectException("socket closed"));
+        }
+    }
+}
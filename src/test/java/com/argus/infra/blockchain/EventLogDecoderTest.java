@@ -0,0 +1,147 @@
+package com.argus.infra.blockchain;
+
+import com.argus.domain.model.Transaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EventLogDecoder Unit Tests")
+class EventLogDecoderTest {
+
+    private static final String WALLET = "0x1111111111111111111111111111111111111111";
+    private static final String OTHER = "0x2222222222222222222222222222222222222222";
+    private static final String ROUTER = "0x3333333333333333333333333333333333333333";
+    private static final String POOL = "0x4444444444444444444444444444444444444444";
+    private static final String USDC = "0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48";
+    private static final String WETH = "0xc02aaa39b223fe8d0a0e5c4f27ead9083c756cc2";
+    private static final LocalDateTime BLOCK_TIME = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    private static Log log(String txHash, int logIndex, String contract, String data, String... topics) {
+        Log log = new Log();
+        log.setTransactionHash(txHash);
+        log.setBlockNumber("0x64");
+        log.setLogIndex("0x" + Integer.toHexString(logIndex));
+        log.setAddress(contract);
+        log.setData(data);
+        log.setTopics(List.of(topics));
+        return log;
+    }
+
+    private static String amount(long value) {
+        return "0x" + String.format("%064x", BigInteger.valueOf(value));
+    }
+
+    private static Log transfer(String txHash, int logIndex, String token, String from, String to, long value) {
+        return log(txHash, logIndex, token, amount(value), EventLogDecoder.TRANSFER_TOPIC,
+                EventLogDecoder.addressTopic(from), EventLogDecoder.addressTopic(to));
+    }
+
+    private static List<Transaction> decode(List<Log> logs) {
+        return EventLogDecoder.decode(logs, Set.of(WALLET), Map.of(100L, BLOCK_TIME));
+    }
+
+    @Test
+    @DisplayName("should turn a pool swap paying out to the wallet into one SWAP row")
+    void shouldDecodeSwap() {
+        List<Log> logs = List.of(
+                transfer("0xswap", 1, USDC, WALLET, POOL, 3_000),
+                transfer("0xswap", 2, WETH, POOL, WALLET, 1_000),
+                log("0xswap", 3, POOL, "0x", EventLogDecoder.UNISWAP_V3_SWAP_TOPIC,
+                        EventLogDecoder.addressTopic(ROUTER), EventLogDecoder.addressTopic(WALLET)));
+
+        assertThat(decode(logs)).singleElement().satisfies(tx -> {
+            assertThat(tx.getType()).isEqualTo(EventLogDecoder.SWAP_TYPE);
+            assertThat(tx.getTxHash()).isEqualTo("0xswap");
+            assertThat(tx.getFrom()).isEqualTo(WALLET);
+            assertThat(tx.getTo()).isEqualTo(POOL);
+            assertThat(tx.getTokenIn()).isEqualTo(USDC);
+            assertThat(tx.getAmountIn()).isEqualByComparingTo("3000");
+            assertThat(tx.getTokenOut()).isEqualTo(WETH);
+            assertThat(tx.getAmountOut()).isEqualByComparingTo("1000");
+            assertThat(tx.getBlockNumber()).isEqualTo(100L);
+            assertThat(tx.getTxTimestamp()).isEqualTo(BLOCK_TIME);
+        });
+    }
+
+    @Test
+    @DisplayName("should sum multi-leg transfers of the same token")
+    void shouldSumLegs() {
+        List<Log> logs = List.of(
+                transfer("0xroute", 1, USDC, WALLET, POOL, 1_000),
+                transfer("0xroute", 2, USDC, WALLET, OTHER, 500),
+                transfer("0xroute", 3, WETH, POOL, WALLET, 7));
+
+        assertThat(decode(logs)).singleElement().satisfies(tx -> {
+            assertThat(tx.getType()).isEqualTo(EventLogDecoder.SWAP_TYPE);
+            assertThat(tx.getAmountIn()).isEqualByComparingTo("1500");
+            assertThat(tx.getTo()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should decode plain transfers in both directions and drop duplicate and removed logs")
+    void shouldDecodeTransfers() {
+        Log incoming = transfer("0xin", 1, USDC, OTHER, WALLET, 42);
+        Log removed = transfer("0xgone", 2, USDC, WALLET, OTHER, 1);
+        removed.setRemoved(true);
+        List<Log> logs = new ArrayList<>(List.of(
+                transfer("0xout", 5, WETH, WALLET, OTHER, 9), incoming, incoming, removed));
+
+        List<Transaction> rows = decode(logs);
+
+        assertThat(rows).extracting(Transaction::getTxHash).containsExactly("0xin", "0xout");
+        assertThat(rows.get(0)).satisfies(tx -> {
+            assertThat(tx.getType()).isEqualTo(EventLogDecoder.TRANSFER_TYPE);
+            assertThat(tx.getFrom()).isEqualTo(OTHER);
+            assertThat(tx.getTo()).isEqualTo(WALLET);
+            assertThat(tx.getTokenOut()).isEqualTo(USDC);
+            assertThat(tx.getAmountOut()).isEqualByComparingTo("42");
+            assertThat(tx.getTokenIn()).isNull();
+        });
+        assertThat(rows.get(1).getTokenIn()).isEqualTo(WETH);
+    }
+
+    @Test
+    @DisplayName("should ignore ERC-721 transfers")
+    void shouldIgnoreNftTransfers() {
+        Log nft = log("0xnft", 1, USDC, "0x", EventLogDecoder.TRANSFER_TOPIC,
+                EventLogDecoder.addressTopic(OTHER), EventLogDecoder.addressTopic(WALLET), amount(7));
+
+        assertThat(decode(List.of(nft))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should list a receipt's token transfers, with WETH wraps and unwraps as mints and burns")
+    void shouldListReceiptTransfers() {
+        String zero = "0x0000000000000000000000000000000000000000";
+        Log removed = transfer("0xtx", 4, USDC, WALLET, OTHER, 1);
+        removed.setRemoved(true);
+        List<Log> logs = List.of(
+                log("0xtx", 0, WETH, amount(5), EventLogDecoder.WETH_DEPOSIT_TOPIC,
+                        EventLogDecoder.addressTopic(ROUTER)),
+                transfer("0xtx", 1, WETH, ROUTER, POOL, 5),
+                transfer("0xtx", 2, USDC, POOL, WALLET, 15_000),
+                log("0xtx", 3, WETH, amount(2), EventLogDecoder.WETH_WITHDRAWAL_TOPIC,
+                        EventLogDecoder.addressTopic(ROUTER)),
+                removed,
+                log("0xtx", 5, USDC, "0x", EventLogDecoder.TRANSFER_TOPIC,
+                        EventLogDecoder.addressTopic(OTHER), EventLogDecoder.addressTopic(WALLET), amount(7)));
+
+        assertThat(EventLogDecoder.transfers(logs)).containsExactly(
+                new Transaction.TokenTransfer(WETH, zero, ROUTER, new BigDecimal(5)),
+                new Transaction.TokenTransfer(WETH, ROUTER, POOL, new BigDecimal(5)),
+                new Transaction.TokenTransfer(USDC, POOL, WALLET, new BigDecimal(15_000)),
+                new Transaction.TokenTransfer(WETH, ROUTER, zero, new BigDecimal(2)));
+        assertThat(EventLogDecoder.transfers(null)).isEmpty();
+    }
+}
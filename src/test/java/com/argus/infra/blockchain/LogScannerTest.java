@@ -0,0 +1,114 @@
+package com.argus.infra.blockchain;
+
+import com.argus.core.exception.BlockchainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LogScanner Unit Tests")
+class LogScannerTest {
+
+    private static Log logAt(long block) {
+        Log log = new Log();
+        log.setBlockNumber("0x" + BigInteger.valueOf(block).toString(16));
+        return log;
+    }
+
+    private static List<Log> logsOf(long from, long to, int perBlock) {
+        List<Log> logs = new ArrayList<>();
+        LongStream.rangeClosed(from, to).forEach(block -> {
+            for (int i = 0; i < perBlock; i++) {
+                logs.add(logAt(block));
+            }
+        });
+        return logs;
+    }
+
+    private static List<Long> blocks(List<Log> logs) {
+        return logs.stream().map(log -> log.getBlockNumber().longValue()).sorted().toList();
+    }
+
+    @Test
+    @DisplayName("should split rejected ranges and keep the smaller size for later ranges")
+    void shouldShrink_WhenProviderRejectsRange() {
+        LogScanner scanner = new LogScanner(100, 1000, 50, 1);
+        List<long[]> requested = Collections.synchronizedList(new ArrayList<>());
+
+        // The provider answers at most 25 blocks of one log each
+        List<Log> logs = scanner.scan(0, 199, (from, to) -> {
+            requested.add(new long[] {from, to});
+            return CompletableFuture.supplyAsync(() -> to - from + 1 > 25 ? null : logsOf(from, to, 1));
+        }).join();
+
+        assertThat(blocks(logs)).isEqualTo(LongStream.rangeClosed(0, 199).boxed().toList());
+        assertThat(requested).allSatisfy(range -> assertThat(range[1]).isGreaterThanOrEqualTo(range[0]));
+        assertThat(scanner.getRangeSize()).isLessThanOrEqualTo(50);
+        // After the first split nothing is requested at the initial size again
+        assertThat(requested.subList(1, requested.size()))
+                .allSatisfy(range -> assertThat(range[1] - range[0] + 1).isLessThanOrEqualTo(50));
+    }
+
+    @Test
+    @DisplayName("should grow the range up to the maximum while responses stay small")
+    void shouldGrow_WhenResponsesAreSmall() {
+        LogScanner scanner = new LogScanner(10, 80, 1000, 1);
+
+        List<Log> logs = scanner.scan(0, 999, (from, to) -> CompletableFuture.completedFuture(logsOf(from, to, 1)))
+                .join();
+
+        assertThat(logs).hasSize(1000);
+        assertThat(scanner.getRangeSize()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("should shrink after a response above the target")
+    void shouldShrink_WhenResponseAboveTarget() {
+        LogScanner scanner = new LogScanner(100, 100, 50, 1);
+
+        scanner.scan(0, 99, (from, to) -> CompletableFuture.completedFuture(logsOf(from, to, 1))).join();
+
+        assertThat(scanner.getRangeSize()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("should keep at most the configured number of ranges in flight")
+    void shouldBoundConcurrency() {
+        LogScanner scanner = new LogScanner(10, 10, 1000, 3);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        List<Log> logs = scanner.scan(0, 199, (from, to) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return logsOf(from, to, 1);
+            }, CompletableFuture.delayedExecutor(5, TimeUnit.MILLISECONDS));
+        }).join();
+
+        assertThat(logs).hasSize(200);
+        assertThat(maxInFlight.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should fail when even a single block is rejected")
+    void shouldFail_WhenSingleBlockRejected() {
+        LogScanner scanner = new LogScanner(4, 4, 10, 2);
+
+        assertThatThrownBy(() -> scanner.scan(0, 3, (from, to) -> CompletableFuture.completedFuture(null)).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BlockchainException.class)
+                .hasMessageContaining("single block");
+    }
+}
@@ -0,0 +1,98 @@
+package com.argus.infra.blockchain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint8;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Multicall3 Unit Tests")
+class Multicall3Test {
+
+    private static final String USDC = "0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48";
+    private static final String MKR = "0x9f8f72aa9304c8b593d555f12ef6589cc3a579a2";
+
+    @Test
+    @DisplayName("should encode aggregate3 exactly like the generic ABI encoder")
+    void shouldEncodeAggregate3() {
+        List<Multicall3.Call> calls = List.of(
+                new Multicall3.Call(USDC, true, Multicall3.DECIMALS),
+                new Multicall3.Call(MKR, false, Multicall3.SYMBOL));
+
+        String expected = FunctionEncoder.encode(new Function("aggregate3", List.of(new DynamicArray<>(DynamicStruct.class,
+                List.of(
+                        new DynamicStruct(new Address(USDC), new Bool(true), new DynamicBytes(Multicall3.DECIMALS)),
+                        new DynamicStruct(new Address(MKR), new Bool(false), new DynamicBytes(Multicall3.SYMBOL))))),
+                List.of()));
+
+        assertThat(Multicall3.encodeAggregate3(calls)).isEqualTo(expected);
+        assertThat(expected).startsWith("0x82ad56cb");
+    }
+
+    @Test
+    @DisplayName("should encode balance reads like the generic ABI encoder")
+    void shouldEncodeBalanceCalls() {
+        String owner = "0x28c6c06298d514db089934071355e5743bf21d60";
+
+        assertThat(Numeric.toHexString(Multicall3.balanceOf(owner))).isEqualTo(FunctionEncoder.encode(
+                new Function("balanceOf", List.of(new Address(owner)), List.of())));
+        assertThat(Numeric.toHexString(Multicall3.getEthBalance(owner))).isEqualTo(FunctionEncoder.encode(
+                new Function("getEthBalance", List.of(new Address(owner)), List.of())));
+    }
+
+    @Test
+    @DisplayName("should decode results in call order, keeping failed calls")
+    void shouldDecodeAggregate3() {
+        String symbol = FunctionEncoder.encodeConstructor(List.of(new Utf8String("USDC")));
+        String decimals = FunctionEncoder.encodeConstructor(List.of(new Uint8(6)));
+        String returnData = FunctionEncoder.encodeConstructor(List.of(new DynamicArray<>(DynamicStruct.class, List.of(
+                new DynamicStruct(new Bool(true), new DynamicBytes(Numeric.hexStringToByteArray(decimals))),
+                new DynamicStruct(new Bool(false), new DynamicBytes(new byte[0])),
+                new DynamicStruct(new Bool(true), new DynamicBytes(Numeric.hexStringToByteArray(symbol)))))));
+
+        List<Multicall3.Result> results = Multicall3.decodeAggregate3("0x" + returnData);
+
+        assertThat(results).hasSize(3);
+        assertThat(Multicall3.decodeUint(results.get(0).returnData())).isEqualTo(BigInteger.valueOf(6));
+        assertThat(results.get(1).success()).isFalse();
+        assertThat(results.get(1).returnData()).isEmpty();
+        assertThat(Multicall3.decodeString(results.get(2).returnData())).isEqualTo("USDC");
+    }
+
+    @Test
+    @DisplayName("should read bytes32 symbols and reject data that is not a string")
+    void shouldDecodeStrings() {
+        byte[] bytes32 = Arrays.copyOf("MKR".getBytes(StandardCharsets.UTF_8), 32);
+
+        assertThat(Multicall3.decodeString(bytes32)).isEqualTo("MKR");
+        assertThat(Multicall3.decodeString(new byte[32])).isNull();
+        assertThat(Multicall3.decodeString(new byte[0])).isNull();
+        assertThat(Multicall3.decodeString(new byte[40])).isNull();
+        assertThat(Multicall3.decodeUint(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject truncated return data")
+    void shouldRejectTruncatedData() {
+        assertThatThrownBy(() -> Multicall3.decodeAggregate3("0x"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Multicall3.decodeAggregate3(
+                "0x0000000000000000000000000000000000000000000000000000000000000020"
+                        + "0000000000000000000000000000000000000000000000000000000000000005"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,247 @@
+package com.argus.infra.blockchain;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RpcEndpointPool Tests against local fake RPC servers")
+class RpcEndpointPoolTest {
+
+    private final List<FakeRpcServer> servers = new ArrayList<>();
+    private RpcEndpointPool pool;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (pool != null) {
+            pool.close();
+        }
+        servers.forEach(FakeRpcServer::stop);
+    }
+
+    private FakeRpcServer startServer(long delayMillis) throws IOException {
+        FakeRpcServer server = new FakeRpcServer(delayMillis);
+        servers.add(server);
+        return server;
+    }
+
+    private Web3j buildPool(boolean hedgingEnabled, FakeRpcServer... rpcServers) {
+        List<RpcEndpoint> endpoints = new ArrayList<>();
+        for (FakeRpcServer server : rpcServers) {
+            endpoints.add(new RpcEndpoint(server.url(), new HttpService(server.url())));
+        }
+        pool = new RpcEndpointPool(endpoints, hedgingEnabled, 60_000);
+        return Web3j.build(pool);
+    }
+
+    @Test
+    @DisplayName("should route most traffic to the lowest-latency endpoint")
+    void shouldPreferFastEndpoint() throws IOException {
+        FakeRpcServer fast = startServer(5);
+        FakeRpcServer slow = startServer(80);
+        Web3j web3j = buildPool(false, slow, fast);
+
+        for (int i = 0; i < 30; i++) {
+            assertThat(web3j.ethBlockNumber().send().getBlockNumber().longValue()).isEqualTo(0x10);
+        }
+
+        assertThat(fast.requests()).isGreaterThanOrEqualTo(25);
+        assertThat(slow.requests()).isLessThanOrEqualTo(RpcEndpoint.WARMUP_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("should answer async requests on a virtual thread")
+    void shouldSendAsyncOnVirtualThread() throws Exception {
+        FakeRpcServer server = startServer(50);
+        Web3j web3j = buildPool(false, server);
+
+        boolean[] virtual = new boolean[1];
+        EthBlockNumber response = web3j.ethBlockNumber().sendAsync()
+                .whenComplete((value, error) -> virtual[0] = Thread.currentThread().isVirtual())
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getBlockNumber().longValue()).isEqualTo(0x10);
+        assertThat(virtual[0]).isTrue();
+    }
+
+    @Test
+    @DisplayName("should shift traffic away from an endpoint that starts failing")
+    void shouldAvoidFailingEndpoint() throws IOException {
+        FakeRpcServer primary = startServer(0);
+        FakeRpcServer backup = startServer(300);
+        Web3j web3j = buildPool(false, primary, backup);
+
+        for (int i = 0; i < 25; i++) {
+            web3j.ethBlockNumber().send();
+        }
+        assertThat(pool.selectEndpoint(null)).isSameAs(pool.getEndpoints().get(0));
+        primary.failing = true;
+        int backupRequestsBefore = backup.requests();
+
+        int failures = 0;
+        for (int i = 0; i < 20; i++) {
+            try {
+                web3j.ethBlockNumber().send();
+            } catch (Exception e) {
+                failures++;
+            }
+        }
+
+        assertThat(failures).isLessThanOrEqualTo(3);
+        assertThat(pool.getEndpoints().get(0).getErrorRate()).isPositive();
+        assertThat(backup.requests() - backupRequestsBefore).isGreaterThanOrEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("should count provider error responses as failures and shift traffic away")
+    void shouldAvoidEndpointAnsweringWithErrors() throws IOException {
+        FakeRpcServer primary = startServer(0);
+        FakeRpcServer backup = startServer(100);
+        Web3j web3j = buildPool(false, primary, backup);
+
+        for (int i = 0; i < 25; i++) {
+            web3j.ethBlockNumber().send();
+        }
+        primary.errorCode = -32005;
+        int backupRequestsBefore = backup.requests();
+
+        int errors = 0;
+        for (int i = 0; i < 20; i++) {
+            if (web3j.ethBlockNumber().send().hasError()) {
+                errors++;
+            }
+        }
+
+        assertThat(errors).isLessThanOrEqualTo(3);
+        assertThat(pool.getEndpoints().get(0).getErrorRate()).isPositive();
+        assertThat(backup.requests() - backupRequestsBefore).isGreaterThanOrEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("should not count errors about the request itself against the endpoint")
+    void shouldIgnoreRequestErrors() throws IOException {
+        FakeRpcServer server = startServer(0);
+        Web3j web3j = buildPool(false, server);
+        server.errorCode = -32601;
+
+        assertThat(web3j.ethBlockNumber().send().getError().getCode()).isEqualTo(-32601);
+        assertThat(pool.getEndpoints().get(0).getFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("should prefer a slower valid answer over a fast provider error when hedging")
+    void shouldHedgePastProviderError() throws IOException {
+        FakeRpcServer primary = startServer(5);
+        FakeRpcServer backup = startServer(30);
+        Web3j web3j = buildPool(true, primary, backup);
+
+        for (int i = 0; i < 40; i++) {
+            web3j.ethBlockNumber().send();
+        }
+        primary.errorCode = -32005;
+
+        EthBlockNumber response = web3j.ethBlockNumber().send();
+
+        assertThat(response.hasError()).isFalse();
+        assertThat(response.getBlockNumber().longValue()).isEqualTo(0x10);
+        assertThat(pool.getHedgeWins()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should hedge a read that exceeds the p95 and return the faster answer")
+    void shouldHedgeSlowRead() throws IOException {
+        FakeRpcServer primary = startServer(5);
+        FakeRpcServer backup = startServer(30);
+        Web3j web3j = buildPool(true, primary, backup);
+
+        for (int i = 0; i < 40; i++) {
+            web3j.ethBlockNumber().send();
+        }
+        assertThat(pool.getEndpoints().get(0).getP95LatencyNanos()).isPositive();
+
+        primary.delayMillis = 2_000;
+        long start = System.nanoTime();
+        long blockNumber = web3j.ethBlockNumber().send().getBlockNumber().longValue();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(blockNumber).isEqualTo(0x10);
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(pool.getHedgedRequests()).isGreaterThanOrEqualTo(1);
+        assertThat(pool.getHedgeWins()).isGreaterThanOrEqualTo(1);
+    }
+
+    private static class FakeRpcServer {
+
+        private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+        private final HttpServer server;
+        private final AtomicInteger requests = new AtomicInteger();
+        private volatile long delayMillis;
+        private volatile boolean failing;
+        private volatile Integer errorCode;
+
+        FakeRpcServer(long delayMillis) throws IOException {
+            this.delayMillis = delayMillis;
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            this.server.setExecutor(Executors.newCachedThreadPool());
+            this.server.createContext("/", exchange -> {
+                requests.incrementAndGet();
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                try {
+                    Thread.sleep(this.delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                if (failing) {
+                    exchange.sendResponseHeaders(503, -1);
+                    exchange.close();
+                    return;
+                }
+
+                Matcher matcher = ID.matcher(body);
+                String id = matcher.find() ? matcher.group(1) : "1";
+                String payload = errorCode != null
+                        ? "\"error\":{\"code\":" + errorCode + ",\"message\":\"fake error\"}"
+                        : "\"result\":\"0x10\"";
+                byte[] response = ("{\"jsonrpc\":\"2.0\",\"id\":" + id + "," + payload + "}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+            });
+            this.server.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        int requests() {
+            return requests.get();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.argus.infra.blockchain;
+
+import com.argus.core.exception.BlockchainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RpcRetryExecutor Unit Tests")
+class RpcRetryExecutorTest {
+
+    private final RpcRetryExecutor retryExecutor = new RpcRetryExecutor(3, 50, 1000);
+
+    @Test
+    @DisplayName("should return to the caller before retries have run")
+    void shouldNotBlockCaller_WhileBackingOff() {
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = retryExecutor.execute("get value", () ->
+                calls.incrementAndGet() < 3
+                        ? CompletableFuture.failedFuture(new IOException("Connection timeout"))
+                        : CompletableFuture.completedFuture("ok"));
+
+        assertThat(result).isNotDone();
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should fail with BlockchainException after exhausting attempts")
+    void shouldFail_WhenAllAttemptsFail() {
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = retryExecutor.execute("get value", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(new IOException("Persistent failure"));
+        });
+
+        assertThatThrownBy(() -> RpcRetryExecutor.await(result))
+                .isInstanceOf(BlockchainException.class)
+                .hasMessage("Failed to get value after 3 attempts")
+                .hasRootCauseMessage("Persistent failure");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should not retry invalid arguments")
+    void shouldNotRetry_WhenArgumentInvalid() {
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = retryExecutor.execute("get value", () -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("bad input");
+        });
+
+        assertThatThrownBy(() -> RpcRetryExecutor.await(result))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should grow backoff exponentially with jitter up to the cap")
+    void shouldBackOffExponentially() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(retryExecutor.backoffMillis(1)).isBetween(25L, 50L);
+            assertThat(retryExecutor.backoffMillis(3)).isBetween(100L, 200L);
+            assertThat(retryExecutor.backoffMillis(10)).isBetween(500L, 1000L);
+        }
+    }
+}
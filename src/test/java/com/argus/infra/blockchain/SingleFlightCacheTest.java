@@ -0,0 +1,96 @@
+package com.argus.infra.blockchain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SingleFlightCache Unit Tests")
+class SingleFlightCacheTest {
+
+    private final SingleFlightCache<String, Long> cache = new SingleFlightCache<>(2);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("should share one in-flight load between concurrent callers")
+    void shouldCoalesceConcurrentLoads() {
+        CompletableFuture<Long> pending = new CompletableFuture<>();
+        List<CompletableFuture<Long>> callers = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            callers.add(cache.get("head", () -> {
+                loads.incrementAndGet();
+                return pending;
+            }, value -> 1000));
+        }
+        pending.complete(42L);
+
+        assertThat(loads).hasValue(1);
+        assertThat(callers).allSatisfy(caller -> assertThat(caller).isCompletedWithValue(42L));
+    }
+
+    @Test
+    @DisplayName("should load again once the TTL has passed")
+    void shouldReload_WhenExpired() {
+        assertThat(cache.get("head", this::load, value -> 20)).isCompletedWithValue(1L);
+        assertThat(cache.get("head", this::load, value -> 20)).isCompletedWithValue(1L);
+
+        await(30);
+
+        assertThat(cache.get("head", this::load, value -> 20)).isCompletedWithValue(2L);
+    }
+
+    @Test
+    @DisplayName("should not cache failures")
+    void shouldNotCacheFailures() {
+        CompletableFuture<Long> failed = cache.get("head",
+                () -> CompletableFuture.failedFuture(new IOException("down")), value -> 1000);
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(cache.get("head", this::load, value -> 1000)).isCompletedWithValue(1L);
+    }
+
+    @Test
+    @DisplayName("should not let one caller's cancellation affect the others")
+    void shouldIsolateCancellation() {
+        CompletableFuture<Long> pending = new CompletableFuture<>();
+        CompletableFuture<Long> first = cache.get("head", () -> pending, value -> 1000);
+        CompletableFuture<Long> second = cache.get("head", () -> pending, value -> 1000);
+
+        first.cancel(true);
+        pending.complete(7L);
+
+        assertThat(second).isCompletedWithValue(7L);
+    }
+
+    @Test
+    @DisplayName("should evict the oldest permanent entries beyond the size bound")
+    void shouldEvictOldestPermanentEntry() {
+        cache.get("a", this::load, value -> SingleFlightCache.FOREVER);
+        cache.get("b", this::load, value -> SingleFlightCache.FOREVER);
+        cache.get("c", this::load, value -> SingleFlightCache.FOREVER);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b", this::load, value -> SingleFlightCache.FOREVER)).isCompletedWithValue(2L);
+        assertThat(cache.get("a", this::load, value -> SingleFlightCache.FOREVER)).isCompletedWithValue(4L);
+    }
+
+    private CompletableFuture<Long> load() {
+        return CompletableFuture.completedFuture((long) loads.incrementAndGet());
+    }
+
+    private static void await(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.argus.infra.blockchain;
 
 import com.argus.core.exception.BlockchainException;
+import com.argus.domain.model.Block;
 import com.argus.domain.model.Transaction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,13 +11,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGetBlockReceipts;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
 import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -234,4 +250,332 @@ class Web3jBlockchainAdapterTest {
             verify(request, times(2)).send();
         }
     }
+
+    @Nested
+    @DisplayName("getTransactionsByHashes Tests")
+    class GetTransactionsByHashesTests {
+
+        private final List<List<Request<?, ?>>> sentBatches = new ArrayList<>();
+        private final Set<String> failOnce = ConcurrentHashMap.newKeySet();
+
+        @BeforeEach
+        void setUpBatching() {
+            adapter = new Web3jBlockchainAdapter(
+                    "https://test-rpc.example.com/v2/test-key",
+                    5,
+                    2,
+                    2);
+            injectWeb3j(adapter, web3j);
+
+            lenient().when(web3j.ethGetTransactionByHash(anyString())).thenAnswer(invocation -> new Request<>(
+                    "eth_getTransactionByHash",
+                    List.of(invocation.<String>getArgument(0)),
+                    null,
+                    EthTransaction.class));
+
+            lenient().when(web3j.newBatch()).thenAnswer(invocation -> {
+                List<Request<?, ?>> requests = new ArrayList<>();
+                BatchRequest batch = mock(BatchRequest.class);
+                when(batch.add(any())).thenAnswer(add -> {
+                    requests.add(add.getArgument(0));
+                    return batch;
+                });
+                when(batch.send()).thenAnswer(send -> {
+                    sentBatches.add(requests);
+                    List<Response<?>> responses = new ArrayList<>();
+                    for (Request<?, ?> request : requests) {
+                        responses.add(respond(request));
+                    }
+                    // Answer out of order to make sure results are matched by id
+                    Collections.reverse(responses);
+                    return new BatchResponse(List.of(), responses);
+                });
+                return batch;
+            });
+        }
+
+        private EthTransaction respond(Request<?, ?> request) {
+            String hash = (String) request.getParams().get(0);
+            EthTransaction response = new EthTransaction();
+            response.setId(request.getId());
+
+            if (failOnce.remove(hash)) {
+                response.setError(new Response.Error(429, "Rate limit exceeded"));
+            } else if (!hash.startsWith("0xmissing")) {
+                org.web3j.protocol.core.methods.response.Transaction web3jTx =
+                        new org.web3j.protocol.core.methods.response.Transaction();
+                web3jTx.setHash(hash);
+                web3jTx.setBlockNumber("0x11a49a0");
+                web3jTx.setGas("0x5208");
+                web3jTx.setGasPrice("0xba43b7400");
+                response.setResult(web3jTx);
+            }
+            return response;
+        }
+
+        @Test
+        @DisplayName("should return results in input order across chunks")
+        void shouldReturnResultsInInputOrder() {
+            List<Optional<Transaction>> result = adapter.getTransactionsByHashes(
+                    List.of("0xaaa", "0xmissing1", "0xbbb"));
+
+            assertThat(result).hasSize(3);
+            assertThat(result.get(0)).map(Transaction::getTxHash).contains("0xaaa");
+            assertThat(result.get(1)).isEmpty();
+            assertThat(result.get(2)).map(Transaction::getTxHash).contains("0xbbb");
+            assertThat(result.get(2)).map(Transaction::getBlockNumber).contains(18500000L);
+            assertThat(sentBatches).hasSize(2);
+            assertThat(sentBatches.get(0)).hasSize(2);
+            assertThat(sentBatches.get(1)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should retry only the failed elements of a batch")
+        void shouldRetryOnlyFailedElements() {
+            failOnce.add("0xbbb");
+
+            List<Optional<Transaction>> result = adapter.getTransactionsByHashes(List.of("0xaaa", "0xbbb"));
+
+            assertThat(result).allMatch(Optional::isPresent);
+            assertThat(sentBatches).hasSize(2);
+            assertThat(sentBatches.get(1))
+                    .extracting(request -> (Object) request.getParams().get(0))
+                    .containsExactly("0xbbb");
+        }
+
+        @Test
+        @DisplayName("should throw BlockchainException when elements keep failing")
+        void shouldThrowException_WhenElementKeepsFailing() throws IOException {
+            BatchRequest batch = mock(BatchRequest.class);
+            doReturn(batch).when(web3j).newBatch();
+            when(batch.send()).thenThrow(new IOException("Persistent failure"));
+
+            assertThatThrownBy(() -> adapter.getTransactionsByHashes(List.of("0xaaa")))
+                    .isInstanceOf(BlockchainException.class)
+                    .hasMessageContaining("Failed to get 1 of 1 transactions after 2 attempts");
+
+            verify(batch, times(2)).send();
+        }
+
+        @Test
+        @DisplayName("should return empty list without calling the node")
+        void shouldReturnEmpty_WhenNoHashes() {
+            assertThat(adapter.getTransactionsByHashes(List.of())).isEmpty();
+
+            verify(web3j, never()).newBatch();
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for blank hash")
+        void shouldThrowException_WhenAnyHashIsBlank() {
+            assertThatThrownBy(() -> adapter.getTransactionsByHashes(List.of("0xaaa", " ")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cannot be null or empty");
+        }
+    }
+
+    @Nested
+    @DisplayName("getBlockByNumber Tests")
+    class GetBlockByNumberTests {
+
+        @Test
+        @DisplayName("should map block and its full transactions")
+        void shouldReturnBlockWithTransactions() throws IOException {
+            EthBlock.TransactionObject web3jTx = new EthBlock.TransactionObject();
+            web3jTx.setHash("0xabc");
+            web3jTx.setFrom("0x1111111111111111111111111111111111111111");
+            web3jTx.setTo("0x2222222222222222222222222222222222222222");
+            web3jTx.setValue("0xde0b6b3a7640000");
+            web3jTx.setBlockNumber("0x11a49a0");
+            web3jTx.setGas("0x5208");
+            web3jTx.setGasPrice("0xba43b7400");
+
+            EthBlock.Block web3jBlock = new EthBlock.Block();
+            web3jBlock.setNumber("0x11a49a0");
+            web3jBlock.setHash("0xblock");
+            web3jBlock.setTimestamp("0x65432100");
+            web3jBlock.setTransactions(List.of(web3jTx));
+
+            EthBlock ethBlock = new EthBlock();
+            ethBlock.setResult(web3jBlock);
+            Request request = mock(Request.class);
+
+            doReturn(request).when(web3j).ethGetBlockByNumber(any(), eq(true));
+            doReturn(ethBlock).when(request).send();
+
+            Optional<Block> result = adapter.getBlockByNumber(18500000L);
+
+            assertThat(result).isPresent();
+            assertThat(result.get().getNumber()).isEqualTo(18500000L);
+            assertThat(result.get().getTimestamp()).isEqualTo(LocalDateTime.of(2023, 11, 2, 4, 9, 36));
+            assertThat(result.get().getTransactions()).singleElement().satisfies(tx -> {
+                assertThat(tx.getTxHash()).isEqualTo("0xabc");
+                assertThat(tx.getFrom()).isEqualTo("0x1111111111111111111111111111111111111111");
+                assertThat(tx.getValue()).isEqualByComparingTo(BigDecimal.ONE);
+                assertThat(tx.getTxTimestamp()).isEqualTo(result.get().getTimestamp());
+            });
+        }
+
+        @Test
+        @DisplayName("should return empty when block is not available yet")
+        void shouldReturnEmpty_WhenBlockNotAvailable() throws IOException {
+            Request request = mock(Request.class);
+
+            doReturn(request).when(web3j).ethGetBlockByNumber(any(), eq(true));
+            doReturn(new EthBlock()).when(request).send();
+
+            assertThat(adapter.getBlockByNumber(18500000L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should keep serving a block once it is below the finality depth")
+        void shouldCacheFinalBlock() throws IOException {
+            EthBlockNumber ethBlockNumber = new EthBlockNumber();
+            ethBlockNumber.setResult("0x11a4a04");
+            Request headRequest = mock(Request.class);
+            doReturn(headRequest).when(web3j).ethBlockNumber();
+            doReturn(ethBlockNumber).when(headRequest).send();
+
+            EthBlock.Block web3jBlock = new EthBlock.Block();
+            web3jBlock.setNumber("0x11a49a0");
+            web3jBlock.setTransactions(List.of());
+            EthBlock ethBlock = new EthBlock();
+            ethBlock.setResult(web3jBlock);
+            Request blockRequest = mock(Request.class);
+            doReturn(blockRequest).when(web3j).ethGetBlockByNumber(any(), eq(true));
+            doReturn(ethBlock).when(blockRequest).send();
+
+            assertThat(adapter.getLatestBlockNumber()).isEqualTo(18500100L);
+            assertThat(adapter.getBlockByNumber(18500000L)).isPresent();
+            assertThat(adapter.getBlockByNumber(18500000L)).isPresent();
+
+            verify(web3j, times(1)).ethGetBlockByNumber(any(), eq(true));
+        }
+    }
+
+    @Nested
+    @DisplayName("enrichWithReceipts Tests")
+    class EnrichWithReceiptsTests {
+
+        private Block block() {
+            return Block.builder()
+                    .number(18500000L)
+                    .hash("0xblock")
+                    .transactions(List.of(
+                            Transaction.builder().txHash("0xaaa").gasLimit(50_000L)
+                                    .gasPrice(new BigDecimal("50000000000")).build(),
+                            Transaction.builder().txHash("0xbbb").gasLimit(90_000L)
+                                    .gasPrice(new BigDecimal("50000000000")).build()))
+                    .build();
+        }
+
+        private TransactionReceipt receipt(String txHash, String blockHash, String status) {
+            TransactionReceipt receipt = new TransactionReceipt();
+            receipt.setTransactionHash(txHash);
+            receipt.setBlockHash(blockHash);
+            receipt.setGasUsed("0x5208");
+            receipt.setEffectiveGasPrice("0x9502f9000");
+            receipt.setStatus(status);
+            return receipt;
+        }
+
+        private void stubBlockReceipts(EthGetBlockReceipts response) throws IOException {
+            Request request = mock(Request.class);
+            doReturn(request).when(web3j).ethGetBlockReceipts(any());
+            doReturn(response).when(request).send();
+        }
+
+        @Test
+        @DisplayName("should apply gas used, effective price and status from the block's receipts")
+        void shouldApplyBlockReceipts() throws IOException {
+            TransactionReceipt withTransfer = receipt("0xAAA", "0xblock", "0x1");
+            Log transfer = new Log();
+            transfer.setAddress("0xA0b86991c6218b36c1d19d4a2e9eb0ce3606eB48");
+            transfer.setTopics(List.of(EventLogDecoder.TRANSFER_TOPIC,
+                    EventLogDecoder.addressTopic("0x1111111111111111111111111111111111111111"),
+                    EventLogDecoder.addressTopic("0x2222222222222222222222222222222222222222")));
+            transfer.setData("0x" + "0".repeat(60) + "2710");
+            withTransfer.setLogs(List.of(transfer));
+            EthGetBlockReceipts response = new EthGetBlockReceipts();
+            response.setResult(List.of(
+                    withTransfer,
+                    receipt("0xbbb", "0xblock", "0x0"),
+                    receipt("0xccc", "0xblock", "0x1")));
+            stubBlockReceipts(response);
+
+            Block result = adapter.enrichWithReceipts(block());
+
+            assertThat(result.getTransactions()).hasSize(2);
+            assertThat(result.getTransactions().get(0)).satisfies(tx -> {
+                assertThat(tx.getGasLimit()).isEqualTo(50_000L);
+                assertThat(tx.getGasUsed()).isEqualTo(21_000L);
+                assertThat(tx.getEffectiveGasPrice()).isEqualByComparingTo("40000000000");
+                assertThat(tx.getSuccess()).isTrue();
+                assertThat(tx.getTokenTransfers()).containsExactly(new Transaction.TokenTransfer(
+                        "0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48", "0x1111111111111111111111111111111111111111",
+                        "0x2222222222222222222222222222222222222222", new BigDecimal(10_000)));
+            });
+            assertThat(result.getTransactions().get(1).getSuccess()).isFalse();
+            assertThat(result.getTransactions().get(1).getTokenTransfers()).isEmpty();
+            verify(web3j, never()).newBatch();
+        }
+
+        @Test
+        @DisplayName("should fall back to batched receipt lookups when the provider lacks eth_getBlockReceipts")
+        void shouldFallBackToTransactionReceipts_WhenMethodNotFound() throws IOException {
+            EthGetBlockReceipts unsupported = new EthGetBlockReceipts();
+            unsupported.setError(new Response.Error(-32601, "the method eth_getBlockReceipts does not exist"));
+            stubBlockReceipts(unsupported);
+
+            when(web3j.ethGetTransactionReceipt(anyString())).thenAnswer(invocation -> new Request<>(
+                    "eth_getTransactionReceipt",
+                    List.of(invocation.<String>getArgument(0)),
+                    null,
+                    EthGetTransactionReceipt.class));
+            when(web3j.newBatch()).thenAnswer(invocation -> {
+                List<Request<?, ?>> requests = new ArrayList<>();
+                BatchRequest batch = mock(BatchRequest.class);
+                when(batch.add(any())).thenAnswer(add -> {
+                    requests.add(add.getArgument(0));
+                    return batch;
+                });
+                when(batch.send()).thenAnswer(send -> {
+                    List<Response<?>> responses = new ArrayList<>();
+                    for (Request<?, ?> request : requests) {
+                        EthGetTransactionReceipt response = new EthGetTransactionReceipt();
+                        response.setId(request.getId());
+                        response.setResult(receipt((String) request.getParams().get(0), "0xblock", "0x1"));
+                        responses.add(response);
+                    }
+                    return new BatchResponse(List.of(), responses);
+                });
+                return batch;
+            });
+
+            adapter.enrichWithReceipts(block());
+            Block result = adapter.enrichWithReceipts(block());
+
+            assertThat(result.getTransactions()).allSatisfy(tx -> {
+                assertThat(tx.getGasUsed()).isEqualTo(21_000L);
+                assertThat(tx.getSuccess()).isTrue();
+            });
+            // The unsupported method is only tried once
+            verify(web3j, times(1)).ethGetBlockReceipts(any());
+            verify(web3j, times(2)).newBatch();
+        }
+
+        @Test
+        @DisplayName("should fail when the receipts belong to a different block")
+        void shouldThrowException_WhenBlockWasReorganized() throws IOException {
+            EthGetBlockReceipts response = new EthGetBlockReceipts();
+            response.setResult(List.of(
+                    receipt("0xaaa", "0xother", "0x1"),
+                    receipt("0xbbb", "0xother", "0x1")));
+            stubBlockReceipts(response);
+
+            assertThatThrownBy(() -> adapter.enrichWithReceipts(block()))
+                    .isInstanceOf(BlockchainException.class)
+                    .hasMessageContaining("changed while fetching receipts");
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package com.argus.infra.notification;
+
+import com.argus.core.exception.NotificationException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TelegramNotificationAdapter Tests against a local stub Bot API")
+class TelegramNotificationAdapterTest {
+
+    private static final String TOKEN = "123456:test-token";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+    private final List<JsonNode> bodies = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private volatile int status = 200;
+    private volatile String response = "{\"ok\":true,\"result\":{}}";
+    private TelegramNotificationAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            paths.add(exchange.getRequestURI().getPath());
+            bodies.add(objectMapper.readTree(exchange.getRequestBody()));
+            byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        adapter = new TelegramNotificationAdapter("http://127.0.0.1:" + server.getAddress().getPort() + "/",
+                TOKEN, objectMapper, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("should post the message to sendMessage for the bot")
+    void shouldSendMessage() {
+        adapter.send("-100123", "Whale bought 1.2M PEPE");
+
+        assertThat(paths).containsExactly("/bot" + TOKEN + "/sendMessage");
+        assertThat(bodies.get(0).path("chat_id").asText()).isEqualTo("-100123");
+        assertThat(bodies.get(0).path("text").asText()).isEqualTo("Whale bought 1.2M PEPE");
+    }
+
+    @Test
+    @DisplayName("should report rate limiting as retryable with Telegram's delay")
+    void shouldReportRetryAfter() {
+        status = 429;
+        response = "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 3\","
+                + "\"parameters\":{\"retry_after\":3}}";
+
+        assertThatThrownBy(() -> adapter.send("42", "alert"))
+                .isInstanceOfSatisfying(NotificationException.class, e -> {
+                    assertThat(e.isRetryable()).isTrue();
+                    assertThat(e.getRetryAfterMillis()).isEqualTo(3_000);
+                });
+    }
+
+    @Test
+    @DisplayName("should report rejected chats as not retryable, without the token")
+    void shouldReportRejection() {
+        status = 403;
+        response = "{\"ok\":false,\"error_code\":403,\"description\":\"Forbidden: bot was blocked by the user\"}";
+
+        assertThatThrownBy(() -> adapter.send("42", "alert"))
+                .isInstanceOfSatisfying(NotificationException.class, e -> {
+                    assertThat(e.isRetryable()).isFalse();
+                    assertThat(e.getMessage()).contains("bot was blocked").doesNotContain(TOKEN);
+                });
+    }
+
+    @Test
+    @DisplayName("should report server errors and unreachable hosts as retryable")
+    void shouldRetryServerErrors() {
+        status = 502;
+        response = "Bad Gateway";
+
+        assertThatThrownBy(() -> adapter.send("42", "alert"))
+                .isInstanceOfSatisfying(NotificationException.class, e -> assertThat(e.isRetryable()).isTrue());
+
+        server.stop(0);
+        assertThatThrownBy(() -> adapter.send("42", "alert"))
+                .isInstanceOfSatisfying(NotificationException.class, e -> assertThat(e.isRetryable()).isTrue());
+    }
+}
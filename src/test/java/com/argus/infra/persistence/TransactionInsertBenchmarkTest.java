@@ -0,0 +1,207 @@
+package com.argus.infra.persistence;
+
+import com.argus.infra.persistence.copy.PgBinaryRowWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compares the insert paths against a real Postgres: one {@code INSERT ... RETURNING id} round-trip per
+ * row (what IDENTITY ids force on Hibernate), sequence-allocated ids with JDBC batches (what
+ * {@code saveAll} does) and binary {@code COPY} into a staging table merged with {@code ON CONFLICT DO
+ * NOTHING} (what {@code bulkLoad} does).
+ * <p>
+ * Runs only when {@code ARGUS_BENCHMARK_JDBC_URL} points at a database, e.g.
+ * {@code ARGUS_BENCHMARK_JDBC_URL=jdbc:postgresql://localhost:5432/argus?reWriteBatchedInserts=true
+ * ARGUS_BENCHMARK_USER=jobuser ARGUS_BENCHMARK_PASSWORD=jobpass mvn test -Dtest=TransactionInsertBenchmarkTest}.
+ * Works in temporary tables, so it leaves nothing behind.
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "ARGUS_BENCHMARK_JDBC_URL", matches = ".+")
+@DisplayName("Transaction insert benchmark")
+class TransactionInsertBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int BATCH_SIZE = 500;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String COLUMNS =
+            "wallet_id, tx_hash, chain, from_address, to_address, value, block_number, gas_used, gas_price, tx_timestamp";
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getenv("ARGUS_BENCHMARK_JDBC_URL"),
+                Objects.requireNonNullElse(System.getenv("ARGUS_BENCHMARK_USER"), "jobuser"),
+                Objects.requireNonNullElse(System.getenv("ARGUS_BENCHMARK_PASSWORD"), "jobpass"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TEMP TABLE bench_identity (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        wallet_id UUID, tx_hash VARCHAR(66), chain VARCHAR(20), from_address VARCHAR(42),
+                        to_address VARCHAR(42), value DECIMAL(30, 18), block_number BIGINT, gas_used BIGINT,
+                        gas_price DECIMAL(30, 18), tx_timestamp TIMESTAMP)""");
+            statement.execute("CREATE TEMP TABLE bench_sequence (LIKE bench_identity)");
+            statement.execute("ALTER TABLE bench_sequence ADD PRIMARY KEY (id)");
+            statement.execute("CREATE TEMP TABLE bench_copy (LIKE bench_identity INCLUDING ALL)");
+            statement.execute("CREATE UNIQUE INDEX ON bench_copy (tx_hash, wallet_id)");
+            statement.execute("CREATE TEMP SEQUENCE bench_sequence_id_seq INCREMENT BY " + ALLOCATION_SIZE
+                    + " START WITH " + ALLOCATION_SIZE);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("batched sequence inserts should beat per-row identity inserts")
+    void compareInsertPaths() throws SQLException {
+        // Warm up the server and the driver's prepared statements
+        insertPerRow(1_000);
+        insertBatched(1_000);
+
+        double perRow = ROWS / seconds(() -> insertPerRow(ROWS));
+        double batched = ROWS / seconds(() -> insertBatched(ROWS));
+
+        assertThat(batched)
+                .as("batched sequence inserts %,.0f rows/s vs per-row IDENTITY inserts %,.0f rows/s", batched, perRow)
+                .isGreaterThan(perRow);
+    }
+
+    @Test
+    @DisplayName("binary COPY with a staging merge should be an order of magnitude faster than per-row inserts")
+    void compareCopyWithPerRowInserts() throws SQLException, IOException {
+        insertPerRow(1_000);
+        copyAndMerge(1_000);
+
+        double perRow = ROWS / seconds(() -> insertPerRow(ROWS));
+        long start = System.nanoTime();
+        copyAndMerge(ROWS);
+        double copy = ROWS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        assertThat(copy)
+                .as("binary COPY + merge %,.0f rows/s vs per-row IDENTITY inserts %,.0f rows/s", copy, perRow)
+                .isGreaterThan(perRow * 10);
+    }
+
+    private void copyAndMerge(int rows) throws SQLException, IOException {
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE bench_staging ON COMMIT DROP AS "
+                    + "SELECT " + COLUMNS + " FROM bench_copy WITH NO DATA");
+
+            try (PgBinaryRowWriter writer = new PgBinaryRowWriter(new PGCopyOutputStream(
+                    connection.unwrap(PGConnection.class),
+                    "COPY bench_staging (" + COLUMNS + ") FROM STDIN (FORMAT BINARY)"))) {
+                for (int i = 0; i < rows; i++) {
+                    writer.startRow(10);
+                    writer.writeUuid(UUID.randomUUID());
+                    writer.writeText("0x" + "%064x".formatted(i));
+                    writer.writeText("ethereum");
+                    writer.writeText("0x742d35cc6634c0532925a3b844bc9e7595f0beb0");
+                    writer.writeText("0x2222222222222222222222222222222222222222");
+                    writer.writeNumeric(new BigDecimal("1.5"));
+                    writer.writeLong(18_500_000L + i / 200);
+                    writer.writeLong(21_000L);
+                    writer.writeNumeric(new BigDecimal("50000000000"));
+                    writer.writeTimestamp(LocalDateTime.now());
+                }
+            }
+
+            statement.executeUpdate("INSERT INTO bench_copy (" + COLUMNS + ") SELECT " + COLUMNS
+                    + " FROM bench_staging ON CONFLICT (tx_hash, wallet_id) DO NOTHING");
+        }
+        connection.commit();
+    }
+
+    private void insertPerRow(int rows) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_identity (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) RETURNING id")) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 1, i);
+                try (ResultSet id = insert.executeQuery()) {
+                    id.next();
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    private void insertBatched(int rows) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement nextval = connection.prepareStatement("SELECT nextval('bench_sequence_id_seq')");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO bench_sequence (id, " + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            long nextId = 0;
+            long lastId = -1;
+            for (int i = 0; i < rows; i++) {
+                // Same pooled allocation Hibernate does: one nextval per ALLOCATION_SIZE ids
+                if (nextId > lastId) {
+                    try (ResultSet value = nextval.executeQuery()) {
+                        value.next();
+                        lastId = value.getLong(1);
+                        nextId = lastId - ALLOCATION_SIZE + 1;
+                    }
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static void bind(PreparedStatement insert, int first, int i) throws SQLException {
+        insert.setObject(first, UUID.randomUUID());
+        insert.setString(first + 1, "0x" + "%064x".formatted(i));
+        insert.setString(first + 2, "ethereum");
+        insert.setString(first + 3, "0x742d35cc6634c0532925a3b844bc9e7595f0beb0");
+        insert.setString(first + 4, "0x2222222222222222222222222222222222222222");
+        insert.setBigDecimal(first + 5, new BigDecimal("1.5"));
+        insert.setLong(first + 6, 18_500_000L + i / 200);
+        insert.setLong(first + 7, 21_000L);
+        insert.setBigDecimal(first + 8, new BigDecimal("50000000000"));
+        insert.setTimestamp(first + 9, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static double seconds(SqlRunnable work) throws SQLException {
+        long start = System.nanoTime();
+        work.run();
+        return (System.nanoTime() - start) / 1_000_000_000.0;
+    }
+
+    @FunctionalInterface
+    private interface SqlRunnable {
+        void run() throws SQLException;
+    }
+}
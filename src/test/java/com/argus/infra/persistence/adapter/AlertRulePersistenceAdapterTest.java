@@ -0,0 +1,67 @@
+package com.argus.infra.persistence.adapter;
+
+import com.argus.domain.model.AlertRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("AlertRulePersistenceAdapter Tests")
+class AlertRulePersistenceAdapterTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private AlertRulePersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        Flyway flyway = Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        adapter = new AlertRulePersistenceAdapter(jdbcTemplate, new ObjectMapper());
+    }
+
+    private UUID insertRule(String name) {
+        return jdbcTemplate.queryForObject("INSERT INTO alert_rules (name, conditions) "
+                + "VALUES (?, '{\"minUsdValue\": 1000}'::jsonb) RETURNING id", UUID.class, name);
+    }
+
+    @Test
+    @DisplayName("should move the version on every insert, update and delete")
+    void shouldMoveVersionOnEveryWrite() {
+        String initial = adapter.findVersion();
+
+        UUID first = insertRule("whales");
+        String afterInsert = adapter.findVersion();
+        jdbcTemplate.update("UPDATE alert_rules SET enabled = false WHERE id = ?", first);
+        String afterUpdate = adapter.findVersion();
+        // Swapping one rule for another keeps the count and can keep the latest update time
+        insertRule("dolphins");
+        jdbcTemplate.update("DELETE FROM alert_rules WHERE id = ?", first);
+        String afterSwap = adapter.findVersion();
+
+        assertThat(adapter.findVersion()).isEqualTo(afterSwap);
+        assertThat(List.of(initial, afterInsert, afterUpdate, afterSwap)).doesNotHaveDuplicates();
+        assertThat(adapter.findEnabled()).extracting(AlertRule::getName).containsExactly("dolphins");
+    }
+}
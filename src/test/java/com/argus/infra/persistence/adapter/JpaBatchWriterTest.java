@@ -0,0 +1,50 @@
+package com.argus.infra.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JpaBatchWriter Unit Tests")
+class JpaBatchWriterTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("should flush and clear after every full batch and after the remainder")
+    void shouldFlushPerBatch() {
+        JpaBatchWriter writer = new JpaBatchWriter(entityManager, 2);
+
+        writer.persistAll(List.of("a", "b", "c"));
+
+        InOrder inOrder = inOrder(entityManager);
+        inOrder.verify(entityManager).persist("a");
+        inOrder.verify(entityManager).persist("b");
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+        inOrder.verify(entityManager).persist("c");
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("should not flush when there is nothing to write")
+    void shouldNotFlush_WhenEmpty() {
+        JpaBatchWriter writer = new JpaBatchWriter(entityManager, 2);
+
+        assertThat(writer.persistAll(List.of())).isEmpty();
+
+        verifyNoInteractions(entityManager);
+    }
+}
@@ -0,0 +1,176 @@
+package com.argus.infra.persistence.cache;
+
+import com.argus.domain.model.Wallet;
+import com.argus.domain.port.persistence.WalletPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingWalletPersistenceAdapter Unit Tests")
+class CachingWalletPersistenceAdapterTest {
+
+    private static final UUID WALLET_ID = UUID.fromString("2f1c3d4e-5a6b-4c7d-8e9f-0a1b2c3d4e5f");
+    private static final String ADDRESS = "0x742d35Cc6634C0532925a3b844Bc9e7595f0bEb0";
+
+    @Mock
+    private WalletPersistencePort delegate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private CachingWalletPersistenceAdapter cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        lenient().doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        lenient().when(redisTemplate.delete(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            keys.forEach(redis::remove);
+            return (long) keys.size();
+        });
+
+        cache = newCache();
+    }
+
+    private CachingWalletPersistenceAdapter newCache() {
+        return new CachingWalletPersistenceAdapter(
+                delegate, redisTemplate, Duration.ofMinutes(5), Duration.ofSeconds(30), 100);
+    }
+
+    private Wallet wallet() {
+        return Wallet.builder()
+                .id(WALLET_ID)
+                .address(ADDRESS)
+                .chain("ethereum")
+                .label("Whale 1")
+                .type(Wallet.WalletType.WHALE)
+                .totalPnl(new BigDecimal("1250.50"))
+                .winRate(new BigDecimal("0.72"))
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build();
+    }
+
+    @Test
+    @DisplayName("should serve repeated lookups from the near-cache")
+    void shouldServeFromNearCache() {
+        when(delegate.findById(WALLET_ID)).thenReturn(Optional.of(wallet()));
+
+        cache.findById(WALLET_ID);
+        Optional<Wallet> result = cache.findById(WALLET_ID);
+
+        assertThat(result).get().satisfies(wallet -> {
+            assertThat(wallet.getAddress()).isEqualTo(ADDRESS);
+            assertThat(wallet.getType()).isEqualTo(Wallet.WalletType.WHALE);
+            assertThat(wallet.getTotalPnl()).isEqualByComparingTo("1250.50");
+            assertThat(wallet.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 30));
+        });
+        verify(delegate, times(1)).findById(WALLET_ID);
+        assertThat(cache.getStats().getNearHits()).isEqualTo(1);
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should serve another node's cached wallet from Redis, under both id and address")
+    void shouldServeFromRedis_OnOtherNode() {
+        when(delegate.findById(WALLET_ID)).thenReturn(Optional.of(wallet()));
+        cache.findById(WALLET_ID);
+
+        CachingWalletPersistenceAdapter otherNode = newCache();
+
+        assertThat(otherNode.findByAddress(ADDRESS)).get().extracting(Wallet::getId).isEqualTo(WALLET_ID);
+        assertThat(otherNode.existsByAddress(ADDRESS)).isTrue();
+        verify(delegate, never()).findByAddress(anyString());
+        assertThat(otherNode.getStats().getRedisHits()).isEqualTo(1);
+        assertThat(otherNode.getStats().getNearHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should cache misses so existence checks stay off the database")
+    void shouldCacheMisses() {
+        when(delegate.findByAddress("0xunknown")).thenReturn(Optional.empty());
+
+        assertThat(cache.existsByAddress("0xunknown")).isFalse();
+        assertThat(cache.existsByAddress("0xunknown")).isFalse();
+
+        verify(delegate, times(1)).findByAddress("0xunknown");
+    }
+
+    @Test
+    @DisplayName("should invalidate both keys and notify other nodes on save")
+    void shouldInvalidate_OnSave() {
+        when(delegate.findByAddress(ADDRESS)).thenReturn(Optional.empty());
+        assertThat(cache.existsByAddress(ADDRESS)).isFalse();
+
+        when(delegate.save(any())).thenReturn(wallet());
+        when(delegate.findByAddress(ADDRESS)).thenReturn(Optional.of(wallet()));
+        cache.save(wallet());
+
+        assertThat(cache.existsByAddress(ADDRESS)).isTrue();
+        verify(redisTemplate).convertAndSend(eq(CachingWalletPersistenceAdapter.INVALIDATION_CHANNEL),
+                eq("argus:wallet:id:" + WALLET_ID + "\nargus:wallet:address:" + ADDRESS));
+    }
+
+    @Test
+    @DisplayName("should invalidate the id and address entries on delete")
+    void shouldInvalidate_OnDelete() {
+        when(delegate.findById(WALLET_ID)).thenReturn(Optional.of(wallet()));
+        cache.findById(WALLET_ID);
+
+        cache.delete(WALLET_ID);
+
+        assertThat(redis).isEmpty();
+        when(delegate.findByAddress(ADDRESS)).thenReturn(Optional.empty());
+        assertThat(cache.findByAddress(ADDRESS)).isEmpty();
+        verify(delegate).delete(WALLET_ID);
+    }
+
+    @Test
+    @DisplayName("should drop near-cache entries named in an invalidation message")
+    void shouldEvictNearCache_OnInvalidationMessage() {
+        when(delegate.findById(WALLET_ID)).thenReturn(Optional.of(wallet()));
+        cache.findById(WALLET_ID);
+        redis.clear();
+
+        cache.onInvalidation("argus:wallet:id:" + WALLET_ID + "\nargus:wallet:address:" + ADDRESS);
+        cache.findById(WALLET_ID);
+
+        verify(delegate, times(2)).findById(WALLET_ID);
+    }
+
+    @Test
+    @DisplayName("should fall back to the database when Redis is unavailable")
+    void shouldFallBackToDatabase_WhenRedisDown() {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        when(delegate.findByAddress(ADDRESS)).thenReturn(Optional.of(wallet()));
+
+        assertThat(cache.findByAddress(ADDRESS)).isPresent();
+        assertThat(cache.getStats().getRedisErrors()).isPositive();
+    }
+}
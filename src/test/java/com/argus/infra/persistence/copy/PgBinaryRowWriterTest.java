@@ -0,0 +1,93 @@
+package com.argus.infra.persistence.copy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PgBinaryRowWriter Unit Tests")
+class PgBinaryRowWriterTest {
+
+    private static final int HEADER_LENGTH = 19;
+
+    private interface Field {
+        void write(PgBinaryRowWriter writer) throws IOException;
+    }
+
+    /**
+     * Encodes one single-field row and returns the field: length followed by the value.
+     */
+    private ByteBuffer encode(Field field) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PgBinaryRowWriter writer = new PgBinaryRowWriter(out)) {
+            writer.startRow(1);
+            field.write(writer);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        assertThat(buffer.getShort(buffer.limit() - 2)).as("trailer").isEqualTo((short) -1);
+        buffer.position(HEADER_LENGTH);
+        assertThat(buffer.getShort()).as("field count").isEqualTo((short) 1);
+        return buffer.slice(buffer.position(), buffer.remaining() - 2);
+    }
+
+    private int[] numeric(BigDecimal value) throws IOException {
+        ByteBuffer field = encode(writer -> writer.writeNumeric(value));
+        int length = field.getInt();
+        int[] words = new int[length / 2];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = field.getShort();
+        }
+        return words;
+    }
+
+    @Test
+    @DisplayName("should start with the binary COPY signature")
+    void shouldWriteHeader() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new PgBinaryRowWriter(out).close();
+
+        assertThat(out.toByteArray()).startsWith('P', 'G', 'C', 'O', 'P', 'Y', '\n', 0xFF, '\r', '\n', 0)
+                .hasSize(HEADER_LENGTH + 2);
+    }
+
+    @Test
+    @DisplayName("should encode numerics as base-10000 digits with weight and scale")
+    void shouldEncodeNumeric() throws IOException {
+        // ndigits, weight, sign, dscale, digits...
+        assertThat(numeric(new BigDecimal("1.5"))).containsExactly(2, 0, 0, 1, 1, 5000);
+        assertThat(numeric(new BigDecimal("123456789"))).containsExactly(3, 2, 0, 0, 1, 2345, 6789);
+        assertThat(numeric(new BigDecimal("0.00001"))).containsExactly(1, -2, 0, 5, 1000);
+        assertThat(numeric(new BigDecimal("-20000.000000000000000001")))
+                .containsExactly(7, 1, 0x4000, 18, 2, 0, 0, 0, 0, 0, 100);
+        assertThat(numeric(new BigDecimal("0.00"))).containsExactly(0, 0, 0, 2);
+        assertThat(numeric(new BigDecimal("5E+3"))).containsExactly(1, 0, 0, 0, 5000);
+    }
+
+    @Test
+    @DisplayName("should encode timestamps as microseconds since 2000-01-01")
+    void shouldEncodeTimestamp() throws IOException {
+        ByteBuffer field = encode(writer -> writer.writeTimestamp(LocalDateTime.of(2000, 1, 2, 0, 0, 0, 1_000)));
+
+        assertThat(field.getInt()).isEqualTo(8);
+        assertThat(field.getLong()).isEqualTo(86_400_000_001L);
+    }
+
+    @Test
+    @DisplayName("should encode nulls as length -1 and UUIDs as 16 raw bytes")
+    void shouldEncodeNullAndUuid() throws IOException {
+        assertThat(encode(writer -> writer.writeText(null)).getInt()).isEqualTo(-1);
+
+        UUID id = UUID.fromString("2f1c3d4e-5a6b-4c7d-8e9f-0a1b2c3d4e5f");
+        ByteBuffer field = encode(writer -> writer.writeUuid(id));
+        assertThat(field.getInt()).isEqualTo(16);
+        assertThat(new UUID(field.getLong(), field.getLong())).isEqualTo(id);
+    }
+}
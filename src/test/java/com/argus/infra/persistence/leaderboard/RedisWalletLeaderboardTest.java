@@ -0,0 +1,190 @@
+package com.argus.infra.persistence.leaderboard;
+
+import com.argus.domain.model.LeaderboardEntry;
+import com.argus.domain.model.LeaderboardEntry.Metric;
+import com.argus.domain.model.Wallet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisWalletLeaderboard Unit Tests")
+class RedisWalletLeaderboardTest {
+
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private static final UUID CAROL = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    // In-memory stand-ins for the sorted sets and the membership hash
+    private final Map<String, Map<String, Double>> zSets = new ConcurrentHashMap<>();
+    private final Map<Object, Object> members = new ConcurrentHashMap<>();
+
+    private RedisWalletLeaderboard leaderboard;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        lenient().when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(redisTemplate);
+            return List.of();
+        });
+
+        lenient().when(zSetOperations.add(anyString(), anyString(), anyDouble())).thenAnswer(invocation -> {
+            zSets.computeIfAbsent(invocation.getArgument(0), key -> new ConcurrentHashMap<>())
+                    .put(invocation.getArgument(1), invocation.getArgument(2));
+            return true;
+        });
+        lenient().when(zSetOperations.remove(anyString(), any())).thenAnswer(invocation -> {
+            Map<String, Double> zSet = zSets.getOrDefault(invocation.<String>getArgument(0), Map.of());
+            return zSet.isEmpty() ? 0L : (zSet.remove(invocation.<String>getArgument(1)) != null ? 1L : 0L);
+        });
+        lenient().when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            List<String> ranked = ranked(invocation.getArgument(0));
+            long end = Math.min(invocation.<Long>getArgument(2), ranked.size() - 1L);
+            Set<ZSetOperations.TypedTuple<String>> range = new LinkedHashSet<>();
+            for (int i = invocation.<Long>getArgument(1).intValue(); i <= end; i++) {
+                range.add(new DefaultTypedTuple<>(ranked.get(i), zSets.get(invocation.<String>getArgument(0)).get(ranked.get(i))));
+            }
+            return range;
+        });
+        lenient().when(zSetOperations.reverseRank(anyString(), any())).thenAnswer(invocation -> {
+            int rank = ranked(invocation.getArgument(0)).indexOf(invocation.<String>getArgument(1));
+            return rank < 0 ? null : (long) rank;
+        });
+        lenient().when(zSetOperations.score(anyString(), any())).thenAnswer(invocation ->
+                zSets.getOrDefault(invocation.<String>getArgument(0), Map.of()).get(invocation.<String>getArgument(1)));
+
+        lenient().when(hashOperations.multiGet(anyString(), anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<Object>>getArgument(1).stream().map(members::get).toList());
+        lenient().when(hashOperations.get(anyString(), any())).thenAnswer(invocation ->
+                members.get(invocation.getArgument(1)));
+        lenient().doAnswer(invocation -> members.put(invocation.getArgument(1), invocation.getArgument(2)))
+                .when(hashOperations).put(anyString(), any(), any());
+        lenient().when(hashOperations.delete(anyString(), any())).thenAnswer(invocation ->
+                members.remove(invocation.getArgument(1)) != null ? 1L : 0L);
+
+        leaderboard = new RedisWalletLeaderboard(redisTemplate);
+    }
+
+    /**
+     * Members of a sorted set, highest score first; ties by member descending, like ZREVRANGE.
+     */
+    private List<String> ranked(String key) {
+        return zSets.getOrDefault(key, Map.of()).entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static Wallet wallet(UUID id, String chain, Wallet.WalletType type, String pnl, String winRate) {
+        return Wallet.builder()
+                .id(id)
+                .chain(chain)
+                .type(type)
+                .totalPnl(pnl != null ? new BigDecimal(pnl) : null)
+                .winRate(winRate != null ? new BigDecimal(winRate) : null)
+                .build();
+    }
+
+    private List<UUID> top(Metric metric, String chain, Wallet.WalletType type) {
+        return leaderboard.findTop(metric, chain, type, 10).stream().map(LeaderboardEntry::getWalletId).toList();
+    }
+
+    private void givenWallets() {
+        leaderboard.updateAll(List.of(
+                wallet(ALICE, "ethereum", Wallet.WalletType.WHALE, "100", "0.5"),
+                wallet(BOB, "ethereum", Wallet.WalletType.VC, "300", "0.7"),
+                wallet(CAROL, "base", Wallet.WalletType.WHALE, "200", null)));
+    }
+
+    @Test
+    @DisplayName("should rank overall and within each chain and type filter")
+    void shouldRankPerFilter() {
+        givenWallets();
+
+        assertThat(top(Metric.PNL, null, null)).containsExactly(BOB, CAROL, ALICE);
+        assertThat(top(Metric.PNL, "Ethereum", null)).containsExactly(BOB, ALICE);
+        assertThat(top(Metric.PNL, null, Wallet.WalletType.WHALE)).containsExactly(CAROL, ALICE);
+        assertThat(top(Metric.PNL, "base", Wallet.WalletType.VC)).isEmpty();
+        // No win rate, not ranked by it
+        assertThat(top(Metric.WIN_RATE, null, null)).containsExactly(BOB, ALICE);
+
+        assertThat(leaderboard.findTop(Metric.PNL, null, null, 1)).singleElement().satisfies(entry -> {
+            assertThat(entry.getRank()).isEqualTo(1);
+            assertThat(entry.getScore()).isEqualByComparingTo("300");
+        });
+        assertThat(leaderboard.findRank(Metric.PNL, ALICE, null, Wallet.WalletType.WHALE))
+                .get().extracting(LeaderboardEntry::getRank).isEqualTo(2L);
+        assertThat(leaderboard.findRank(Metric.WIN_RATE, CAROL, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should move a wallet out of its old sets when its chain or type changes")
+    void shouldMoveWallet_WhenTypeChanges() {
+        givenWallets();
+
+        leaderboard.updateAll(List.of(wallet(ALICE, "ethereum", Wallet.WalletType.VC, "400", "0.5")));
+
+        assertThat(top(Metric.PNL, null, Wallet.WalletType.WHALE)).containsExactly(CAROL);
+        assertThat(top(Metric.PNL, "ethereum", Wallet.WalletType.VC)).containsExactly(ALICE, BOB);
+        assertThat(top(Metric.PNL, null, null)).containsExactly(ALICE, BOB, CAROL);
+    }
+
+    @Test
+    @DisplayName("should remove a wallet from every set")
+    void shouldRemoveWallet() {
+        givenWallets();
+
+        leaderboard.remove(BOB);
+
+        assertThat(top(Metric.PNL, null, null)).containsExactly(CAROL, ALICE);
+        assertThat(top(Metric.WIN_RATE, "ethereum", Wallet.WalletType.VC)).isEmpty();
+        assertThat(members).doesNotContainKey(BOB.toString());
+    }
+
+    @Test
+    @DisplayName("should not fail the caller when Redis is down during an update")
+    void shouldSwallowWriteFailures() {
+        when(hashOperations.multiGet(anyString(), anyCollection()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        assertThatCode(() -> givenWallets()).doesNotThrowAnyException();
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+}
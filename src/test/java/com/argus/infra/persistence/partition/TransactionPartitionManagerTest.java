@@ -0,0 +1,90 @@
+package com.argus.infra.persistence.partition;
+
+import com.argus.infra.persistence.partition.TransactionPartitionManager.RetentionMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionPartitionManager Unit Tests")
+class TransactionPartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionPartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        partitionManager = new TransactionPartitionManager(jdbcTemplate);
+    }
+
+    private void givenPartitions(String... names) {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("transactions"))).thenReturn(List.of(names));
+    }
+
+    @Test
+    @DisplayName("should create only the missing monthly partitions, across a year boundary")
+    void shouldCreateMissingPartitions() {
+        givenPartitions("transactions_2024_11", "transactions_default");
+
+        List<YearMonth> created = partitionManager.ensurePartitions(YearMonth.of(2024, 11), 2);
+
+        assertThat(created).containsExactly(YearMonth.of(2024, 12), YearMonth.of(2025, 1));
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS transactions_2024_12 PARTITION OF transactions "
+                + "FOR VALUES FROM ('2024-12-01') TO ('2025-01-01')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS transactions_2025_01 PARTITION OF transactions "
+                + "FOR VALUES FROM ('2025-01-01') TO ('2025-02-01')");
+    }
+
+    @Test
+    @DisplayName("should keep creating later months when one fails")
+    void shouldContinue_WhenCreateFails() {
+        givenPartitions("transactions_default");
+        doThrow(new DataIntegrityViolationException("updated partition constraint for default partition would be violated"))
+                .when(jdbcTemplate).execute(contains("transactions_2024_01"));
+
+        List<YearMonth> created = partitionManager.ensurePartitions(YearMonth.of(2024, 1), 1);
+
+        assertThat(created).containsExactly(YearMonth.of(2024, 2));
+    }
+
+    @Test
+    @DisplayName("should detach and drop months before the cutoff but never the default partition")
+    void shouldDropExpiredPartitions() {
+        givenPartitions("transactions_2023_12", "transactions_2024_01", "transactions_2024_02", "transactions_default");
+
+        List<String> removed = partitionManager.applyRetention(YearMonth.of(2024, 2), RetentionMode.DROP);
+
+        assertThat(removed).containsExactly("transactions_2023_12", "transactions_2024_01");
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE transactions DETACH PARTITION transactions_2023_12");
+        inOrder.verify(jdbcTemplate).execute("DROP TABLE transactions_2023_12");
+        verify(jdbcTemplate, never()).execute(contains("transactions_2024_02"));
+        verify(jdbcTemplate, never()).execute(contains("transactions_default"));
+    }
+
+    @Test
+    @DisplayName("should only detach in DETACH mode")
+    void shouldOnlyDetach_InDetachMode() {
+        givenPartitions("transactions_2023_12");
+
+        partitionManager.applyRetention(YearMonth.of(2024, 1), RetentionMode.DETACH);
+
+        verify(jdbcTemplate).execute("ALTER TABLE transactions DETACH PARTITION transactions_2023_12");
+        verify(jdbcTemplate, never()).execute(startsWith("DROP"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.argus.infra.persistence.partition;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations against a real Postgres, the way an existing database gets them: up to V9
+ * with rows in the unpartitioned table, then the rest.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Transaction partitioning migration")
+class TransactionPartitionMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        flyway(null).clean();
+    }
+
+    private static Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .cleanDisabled(false);
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    @Test
+    @DisplayName("should migrate an existing transactions table into monthly partitions, keeping its rows")
+    void shouldPartitionExistingTransactions() {
+        flyway("9").migrate();
+        UUID walletId = jdbcTemplate.queryForObject(
+                "INSERT INTO wallets (address) VALUES ('0x1111111111111111111111111111111111111111') RETURNING id",
+                UUID.class);
+        LocalDateTime first = LocalDateTime.now().minusMonths(2);
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("INSERT INTO transactions (wallet_id, tx_hash, type, tx_timestamp) VALUES (?, ?, ?, ?)",
+                    walletId, "0x%064x".formatted(i), "SWAP", Timestamp.valueOf(first.plusMonths(i)));
+        }
+
+        flyway(null).migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions", Long.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = 'transactions'::regclass", Long.class))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions_default", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT indexname FROM pg_indexes WHERE tablename = 'transactions'",
+                String.class))
+                .contains("transactions_pkey", "idx_transactions_type", "idx_transactions_wallet_time",
+                        "uq_transactions_tx_hash_wallet_time");
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('transactions_unpartitioned')", String.class))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("should migrate an empty database")
+    void shouldMigrateFromScratch() {
+        flyway(null).migrate();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transactions", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT numeric_precision FROM information_schema.columns "
+                        + "WHERE table_name = 'transactions' AND column_name IN ('gas_price', 'effective_gas_price')",
+                Integer.class))
+                .containsExactly(78, 78);
+    }
+}
@@ -0,0 +1,69 @@
+package com.argus.infra.persistence.repository;
+
+import com.argus.infra.persistence.entity.WalletEntity;
+import com.argus.infra.persistence.projection.WalletRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("WalletRepository keyset pagination")
+class WalletRepositoryKeysetTest {
+
+    @Autowired
+    private WalletRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 7; i++) {
+            WalletEntity wallet = new WalletEntity();
+            wallet.setAddress("0x%040x".formatted(i));
+            wallet.setChain("ethereum");
+            wallet.setType(i % 2 == 0 ? WalletEntity.WalletType.WHALE : WalletEntity.WalletType.VC);
+            wallet.setTotalPnl(BigDecimal.valueOf(i * 100L - 200));
+            wallet.setWinRate(new BigDecimal("0.7"));
+            repository.save(wallet);
+        }
+        repository.flush();
+    }
+
+    @Test
+    @DisplayName("should walk all wallets page by page in (createdAt, id) order")
+    void shouldWalkAllPages() {
+        List<WalletRow> all = new ArrayList<>();
+        List<WalletRow> page = repository.findFirstPage(Limit.of(3));
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            WalletRow last = page.get(page.size() - 1);
+            page = repository.findPageAfter(last.createdAt(), last.id(), Limit.of(3));
+        }
+
+        assertThat(all).hasSize(7).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("should page top performers by descending PnL")
+    void shouldPageTopPerformers() {
+        List<WalletRow> first = repository.findFirstTopPerformersPage(new BigDecimal("0.6"), Limit.of(2));
+        WalletRow last = first.get(1);
+        List<WalletRow> rest = repository.findTopPerformersPageAfter(
+                new BigDecimal("0.6"), last.totalPnl(), last.id(), Limit.of(10));
+
+        assertThat(first).extracting(WalletRow::totalPnl).containsExactly(new BigDecimal("400.00000000"),
+                new BigDecimal("300.00000000"));
+        assertThat(rest).extracting(WalletRow::totalPnl).containsExactly(new BigDecimal("200.00000000"),
+                new BigDecimal("100.00000000"));
+        assertThat(repository.findFirstPageByType(WalletEntity.WalletType.VC, Limit.of(10))).hasSize(3);
+    }
+}